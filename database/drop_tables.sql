@@ -0,0 +1,7 @@
+DROP TABLE IF EXISTS app.todos;
+
+DROP TABLE IF EXISTS app.tasks;
+
+DROP TABLE IF EXISTS app.users;
+
+DROP TABLE IF EXISTS app.schema_migrations;
@@ -0,0 +1,93 @@
+package com.pedrofrohmut.todos.benchmarks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.pedrofrohmut.todos.domain.dtos.CreateTaskDto;
+import com.pedrofrohmut.todos.domain.dtos.CreateTodoDto;
+import com.pedrofrohmut.todos.domain.dtos.CreateUserDto;
+import com.pedrofrohmut.todos.domain.dtos.SignInUserDto;
+import com.pedrofrohmut.todos.domain.dtos.SignedUserDto;
+import com.pedrofrohmut.todos.domain.dtos.TaskDto;
+import com.pedrofrohmut.todos.web.adapter.ControllerAction;
+import com.pedrofrohmut.todos.web.adapter.ControllerRegistry;
+import com.pedrofrohmut.todos.web.adapter.SpringAdapter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+
+// The poll of a task's todos through SpringAdapter on the in-memory engine: a client without an
+// ETag, which gets the whole list, next to one whose ETag still matches and gets a 304
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dtodos.dataaccess=memory")
+public class ConditionalGetBenchmark {
+
+  private static final ControllerAction FIND_BY_TASK_ID =
+    ControllerRegistry.resolve("TodoController", "findByTaskId");
+  private static final ControllerAction FIND_VERSION_BY_TASK_ID =
+    ControllerRegistry.resolve("TodoController", "findVersionByTaskId");
+
+  @Param({ "10", "100", "1000" })
+  public int size;
+
+  private String token;
+  private String taskId;
+  private String etag;
+
+  @Setup
+  public void setup() {
+    final var email = "bench" + size + "@mail.com";
+    SpringAdapter.callController(
+        ControllerRegistry.resolve("UserController", "create"),
+        new CreateUserDto("Bench User", email, "password"), null, null);
+    final var signed = SpringAdapter.callController(
+        ControllerRegistry.resolve("UserController", "signIn"),
+        new SignInUserDto(email, "password"), null, null);
+    final var signedUser = (SignedUserDto) signed.getBody();
+    token = signedUser.token;
+    SpringAdapter.callController(
+        ControllerRegistry.resolve("TaskController", "create"),
+        new CreateTaskDto("Bench Task", "Description"), token, null);
+    final var tasks = SpringAdapter.callController(
+        ControllerRegistry.resolve("TaskController", "findByUserId"),
+        null, token, signedUser.id.toString());
+    taskId = ((List<?>) tasks.getBody()).stream()
+      .map(task -> ((TaskDto) task).id.toString())
+      .findFirst()
+      .orElseThrow();
+    final var createTodo = ControllerRegistry.resolve("TodoController", "create");
+    for (var i = 0; i < size; i++) {
+      SpringAdapter.callController(
+          createTodo, new CreateTodoDto("Todo Title " + i, "Description", taskId), token, null);
+    }
+    etag = fullList().getHeaders().getETag();
+  }
+
+  @Benchmark
+  public ResponseEntity<?> fullList() {
+    return SpringAdapter.dispatchConditional(
+        FIND_VERSION_BY_TASK_ID, FIND_BY_TASK_ID, token, taskId, Map.of(), null).join();
+  }
+
+  @Benchmark
+  public ResponseEntity<?> notModified() {
+    return SpringAdapter.dispatchConditional(
+        FIND_VERSION_BY_TASK_ID, FIND_BY_TASK_ID, token, taskId, Map.of(), etag).join();
+  }
+
+}
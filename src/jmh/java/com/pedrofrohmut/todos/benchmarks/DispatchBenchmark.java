@@ -0,0 +1,60 @@
+package com.pedrofrohmut.todos.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import com.pedrofrohmut.todos.domain.dtos.CreateUserDto;
+import com.pedrofrohmut.todos.domain.dtos.SignInUserDto;
+import com.pedrofrohmut.todos.domain.dtos.SignedUserDto;
+import com.pedrofrohmut.todos.web.adapter.ControllerAction;
+import com.pedrofrohmut.todos.web.adapter.ControllerRegistry;
+import com.pedrofrohmut.todos.web.adapter.SpringAdapter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+
+// GET /api/users/signed through SpringAdapter on the in-memory engine, so the numbers are the
+// adapter, controller and use case without a database round trip
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dtodos.dataaccess=memory")
+public class DispatchBenchmark {
+
+  private static final ControllerAction GET_SIGNED =
+    ControllerRegistry.resolve("UserController", "getSigned");
+
+  private String token;
+
+  @Setup
+  public void setup() {
+    final var create = ControllerRegistry.resolve("UserController", "create");
+    final var signIn = ControllerRegistry.resolve("UserController", "signIn");
+    SpringAdapter.callController(
+        create, new CreateUserDto("Bench User", "bench@mail.com", "password"), null, null);
+    final var signed = SpringAdapter.callController(
+        signIn, new SignInUserDto("bench@mail.com", "password"), null, null);
+    token = ((SignedUserDto) signed.getBody()).token;
+  }
+
+  @Benchmark
+  public ResponseEntity<?> resolvedAction() {
+    return SpringAdapter.callController(GET_SIGNED, null, token, null);
+  }
+
+  @Benchmark
+  public ResponseEntity<?> byName() {
+    return SpringAdapter.callController("UserController", "getSigned", null, token, null);
+  }
+
+}
@@ -0,0 +1,87 @@
+package com.pedrofrohmut.todos.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import com.pedrofrohmut.todos.domain.dtos.CreateUserDto;
+import com.pedrofrohmut.todos.domain.dtos.SignInUserDto;
+import com.pedrofrohmut.todos.domain.dtos.SignedUserDto;
+import com.pedrofrohmut.todos.domain.entities.Id;
+import com.pedrofrohmut.todos.domain.errors.InvalidEntityException;
+import com.pedrofrohmut.todos.web.adapter.ControllerAction;
+import com.pedrofrohmut.todos.web.adapter.ControllerRegistry;
+import com.pedrofrohmut.todos.web.adapter.SpringAdapter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+
+// Requests that end in a 400, 401 or 404, the ones a scanner sends, through SpringAdapter on the
+// in-memory engine. The exception benchmarks put the cost of a stack trace next to them.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dtodos.dataaccess=memory")
+public class ErrorPathBenchmark {
+
+  private static final ControllerAction FIND_TODO_BY_ID =
+    ControllerRegistry.resolve("TodoController", "findById");
+
+  private final String junkId = "../../etc/passwd";
+  private final String missingId = Id.random().toString();
+  private final String junkToken = "not-a-token";
+
+  private String token;
+
+  @Setup
+  public void setup() {
+    final var create = ControllerRegistry.resolve("UserController", "create");
+    final var signIn = ControllerRegistry.resolve("UserController", "signIn");
+    SpringAdapter.callController(
+        create, new CreateUserDto("Bench User", "bench@mail.com", "password"), null, null);
+    final var signed = SpringAdapter.callController(
+        signIn, new SignInUserDto("bench@mail.com", "password"), null, null);
+    token = ((SignedUserDto) signed.getBody()).token;
+  }
+
+  @Benchmark
+  public ResponseEntity<?> junkTodoId() {
+    return SpringAdapter.callController(FIND_TODO_BY_ID, null, token, junkId);
+  }
+
+  @Benchmark
+  public ResponseEntity<?> missingTodo() {
+    return SpringAdapter.callController(FIND_TODO_BY_ID, null, token, missingId);
+  }
+
+  @Benchmark
+  public ResponseEntity<?> junkToken() {
+    return SpringAdapter.callController(FIND_TODO_BY_ID, null, junkToken, missingId);
+  }
+
+  @Benchmark
+  public Exception domainException() {
+    try {
+      Id.parse(junkId);
+      return null;
+    } catch (InvalidEntityException e) {
+      return e;
+    }
+  }
+
+  // What every domain error used to cost before it was thrown
+  @Benchmark
+  public Exception stackTraceBaseline() {
+    return new RuntimeException(junkId);
+  }
+
+}
@@ -0,0 +1,101 @@
+package com.pedrofrohmut.todos.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.pedrofrohmut.todos.domain.entities.Id;
+import com.pedrofrohmut.todos.domain.entities.Task;
+import com.pedrofrohmut.todos.domain.entities.Todo;
+import com.pedrofrohmut.todos.domain.entities.User;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Building the entities of a list endpoint from its rows, through the validating constructors and
+// through the hydrate factories the data access classes use
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HydrationBenchmark {
+
+  @Param({ "10", "1000", "100000" })
+  public int size;
+
+  private Id[] ids;
+  private String[] titles;
+  private Id taskId;
+  private Id userId;
+
+  @Setup
+  public void setup() {
+    ids = new Id[size];
+    titles = new String[size];
+    for (var i = 0; i < size; i++) {
+      ids[i] = Id.random();
+      titles[i] = "Todo Title " + i;
+    }
+    taskId = Id.random();
+    userId = Id.random();
+  }
+
+  @Benchmark
+  public List<Todo> validatedTodos() {
+    final var todos = new ArrayList<Todo>(size);
+    for (var i = 0; i < size; i++) {
+      todos.add(new Todo(ids[i], titles[i], "Description", i % 2 == 0, taskId, userId));
+    }
+    return todos;
+  }
+
+  @Benchmark
+  public List<Todo> hydratedTodos() {
+    final var todos = new ArrayList<Todo>(size);
+    for (var i = 0; i < size; i++) {
+      todos.add(Todo.hydrate(ids[i], titles[i], "Description", i % 2 == 0, taskId, userId));
+    }
+    return todos;
+  }
+
+  @Benchmark
+  public List<Task> validatedTasks() {
+    final var tasks = new ArrayList<Task>(size);
+    for (var i = 0; i < size; i++) {
+      tasks.add(new Task(ids[i], titles[i], "Description", userId));
+    }
+    return tasks;
+  }
+
+  @Benchmark
+  public List<Task> hydratedTasks() {
+    final var tasks = new ArrayList<Task>(size);
+    for (var i = 0; i < size; i++) {
+      tasks.add(Task.hydrate(ids[i], titles[i], "Description", userId));
+    }
+    return tasks;
+  }
+
+  // Users come one at a time, but each validated one pays for the email check
+  @Benchmark
+  public User validatedUser() {
+    return new User(userId, "User Name", "user.name@mail.com", "password_hash");
+  }
+
+  @Benchmark
+  public User hydratedUser() {
+    return User.hydrate(userId, "User Name", "user.name@mail.com", "password_hash");
+  }
+
+}
@@ -0,0 +1,50 @@
+package com.pedrofrohmut.todos.benchmarks;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import com.pedrofrohmut.todos.domain.services.JwtService;
+import com.pedrofrohmut.todos.infra.services.JjwtJwtService;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+  private final JwtService jwtService = new JjwtJwtService();
+
+  private String userId;
+  private String token;
+
+  @Setup
+  public void setup() {
+    userId = UUID.randomUUID().toString();
+    token = jwtService.generateToken(userId);
+  }
+
+  @Benchmark
+  public String generateToken() {
+    return jwtService.generateToken(userId);
+  }
+
+  // The same token every time, so this is the verified token cache hit that repeat requests see
+  @Benchmark
+  public String getUserIdFromToken() {
+    return jwtService.getUserIdFromToken(token);
+  }
+
+}
@@ -0,0 +1,64 @@
+package com.pedrofrohmut.todos.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.pedrofrohmut.todos.domain.dtos.TaskDto;
+import com.pedrofrohmut.todos.domain.dtos.TodoDto;
+import com.pedrofrohmut.todos.domain.entities.Id;
+import com.pedrofrohmut.todos.domain.entities.Task;
+import com.pedrofrohmut.todos.domain.entities.Todo;
+import com.pedrofrohmut.todos.domain.mapper.TaskMapper;
+import com.pedrofrohmut.todos.domain.mapper.TodoMapper;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+  @Param({ "10", "1000", "100000" })
+  public int size;
+
+  private List<Todo> todos;
+  private List<Task> tasks;
+
+  @Setup
+  public void setup() {
+    final var userId = Id.random();
+    final var taskId = Id.random();
+    todos = new ArrayList<>(size);
+    tasks = new ArrayList<>(size);
+    for (var i = 0; i < size; i++) {
+      final var id = Id.random();
+      todos.add(new Todo(id, "Todo " + i, "Description", i % 2 == 0, taskId, userId));
+      tasks.add(new Task(id, "Task " + i, "Description", userId));
+    }
+  }
+
+  @Benchmark
+  public List<TodoDto> mapTodos() {
+    return TodoMapper.mapEntityListToTodoDtoList(todos);
+  }
+
+  @Benchmark
+  public List<TaskDto> mapTasks() {
+    return TaskMapper.mapEntityListToTaskDtoList(tasks);
+  }
+
+}
@@ -0,0 +1,60 @@
+package com.pedrofrohmut.todos.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import com.pedrofrohmut.todos.infra.services.BcryptPasswordService;
+import com.pedrofrohmut.todos.infra.services.PasswordHashingExecutor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class PasswordBenchmark {
+
+  private static final String PASSWORD = "password";
+
+  @Param({ "4", "8", "10", "12" })
+  public int cost;
+
+  private PasswordHashingExecutor executor;
+  private BcryptPasswordService passwordService;
+  private String passwordHash;
+
+  @Setup
+  public void setup() {
+    executor = new PasswordHashingExecutor(1, 1);
+    passwordService = new BcryptPasswordService(executor, cost);
+    passwordHash = passwordService.hashPassword(PASSWORD);
+  }
+
+  @TearDown
+  public void tearDown() {
+    executor.shutdown();
+  }
+
+  @Benchmark
+  public String hashPassword() {
+    return passwordService.hashPassword(PASSWORD);
+  }
+
+  @Benchmark
+  public boolean comparePasswordAndHash() {
+    return passwordService.comparePasswordAndHash(PASSWORD, passwordHash);
+  }
+
+}
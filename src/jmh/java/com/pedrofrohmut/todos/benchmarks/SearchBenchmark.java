@@ -0,0 +1,87 @@
+package com.pedrofrohmut.todos.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.pedrofrohmut.todos.domain.dataaccess.SearchHit;
+import com.pedrofrohmut.todos.domain.entities.Id;
+import com.pedrofrohmut.todos.infra.dataaccess.SearchIndex;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Searches over one user with a few tasks of many todos: a whole word, a short prefix that matches
+// much of the vocabulary, and two terms that must both match
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SearchBenchmark {
+
+  private static final String[] WORDS = {
+    "buy", "milk", "bread", "call", "mom", "fix", "bike", "pay", "rent", "book", "flight",
+    "clean", "kitchen", "email", "boss", "review", "report", "water", "plants", "walk", "dog"
+  };
+
+  @Param({ "1000", "10000" })
+  public int documents;
+
+  private SearchIndex searchIndex;
+  private Id userId;
+  private Id taskId;
+  private Id todoId;
+  private int next;
+
+  @Setup
+  public void setup() {
+    searchIndex = new SearchIndex();
+    userId = Id.random();
+    final var taskIds = new Id[10];
+    for (int i = 0; i < taskIds.length; i++) {
+      taskIds[i] = Id.random();
+      searchIndex.putTask(taskIds[i], userId, "Task " + WORDS[i], "List number " + i);
+    }
+    for (int i = 0; i < documents; i++) {
+      final var title = WORDS[i % WORDS.length] + " " + WORDS[(i * 7) % WORDS.length];
+      final var description = "Note " + i + " about " + WORDS[(i * 3) % WORDS.length];
+      searchIndex.putTodo(Id.random(), taskIds[i % taskIds.length], userId, title, description);
+    }
+    taskId = taskIds[0];
+    todoId = Id.random();
+    searchIndex.putTodo(todoId, taskId, userId, "Benchmark", "");
+  }
+
+  @Benchmark
+  public List<SearchHit> word() {
+    return searchIndex.search(userId, "milk", 20);
+  }
+
+  @Benchmark
+  public List<SearchHit> prefix() {
+    return searchIndex.search(userId, "b", 20);
+  }
+
+  @Benchmark
+  public List<SearchHit> twoTerms() {
+    return searchIndex.search(userId, "buy mil", 20);
+  }
+
+  // Replaces the content of one todo, which is what an update costs the index
+  @Benchmark
+  public void putTodo() {
+    next++;
+    searchIndex.putTodo(todoId, taskId, userId, WORDS[next % WORDS.length], "Benchmark " + next);
+  }
+
+}
@@ -0,0 +1,147 @@
+package com.pedrofrohmut.todos.benchmarks;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import com.pedrofrohmut.todos.domain.dtos.CreateTodoDto;
+import com.pedrofrohmut.todos.domain.dtos.CreateUserDto;
+import com.pedrofrohmut.todos.domain.entities.Id;
+import com.pedrofrohmut.todos.domain.entities.Task;
+import com.pedrofrohmut.todos.domain.entities.Todo;
+import com.pedrofrohmut.todos.domain.entities.User;
+import com.pedrofrohmut.todos.domain.errors.InvalidEntityException;
+import com.pedrofrohmut.todos.domain.errors.InvalidTodoException;
+import com.pedrofrohmut.todos.domain.errors.InvalidUserException;
+import com.pedrofrohmut.utils.validation.ValidationPlan;
+import com.pedrofrohmut.utils.validation.Validator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+  // The email check as it was, for the numbers of the scanner that replaced it
+  private static final String emailRegex =
+    "^[a-zA-Z0-9_+&*-]+(?:\\.[a-zA-Z0-9_+&*-]+)*@(?:[a-zA-Z0-9-]+\\.)+[a-zA-Z]{2,7}$";
+  private static final Pattern emailPattern = Pattern.compile(emailRegex);
+
+  private static final ValidationPlan<CreateUserDto> newUserRules =
+    ValidationPlan.<CreateUserDto>of(InvalidUserException::new)
+      .include(dto -> dto.name, User.nameRules)
+      .include(dto -> dto.email, User.emailRules)
+      .include(dto -> dto.password, User.passwordRules)
+      .build();
+
+  private static final ValidationPlan<CreateTodoDto> newTodoRules =
+    ValidationPlan.<CreateTodoDto>of(InvalidTodoException::new)
+      .include(dto -> dto.title, Todo.titleRules)
+      .include(dto -> dto.description, Todo.descriptionRules)
+      .build();
+
+  private final String idText = UUID.randomUUID().toString();
+  private final String invalidId = "not-a-uuid";
+  private final Id id = Id.random();
+  private final Id taskId = Id.random();
+  private final Id userId = Id.random();
+  private final String email = "user.name@mail.com";
+  private final CreateUserDto newUser = new CreateUserDto("User Name", email, "password");
+  private final CreateTodoDto newTodoDto = new CreateTodoDto("Todo Title", "Todo Description", null);
+
+  @Benchmark
+  public Id parseId() {
+    return Id.parse(idText);
+  }
+
+  // Rejected ids pay for the exception, which is the path malformed requests take
+  @Benchmark
+  public Exception validateInvalidId() {
+    try {
+      Id.parse(invalidId);
+      return null;
+    } catch (InvalidEntityException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public boolean isEmail() {
+    return Validator.isEmail(email);
+  }
+
+  // What Validator.isEmail used to do, compile the pattern on every call
+  @Benchmark
+  public boolean isEmailRegex() {
+    return Pattern.matches(emailRegex, email);
+  }
+
+  // The regex with its pattern compiled once, the cheapest it could have been kept
+  @Benchmark
+  public boolean isEmailPrecompiled() {
+    return emailPattern.matcher(email).matches();
+  }
+
+  @Benchmark
+  public CreateUserDto validateNewUser() {
+    newUserRules.validate(newUser);
+    return newUser;
+  }
+
+  // The hand rolled checks CreateUserUseCase ran before its plan, password twice included
+  @Benchmark
+  public CreateUserDto validateNewUserLegacy() {
+    legacyRequired(newUser.name);
+    legacyLength(newUser.name, 5, 120);
+    legacyRequired(newUser.email);
+    if (!Pattern.matches(emailRegex, newUser.email)) {
+      throw new InvalidUserException("Email is not in a valid format");
+    }
+    legacyRequired(newUser.password);
+    legacyLength(newUser.password, 3, 32);
+    legacyRequired(newUser.password);
+    legacyLength(newUser.password, 3, 32);
+    return newUser;
+  }
+
+  @Benchmark
+  public CreateTodoDto validateNewTodo() {
+    newTodoRules.validate(newTodoDto);
+    return newTodoDto;
+  }
+
+  @Benchmark
+  public Todo newTodo() {
+    return new Todo(id, "Todo Title", "Todo Description", false, taskId, userId);
+  }
+
+  @Benchmark
+  public Task newTask() {
+    return new Task(id, "Task Name", "Task Description", userId);
+  }
+
+  private static void legacyRequired(String value) {
+    if (value == null || value.isBlank()) {
+      throw new InvalidUserException("Required and cannot be blank");
+    }
+  }
+
+  private static void legacyLength(String value, int min, int max) {
+    if (value.length() < min || value.length() > max) {
+      throw new InvalidUserException("Out of length");
+    }
+  }
+
+}
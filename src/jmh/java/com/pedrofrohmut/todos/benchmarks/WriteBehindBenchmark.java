@@ -0,0 +1,89 @@
+package com.pedrofrohmut.todos.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.pedrofrohmut.todos.domain.dataaccess.OwnershipWriteResult;
+import com.pedrofrohmut.todos.domain.entities.Id;
+import com.pedrofrohmut.todos.domain.entities.Task;
+import com.pedrofrohmut.todos.domain.entities.Todo;
+import com.pedrofrohmut.todos.domain.entities.User;
+import com.pedrofrohmut.todos.infra.database.UnitOfWork;
+import com.pedrofrohmut.todos.infra.dataaccess.DoneStateBuffer;
+import com.pedrofrohmut.todos.infra.dataaccess.WriteBehindTodoDataAccess;
+import com.pedrofrohmut.todos.infra.dataaccess.memory.InMemoryStore;
+import com.pedrofrohmut.todos.infra.dataaccess.memory.InMemoryTaskDataAccess;
+import com.pedrofrohmut.todos.infra.dataaccess.memory.InMemoryTodoDataAccess;
+import com.pedrofrohmut.todos.infra.dataaccess.memory.InMemoryUserDataAccess;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+// A todo toggled over and over, written row by row next to through the write-behind buffer, on
+// the in-memory engine. Against Postgres the buffered side also skips an UPDATE per toggle.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WriteBehindBenchmark {
+
+  private InMemoryTodoDataAccess todoDataAccess;
+  private DoneStateBuffer doneStateBuffer;
+  private WriteBehindTodoDataAccess writeBehindTodoDataAccess;
+  private Id userId;
+  private Id todoId;
+  private boolean isDone;
+
+  @Setup
+  public void setup() {
+    final var store = new InMemoryStore(64);
+    final var userDataAccess = new InMemoryUserDataAccess(store);
+    final var taskDataAccess = new InMemoryTaskDataAccess(store);
+    todoDataAccess = new InMemoryTodoDataAccess(store);
+    final var user = new User("Bench User", "bench@mail.com");
+    user.setPasswordHash("password_hash");
+    userDataAccess.create(user);
+    userId = userDataAccess.findByEmail("bench@mail.com").getId();
+    taskDataAccess.create(new Task("Task Name", "Task Description", userId));
+    final var taskId = taskDataAccess.findByUserId(userId).get(0).getId();
+    todoId = todoDataAccess
+      .createAll(List.of(new Todo("Todo", "Description", taskId, userId)))
+      .get(0);
+    doneStateBuffer = new DoneStateBuffer(
+        todoDataAccess, () -> UnitOfWork.begin(() -> null), 200, 10000);
+    writeBehindTodoDataAccess = new WriteBehindTodoDataAccess(todoDataAccess, doneStateBuffer);
+  }
+
+  @TearDown
+  public void tearDown() {
+    doneStateBuffer.close();
+  }
+
+  @Benchmark
+  public OwnershipWriteResult directToggle() {
+    isDone = !isDone;
+    return isDone
+      ? todoDataAccess.setDoneIfOwner(todoId, userId)
+      : todoDataAccess.setNotDoneIfOwner(todoId, userId);
+  }
+
+  @Benchmark
+  public OwnershipWriteResult bufferedToggle() {
+    isDone = !isDone;
+    return isDone
+      ? writeBehindTodoDataAccess.setDoneIfOwner(todoId, userId)
+      : writeBehindTodoDataAccess.setNotDoneIfOwner(todoId, userId);
+  }
+
+}
@@ -1,5 +1,8 @@
 package com.pedrofrohmut.todos;
 
+import com.pedrofrohmut.todos.infra.factories.ConnectionFactory;
+import com.pedrofrohmut.todos.infra.factories.DataAccessFactory;
+
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
@@ -7,6 +10,10 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 public class TodosApplication {
 
   public static void main(String[] args) {
+    if (!DataAccessFactory.isInMemory()) {
+      ConnectionFactory.migrate();
+    }
+    DataAccessFactory.rebuildSearchIndex();
     SpringApplication.run(TodosApplication.class, args);
   }
 
@@ -0,0 +1,16 @@
+package com.pedrofrohmut.todos.domain.dataaccess;
+
+public enum OwnershipWriteResult {
+  // The row is owned by the user, and a row cannot outlive its owner, so the user exists too. Use
+  // cases only look the user up when the write did not go through.
+  WRITTEN,
+  NOT_FOUND,
+  NOT_OWNER;
+
+  public static OwnershipWriteResult of(boolean isWritten, boolean isFound) {
+    if (isWritten) {
+      return WRITTEN;
+    }
+    return isFound ? NOT_OWNER : NOT_FOUND;
+  }
+}
@@ -0,0 +1,17 @@
+package com.pedrofrohmut.todos.domain.dataaccess;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+// Rows read lazily: nothing is queried until forEach runs, and each row is handed over as soon as
+// it is read instead of being collected into a list first
+@FunctionalInterface
+public interface RowStream<T> {
+
+  void forEach(Consumer<? super T> consumer);
+
+  default <R> RowStream<R> map(Function<? super T, ? extends R> mapper) {
+    return consumer -> forEach(row -> consumer.accept(mapper.apply(row)));
+  }
+
+}
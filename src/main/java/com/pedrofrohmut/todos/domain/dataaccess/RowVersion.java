@@ -0,0 +1,32 @@
+package com.pedrofrohmut.todos.domain.dataaccess;
+
+import com.pedrofrohmut.todos.domain.entities.Id;
+
+// What a conditional read needs before deciding to load anything: the owner to check and a counter
+// that moves on every write to what the read would return. Writes kept out of the table for now
+// are counted apart, by a generation that is 0 when there are none.
+public class RowVersion {
+
+  public final Id userId;
+  public final long version;
+  public final long deferredGeneration;
+
+  public RowVersion(Id userId, long version) {
+    this(userId, version, 0);
+  }
+
+  public RowVersion(Id userId, long version, long deferredGeneration) {
+    this.userId = userId;
+    this.version = version;
+    this.deferredGeneration = deferredGeneration;
+  }
+
+  // What an ETag is made of
+  public String getTag() {
+    if (deferredGeneration == 0) {
+      return Long.toString(version);
+    }
+    return version + "." + deferredGeneration;
+  }
+
+}
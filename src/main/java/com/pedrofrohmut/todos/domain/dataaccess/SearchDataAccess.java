@@ -0,0 +1,9 @@
+package com.pedrofrohmut.todos.domain.dataaccess;
+
+import java.util.List;
+
+import com.pedrofrohmut.todos.domain.entities.Id;
+
+public interface SearchDataAccess {
+  List<SearchHit> search(Id userId, String query, int limit);
+}
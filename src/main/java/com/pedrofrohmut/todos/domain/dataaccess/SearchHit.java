@@ -0,0 +1,27 @@
+package com.pedrofrohmut.todos.domain.dataaccess;
+
+import com.pedrofrohmut.todos.domain.entities.Id;
+
+// A task or a todo that matched a search. For a task, taskId is its own id.
+public class SearchHit {
+
+  public static final String TASK = "task";
+  public static final String TODO = "todo";
+
+  public final String kind;
+  public final Id id;
+  public final Id taskId;
+  public final String title;
+  public final String description;
+  public final double score;
+
+  public SearchHit(String kind, Id id, Id taskId, String title, String description, double score) {
+    this.kind = kind;
+    this.id = id;
+    this.taskId = taskId;
+    this.title = title;
+    this.description = description;
+    this.score = score;
+  }
+
+}
@@ -2,12 +2,20 @@ package com.pedrofrohmut.todos.domain.dataaccess;
 
 import java.util.List;
 
+import com.pedrofrohmut.todos.domain.dtos.PageDto;
+import com.pedrofrohmut.todos.domain.entities.Id;
 import com.pedrofrohmut.todos.domain.entities.Task;
 
 public interface TaskDataAccess {
-  void create(Task newTask);
-  Task findById(String taskId);
-  List<Task> findByUserId(String userId);
+  Id create(Task newTask);
+  Task findById(Id taskId);
+  RowVersion findVersionById(Id taskId);
+  List<Task> findByUserId(Id userId);
+  PageDto<Task> findPageByUserId(Id userId, int limit, String cursor);
+  RowStream<Task> streamByUserId(Id userId);
+  RowStream<Task> streamAll();
   void update(Task updatedTask);
-  void delete(String taskId);
+  void delete(Id taskId);
+  OwnershipWriteResult updateIfOwner(Id taskId, String name, String description, Id userId);
+  OwnershipWriteResult deleteIfOwner(Id taskId, Id userId);
 }
@@ -1,16 +1,34 @@
 package com.pedrofrohmut.todos.domain.dataaccess;
 
 import java.util.List;
+import java.util.Map;
 
+import com.pedrofrohmut.todos.domain.dtos.PageDto;
+import com.pedrofrohmut.todos.domain.entities.Id;
 import com.pedrofrohmut.todos.domain.entities.Todo;
 
 public interface TodoDataAccess {
   void create(Todo newTodo);
-  Todo findById(String todoId);
-  List<Todo> findByTaskId(String taskId);
+  Todo findById(Id todoId);
+  List<Todo> findByTaskId(Id taskId);
+  PageDto<Todo> findPageByTaskId(Id taskId, int limit, String cursor);
+  RowStream<Todo> streamByTaskId(Id taskId);
+  RowStream<Todo> streamAll();
+  RowVersion findVersionByTaskId(Id taskId);
   void update(Todo updatedTodo);
-  void setDone(String todoId);
-  void setNotDone(String todoId);
-  void delete(String todoId);
-  void clearCompleteByTaskId(String taskId);
+  void setDone(Id todoId);
+  void setNotDone(Id todoId);
+  void delete(Id todoId);
+  // The ids of the todos it deleted
+  List<Id> clearCompleteByTaskId(Id taskId);
+  OwnershipWriteResult updateIfOwner(Id todoId, String title, String description, Id userId);
+  OwnershipWriteResult setDoneIfOwner(Id todoId, Id userId);
+  OwnershipWriteResult setNotDoneIfOwner(Id todoId, Id userId);
+  OwnershipWriteResult deleteIfOwner(Id todoId, Id userId);
+  List<Id> createAll(List<Todo> newTodos);
+  Map<Id, Id> findUserIdsByIds(List<Id> todoIds);
+  void setDoneAll(List<Id> todoIds, Id userId);
+  void setNotDoneAll(List<Id> todoIds, Id userId);
+  void deleteAll(List<Id> todoIds, Id userId);
+  void setIsDoneByIds(Map<Id, Boolean> isDoneByTodoIds);
 }
@@ -1,9 +1,13 @@
 package com.pedrofrohmut.todos.domain.dataaccess;
 
+import com.pedrofrohmut.todos.domain.entities.Id;
 import com.pedrofrohmut.todos.domain.entities.User;
 
 public interface UserDataAccess {
   User findByEmail(String email);
-  User findById(String userId);
+  User findById(Id userId);
   void create(User newUser);
+  // Commits what the request ran so far and hands its connection back, for a use case that has only
+  // read and is about to wait on something slow. The next call borrows a connection again.
+  void releaseConnection();
 }
@@ -0,0 +1,30 @@
+package com.pedrofrohmut.todos.domain.dtos;
+
+public class BulkItemResultDto {
+
+  public static final int MAX_ITEMS = 500;
+
+  // Position of the item in the request body
+  public int index;
+  public String id;
+  public boolean isSuccess;
+  public String error;
+
+  public BulkItemResultDto() {}
+
+  public BulkItemResultDto(int index, String id, boolean isSuccess, String error) {
+    this.index = index;
+    this.id = id;
+    this.isSuccess = isSuccess;
+    this.error = error;
+  }
+
+  public static BulkItemResultDto succeeded(int index, String id) {
+    return new BulkItemResultDto(index, id, true, null);
+  }
+
+  public static BulkItemResultDto failed(int index, String id, String error) {
+    return new BulkItemResultDto(index, id, false, error);
+  }
+
+}
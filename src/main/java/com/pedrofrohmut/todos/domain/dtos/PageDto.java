@@ -0,0 +1,21 @@
+package com.pedrofrohmut.todos.domain.dtos;
+
+import java.util.List;
+
+public class PageDto<T> {
+
+  public static final int DEFAULT_LIMIT = 50;
+  public static final int MAX_LIMIT = 100;
+
+  public List<T> items;
+  // Null on the last page
+  public String nextCursor;
+
+  public PageDto() {}
+
+  public PageDto(List<T> items, String nextCursor) {
+    this.items = items;
+    this.nextCursor = nextCursor;
+  }
+
+}
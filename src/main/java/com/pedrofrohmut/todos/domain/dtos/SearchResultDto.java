@@ -0,0 +1,13 @@
+package com.pedrofrohmut.todos.domain.dtos;
+
+import com.pedrofrohmut.todos.domain.entities.Id;
+
+public class SearchResultDto {
+  // "task" or "todo"
+  public String kind;
+  public Id id;
+  public Id taskId;
+  public String title;
+  public String description;
+  public double score;
+}
@@ -1,8 +1,10 @@
 package com.pedrofrohmut.todos.domain.dtos;
 
+import com.pedrofrohmut.todos.domain.entities.Id;
+
 public class SignedUserDto {
 
-  public String id;
+  public Id id;
   public String name;
   public String email;
   public String token;
@@ -10,7 +12,7 @@ public class SignedUserDto {
   public SignedUserDto() {
   }
 
-  public SignedUserDto(String id, String name, String email, String token) {
+  public SignedUserDto(Id id, String name, String email, String token) {
     this.id = id;
     this.name = name;
     this.email = email;
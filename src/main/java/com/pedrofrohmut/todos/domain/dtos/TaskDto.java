@@ -1,15 +1,17 @@
 package com.pedrofrohmut.todos.domain.dtos;
 
+import com.pedrofrohmut.todos.domain.entities.Id;
+
 public class TaskDto {
 
-  public String id;
+  public Id id;
   public String name;
   public String description;
-  public String userId;
+  public Id userId;
 
   public TaskDto() {}
 
-  public TaskDto(String id, String name, String description, String userId) {
+  public TaskDto(Id id, String name, String description, Id userId) {
     this.id = id;
     this.name = name;
     this.description = description;
@@ -0,0 +1,11 @@
+package com.pedrofrohmut.todos.domain.dtos;
+
+// A task in the list of its user, with the progress of its todos
+public class TaskSummaryDto extends TaskDto {
+
+  public int todosCount;
+  public int doneTodosCount;
+
+  public TaskSummaryDto() {}
+
+}
@@ -1,10 +1,12 @@
 package com.pedrofrohmut.todos.domain.dtos;
 
+import com.pedrofrohmut.todos.domain.entities.Id;
+
 public class TodoDto {
-  public String id;
+  public Id id;
   public String title;
   public String description;
   public boolean isDone;
-  public String taskId;
-  public String userId;
+  public Id taskId;
+  public Id userId;
 }
@@ -1,7 +1,9 @@
 package com.pedrofrohmut.todos.domain.dtos;
 
+import com.pedrofrohmut.todos.domain.entities.Id;
+
 public class UserDto {
-  public String id;
+  public Id id;
   public String name;
   public String email;
   public String password;
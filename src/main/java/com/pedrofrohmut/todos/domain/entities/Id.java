@@ -0,0 +1,125 @@
+package com.pedrofrohmut.todos.domain.entities;
+
+import java.util.UUID;
+
+import com.pedrofrohmut.todos.domain.errors.InvalidEntityException;
+
+// Entity id as the two halves of its UUID. Text ids are parsed once where they enter the app and
+// written back out as text only when a response is serialized.
+public final class Id implements Comparable<Id> {
+
+  public static final int LENGTH = 36;
+
+  private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+  private final long mostSignificantBits;
+  private final long leastSignificantBits;
+
+  private Id(long mostSignificantBits, long leastSignificantBits) {
+    this.mostSignificantBits = mostSignificantBits;
+    this.leastSignificantBits = leastSignificantBits;
+  }
+
+  public static Id of(UUID uuid) {
+    return new Id(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+  }
+
+  public static Id random() {
+    return of(UUID.randomUUID());
+  }
+
+  // Accepts the canonical 8-4-4-4-12 form, in either case, which is what Postgres hands out
+  public static Id parse(String id) {
+    if (id == null || id.isBlank()) {
+      throw new InvalidEntityException("Id is required and cannot be blank");
+    }
+    if (id.length() != LENGTH
+        || id.charAt(8) != '-' || id.charAt(13) != '-' || id.charAt(18) != '-' || id.charAt(23) != '-') {
+      throw new InvalidEntityException("Id must be a valid UUIDv4");
+    }
+    var most = 0L;
+    for (var i = 0; i < 18; i++) {
+      if (i != 8 && i != 13) {
+        most = most << 4 | hexValue(id.charAt(i));
+      }
+    }
+    var least = 0L;
+    for (var i = 19; i < LENGTH; i++) {
+      if (i != 23) {
+        least = least << 4 | hexValue(id.charAt(i));
+      }
+    }
+    return new Id(most, least);
+  }
+
+  private static long hexValue(char digit) {
+    if (digit >= '0' && digit <= '9') {
+      return digit - '0';
+    }
+    if (digit >= 'a' && digit <= 'f') {
+      return digit - 'a' + 10;
+    }
+    if (digit >= 'A' && digit <= 'F') {
+      return digit - 'A' + 10;
+    }
+    throw new InvalidEntityException("Id must be a valid UUIDv4");
+  }
+
+  public UUID toUuid() {
+    return new UUID(mostSignificantBits, leastSignificantBits);
+  }
+
+  // Writes the canonical lower case form into chars[offset, offset + LENGTH)
+  public void writeTo(char[] chars, int offset) {
+    writeHex(chars, offset, mostSignificantBits >>> 32, 8);
+    chars[offset + 8] = '-';
+    writeHex(chars, offset + 9, mostSignificantBits >>> 16, 4);
+    chars[offset + 13] = '-';
+    writeHex(chars, offset + 14, mostSignificantBits, 4);
+    chars[offset + 18] = '-';
+    writeHex(chars, offset + 19, leastSignificantBits >>> 48, 4);
+    chars[offset + 23] = '-';
+    writeHex(chars, offset + 24, leastSignificantBits, 12);
+  }
+
+  private static void writeHex(char[] chars, int offset, long value, int digits) {
+    for (var i = digits - 1; i >= 0; i--) {
+      chars[offset + i] = HEX_DIGITS[(int) (value & 0xf)];
+      value >>>= 4;
+    }
+  }
+
+  @Override
+  public String toString() {
+    final var chars = new char[LENGTH];
+    writeTo(chars, 0);
+    return new String(chars);
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof Id)) {
+      return false;
+    }
+    final var otherId = (Id) other;
+    return mostSignificantBits == otherId.mostSignificantBits
+      && leastSignificantBits == otherId.leastSignificantBits;
+  }
+
+  @Override
+  public int hashCode() {
+    final var bits = mostSignificantBits ^ leastSignificantBits;
+    return (int) (bits >> 32) ^ (int) bits;
+  }
+
+  // Unsigned, like the byte order Postgres sorts uuid columns in
+  @Override
+  public int compareTo(Id other) {
+    final var most = Long.compareUnsigned(mostSignificantBits, other.mostSignificantBits);
+    return most != 0 ? most : Long.compareUnsigned(leastSignificantBits, other.leastSignificantBits);
+  }
+
+}
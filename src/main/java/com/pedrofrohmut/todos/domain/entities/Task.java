@@ -3,53 +3,88 @@ package com.pedrofrohmut.todos.domain.entities;
 import java.util.List;
 
 import com.pedrofrohmut.todos.domain.errors.InvalidTaskException;
+import com.pedrofrohmut.utils.validation.ValidationPlan;
 
 public class Task {
 
-  private final String id;
+  public static final ValidationPlan<String> nameRules =
+    ValidationPlan.<String>of(InvalidTaskException::new)
+      .required(name -> name, "Name is required and cannot be blank")
+      .length(name -> name, 3, 64, "Name must be between 3 and 64 characters")
+      .build();
+
+  public static final ValidationPlan<String> descriptionRules =
+    ValidationPlan.<String>of(InvalidTaskException::new)
+      .maxLength(description -> description, 255, "Description must be less than 255 characters")
+      .build();
+
+  private final Id id;
   private final String name;
   private final String description;
 
-  private final String userId;
+  private final Id userId;
   private List<Todo> todos;
+  // Kept by the database as todos are written, only read in by the lists of tasks
+  private final int todosCount;
+  private final int doneTodosCount;
 
-  public Task(String id, String name, String description, String userId) {
-    Entity.validateId(id);
-    Task.validateName(name);
-    Task.validateDescription(description);
-    Entity.validateId(userId);
+  public Task(Id id, String name, String description, Id userId) {
+    this(id, name, description, userId, 0, 0, true);
+  }
+
+  private Task(
+      Id id,
+      String name,
+      String description,
+      Id userId,
+      int todosCount,
+      int doneTodosCount,
+      boolean validate) {
+    if (validate) {
+      Entity.validateId(id);
+      Task.validateName(name);
+      Task.validateDescription(description);
+      Entity.validateId(userId);
+    }
     this.id = id;
     this.name = name;
     this.description = description;
     this.userId = userId;
+    this.todosCount = todosCount;
+    this.doneTodosCount = doneTodosCount;
   }
 
-  public Task(String name, String description, String userId) {
+  public Task(String name, String description, Id userId) {
     Task.validateName(name);
     Task.validateDescription(description);
     Entity.validateId(userId);
-    this.id = "";
+    this.id = null;
     this.name = name;
     this.description = description;
     this.userId = userId;
+    this.todosCount = 0;
+    this.doneTodosCount = 0;
+  }
+
+  // For rows read back from the database, which were validated on their way in
+  public static Task hydrate(Id id, String name, String description, Id userId) {
+    return new Task(id, name, description, userId, 0, 0, false);
+  }
+
+  public static Task hydrate(
+      Id id, String name, String description, Id userId, int todosCount, int doneTodosCount) {
+    return new Task(id, name, description, userId, todosCount, doneTodosCount, false);
   }
 
   public static void validateName(String name) {
-    if (name == null || name.isBlank()) {
-      throw new InvalidTaskException("Name is required and cannot be blank");
-    }
-    if (name.length() > 64 || name.length() < 3) {
-      throw new InvalidTaskException("Name must be between 3 and 64 characters");
-    }
+    nameRules.validate(name);
   }
 
   public static void validateDescription(String description) {
-    if (description.length() > 255) {
-      throw new InvalidTaskException("Description must be less than 255 characters");
-    }
+    descriptionRules.validate(description);
   }
 
-  public static void validateTodos(List<Todo> todos, String taskId, String userId) {
+  public static void validateTodos(List<Todo> todos, Id taskId, Id userId) {
     todos.forEach(todo -> {
       if (!todo.getUserId().equals(userId)) {
         throw new InvalidTaskException("Todo do not belong to the user of this task");
@@ -60,16 +95,20 @@ public class Task {
     });
   }
 
-  public String getId() { return id; }
+  public Id getId() { return id; }
 
   public String getName() { return name; }
 
   public String getDescription() { return description; }
 
-  public String getUserId() { return userId; }
+  public Id getUserId() { return userId; }
 
   public List<Todo> getTodos() { return todos; }
 
+  public int getTodosCount() { return todosCount; }
+
+  public int getDoneTodosCount() { return doneTodosCount; }
+
   public void setTodos(List<Todo> todos) {
     Task.validateTodos(todos, this.id, this.userId);
     this.todos = todos;
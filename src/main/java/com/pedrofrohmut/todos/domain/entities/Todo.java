@@ -1,24 +1,49 @@
 package com.pedrofrohmut.todos.domain.entities;
 
 import com.pedrofrohmut.todos.domain.errors.InvalidTodoException;
+import com.pedrofrohmut.utils.validation.ValidationPlan;
 
 public class Todo {
 
-  private final String id;
+  public static final ValidationPlan<String> titleRules =
+    ValidationPlan.<String>of(InvalidTodoException::new)
+      .required(title -> title, "Title is required an cannot be blank")
+      .length(title -> title, 3, 64, "Title must be between 3 and 64 characters")
+      .build();
+
+  public static final ValidationPlan<String> descriptionRules =
+    ValidationPlan.<String>of(InvalidTodoException::new)
+      .maxLength(description -> description, 255, "Description must be less than 255 characters")
+      .build();
+
+  private final Id id;
   private final String title;
   private final String description;
   private final boolean isDone;
 
-  private final String taskId;
-  private final String userId;
+  private final Id taskId;
+  private final Id userId;
 
   public Todo(
-      String id, String title, String description, boolean isDone, String taskId, String userId) {
-    Entity.validateId(id);
-    Todo.validateTitle(title);
-    Todo.validateDescription(description);
-    Entity.validateId(taskId);
-    Entity.validateId(userId);
+      Id id, String title, String description, boolean isDone, Id taskId, Id userId) {
+    this(id, title, description, isDone, taskId, userId, true);
+  }
+
+  private Todo(
+      Id id,
+      String title,
+      String description,
+      boolean isDone,
+      Id taskId,
+      Id userId,
+      boolean validate) {
+    if (validate) {
+      Entity.validateId(id);
+      Todo.validateTitle(title);
+      Todo.validateDescription(description);
+      Entity.validateId(taskId);
+      Entity.validateId(userId);
+    }
     this.id = id;
     this.title = title;
     this.description = description;
@@ -27,12 +52,12 @@ public class Todo {
     this.userId = userId;
   }
 
-  public Todo(String title, String description, String taskId, String userId) {
+  public Todo(String title, String description, Id taskId, Id userId) {
     Todo.validateTitle(title);
     Todo.validateDescription(description);
     Entity.validateId(taskId);
     Entity.validateId(userId);
-    this.id = "";
+    this.id = null;
     this.title = title;
     this.description = description;
     this.isDone = false;
@@ -40,22 +65,21 @@ public class Todo {
     this.userId = userId;
   }
 
+  // For rows read back from the database, which were validated on their way in
+  public static Todo hydrate(
+      Id id, String title, String description, boolean isDone, Id taskId, Id userId) {
+    return new Todo(id, title, description, isDone, taskId, userId, false);
+  }
+
   public static void validateTitle(String title) {
-    if (title == null || title.isBlank()) {
-      throw new InvalidTodoException("Title is required an cannot be blank");
-    }
-    if (title.length() < 3 || title.length() > 64) {
-      throw new InvalidTodoException("Title must be between 3 and 64 characters");
-    }
+    titleRules.validate(title);
   }
 
   public static void validateDescription(String description) {
-    if (description.length() > 255) {
-      throw new InvalidTodoException("Description must be less than 255 characters");
-    }
+    descriptionRules.validate(description);
   }
 
-  public String getId() { return id; }
+  public Id getId() { return id; }
 
   public String getTitle() { return title; }
 
@@ -63,8 +87,8 @@ public class Todo {
 
   public boolean isDone() { return isDone; }
 
-  public String getTaskId() { return taskId; }
+  public Id getTaskId() { return taskId; }
 
-  public String getUserId() { return userId; }
+  public Id getUserId() { return userId; }
 
 }
@@ -3,11 +3,34 @@ package com.pedrofrohmut.todos.domain.entities;
 import java.util.List;
 
 import com.pedrofrohmut.todos.domain.errors.InvalidUserException;
-import com.pedrofrohmut.utils.validation.Validator;
+import com.pedrofrohmut.utils.validation.ValidationPlan;
 
 public class User {
 
-  private final String id;
+  public static final ValidationPlan<String> nameRules =
+    ValidationPlan.<String>of(InvalidUserException::new)
+      .required(name -> name, "Name is required and cannot be blank")
+      .length(name -> name, 5, 120, "Name must be between 5 and 120 characters")
+      .build();
+
+  public static final ValidationPlan<String> emailRules =
+    ValidationPlan.<String>of(InvalidUserException::new)
+      .required(email -> email, "Email is required and cannot be blank")
+      .email(email -> email, "Email is not in a valid format")
+      .build();
+
+  public static final ValidationPlan<String> passwordRules =
+    ValidationPlan.<String>of(InvalidUserException::new)
+      .required(password -> password, "Password is required and cannot be blank")
+      .length(password -> password, 3, 32, "Password must be between 5 and 32 characters")
+      .build();
+
+  public static final ValidationPlan<String> passwordHashRules =
+    ValidationPlan.<String>of(InvalidUserException::new)
+      .required(passwordHash -> passwordHash, "PasswordHash is in blank")
+      .build();
+
+  private final Id id;
   private final String name;
   private final String email;
 
@@ -16,18 +39,24 @@ public class User {
 
   private List<Task> tasks;
 
-  public User(String id, String name, String email, String passwordHash) {
-    Entity.validateId(id);
-    User.validateName(name);
-    User.validateEmail(email);
-    User.validatePasswordHash(passwordHash);
+  public User(Id id, String name, String email, String passwordHash) {
+    this(id, name, email, passwordHash, true);
+  }
+
+  private User(Id id, String name, String email, String passwordHash, boolean validate) {
+    if (validate) {
+      Entity.validateId(id);
+      User.validateName(name);
+      User.validateEmail(email);
+      User.validatePasswordHash(passwordHash);
+    }
     this.id = id;
     this.name = name;
     this.email = email;
     this.passwordHash = passwordHash;
   }
 
-  public User(String id, String name, String email) {
+  public User(Id id, String name, String email) {
     Entity.validateId(id);
     User.validateName(name);
     User.validateEmail(email);
@@ -39,45 +68,34 @@ public class User {
   public User(String name, String email) {
     User.validateName(name);
     User.validateEmail(email);
-    this.id = "";
+    this.id = null;
     this.name = name;
     this.email = email;
   }
 
+  // For rows read back from the database, which were validated on their way in. Skips the email
+  // scan, the most expensive check of all.
+  public static User hydrate(Id id, String name, String email, String passwordHash) {
+    return new User(id, name, email, passwordHash, false);
+  }
+
   public static void validateName(String name) {
-    if (name == null || name.isBlank()) {
-      throw new InvalidUserException("Name is required and cannot be blank");
-    }
-    if (name.length() < 5 || name.length() > 120) {
-      throw new InvalidUserException("Name must be between 5 and 120 characters");
-    }
+    nameRules.validate(name);
   }
 
   public static void validateEmail(String email) {
-    if (email == null || email.isBlank()) {
-      throw new InvalidUserException("Email is required and cannot be blank");
-    }
-    if (!Validator.isEmail(email)) {
-      throw new InvalidUserException("Email is not in a valid format");
-    }
+    emailRules.validate(email);
   }
 
   public static void validatePassword(String password) {
-    if (password == null || password.isBlank()) {
-      throw new InvalidUserException("Password is required and cannot be blank");
-    }
-    if (password.length() < 3 || password.length() > 32) {
-      throw new InvalidUserException("Password must be between 5 and 32 characters");
-    }
+    passwordRules.validate(password);
   }
 
   public static void validatePasswordHash(String passwordHash) {
-    if (passwordHash == null || passwordHash.isBlank()) {
-      throw new InvalidUserException("PasswordHash is in blank");
-    }
+    passwordHashRules.validate(passwordHash);
   }
 
-  public static void validateTasks(List<Task> tasks, String userId) {
+  public static void validateTasks(List<Task> tasks, Id userId) {
     tasks.forEach(task -> {
       if (!task.getUserId().equals(userId)) {
         throw new InvalidUserException("Task do not belong to this user");
@@ -85,7 +103,7 @@ public class User {
     });
   }
 
-  public String getId() { return id; }
+  public Id getId() { return id; }
 
   public String getName() { return name; }
 
@@ -0,0 +1,15 @@
+package com.pedrofrohmut.todos.domain.errors;
+
+public class BulkTooLargeException extends DomainException {
+
+  public static final String message = "Too many items in a single bulk request";
+
+  public BulkTooLargeException() {
+    super(BulkTooLargeException.message);
+  }
+
+  public BulkTooLargeException(String msg) {
+    super(msg + ". " + BulkTooLargeException.message);
+  }
+
+}
@@ -0,0 +1,12 @@
+package com.pedrofrohmut.todos.domain.errors;
+
+// Expected outcomes of a request, like a bad id or a missing todo, that end up as a 4xx response. They
+// carry no stack trace: nobody reads it, and filling it in is most of the cost of throwing, which
+// clients sending junk can make us do a lot of.
+public abstract class DomainException extends RuntimeException {
+
+  protected DomainException(String message) {
+    super(message, null, false, false);
+  }
+
+}
@@ -1,6 +1,6 @@
 package com.pedrofrohmut.todos.domain.errors;
 
-public class InvalidEntityException extends RuntimeException {
+public class InvalidEntityException extends DomainException {
 
   public static final String message = "Entity is invalid";
 
@@ -0,0 +1,15 @@
+package com.pedrofrohmut.todos.domain.errors;
+
+public class InvalidPageRequestException extends DomainException {
+
+  public static final String message = "Page limit or cursor is invalid";
+
+  public InvalidPageRequestException() {
+    super(InvalidPageRequestException.message);
+  }
+
+  public InvalidPageRequestException(String msg) {
+    super(msg + ". " + InvalidPageRequestException.message);
+  }
+
+}
@@ -0,0 +1,15 @@
+package com.pedrofrohmut.todos.domain.errors;
+
+public class InvalidSearchQueryException extends DomainException {
+
+  public static final String message = "Search query is missing or too long";
+
+  public InvalidSearchQueryException() {
+    super(InvalidSearchQueryException.message);
+  }
+
+  public InvalidSearchQueryException(String msg) {
+    super(msg + ". " + InvalidSearchQueryException.message);
+  }
+
+}
@@ -1,6 +1,6 @@
 package com.pedrofrohmut.todos.domain.errors;
 
-public class InvalidTaskException extends RuntimeException {
+public class InvalidTaskException extends DomainException {
 
   public static final String message = "Task is invalid";
 
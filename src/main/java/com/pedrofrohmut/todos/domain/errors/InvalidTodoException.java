@@ -1,6 +1,6 @@
 package com.pedrofrohmut.todos.domain.errors;
 
-public class InvalidTodoException extends RuntimeException {
+public class InvalidTodoException extends DomainException {
 
   public static final String message = "Todo is invalid";
 
@@ -1,6 +1,6 @@
 package com.pedrofrohmut.todos.domain.errors;
 
-public class InvalidUserException extends RuntimeException {
+public class InvalidUserException extends DomainException {
 
   public static final String message = "User is invalid";
 
@@ -1,6 +1,6 @@
 package com.pedrofrohmut.todos.domain.errors;
 
-public class PasswordAndHashDoNotMatchException extends RuntimeException {
+public class PasswordAndHashDoNotMatchException extends DomainException {
 
   public static final String message = "Password and hash passed do not match";
 
@@ -1,6 +1,6 @@
 package com.pedrofrohmut.todos.domain.errors;
 
-public class TaskNotFoundByIdException extends RuntimeException {
+public class TaskNotFoundByIdException extends DomainException {
 
   public static final String message = "Task not found with the id passed";
 
@@ -1,6 +1,6 @@
 package com.pedrofrohmut.todos.domain.errors;
 
-public class TodoNotFoundByIdException extends RuntimeException {
+public class TodoNotFoundByIdException extends DomainException {
 
   public static final String message = "Todo not found with the id passed";
 
@@ -1,6 +1,6 @@
 package com.pedrofrohmut.todos.domain.errors;
 
-public class UserEmailAlreadyTakenException extends RuntimeException {
+public class UserEmailAlreadyTakenException extends DomainException {
 
   public static final String message = "User e-mail is already taken. But must be unique";
 
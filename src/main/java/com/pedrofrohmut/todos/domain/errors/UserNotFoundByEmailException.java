@@ -1,6 +1,6 @@
 package com.pedrofrohmut.todos.domain.errors;
 
-public class UserNotFoundByEmailException extends RuntimeException {
+public class UserNotFoundByEmailException extends DomainException {
 
   public static final String message = "User not found with the e-mail passed";
 
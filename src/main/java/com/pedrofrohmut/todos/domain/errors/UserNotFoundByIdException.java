@@ -1,6 +1,6 @@
 package com.pedrofrohmut.todos.domain.errors;
 
-public class UserNotFoundByIdException extends RuntimeException {
+public class UserNotFoundByIdException extends DomainException {
 
   public static final String message = "User not found with the id passed";
 
@@ -1,6 +1,6 @@
 package com.pedrofrohmut.todos.domain.errors;
 
-public class UserNotResourceOwnerException extends RuntimeException {
+public class UserNotResourceOwnerException extends DomainException {
 
   public static final String message = "User is not the owner of the resource";
 
@@ -1,56 +1,116 @@
 package com.pedrofrohmut.todos.domain.factories;
 
 import java.sql.Connection;
+import java.util.HashMap;
+import java.util.Map;
 
+import com.pedrofrohmut.todos.domain.dataaccess.SearchDataAccess;
+import com.pedrofrohmut.todos.domain.dataaccess.TaskDataAccess;
+import com.pedrofrohmut.todos.domain.dataaccess.TodoDataAccess;
+import com.pedrofrohmut.todos.domain.dataaccess.UserDataAccess;
 import com.pedrofrohmut.todos.domain.errors.UseCaseNotListedException;
+import com.pedrofrohmut.todos.domain.services.JwtService;
+import com.pedrofrohmut.todos.domain.services.PasswordService;
+import com.pedrofrohmut.todos.domain.usecases.search.SearchUseCase;
 import com.pedrofrohmut.todos.domain.usecases.tasks.CreateTaskUseCase;
+import com.pedrofrohmut.todos.domain.usecases.tasks.DeleteTaskUseCase;
 import com.pedrofrohmut.todos.domain.usecases.tasks.FindTaskByIdUseCase;
+import com.pedrofrohmut.todos.domain.usecases.tasks.FindTasksByUserIdUseCase;
+import com.pedrofrohmut.todos.domain.usecases.tasks.UpdateTaskUseCase;
+import com.pedrofrohmut.todos.domain.usecases.todos.BulkCreateTodosUseCase;
+import com.pedrofrohmut.todos.domain.usecases.todos.BulkDeleteTodosUseCase;
+import com.pedrofrohmut.todos.domain.usecases.todos.BulkSetDoneTodosUseCase;
+import com.pedrofrohmut.todos.domain.usecases.todos.BulkSetNotDoneTodosUseCase;
+import com.pedrofrohmut.todos.domain.usecases.todos.ClearCompleteTodosByTaskIdUseCase;
+import com.pedrofrohmut.todos.domain.usecases.todos.CreateTodoUseCase;
+import com.pedrofrohmut.todos.domain.usecases.todos.DeleteTodoUseCase;
+import com.pedrofrohmut.todos.domain.usecases.todos.FindTodoByIdUseCase;
+import com.pedrofrohmut.todos.domain.usecases.todos.FindTodosByTaskIdUseCase;
+import com.pedrofrohmut.todos.domain.usecases.todos.SetDoneTodoUseCase;
+import com.pedrofrohmut.todos.domain.usecases.todos.SetNotDoneTodoUseCase;
+import com.pedrofrohmut.todos.domain.usecases.todos.UpdateTodoUseCase;
 import com.pedrofrohmut.todos.domain.usecases.users.CreateUserUseCase;
 import com.pedrofrohmut.todos.domain.usecases.users.GetSignedUserUseCase;
 import com.pedrofrohmut.todos.domain.usecases.users.SignInUserUseCase;
-import com.pedrofrohmut.todos.infra.dataaccess.TaskDataAccessImpl;
-import com.pedrofrohmut.todos.infra.dataaccess.UserDataAccessImpl;
+import com.pedrofrohmut.todos.infra.factories.ConnectionFactory;
+import com.pedrofrohmut.todos.infra.factories.DataAccessFactory;
 import com.pedrofrohmut.todos.infra.services.BcryptPasswordService;
 import com.pedrofrohmut.todos.infra.services.JjwtJwtService;
 
 public class UseCaseFactory {
 
+  // Wired once. Use cases and services keep no request state, and the data access asks the unit of
+  // work of the calling thread for its connection, so only that connection is per request.
+  private static class GraphHolder {
+    private static final Map<String, Object> useCases = wire(
+        DataAccessFactory.getUserDataAccess(ConnectionFactory::getRequestConnection),
+        DataAccessFactory.getTaskDataAccess(ConnectionFactory::getRequestConnection),
+        DataAccessFactory.getTodoDataAccess(ConnectionFactory::getRequestConnection),
+        DataAccessFactory.getSearchDataAccess());
+  }
+
+  private static final PasswordService passwordService = new BcryptPasswordService();
+  private static final JwtService jwtService = new JjwtJwtService();
+
+  public static Object getInstance(String useCaseName) {
+    final var useCase = GraphHolder.useCases.get(useCaseName);
+    if (useCase == null) {
+      throw new UseCaseNotListedException();
+    }
+    return useCase;
+  }
+
+  // A graph of its own bound to the given connection, for callers that manage the transaction
   public static Object getInstance(String useCaseName, Connection connection) {
-    switch (useCaseName) {
-      case "CreateUserUseCase": {
-        final var userDataAccess = new UserDataAccessImpl(connection);
-        final var passwordService = new BcryptPasswordService();
-        final var createUserUseCase = new CreateUserUseCase(userDataAccess, passwordService);
-        return createUserUseCase;
-      }
-      case "SignInUserUseCase": {
-        final var userDataAccess = new UserDataAccessImpl(connection);
-        final var passwordService = new BcryptPasswordService();
-        final var jwtService = new JjwtJwtService();
-        final var signInUserUseCase = new SignInUserUseCase(userDataAccess, passwordService, jwtService);
-        return signInUserUseCase;
-      }
-      case "GetSignedUserUseCase": {
-        final var userDataAccess = new UserDataAccessImpl(connection);
-        final var jwtService = new JjwtJwtService();
-        final var getSignedUserUseCase = new GetSignedUserUseCase(userDataAccess, jwtService);
-        return getSignedUserUseCase;
-      }
-      case "CreateTaskUseCase": {
-        final var taskDataAccess = new TaskDataAccessImpl(connection);
-        final var userDataAccess = new UserDataAccessImpl(connection);
-        final var createTaskUseCase = new CreateTaskUseCase(taskDataAccess, userDataAccess);
-        return createTaskUseCase;
-      }
-      case "FindTaskByIdUseCase": {
-        final var taskDataAccess = new TaskDataAccessImpl(connection);
-        final var userDataAccess = new UserDataAccessImpl(connection);
-        final var findTaskByIdUseCase = new FindTaskByIdUseCase(taskDataAccess, userDataAccess);
-        return findTaskByIdUseCase;
-      }
-      default:
-        throw new UseCaseNotListedException();
+    final var useCases = wire(
+        DataAccessFactory.getUserDataAccess(connection),
+        DataAccessFactory.getTaskDataAccess(connection),
+        DataAccessFactory.getTodoDataAccess(connection),
+        DataAccessFactory.getSearchDataAccess());
+    final var useCase = useCases.get(useCaseName);
+    if (useCase == null) {
+      throw new UseCaseNotListedException();
     }
+    return useCase;
+  }
+
+  private static Map<String, Object> wire(
+      UserDataAccess userDataAccess,
+      TaskDataAccess taskDataAccess,
+      TodoDataAccess todoDataAccess,
+      SearchDataAccess searchDataAccess) {
+    final var useCases = new HashMap<String, Object>();
+    // Users
+    useCases.put("CreateUserUseCase", new CreateUserUseCase(userDataAccess, passwordService));
+    useCases.put("SignInUserUseCase", new SignInUserUseCase(userDataAccess, passwordService, jwtService));
+    useCases.put("GetSignedUserUseCase", new GetSignedUserUseCase(userDataAccess, jwtService));
+    // Tasks
+    useCases.put("CreateTaskUseCase", new CreateTaskUseCase(taskDataAccess, userDataAccess));
+    useCases.put("FindTaskByIdUseCase", new FindTaskByIdUseCase(taskDataAccess, userDataAccess));
+    useCases.put("FindTasksByUserIdUseCase", new FindTasksByUserIdUseCase(taskDataAccess, userDataAccess));
+    useCases.put("UpdateTaskUseCase", new UpdateTaskUseCase(taskDataAccess, userDataAccess));
+    useCases.put("DeleteTaskUseCase", new DeleteTaskUseCase(taskDataAccess, userDataAccess));
+    // Todos
+    useCases.put("CreateTodoUseCase",
+        new CreateTodoUseCase(todoDataAccess, taskDataAccess, userDataAccess));
+    useCases.put("FindTodoByIdUseCase", new FindTodoByIdUseCase(todoDataAccess, userDataAccess));
+    useCases.put("FindTodosByTaskIdUseCase",
+        new FindTodosByTaskIdUseCase(todoDataAccess, taskDataAccess, userDataAccess));
+    useCases.put("UpdateTodoUseCase", new UpdateTodoUseCase(todoDataAccess, userDataAccess));
+    useCases.put("SetDoneTodoUseCase", new SetDoneTodoUseCase(todoDataAccess, userDataAccess));
+    useCases.put("SetNotDoneTodoUseCase", new SetNotDoneTodoUseCase(todoDataAccess, userDataAccess));
+    useCases.put("DeleteTodoUseCase", new DeleteTodoUseCase(todoDataAccess, userDataAccess));
+    useCases.put("ClearCompleteTodosByTaskIdUseCase",
+        new ClearCompleteTodosByTaskIdUseCase(todoDataAccess, taskDataAccess, userDataAccess));
+    useCases.put("BulkCreateTodosUseCase",
+        new BulkCreateTodosUseCase(todoDataAccess, taskDataAccess, userDataAccess));
+    useCases.put("BulkSetDoneTodosUseCase", new BulkSetDoneTodosUseCase(todoDataAccess, userDataAccess));
+    useCases.put("BulkSetNotDoneTodosUseCase",
+        new BulkSetNotDoneTodosUseCase(todoDataAccess, userDataAccess));
+    useCases.put("BulkDeleteTodosUseCase", new BulkDeleteTodosUseCase(todoDataAccess, userDataAccess));
+    // Search
+    useCases.put("SearchUseCase", new SearchUseCase(searchDataAccess, userDataAccess));
+    return Map.copyOf(useCases);
   }
 
 }
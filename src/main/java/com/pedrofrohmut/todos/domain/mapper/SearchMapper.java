@@ -0,0 +1,30 @@
+package com.pedrofrohmut.todos.domain.mapper;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.pedrofrohmut.todos.domain.dataaccess.SearchHit;
+import com.pedrofrohmut.todos.domain.dtos.SearchResultDto;
+
+public class SearchMapper {
+
+  public static SearchResultDto mapHitToSearchResultDto(SearchHit hit) {
+    final var searchResultDto = new SearchResultDto();
+    searchResultDto.kind = hit.kind;
+    searchResultDto.id = hit.id;
+    searchResultDto.taskId = hit.taskId;
+    searchResultDto.title = hit.title;
+    searchResultDto.description = hit.description == null ? "" : hit.description;
+    searchResultDto.score = hit.score;
+    return searchResultDto;
+  }
+
+  public static List<SearchResultDto> mapHitListToSearchResultDtoList(List<SearchHit> hits) {
+    return
+      hits
+        .stream()
+        .map(hit -> SearchMapper.mapHitToSearchResultDto(hit))
+        .collect(Collectors.toList());
+  }
+
+}
@@ -3,7 +3,9 @@ package com.pedrofrohmut.todos.domain.mapper;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import com.pedrofrohmut.todos.domain.dtos.PageDto;
 import com.pedrofrohmut.todos.domain.dtos.TaskDto;
+import com.pedrofrohmut.todos.domain.dtos.TaskSummaryDto;
 import com.pedrofrohmut.todos.domain.entities.Task;
 
 public class TaskMapper {
@@ -20,6 +22,20 @@ public class TaskMapper {
     return taskDto;
   }
 
+  public static TaskSummaryDto mapEntityToTaskSummaryDto(Task task) {
+    if (task == null) {
+      return null;
+    }
+    final var taskSummaryDto = new TaskSummaryDto();
+    taskSummaryDto.id = task.getId();
+    taskSummaryDto.name = task.getName();
+    taskSummaryDto.description = task.getDescription() == null ? "" : task.getDescription();
+    taskSummaryDto.userId = task.getUserId();
+    taskSummaryDto.todosCount = task.getTodosCount();
+    taskSummaryDto.doneTodosCount = task.getDoneTodosCount();
+    return taskSummaryDto;
+  }
+
   public static List<TaskDto> mapEntityListToTaskDtoList(List<Task> tasks) {
     return
       tasks
@@ -28,4 +44,17 @@ public class TaskMapper {
         .collect(Collectors.toList());
   }
 
+  public static List<TaskSummaryDto> mapEntityListToTaskSummaryDtoList(List<Task> tasks) {
+    return
+      tasks
+        .stream()
+        .map(task -> TaskMapper.mapEntityToTaskSummaryDto(task))
+        .collect(Collectors.toList());
+  }
+
+  public static PageDto<TaskSummaryDto> mapEntityPageToTaskSummaryDtoPage(PageDto<Task> page) {
+    return new PageDto<>(
+        TaskMapper.mapEntityListToTaskSummaryDtoList(page.items), page.nextCursor);
+  }
+
 }
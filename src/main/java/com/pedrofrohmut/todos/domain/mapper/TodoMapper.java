@@ -3,6 +3,7 @@ package com.pedrofrohmut.todos.domain.mapper;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import com.pedrofrohmut.todos.domain.dtos.PageDto;
 import com.pedrofrohmut.todos.domain.dtos.TodoDto;
 import com.pedrofrohmut.todos.domain.entities.Todo;
 
@@ -30,4 +31,8 @@ public class TodoMapper {
         .collect(Collectors.toList());
   }
 
+  public static PageDto<TodoDto> mapEntityPageToTodoDtoPage(PageDto<Todo> page) {
+    return new PageDto<>(TodoMapper.mapEntityListToTodoDtoList(page.items), page.nextCursor);
+  }
+
 }
@@ -1,6 +1,10 @@
 package com.pedrofrohmut.todos.domain.services;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface PasswordService {
   String hashPassword(String password);
   boolean comparePasswordAndHash(String password, String hash);
+  CompletableFuture<String> hashPasswordAsync(String password);
+  CompletableFuture<Boolean> comparePasswordAndHashAsync(String password, String hash);
 }
@@ -7,6 +7,7 @@ import com.pedrofrohmut.todos.domain.dataaccess.UserDataAccess;
 import com.pedrofrohmut.todos.domain.dtos.CreateTaskDto;
 import com.pedrofrohmut.todos.domain.dtos.TaskDto;
 import com.pedrofrohmut.todos.domain.dtos.UpdateTaskDto;
+import com.pedrofrohmut.todos.domain.entities.Id;
 import com.pedrofrohmut.todos.domain.entities.Task;
 import com.pedrofrohmut.todos.domain.errors.TaskNotFoundByIdException;
 import com.pedrofrohmut.todos.domain.errors.UserNotFoundByIdException;
@@ -25,7 +26,7 @@ public class TaskUseCase {
     this.taskDataAccess = taskDataAccess;
   }
 
-  public void create(CreateTaskDto dto, String authUserId) {
+  public void create(CreateTaskDto dto, Id authUserId) {
     final var foundUser = this.userDataAccess.findById(authUserId);
     if (foundUser == null) {
       throw new UserNotFoundByIdException(String.format(TaskUseCase.errorMessage, "create"));
@@ -34,7 +35,7 @@ public class TaskUseCase {
     this.taskDataAccess.create(newTask);
   }
 
-  public TaskDto findById(String taskId, String authUserId) {
+  public TaskDto findById(Id taskId, Id authUserId) {
     final var foundUser = this.userDataAccess.findById(authUserId);
     if (foundUser == null) {
       throw new UserNotFoundByIdException(String.format(TaskUseCase.errorMessage, "findById"));
@@ -50,7 +51,7 @@ public class TaskUseCase {
     return taskDto;
   }
 
-  public List<TaskDto> findByUserId(String userId, String authUserId) {
+  public List<TaskDto> findByUserId(Id userId, Id authUserId) {
     if (!userId.equals(authUserId)) {
       throw new UserNotResourceOwnerException(
           String.format(TaskUseCase.errorMessage, "findByUserId"));
@@ -64,7 +65,7 @@ public class TaskUseCase {
     return taskDtos;
   }
 
-  public void update(String taskId, UpdateTaskDto dto, String authUserId) {
+  public void update(Id taskId, UpdateTaskDto dto, Id authUserId) {
     final var foundUser = this.userDataAccess.findById(authUserId);
     if (foundUser == null) {
       throw new UserNotFoundByIdException(String.format(TaskUseCase.errorMessage, "update"));
@@ -80,7 +81,7 @@ public class TaskUseCase {
     this.taskDataAccess.update(updatedTask);
   }
 
-  public void delete(String taskId, String authUserId) {
+  public void delete(Id taskId, Id authUserId) {
     final var foundUser = this.userDataAccess.findById(authUserId);
     if (foundUser == null) {
       throw new UserNotFoundByIdException(String.format(TaskUseCase.errorMessage, "delete"));
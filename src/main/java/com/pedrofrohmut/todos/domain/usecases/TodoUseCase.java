@@ -8,6 +8,7 @@ import com.pedrofrohmut.todos.domain.dataaccess.UserDataAccess;
 import com.pedrofrohmut.todos.domain.dtos.CreateTodoDto;
 import com.pedrofrohmut.todos.domain.dtos.TodoDto;
 import com.pedrofrohmut.todos.domain.dtos.UpdateTodoDto;
+import com.pedrofrohmut.todos.domain.entities.Id;
 import com.pedrofrohmut.todos.domain.entities.Todo;
 import com.pedrofrohmut.todos.domain.errors.TaskNotFoundByIdException;
 import com.pedrofrohmut.todos.domain.errors.TodoNotFoundByIdException;
@@ -32,23 +33,24 @@ public class TodoUseCase {
     this.todoDataAccess = todoDataAccess;
   }
 
-  public void create(CreateTodoDto dto, String authUserId) {
+  public void create(CreateTodoDto dto, Id authUserId) {
     final var foundUser = this.userDataAccess.findById(authUserId);
     if (foundUser == null) {
       throw new UserNotFoundByIdException(String.format(TodoUseCase.errorMessage, "create"));
     }
-    final var foundTask = this.taskDataAccess.findById(dto.taskId);
+    final var taskId = Id.parse(dto.taskId);
+    final var foundTask = this.taskDataAccess.findById(taskId);
     if (foundTask == null) {
       throw new TaskNotFoundByIdException(String.format(TodoUseCase.errorMessage, "create"));
     }
     if (!foundTask.getUserId().equals(authUserId)) {
       throw new UserNotResourceOwnerException(String.format(TodoUseCase.errorMessage, "create"));
     }
-    final var newTodo = new Todo(dto.title, dto.description, dto.taskId, authUserId);
+    final var newTodo = new Todo(dto.title, dto.description, taskId, authUserId);
     this.todoDataAccess.create(newTodo);
   }
 
-  public TodoDto findById(String todoId, String authUserId) {
+  public TodoDto findById(Id todoId, Id authUserId) {
     final var foundUser = this.userDataAccess.findById(authUserId);
     if (foundUser == null) {
       throw new UserNotFoundByIdException(String.format(TodoUseCase.errorMessage, "findById"));
@@ -64,7 +66,7 @@ public class TodoUseCase {
     return todoDto;
   }
 
-  public List<TodoDto> findByTaskId(String taskId, String authUserId) {
+  public List<TodoDto> findByTaskId(Id taskId, Id authUserId) {
     final var foundUser = this.userDataAccess.findById(authUserId);
     if (foundUser == null) {
       throw new UserNotFoundByIdException(String.format(TodoUseCase.errorMessage, "findByTaskId"));
@@ -82,7 +84,7 @@ public class TodoUseCase {
     return todoDtos;
   }
 
-  public void update(String todoId, UpdateTodoDto dto, String authUserId) {
+  public void update(Id todoId, UpdateTodoDto dto, Id authUserId) {
     final var foundUser = this.userDataAccess.findById(authUserId);
     if (foundUser == null) {
       throw new UserNotFoundByIdException(String.format(TodoUseCase.errorMessage, "update"));
@@ -105,7 +107,7 @@ public class TodoUseCase {
     this.todoDataAccess.update(updatedTodo);
   }
 
-  public void setDone(String todoId, String authUserId) {
+  public void setDone(Id todoId, Id authUserId) {
     final var foundUser = this.userDataAccess.findById(authUserId);
     if (foundUser == null) {
       throw new UserNotFoundByIdException(String.format(TodoUseCase.errorMessage, "setDone"));
@@ -120,7 +122,7 @@ public class TodoUseCase {
     this.todoDataAccess.setDone(todoId);
   }
 
-  public void setNotDone(String todoId, String authUserId) {
+  public void setNotDone(Id todoId, Id authUserId) {
     final var foundUser = this.userDataAccess.findById(authUserId);
     if (foundUser == null) {
       throw new UserNotFoundByIdException(String.format(TodoUseCase.errorMessage, "setNotDone"));
@@ -135,7 +137,7 @@ public class TodoUseCase {
     this.todoDataAccess.setNotDone(todoId);
   }
 
-  public void delete(String todoId, String authUserId) {
+  public void delete(Id todoId, Id authUserId) {
     final var foundUser = this.userDataAccess.findById(authUserId);
     if (foundUser == null) {
       throw new UserNotFoundByIdException(String.format(TodoUseCase.errorMessage, "delete"));
@@ -150,7 +152,7 @@ public class TodoUseCase {
     this.todoDataAccess.delete(todoId);
   }
 
-  public void clearCompleteByTaskId(String taskId, String authUserId) {
+  public void clearCompleteByTaskId(Id taskId, Id authUserId) {
     final var foundUser = this.userDataAccess.findById(authUserId);
     if (foundUser == null) {
       throw new UserNotFoundByIdException(
@@ -0,0 +1,64 @@
+package com.pedrofrohmut.todos.domain.usecases.search;
+
+import java.util.List;
+
+import com.pedrofrohmut.todos.domain.dataaccess.SearchDataAccess;
+import com.pedrofrohmut.todos.domain.dataaccess.UserDataAccess;
+import com.pedrofrohmut.todos.domain.dtos.PageDto;
+import com.pedrofrohmut.todos.domain.dtos.SearchResultDto;
+import com.pedrofrohmut.todos.domain.entities.Id;
+import com.pedrofrohmut.todos.domain.errors.InvalidPageRequestException;
+import com.pedrofrohmut.todos.domain.errors.InvalidSearchQueryException;
+import com.pedrofrohmut.todos.domain.errors.UserNotFoundByIdException;
+import com.pedrofrohmut.todos.domain.mapper.SearchMapper;
+import com.pedrofrohmut.todos.web.errors.MissingRequestAuthUserIdException;
+
+// Searches the tasks and todos of the signed user, best hits first
+public class SearchUseCase {
+
+  public static final String errorMessage = "SearchUseCase execute";
+  public static final int MAX_QUERY_LENGTH = 200;
+
+  private final SearchDataAccess searchDataAccess;
+  private final UserDataAccess userDataAccess;
+
+  public SearchUseCase(SearchDataAccess searchDataAccess, UserDataAccess userDataAccess) {
+    this.searchDataAccess = searchDataAccess;
+    this.userDataAccess = userDataAccess;
+  }
+
+  public List<SearchResultDto> execute(String query, int limit, Id authUserId) {
+    checkQuery(query);
+    checkLimit(limit);
+    checkAuthUserId(authUserId);
+    checkUserExists(authUserId);
+    final var hits = searchDataAccess.search(authUserId, query, limit);
+    return SearchMapper.mapHitListToSearchResultDtoList(hits);
+  }
+
+  private void checkQuery(String query) {
+    if (query == null || query.isBlank() || query.length() > MAX_QUERY_LENGTH) {
+      throw new InvalidSearchQueryException(errorMessage);
+    }
+  }
+
+  private void checkLimit(int limit) {
+    if (limit < 1 || limit > PageDto.MAX_LIMIT) {
+      throw new InvalidPageRequestException(errorMessage);
+    }
+  }
+
+  private void checkAuthUserId(Id authUserId) {
+    if (authUserId == null) {
+      throw new MissingRequestAuthUserIdException(errorMessage);
+    }
+  }
+
+  private void checkUserExists(Id userId) {
+    final var foundUser = userDataAccess.findById(userId);
+    if (foundUser == null) {
+      throw new UserNotFoundByIdException(errorMessage);
+    }
+  }
+
+}
@@ -3,15 +3,22 @@ package com.pedrofrohmut.todos.domain.usecases.tasks;
 import com.pedrofrohmut.todos.domain.dataaccess.TaskDataAccess;
 import com.pedrofrohmut.todos.domain.dataaccess.UserDataAccess;
 import com.pedrofrohmut.todos.domain.dtos.CreateTaskDto;
-import com.pedrofrohmut.todos.domain.entities.Entity;
+import com.pedrofrohmut.todos.domain.entities.Id;
 import com.pedrofrohmut.todos.domain.entities.Task;
+import com.pedrofrohmut.todos.domain.errors.InvalidTaskException;
 import com.pedrofrohmut.todos.domain.errors.UserNotFoundByIdException;
 import com.pedrofrohmut.todos.web.errors.MissingRequestAuthUserIdException;
 import com.pedrofrohmut.todos.web.errors.MissingRequestBodyException;
+import com.pedrofrohmut.utils.validation.ValidationPlan;
 
 public class CreateTaskUseCase {
 
   private static final String errorMessage = "CreateTaskUseCase execute";
+  private static final ValidationPlan<CreateTaskDto> newTaskRules =
+    ValidationPlan.<CreateTaskDto>of(InvalidTaskException::new)
+      .include(dto -> dto.name, Task.nameRules)
+      .include(dto -> dto.description, Task.descriptionRules)
+      .build();
 
   private final TaskDataAccess taskDataAccess;
   private final UserDataAccess userDataAccess;
@@ -21,7 +28,7 @@ public class CreateTaskUseCase {
     this.userDataAccess = userDataAccess;
   }
 
-  public void execute(CreateTaskDto newTask, String authUserId) {
+  public void execute(CreateTaskDto newTask, Id authUserId) {
     checkNewTask(newTask);
     checkAuthUserId(authUserId);
     checkUserExists(authUserId);
@@ -32,25 +39,23 @@ public class CreateTaskUseCase {
     if (newTask == null) {
       throw new MissingRequestBodyException(errorMessage);
     }
-    Task.validateName(newTask.name);
-    Task.validateDescription(newTask.description);
+    newTaskRules.validate(newTask);
   }
 
-  private void checkAuthUserId(String authUserId) {
+  private void checkAuthUserId(Id authUserId) {
     if (authUserId == null) {
       throw new MissingRequestAuthUserIdException(errorMessage);
     }
-    Entity.validateId(authUserId);
   }
 
-  private void checkUserExists(String userId) {
+  private void checkUserExists(Id userId) {
     final var foundUser = userDataAccess.findById(userId);
     if (foundUser == null) {
       throw new UserNotFoundByIdException(errorMessage);
     }
   }
 
-  private void createTask(CreateTaskDto taskDto, String authUserId) {
+  private void createTask(CreateTaskDto taskDto, Id authUserId) {
     final var newTask = new Task(taskDto.name, taskDto.description, authUserId);
     taskDataAccess.create(newTask);
   }
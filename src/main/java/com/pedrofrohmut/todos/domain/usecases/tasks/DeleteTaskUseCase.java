@@ -1,10 +1,12 @@
 package com.pedrofrohmut.todos.domain.usecases.tasks;
 
+import com.pedrofrohmut.todos.domain.dataaccess.OwnershipWriteResult;
 import com.pedrofrohmut.todos.domain.dataaccess.TaskDataAccess;
 import com.pedrofrohmut.todos.domain.dataaccess.UserDataAccess;
-import com.pedrofrohmut.todos.domain.entities.Entity;
+import com.pedrofrohmut.todos.domain.entities.Id;
 import com.pedrofrohmut.todos.domain.errors.TaskNotFoundByIdException;
 import com.pedrofrohmut.todos.domain.errors.UserNotFoundByIdException;
+import com.pedrofrohmut.todos.domain.errors.UserNotResourceOwnerException;
 import com.pedrofrohmut.todos.web.errors.MissingRequestAuthUserIdException;
 import com.pedrofrohmut.todos.web.errors.MissingRequestParametersException;
 
@@ -20,44 +22,48 @@ public class DeleteTaskUseCase {
     this.userDataAccess = userDataAccess;
   }
 
-  public void execute(String authUserId, String taskId) {
+  public void execute(Id authUserId, Id taskId) {
     checkAuthUserId(authUserId);
     checkTaskId(taskId);
-    checkUserExists(authUserId);
-    checkTaskExists(taskId);
-    deleteTask(taskId);
+    final var result = deleteTask(taskId, authUserId);
+    if (result != OwnershipWriteResult.WRITTEN) {
+      checkUserExists(authUserId);
+    }
+    checkWriteResult(result);
   }
 
-  private void checkAuthUserId(String authUserId) {
+  private void checkAuthUserId(Id authUserId) {
     if (authUserId == null) {
       throw new MissingRequestAuthUserIdException(errorMessage);
     }
-    Entity.validateId(authUserId);
   }
 
-  private void checkTaskId(String taskId) {
+  private void checkTaskId(Id taskId) {
     if (taskId == null) {
       throw new MissingRequestParametersException(errorMessage);
     }
-    Entity.validateId(taskId);
   }
 
-  private void checkUserExists(String userId) {
+  private void checkUserExists(Id userId) {
     final var foundUser = userDataAccess.findById(userId);
     if (foundUser == null) {
       throw new UserNotFoundByIdException(errorMessage);
     }
   }
 
-  private void checkTaskExists(String taskId) {
-    final var foundTask = taskDataAccess.findById(taskId);
-    if (foundTask == null) {
-      throw new TaskNotFoundByIdException(errorMessage);
-    }
+  private OwnershipWriteResult deleteTask(Id taskId, Id userId) {
+    return taskDataAccess.deleteIfOwner(taskId, userId);
   }
 
-  private void deleteTask(String taskId) {
-    taskDataAccess.delete(taskId);
+  private void checkWriteResult(OwnershipWriteResult result) {
+    switch (result) {
+      case NOT_FOUND:
+        throw new TaskNotFoundByIdException(errorMessage);
+      case NOT_OWNER:
+        throw new UserNotResourceOwnerException(errorMessage);
+      default:
+        return;
+    }
   }
 
 }
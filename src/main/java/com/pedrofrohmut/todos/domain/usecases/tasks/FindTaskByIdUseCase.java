@@ -1,9 +1,10 @@
 package com.pedrofrohmut.todos.domain.usecases.tasks;
 
+import com.pedrofrohmut.todos.domain.dataaccess.RowVersion;
 import com.pedrofrohmut.todos.domain.dataaccess.TaskDataAccess;
 import com.pedrofrohmut.todos.domain.dataaccess.UserDataAccess;
 import com.pedrofrohmut.todos.domain.dtos.TaskDto;
-import com.pedrofrohmut.todos.domain.entities.Entity;
+import com.pedrofrohmut.todos.domain.entities.Id;
 import com.pedrofrohmut.todos.domain.entities.Task;
 import com.pedrofrohmut.todos.domain.errors.TaskNotFoundByIdException;
 import com.pedrofrohmut.todos.domain.errors.UserNotFoundByIdException;
@@ -24,7 +25,7 @@ public class FindTaskByIdUseCase {
     this.userDataAccess = userDataAccess;
   }
 
-  public TaskDto execute(String taskId, String authUserId) {
+  public TaskDto execute(Id taskId, Id authUserId) {
     checkAuthUserId(authUserId);
     checkUserExists(authUserId);
     checkTaskId(taskId);
@@ -34,28 +35,36 @@ public class FindTaskByIdUseCase {
     return task;
   }
 
-  private void checkAuthUserId(String authUserId) {
+  // Same checks as execute, against the version of the task instead of the task itself
+  public long findVersion(Id taskId, Id authUserId) {
+    checkAuthUserId(authUserId);
+    checkUserExists(authUserId);
+    checkTaskId(taskId);
+    final var foundVersion = findTaskVersionById(taskId);
+    checkVersionOwnership(foundVersion, authUserId);
+    return foundVersion.version;
+  }
+
+  private void checkAuthUserId(Id authUserId) {
     if (authUserId == null) {
       throw new MissingRequestAuthUserIdException(errorMessage);
     }
-    Entity.validateId(authUserId);
   }
 
-  private void checkUserExists(String userId) {
+  private void checkUserExists(Id userId) {
     final var foundUser = userDataAccess.findById(userId);
     if (foundUser == null) {
       throw new UserNotFoundByIdException(errorMessage);
     }
   }
 
-  private void checkTaskId(String taskId) {
+  private void checkTaskId(Id taskId) {
     if (taskId == null) {
       throw new MissingRequestParametersException(errorMessage);
     }
-    Entity.validateId(taskId);
   }
 
-  private Task findTaskById(String taskId) {
+  private Task findTaskById(Id taskId) {
     final var foundTask = taskDataAccess.findById(taskId);
     if (foundTask == null) {
       throw new TaskNotFoundByIdException(errorMessage);
@@ -63,7 +72,21 @@ public class FindTaskByIdUseCase {
     return foundTask;
   }
 
-  private void checkResourceOwnership(Task task, String userId) {
+  private RowVersion findTaskVersionById(Id taskId) {
+    final var foundVersion = taskDataAccess.findVersionById(taskId);
+    if (foundVersion == null) {
+      throw new TaskNotFoundByIdException(errorMessage);
+    }
+    return foundVersion;
+  }
+
+  private void checkVersionOwnership(RowVersion version, Id userId) {
+    if (!version.userId.equals(userId)) {
+      throw new UserNotResourceOwnerException(errorMessage);
+    }
+  }
+
+  private void checkResourceOwnership(Task task, Id userId) {
     if (!task.getUserId().equals(userId)) {
       throw new UserNotResourceOwnerException(errorMessage);
     }
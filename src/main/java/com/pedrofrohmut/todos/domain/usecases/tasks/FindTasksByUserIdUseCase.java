@@ -2,11 +2,14 @@ package com.pedrofrohmut.todos.domain.usecases.tasks;
 
 import java.util.List;
 
+import com.pedrofrohmut.todos.domain.dataaccess.RowStream;
 import com.pedrofrohmut.todos.domain.dataaccess.TaskDataAccess;
 import com.pedrofrohmut.todos.domain.dataaccess.UserDataAccess;
-import com.pedrofrohmut.todos.domain.dtos.TaskDto;
-import com.pedrofrohmut.todos.domain.entities.Entity;
+import com.pedrofrohmut.todos.domain.dtos.PageDto;
+import com.pedrofrohmut.todos.domain.dtos.TaskSummaryDto;
+import com.pedrofrohmut.todos.domain.entities.Id;
 import com.pedrofrohmut.todos.domain.entities.Task;
+import com.pedrofrohmut.todos.domain.errors.InvalidPageRequestException;
 import com.pedrofrohmut.todos.domain.errors.UserNotFoundByIdException;
 import com.pedrofrohmut.todos.domain.errors.UserNotResourceOwnerException;
 import com.pedrofrohmut.todos.domain.mapper.TaskMapper;
@@ -25,7 +28,7 @@ public class FindTasksByUserIdUseCase {
     this.userDataAccess = userDataAccess;
   }
 
-  public List<TaskDto> execute(String userId, String authUserId) {
+  public List<TaskSummaryDto> execute(Id userId, Id authUserId) {
     checkUserId(userId);
     checkAuthUserId(authUserId);
     checkResourceOwnership(userId, authUserId);
@@ -35,39 +38,71 @@ public class FindTasksByUserIdUseCase {
     return tasks;
   }
 
-  private void checkUserId(String userId) {
+  public PageDto<TaskSummaryDto> execute(Id userId, Id authUserId, int limit, String cursor) {
+    checkUserId(userId);
+    checkAuthUserId(authUserId);
+    checkPageLimit(limit);
+    checkResourceOwnership(userId, authUserId);
+    checkUserExists(userId);
+    final var foundPage = findTasksPageByUserId(userId, limit, cursor);
+    final var page = getTasksDtosPage(foundPage);
+    return page;
+  }
+
+  // Checks run now, rows are read and mapped one by one when the stream is consumed
+  public RowStream<TaskSummaryDto> stream(Id userId, Id authUserId) {
+    checkUserId(userId);
+    checkAuthUserId(authUserId);
+    checkResourceOwnership(userId, authUserId);
+    checkUserExists(userId);
+    return taskDataAccess.streamByUserId(userId).map(TaskMapper::mapEntityToTaskSummaryDto);
+  }
+
+  private void checkUserId(Id userId) {
     if (userId == null) {
       throw new MissingRequestParametersException(errorMessage);
     }
-    Entity.validateId(userId);
   }
 
-  private void checkAuthUserId(String userId) {
+  private void checkAuthUserId(Id userId) {
     if (userId == null) {
       throw new MissingRequestAuthUserIdException(errorMessage);
     }
-    Entity.validateId(userId);
   }
 
-  private void checkResourceOwnership(String userId, String authUserId) {
+  private void checkPageLimit(int limit) {
+    if (limit < 1 || limit > PageDto.MAX_LIMIT) {
+      throw new InvalidPageRequestException(errorMessage);
+    }
+  }
+
+  private void checkResourceOwnership(Id userId, Id authUserId) {
     if (!userId.equals(authUserId)) {
       throw new UserNotResourceOwnerException(errorMessage);
     }
   }
 
-  private void checkUserExists(String userId) {
+  private void checkUserExists(Id userId) {
     final var foundUser = userDataAccess.findById(userId);
     if (foundUser == null) {
       throw new UserNotFoundByIdException(errorMessage);
     }
   }
 
-  private List<Task> findTasksByUserId(String userId) {
+  private List<Task> findTasksByUserId(Id userId) {
     return taskDataAccess.findByUserId(userId);
   }
 
-  private List<TaskDto> getTasksDtos(List<Task> tasks) {
-    return TaskMapper.mapEntityListToTaskDtoList(tasks);
+  private PageDto<Task> findTasksPageByUserId(Id userId, int limit, String cursor) {
+    return taskDataAccess.findPageByUserId(userId, limit, cursor);
+  }
+
+  private List<TaskSummaryDto> getTasksDtos(List<Task> tasks) {
+    return TaskMapper.mapEntityListToTaskSummaryDtoList(tasks);
+  }
+
+  private PageDto<TaskSummaryDto> getTasksDtosPage(PageDto<Task> page) {
+    return TaskMapper.mapEntityPageToTaskSummaryDtoPage(page);
   }
 
 }
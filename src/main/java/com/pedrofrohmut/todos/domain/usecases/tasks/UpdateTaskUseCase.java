@@ -1,12 +1,14 @@
 package com.pedrofrohmut.todos.domain.usecases.tasks;
 
+import com.pedrofrohmut.todos.domain.dataaccess.OwnershipWriteResult;
 import com.pedrofrohmut.todos.domain.dataaccess.TaskDataAccess;
 import com.pedrofrohmut.todos.domain.dataaccess.UserDataAccess;
 import com.pedrofrohmut.todos.domain.dtos.UpdateTaskDto;
-import com.pedrofrohmut.todos.domain.entities.Entity;
+import com.pedrofrohmut.todos.domain.entities.Id;
 import com.pedrofrohmut.todos.domain.entities.Task;
 import com.pedrofrohmut.todos.domain.errors.TaskNotFoundByIdException;
 import com.pedrofrohmut.todos.domain.errors.UserNotFoundByIdException;
+import com.pedrofrohmut.todos.domain.errors.UserNotResourceOwnerException;
 import com.pedrofrohmut.todos.web.errors.MissingRequestAuthUserIdException;
 import com.pedrofrohmut.todos.web.errors.MissingRequestBodyException;
 import com.pedrofrohmut.todos.web.errors.MissingRequestParametersException;
@@ -23,13 +25,15 @@ public class UpdateTaskUseCase {
     this.userDataAccess = userDataAccess;
   }
 
-  public void execute(UpdateTaskDto updatedTask, String authUserId, String taskId) {
+  public void execute(UpdateTaskDto updatedTask, Id authUserId, Id taskId) {
     checkIfBodyIsMissing(updatedTask);
     checkAuthUserId(authUserId);
     checkTaskId(taskId);
-    checkUserExists(authUserId);
-    checkTaskExists(taskId);
-    updateTask(updatedTask, authUserId, taskId);
+    final var result = updateTask(updatedTask, authUserId, taskId);
+    if (result != OwnershipWriteResult.WRITTEN) {
+      checkUserExists(authUserId);
+    }
+    checkWriteResult(result);
   }
 
   private void checkIfBodyIsMissing(UpdateTaskDto updatedTask) {
@@ -38,37 +42,40 @@ public class UpdateTaskUseCase {
     }
   }
 
-  private void checkAuthUserId(String userId) {
+  private void checkAuthUserId(Id userId) {
     if (userId == null) {
       throw new MissingRequestAuthUserIdException(errorMessage);
     }
-    Entity.validateId(userId);
   }
 
-  private void checkTaskId(String taskId) {
+  private void checkTaskId(Id taskId) {
     if (taskId == null) {
       throw new MissingRequestParametersException(errorMessage);
     }
-    Entity.validateId(taskId);
   }
 
-  private void checkUserExists(String userId) {
+  private void checkUserExists(Id userId) {
     final var foundUser = userDataAccess.findById(userId);
     if (foundUser == null) {
       throw new UserNotFoundByIdException(errorMessage);
     }
   }
 
-  private void checkTaskExists(String taskId) {
-    final var foundTask = taskDataAccess.findById(taskId);
-    if (foundTask == null) {
-      throw new TaskNotFoundByIdException(errorMessage);
-    }
+  private OwnershipWriteResult updateTask(UpdateTaskDto taskDto, Id userId, Id taskId) {
+    final var updatedTask = new Task(taskId, taskDto.name, taskDto.description, userId);
+    return taskDataAccess.updateIfOwner(
+        updatedTask.getId(), updatedTask.getName(), updatedTask.getDescription(), userId);
   }
 
-  private void updateTask(UpdateTaskDto taskDto, String userId, String taskId) {
-    final var updatedTask = new Task(taskId, taskDto.name, taskDto.description, userId);
-    taskDataAccess.update(updatedTask);
+  private void checkWriteResult(OwnershipWriteResult result) {
+    switch (result) {
+      case NOT_FOUND:
+        throw new TaskNotFoundByIdException(errorMessage);
+      case NOT_OWNER:
+        throw new UserNotResourceOwnerException(errorMessage);
+      default:
+        return;
+    }
   }
 
 }
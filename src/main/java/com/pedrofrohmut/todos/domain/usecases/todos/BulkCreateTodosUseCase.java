@@ -0,0 +1,128 @@
+package com.pedrofrohmut.todos.domain.usecases.todos;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.pedrofrohmut.todos.domain.dataaccess.TaskDataAccess;
+import com.pedrofrohmut.todos.domain.dataaccess.TodoDataAccess;
+import com.pedrofrohmut.todos.domain.dataaccess.UserDataAccess;
+import com.pedrofrohmut.todos.domain.dtos.BulkItemResultDto;
+import com.pedrofrohmut.todos.domain.dtos.CreateTodoDto;
+import com.pedrofrohmut.todos.domain.entities.Id;
+import com.pedrofrohmut.todos.domain.entities.Todo;
+import com.pedrofrohmut.todos.domain.errors.BulkTooLargeException;
+import com.pedrofrohmut.todos.domain.errors.InvalidEntityException;
+import com.pedrofrohmut.todos.domain.errors.InvalidTodoException;
+import com.pedrofrohmut.todos.domain.errors.TaskNotFoundByIdException;
+import com.pedrofrohmut.todos.domain.errors.UserNotFoundByIdException;
+import com.pedrofrohmut.todos.domain.errors.UserNotResourceOwnerException;
+import com.pedrofrohmut.todos.web.errors.MissingRequestAuthUserIdException;
+import com.pedrofrohmut.todos.web.errors.MissingRequestBodyException;
+
+public class BulkCreateTodosUseCase {
+
+  private static final String errorMessage = "BulkCreateTodosUseCase execute";
+
+  private final TodoDataAccess todoDataAccess;
+  private final TaskDataAccess taskDataAccess;
+  private final UserDataAccess userDataAccess;
+
+  public BulkCreateTodosUseCase(
+      TodoDataAccess todoDataAccess, TaskDataAccess taskDataAccess, UserDataAccess userDataAccess) {
+    this.todoDataAccess = todoDataAccess;
+    this.taskDataAccess = taskDataAccess;
+    this.userDataAccess = userDataAccess;
+  }
+
+  public List<BulkItemResultDto> execute(List<CreateTodoDto> newTodos, Id authUserId) {
+    checkNewTodos(newTodos);
+    checkAuthUserId(authUserId);
+    checkUserExists(authUserId);
+    final var results = new ArrayList<BulkItemResultDto>(newTodos.size());
+    final var todosToCreate = new ArrayList<Todo>(newTodos.size());
+    final var taskErrors = new HashMap<Id, Optional<String>>();
+    for (var i = 0; i < newTodos.size(); i++) {
+      final var error = addNewTodo(newTodos.get(i), authUserId, taskErrors, todosToCreate);
+      results.add(error == null ? null : BulkItemResultDto.failed(i, null, error));
+    }
+    createTodos(todosToCreate, results);
+    return results;
+  }
+
+  private void checkNewTodos(List<CreateTodoDto> newTodos) {
+    if (newTodos == null || newTodos.isEmpty()) {
+      throw new MissingRequestBodyException(errorMessage);
+    }
+    if (newTodos.size() > BulkItemResultDto.MAX_ITEMS) {
+      throw new BulkTooLargeException(errorMessage);
+    }
+  }
+
+  private void checkAuthUserId(Id authUserId) {
+    if (authUserId == null) {
+      throw new MissingRequestAuthUserIdException(errorMessage);
+    }
+  }
+
+  private void checkUserExists(Id userId) {
+    final var foundUser = userDataAccess.findById(userId);
+    if (foundUser == null) {
+      throw new UserNotFoundByIdException(errorMessage);
+    }
+  }
+
+  // Adds the todo to todosToCreate and returns null when the item can be created, otherwise
+  // returns the reason it cannot
+  private String addNewTodo(
+      CreateTodoDto newTodo,
+      Id authUserId,
+      Map<Id, Optional<String>> taskErrors,
+      List<Todo> todosToCreate) {
+    if (newTodo == null) {
+      return new MissingRequestBodyException(errorMessage).getMessage();
+    }
+    final Id taskId;
+    try {
+      CreateTodoUseCase.newTodoRules.validate(newTodo);
+      taskId = Id.parse(newTodo.taskId);
+    } catch (InvalidTodoException | InvalidEntityException e) {
+      return e.getMessage();
+    }
+    final var taskError = taskErrors.computeIfAbsent(taskId, key -> checkTask(key, authUserId));
+    if (taskError.isPresent()) {
+      return taskError.get();
+    }
+    todosToCreate.add(new Todo(newTodo.title, newTodo.description, taskId, authUserId));
+    return null;
+  }
+
+  // Ownership is checked once per task however many items point at it. Empty when the user may add
+  // todos to the task.
+  private Optional<String> checkTask(Id taskId, Id authUserId) {
+    final var foundTask = taskDataAccess.findById(taskId);
+    if (foundTask == null) {
+      return Optional.of(new TaskNotFoundByIdException(errorMessage).getMessage());
+    }
+    if (!foundTask.getUserId().equals(authUserId)) {
+      return Optional.of(new UserNotResourceOwnerException(errorMessage).getMessage());
+    }
+    return Optional.empty();
+  }
+
+  private void createTodos(List<Todo> todosToCreate, List<BulkItemResultDto> results) {
+    if (todosToCreate.isEmpty()) {
+      return;
+    }
+    final var createdIds = todoDataAccess.createAll(todosToCreate);
+    var created = 0;
+    for (var i = 0; i < results.size(); i++) {
+      if (results.get(i) == null) {
+        results.set(i, BulkItemResultDto.succeeded(i, createdIds.get(created++).toString()));
+      }
+    }
+  }
+
+}
@@ -0,0 +1,51 @@
+package com.pedrofrohmut.todos.domain.usecases.todos;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.pedrofrohmut.todos.domain.dataaccess.TodoDataAccess;
+import com.pedrofrohmut.todos.domain.dataaccess.UserDataAccess;
+import com.pedrofrohmut.todos.domain.dtos.BulkItemResultDto;
+import com.pedrofrohmut.todos.domain.entities.Id;
+import com.pedrofrohmut.todos.domain.errors.UserNotFoundByIdException;
+import com.pedrofrohmut.todos.web.errors.MissingRequestAuthUserIdException;
+
+public class BulkSetDoneTodosUseCase {
+
+  private static final String errorMessage = "BulkSetDoneTodosUseCase execute";
+
+  private final TodoDataAccess todoDataAccess;
+  private final UserDataAccess userDataAccess;
+
+  public BulkSetDoneTodosUseCase(TodoDataAccess todoDataAccess, UserDataAccess userDataAccess) {
+    this.todoDataAccess = todoDataAccess;
+    this.userDataAccess = userDataAccess;
+  }
+
+  public List<BulkItemResultDto> execute(List<String> todoIds, Id authUserId) {
+    BulkTodoIdsCheck.checkTodoIds(todoIds, errorMessage);
+    checkAuthUserId(authUserId);
+    checkUserExists(authUserId);
+    final var results = new ArrayList<BulkItemResultDto>(todoIds.size());
+    final var ownedTodoIds =
+      BulkTodoIdsCheck.findOwnedTodoIds(todoDataAccess, todoIds, authUserId, results, errorMessage);
+    if (!ownedTodoIds.isEmpty()) {
+      todoDataAccess.setDoneAll(ownedTodoIds, authUserId);
+    }
+    return results;
+  }
+
+  private void checkAuthUserId(Id authUserId) {
+    if (authUserId == null) {
+      throw new MissingRequestAuthUserIdException(errorMessage);
+    }
+  }
+
+  private void checkUserExists(Id userId) {
+    final var foundUser = userDataAccess.findById(userId);
+    if (foundUser == null) {
+      throw new UserNotFoundByIdException(errorMessage);
+    }
+  }
+
+}
@@ -0,0 +1,74 @@
+package com.pedrofrohmut.todos.domain.usecases.todos;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.pedrofrohmut.todos.domain.dataaccess.TodoDataAccess;
+import com.pedrofrohmut.todos.domain.dtos.BulkItemResultDto;
+import com.pedrofrohmut.todos.domain.entities.Id;
+import com.pedrofrohmut.todos.domain.errors.BulkTooLargeException;
+import com.pedrofrohmut.todos.domain.errors.InvalidEntityException;
+import com.pedrofrohmut.todos.domain.errors.TodoNotFoundByIdException;
+import com.pedrofrohmut.todos.domain.errors.UserNotResourceOwnerException;
+import com.pedrofrohmut.todos.web.errors.MissingRequestBodyException;
+
+// Shared by the bulk todo use cases that act on existing todos: finds the owner of every todo in one
+// query and records a failed result for each id that is invalid, missing or owned by someone else
+class BulkTodoIdsCheck {
+
+  static void checkTodoIds(List<String> todoIds, String errorMessage) {
+    if (todoIds == null || todoIds.isEmpty()) {
+      throw new MissingRequestBodyException(errorMessage);
+    }
+    if (todoIds.size() > BulkItemResultDto.MAX_ITEMS) {
+      throw new BulkTooLargeException(errorMessage);
+    }
+  }
+
+  // Returns the ids the user may write, and leaves a slot per request item in results
+  static List<Id> findOwnedTodoIds(
+      TodoDataAccess todoDataAccess,
+      List<String> todoIds,
+      Id authUserId,
+      List<BulkItemResultDto> results,
+      String errorMessage) {
+    // Parsed once, indexed like todoIds, with null for the ids that are not valid
+    final var parsedTodoIds = new ArrayList<Id>(todoIds.size());
+    final var validTodoIds = new ArrayList<Id>(todoIds.size());
+    for (var i = 0; i < todoIds.size(); i++) {
+      final var todoId = todoIds.get(i);
+      try {
+        final var parsedTodoId = Id.parse(todoId);
+        parsedTodoIds.add(parsedTodoId);
+        validTodoIds.add(parsedTodoId);
+        results.add(null);
+      } catch (InvalidEntityException e) {
+        parsedTodoIds.add(null);
+        results.add(BulkItemResultDto.failed(i, todoId, e.getMessage()));
+      }
+    }
+    final Map<Id, Id> userIds =
+      validTodoIds.isEmpty() ? Map.of() : todoDataAccess.findUserIdsByIds(validTodoIds);
+    final var ownedTodoIds = new ArrayList<Id>(validTodoIds.size());
+    for (var i = 0; i < todoIds.size(); i++) {
+      if (results.get(i) != null) {
+        continue;
+      }
+      final var todoId = todoIds.get(i);
+      final var userId = userIds.get(parsedTodoIds.get(i));
+      if (userId == null) {
+        final var error = new TodoNotFoundByIdException(errorMessage).getMessage();
+        results.set(i, BulkItemResultDto.failed(i, todoId, error));
+      } else if (!userId.equals(authUserId)) {
+        final var error = new UserNotResourceOwnerException(errorMessage).getMessage();
+        results.set(i, BulkItemResultDto.failed(i, todoId, error));
+      } else {
+        ownedTodoIds.add(parsedTodoIds.get(i));
+        results.set(i, BulkItemResultDto.succeeded(i, todoId));
+      }
+    }
+    return ownedTodoIds;
+  }
+
+}
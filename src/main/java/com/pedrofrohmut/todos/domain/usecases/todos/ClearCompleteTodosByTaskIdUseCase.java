@@ -3,7 +3,7 @@ package com.pedrofrohmut.todos.domain.usecases.todos;
 import com.pedrofrohmut.todos.domain.dataaccess.TaskDataAccess;
 import com.pedrofrohmut.todos.domain.dataaccess.TodoDataAccess;
 import com.pedrofrohmut.todos.domain.dataaccess.UserDataAccess;
-import com.pedrofrohmut.todos.domain.entities.Entity;
+import com.pedrofrohmut.todos.domain.entities.Id;
 import com.pedrofrohmut.todos.domain.entities.Task;
 import com.pedrofrohmut.todos.domain.errors.TaskNotFoundByIdException;
 import com.pedrofrohmut.todos.domain.errors.UserNotFoundByIdException;
@@ -26,7 +26,7 @@ public class ClearCompleteTodosByTaskIdUseCase {
     this.userDataAccess = userDataAccess;
   }
 
-  public void execute(String taskId, String authUserId) {
+  public void execute(Id taskId, Id authUserId) {
     checkAuthUserId(authUserId);
     checkTaskId(taskId);
     checkUserExists(authUserId);
@@ -36,28 +36,26 @@ public class ClearCompleteTodosByTaskIdUseCase {
     clearCompleteTodosByTaskId(taskId);
   }
 
-  private void checkAuthUserId(String authUserId) {
+  private void checkAuthUserId(Id authUserId) {
     if (authUserId == null) {
       throw new MissingRequestAuthUserIdException(errorMessage);
     }
-    Entity.validateId(authUserId);
   }
 
-  private void checkTaskId(String taskId) {
+  private void checkTaskId(Id taskId) {
     if (taskId == null) {
       throw new MissingRequestParametersException(errorMessage);
     }
-    Entity.validateId(taskId);
   }
 
-  private void checkUserExists(String userId) {
+  private void checkUserExists(Id userId) {
     final var foundUser = userDataAccess.findById(userId);
     if (foundUser == null) {
       throw new UserNotFoundByIdException(errorMessage);
     }
   }
 
-  private Task findTaskById(String taskId) {
+  private Task findTaskById(Id taskId) {
     final var foundTask = taskDataAccess.findById(taskId);
     return foundTask;
   }
@@ -68,13 +66,13 @@ public class ClearCompleteTodosByTaskIdUseCase {
     }
   }
 
-  private void checkTaskOwnership(Task task, String authUserId) {
+  private void checkTaskOwnership(Task task, Id authUserId) {
     if (!task.getUserId().equals(authUserId)) {
       throw new UserNotResourceOwnerException(errorMessage);
     }
   }
 
-  private void clearCompleteTodosByTaskId(String taskId) {
+  private void clearCompleteTodosByTaskId(Id taskId) {
     todoDataAccess.clearCompleteByTaskId(taskId);
   }
 
@@ -4,16 +4,24 @@ import com.pedrofrohmut.todos.domain.dataaccess.TaskDataAccess;
 import com.pedrofrohmut.todos.domain.dataaccess.TodoDataAccess;
 import com.pedrofrohmut.todos.domain.dataaccess.UserDataAccess;
 import com.pedrofrohmut.todos.domain.dtos.CreateTodoDto;
-import com.pedrofrohmut.todos.domain.entities.Entity;
+import com.pedrofrohmut.todos.domain.entities.Id;
 import com.pedrofrohmut.todos.domain.entities.Todo;
+import com.pedrofrohmut.todos.domain.errors.InvalidTodoException;
 import com.pedrofrohmut.todos.domain.errors.TaskNotFoundByIdException;
 import com.pedrofrohmut.todos.domain.errors.UserNotFoundByIdException;
 import com.pedrofrohmut.todos.web.errors.MissingRequestAuthUserIdException;
 import com.pedrofrohmut.todos.web.errors.MissingRequestBodyException;
+import com.pedrofrohmut.utils.validation.ValidationPlan;
 
 public class CreateTodoUseCase {
 
   private static final String errorMessage = "CreateTodoUseCase execute";
+  // Shared with BulkCreateTodosUseCase, which checks every item against the same rules
+  static final ValidationPlan<CreateTodoDto> newTodoRules =
+    ValidationPlan.<CreateTodoDto>of(InvalidTodoException::new)
+      .include(dto -> dto.title, Todo.titleRules)
+      .include(dto -> dto.description, Todo.descriptionRules)
+      .build();
 
   private final TodoDataAccess todoDataAccess;
   private final TaskDataAccess taskDataAccess;
@@ -26,46 +34,44 @@ public class CreateTodoUseCase {
     this.userDataAccess = userDataAccess;
   }
 
-  public void execute(CreateTodoDto newTodo, String authUserId) {
+  public void execute(CreateTodoDto newTodo, Id authUserId) {
     checkNewTodo(newTodo);
+    final var taskId = Id.parse(newTodo.taskId);
     checkAuthUserId(authUserId);
     checkUserExists(authUserId);
-    checkTaskExists(newTodo.taskId);
-    createTodo(newTodo, authUserId);
+    checkTaskExists(taskId);
+    createTodo(newTodo, taskId, authUserId);
   }
 
   private void checkNewTodo(CreateTodoDto newTodo) {
     if (newTodo == null) {
       throw new MissingRequestBodyException(errorMessage);
     }
-    Todo.validateTitle(newTodo.title);
-    Todo.validateDescription(newTodo.description);
-    Entity.validateId(newTodo.taskId);
+    newTodoRules.validate(newTodo);
   }
 
-  private void checkAuthUserId(String authUserId) {
+  private void checkAuthUserId(Id authUserId) {
     if (authUserId == null) {
       throw new MissingRequestAuthUserIdException(errorMessage);
     }
-    Entity.validateId(authUserId);
   }
 
-  private void checkUserExists(String userId) {
+  private void checkUserExists(Id userId) {
     final var foundUser = userDataAccess.findById(userId);
     if (foundUser == null) {
       throw new UserNotFoundByIdException(errorMessage);
     }
   }
 
-  private void checkTaskExists(String taskId) {
+  private void checkTaskExists(Id taskId) {
     final var foundTask = taskDataAccess.findById(taskId);
     if (foundTask == null) {
       throw new TaskNotFoundByIdException(errorMessage);
     }
   }
 
-  private void createTodo(CreateTodoDto todoDto, String authUserId) {
-    final var newTodo = new Todo(todoDto.title, todoDto.description, todoDto.taskId, authUserId);
+  private void createTodo(CreateTodoDto todoDto, Id taskId, Id authUserId) {
+    final var newTodo = new Todo(todoDto.title, todoDto.description, taskId, authUserId);
     todoDataAccess.create(newTodo);
   }
 
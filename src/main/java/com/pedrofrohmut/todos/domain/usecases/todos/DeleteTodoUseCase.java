@@ -1,9 +1,9 @@
 package com.pedrofrohmut.todos.domain.usecases.todos;
 
+import com.pedrofrohmut.todos.domain.dataaccess.OwnershipWriteResult;
 import com.pedrofrohmut.todos.domain.dataaccess.TodoDataAccess;
 import com.pedrofrohmut.todos.domain.dataaccess.UserDataAccess;
-import com.pedrofrohmut.todos.domain.entities.Entity;
-import com.pedrofrohmut.todos.domain.entities.Todo;
+import com.pedrofrohmut.todos.domain.entities.Id;
 import com.pedrofrohmut.todos.domain.errors.TodoNotFoundByIdException;
 import com.pedrofrohmut.todos.domain.errors.UserNotFoundByIdException;
 import com.pedrofrohmut.todos.domain.errors.UserNotResourceOwnerException;
@@ -22,56 +22,48 @@ public class DeleteTodoUseCase {
     this.userDataAccess = userDataAccess;
   }
 
-  public void execute(String todoId, String authUserId) {
+  public void execute(Id todoId, Id authUserId) {
     checkTodoId(todoId);
     checkAuthUserId(authUserId);
-    checkUserExists(authUserId);
-    final var foundTodo = findTodoById(todoId);
-    checkTodoExists(foundTodo);
-    checkTodoOwnership(foundTodo, authUserId);
-    deleteTodo(todoId);
+    final var result = deleteTodo(todoId, authUserId);
+    if (result != OwnershipWriteResult.WRITTEN) {
+      checkUserExists(authUserId);
+    }
+    checkWriteResult(result);
   }
 
-  private void checkTodoId(String todoId) {
+  private void checkTodoId(Id todoId) {
     if (todoId == null) {
       throw new MissingRequestParametersException(errorMessage);
     }
-    Entity.validateId(todoId);
   }
 
-  private void checkAuthUserId(String authUserId) {
+  private void checkAuthUserId(Id authUserId) {
     if (authUserId == null) {
       throw new MissingRequestAuthUserIdException(errorMessage);
     }
-    Entity.validateId(authUserId);
   }
 
-  private void checkUserExists(String userId) {
+  private void checkUserExists(Id userId) {
     final var foundUser = userDataAccess.findById(userId);
     if (foundUser == null) {
       throw new UserNotFoundByIdException(errorMessage);
     }
   }
 
-  private Todo findTodoById(String todoId) {
-    final var foundTodo = todoDataAccess.findById(todoId);
-    return foundTodo;
-  }
-
-  private void checkTodoExists(Todo todo) {
-    if (todo == null) {
-      throw new TodoNotFoundByIdException(errorMessage);
-    }
+  private OwnershipWriteResult deleteTodo(Id todoId, Id authUserId) {
+    return todoDataAccess.deleteIfOwner(todoId, authUserId);
   }
 
-  private void checkTodoOwnership(Todo todo, String authUserId) {
-    if (!todo.getUserId().equals(authUserId)) {
-      throw new UserNotResourceOwnerException(errorMessage);
+  private void checkWriteResult(OwnershipWriteResult result) {
+    switch (result) {
+      case NOT_FOUND:
+        throw new TodoNotFoundByIdException(errorMessage);
+      case NOT_OWNER:
+        throw new UserNotResourceOwnerException(errorMessage);
+      default:
+        return;
     }
   }
 
-  private void deleteTodo(String todoId) {
-    todoDataAccess.delete(todoId);
-  }
-
 }
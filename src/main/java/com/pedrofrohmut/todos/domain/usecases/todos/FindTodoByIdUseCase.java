@@ -3,7 +3,7 @@ package com.pedrofrohmut.todos.domain.usecases.todos;
 import com.pedrofrohmut.todos.domain.dataaccess.TodoDataAccess;
 import com.pedrofrohmut.todos.domain.dataaccess.UserDataAccess;
 import com.pedrofrohmut.todos.domain.dtos.TodoDto;
-import com.pedrofrohmut.todos.domain.entities.Entity;
+import com.pedrofrohmut.todos.domain.entities.Id;
 import com.pedrofrohmut.todos.domain.entities.Todo;
 import com.pedrofrohmut.todos.domain.errors.TodoNotFoundByIdException;
 import com.pedrofrohmut.todos.domain.errors.UserNotFoundByIdException;
@@ -24,7 +24,7 @@ public class FindTodoByIdUseCase {
     this.userDataAccess = userDataAccess;
   }
 
-  public TodoDto execute(String todoId, String authUserId) {
+  public TodoDto execute(Id todoId, Id authUserId) {
     checkAuthUserId(authUserId);
     checkTodoId(todoId);
     checkUserExists(authUserId);
@@ -34,28 +34,26 @@ public class FindTodoByIdUseCase {
     return todo;
   }
 
-  private void checkAuthUserId(String authUserId) {
+  private void checkAuthUserId(Id authUserId) {
     if (authUserId == null) {
       throw new MissingRequestAuthUserIdException(errorMessage);
     }
-    Entity.validateId(authUserId);
   }
 
-  private void checkTodoId(String todoId) {
+  private void checkTodoId(Id todoId) {
     if (todoId == null) {
       throw new MissingRequestParametersException(errorMessage);
     }
-    Entity.validateId(todoId);
   }
 
-  private void checkUserExists(String userId) {
+  private void checkUserExists(Id userId) {
     final var foundUser = userDataAccess.findById(userId);
     if (foundUser == null) {
       throw new UserNotFoundByIdException(errorMessage);
     }
   }
 
-  private Todo findTodoById(String todoId) {
+  private Todo findTodoById(Id todoId) {
     final var foundTodo = todoDataAccess.findById(todoId);
     if (foundTodo == null) {
       throw new TodoNotFoundByIdException(errorMessage);
@@ -63,7 +61,7 @@ public class FindTodoByIdUseCase {
     return foundTodo;
   }
 
-  private void checkResourceOwnership(Todo foundTodo, String authUserId) {
+  private void checkResourceOwnership(Todo foundTodo, Id authUserId) {
     if (!foundTodo.getUserId().equals(authUserId)) {
       throw new UserNotResourceOwnerException(errorMessage);
     }
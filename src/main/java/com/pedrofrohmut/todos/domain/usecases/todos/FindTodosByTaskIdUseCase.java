@@ -2,13 +2,17 @@ package com.pedrofrohmut.todos.domain.usecases.todos;
 
 import java.util.List;
 
+import com.pedrofrohmut.todos.domain.dataaccess.RowStream;
+import com.pedrofrohmut.todos.domain.dataaccess.RowVersion;
 import com.pedrofrohmut.todos.domain.dataaccess.TaskDataAccess;
 import com.pedrofrohmut.todos.domain.dataaccess.TodoDataAccess;
 import com.pedrofrohmut.todos.domain.dataaccess.UserDataAccess;
+import com.pedrofrohmut.todos.domain.dtos.PageDto;
 import com.pedrofrohmut.todos.domain.dtos.TodoDto;
-import com.pedrofrohmut.todos.domain.entities.Entity;
+import com.pedrofrohmut.todos.domain.entities.Id;
 import com.pedrofrohmut.todos.domain.entities.Task;
 import com.pedrofrohmut.todos.domain.entities.Todo;
+import com.pedrofrohmut.todos.domain.errors.InvalidPageRequestException;
 import com.pedrofrohmut.todos.domain.errors.TaskNotFoundByIdException;
 import com.pedrofrohmut.todos.domain.errors.UserNotFoundByIdException;
 import com.pedrofrohmut.todos.domain.errors.UserNotResourceOwnerException;
@@ -32,7 +36,7 @@ public class FindTodosByTaskIdUseCase {
     this.userDataAccess = userDataAccess;
   }
 
-  public List<TodoDto> execute(String taskId, String authUserId) {
+  public List<TodoDto> execute(Id taskId, Id authUserId) {
     checkTaskId(taskId);
     checkAuthUserId(authUserId);
     checkUserExists(authUserId);
@@ -45,59 +49,125 @@ public class FindTodosByTaskIdUseCase {
     return todos;
   }
 
-  public void checkTaskId(String taskId) {
+  public PageDto<TodoDto> execute(Id taskId, Id authUserId, int limit, String cursor) {
+    checkTaskId(taskId);
+    checkAuthUserId(authUserId);
+    checkPageLimit(limit);
+    checkUserExists(authUserId);
+    final var foundTask = findTaskById(taskId);
+    checkTaskExists(foundTask);
+    checkTaskOwnership(foundTask, authUserId);
+    final var foundPage = findTodosPageByTaskId(taskId, limit, cursor);
+    checkTodosOwnership(foundPage.items, authUserId);
+    final var page = getPageOfTodoDtos(foundPage);
+    return page;
+  }
+
+  // Same checks as execute, against the todos version of the task instead of its todos. Todos always
+  // belong to the owner of their task, so the task's owner is the only one to check.
+  public String findVersion(Id taskId, Id authUserId) {
+    checkTaskId(taskId);
+    checkAuthUserId(authUserId);
+    checkUserExists(authUserId);
+    final var foundVersion = findTodosVersionByTaskId(taskId);
+    checkVersionOwnership(foundVersion, authUserId);
+    return foundVersion.getTag();
+  }
+
+  // Checks run now, rows are read and mapped one by one when the stream is consumed. Todos always
+  // belong to the owner of their task, so the rows need no ownership check of their own.
+  public RowStream<TodoDto> stream(Id taskId, Id authUserId) {
+    checkTaskId(taskId);
+    checkAuthUserId(authUserId);
+    checkUserExists(authUserId);
+    final var foundTask = findTaskById(taskId);
+    checkTaskExists(foundTask);
+    checkTaskOwnership(foundTask, authUserId);
+    return todoDataAccess.streamByTaskId(taskId).map(TodoMapper::mapEntityToTodoDto);
+  }
+
+  public void checkTaskId(Id taskId) {
     if (taskId == null) {
       throw new MissingRequestParametersException(errorMessage);
     }
-    Entity.validateId(taskId);
   }
 
-  private void checkAuthUserId(String authUserId) {
+  private void checkAuthUserId(Id authUserId) {
     if (authUserId == null) {
       throw new MissingRequestAuthUserIdException(errorMessage);
     }
-    Entity.validateId(authUserId);
   }
 
-  private void checkUserExists(String userId) {
+  private void checkPageLimit(int limit) {
+    if (limit < 1 || limit > PageDto.MAX_LIMIT) {
+      throw new InvalidPageRequestException(errorMessage);
+    }
+  }
+
+  private void checkUserExists(Id userId) {
     final var foundUser = userDataAccess.findById(userId);
     if (foundUser == null) {
       throw new UserNotFoundByIdException(errorMessage);
     }
   }
 
-  private Task findTaskById(String taskId) {
+  private Task findTaskById(Id taskId) {
     final var foundTask = taskDataAccess.findById(taskId);
     return foundTask;
   }
 
+  private RowVersion findTodosVersionByTaskId(Id taskId) {
+    final var foundVersion = todoDataAccess.findVersionByTaskId(taskId);
+    if (foundVersion == null) {
+      throw new TaskNotFoundByIdException(errorMessage);
+    }
+    return foundVersion;
+  }
+
+  private void checkVersionOwnership(RowVersion version, Id authUserId) {
+    if (!version.userId.equals(authUserId)) {
+      throw new UserNotResourceOwnerException(errorMessage);
+    }
+  }
+
   private void checkTaskExists(Task task) {
     if (task == null) {
       throw new TaskNotFoundByIdException(errorMessage);
     }
   }
 
-  private void checkTaskOwnership(Task task, String authUserId) {
+  private void checkTaskOwnership(Task task, Id authUserId) {
     if (!task.getUserId().equals(authUserId)) {
       throw new UserNotResourceOwnerException(errorMessage);
     }
   }
 
-  private List<Todo> findTodosByTaskId(String taskId) {
+  private List<Todo> findTodosByTaskId(Id taskId) {
     final var foundTodos = todoDataAccess.findByTaskId(taskId);
     return foundTodos;
   }
 
-  private void checkTodosOwnership(List<Todo> todos, String authUserId) {
-    todos.forEach(todo -> {
-      if (!todo.getUserId().equals(authUserId)) {
-        throw new UserNotResourceOwnerException(errorMessage);
-      }
-    });
+  private PageDto<Todo> findTodosPageByTaskId(Id taskId, int limit, String cursor) {
+    final var foundPage = todoDataAccess.findPageByTaskId(taskId, limit, cursor);
+    return foundPage;
+  }
+
+  private void checkTodosOwnership(List<Todo> todos, Id authUserId) {
+    todos.forEach(todo -> checkTodoOwnership(todo, authUserId));
+  }
+
+  private void checkTodoOwnership(Todo todo, Id authUserId) {
+    if (!todo.getUserId().equals(authUserId)) {
+      throw new UserNotResourceOwnerException(errorMessage);
+    }
   }
 
   private List<TodoDto> getListOfTodoDtos(List<Todo> todos) {
     return TodoMapper.mapEntityListToTodoDtoList(todos);
   }
 
+  private PageDto<TodoDto> getPageOfTodoDtos(PageDto<Todo> page) {
+    return TodoMapper.mapEntityPageToTodoDtoPage(page);
+  }
+
 }
@@ -1,20 +1,28 @@
 package com.pedrofrohmut.todos.domain.usecases.todos;
 
+import com.pedrofrohmut.todos.domain.dataaccess.OwnershipWriteResult;
 import com.pedrofrohmut.todos.domain.dataaccess.TodoDataAccess;
 import com.pedrofrohmut.todos.domain.dataaccess.UserDataAccess;
 import com.pedrofrohmut.todos.domain.dtos.UpdateTodoDto;
-import com.pedrofrohmut.todos.domain.entities.Entity;
+import com.pedrofrohmut.todos.domain.entities.Id;
 import com.pedrofrohmut.todos.domain.entities.Todo;
+import com.pedrofrohmut.todos.domain.errors.InvalidTodoException;
 import com.pedrofrohmut.todos.domain.errors.TodoNotFoundByIdException;
 import com.pedrofrohmut.todos.domain.errors.UserNotFoundByIdException;
 import com.pedrofrohmut.todos.domain.errors.UserNotResourceOwnerException;
 import com.pedrofrohmut.todos.web.errors.MissingRequestAuthUserIdException;
 import com.pedrofrohmut.todos.web.errors.MissingRequestBodyException;
 import com.pedrofrohmut.todos.web.errors.MissingRequestParametersException;
+import com.pedrofrohmut.utils.validation.ValidationPlan;
 
 public class UpdateTodoUseCase {
 
   private static final String errorMessage = "UpdateTodoUseCase execute";
+  private static final ValidationPlan<UpdateTodoDto> updatedTodoRules =
+    ValidationPlan.<UpdateTodoDto>of(InvalidTodoException::new)
+      .include(dto -> dto.title, Todo.titleRules)
+      .include(dto -> dto.description, Todo.descriptionRules)
+      .build();
 
   private final TodoDataAccess todoDataAccess;
   private final UserDataAccess userDataAccess;
@@ -24,73 +32,58 @@ public class UpdateTodoUseCase {
     this.userDataAccess = userDataAccess;
   }
 
-  public void execute(String todoId, UpdateTodoDto updateTodoDto, String authUserId) {
+  public void execute(Id todoId, UpdateTodoDto updateTodoDto, Id authUserId) {
     checkTodoId(todoId);
     checkUpdatedTodo(updateTodoDto);
     checkAuthUserId(authUserId);
-    checkUserExists(authUserId);
-    final var foundTodo = findTodoById(todoId);
-    checkTodoExists(foundTodo);
-    checkTodoOwnership(foundTodo, authUserId);
-    updateTodo(updateTodoDto, foundTodo);
+    final var result = updateTodo(todoId, updateTodoDto, authUserId);
+    if (result != OwnershipWriteResult.WRITTEN) {
+      checkUserExists(authUserId);
+    }
+    checkWriteResult(result);
   }
 
-  private void checkTodoId(String todoId) {
+  private void checkTodoId(Id todoId) {
     if (todoId == null) {
       throw new MissingRequestParametersException(errorMessage);
     }
-    Entity.validateId(todoId);
   }
 
   private void checkUpdatedTodo(UpdateTodoDto updateTodoDto) {
     if (updateTodoDto == null) {
       throw new MissingRequestBodyException(errorMessage);
     }
-    Todo.validateTitle(updateTodoDto.title);
-    Todo.validateDescription(updateTodoDto.description);
+    updatedTodoRules.validate(updateTodoDto);
   }
 
-  private void checkAuthUserId(String authUserId) {
+  private void checkAuthUserId(Id authUserId) {
     if (authUserId == null) {
       throw new MissingRequestAuthUserIdException(errorMessage);
     }
-    Entity.validateId(authUserId);
   }
 
-  private void checkUserExists(String userId) {
+  private void checkUserExists(Id userId) {
     final var foundUser = userDataAccess.findById(userId);
     if (foundUser == null) {
       throw new UserNotFoundByIdException(errorMessage);
     }
   }
 
-  private Todo findTodoById(String todoId) {
-    final var foundTodo = todoDataAccess.findById(todoId);
-    return foundTodo;
-  }
-
-  private void checkTodoExists(Todo todo) {
-    if (todo == null) {
-      throw new TodoNotFoundByIdException(errorMessage);
-    }
+  private OwnershipWriteResult updateTodo(
+      Id todoId, UpdateTodoDto updateTodoDto, Id authUserId) {
+    return todoDataAccess.updateIfOwner(
+        todoId, updateTodoDto.title, updateTodoDto.description, authUserId);
   }
 
-  private void checkTodoOwnership(Todo todo, String authUserId) {
-    if (!todo.getUserId().equals(authUserId)) {
-      throw new UserNotResourceOwnerException(errorMessage);
+  private void checkWriteResult(OwnershipWriteResult result) {
+    switch (result) {
+      case NOT_FOUND:
+        throw new TodoNotFoundByIdException(errorMessage);
+      case NOT_OWNER:
+        throw new UserNotResourceOwnerException(errorMessage);
+      default:
+        return;
     }
   }
 
-  private void updateTodo(UpdateTodoDto updateTodoDto, Todo todo) {
-    final var updatedTodo =
-      new Todo(
-          todo.getId(),
-          updateTodoDto.title,
-          updateTodoDto.description,
-          todo.isDone(),
-          todo.getTaskId(),
-          todo.getUserId());
-    todoDataAccess.update(updatedTodo);
-  }
-
 }
@@ -3,13 +3,21 @@ package com.pedrofrohmut.todos.domain.usecases.users;
 import com.pedrofrohmut.todos.domain.dataaccess.UserDataAccess;
 import com.pedrofrohmut.todos.domain.dtos.CreateUserDto;
 import com.pedrofrohmut.todos.domain.entities.User;
+import com.pedrofrohmut.todos.domain.errors.InvalidUserException;
 import com.pedrofrohmut.todos.domain.errors.UserEmailAlreadyTakenException;
 import com.pedrofrohmut.todos.domain.services.PasswordService;
 import com.pedrofrohmut.todos.web.errors.MissingRequestBodyException;
+import com.pedrofrohmut.utils.validation.ValidationPlan;
 
 public class CreateUserUseCase {
 
   private static final String errorMessage = "CreateUserUseCase execute";
+  private static final ValidationPlan<CreateUserDto> newUserRules =
+    ValidationPlan.<CreateUserDto>of(InvalidUserException::new)
+      .include(dto -> dto.name, User.nameRules)
+      .include(dto -> dto.email, User.emailRules)
+      .include(dto -> dto.password, User.passwordRules)
+      .build();
 
   private final UserDataAccess userDataAccess;
   private final PasswordService passwordService;
@@ -22,6 +30,9 @@ public class CreateUserUseCase {
   public void execute(CreateUserDto newUser) {
     checkNewUser(newUser);
     checkIfEmailIsAlreadyTaken(newUser.email);
+    // Only the email check ran, so the connection goes back to the pool for the hashing, which
+    // queues far more sign ups than the pool has connections. The insert borrows another one.
+    userDataAccess.releaseConnection();
     final var passwordHash = getPasswordHash(newUser.password);
     createUser(newUser, passwordHash);
   }
@@ -30,9 +41,7 @@ public class CreateUserUseCase {
     if (newUser == null) {
       throw new MissingRequestBodyException(errorMessage);
     }
-    User.validateName(newUser.name);
-    User.validateEmail(newUser.email);
-    User.validatePassword(newUser.password);
+    newUserRules.validate(newUser);
   }
 
   private void checkIfEmailIsAlreadyTaken(String email) {
@@ -43,7 +52,6 @@ public class CreateUserUseCase {
   }
 
   private String getPasswordHash(String password) {
-    User.validatePassword(password);
     return passwordService.hashPassword(password);
   }
 
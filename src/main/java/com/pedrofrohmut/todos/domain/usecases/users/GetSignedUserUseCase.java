@@ -2,7 +2,7 @@ package com.pedrofrohmut.todos.domain.usecases.users;
 
 import com.pedrofrohmut.todos.domain.dataaccess.UserDataAccess;
 import com.pedrofrohmut.todos.domain.dtos.SignedUserDto;
-import com.pedrofrohmut.todos.domain.entities.Entity;
+import com.pedrofrohmut.todos.domain.entities.Id;
 import com.pedrofrohmut.todos.domain.entities.User;
 import com.pedrofrohmut.todos.domain.errors.UserNotFoundByIdException;
 import com.pedrofrohmut.todos.domain.mapper.UserMapper;
@@ -21,7 +21,7 @@ public class GetSignedUserUseCase {
     this.jwtService = jwtService;
   }
 
-  public SignedUserDto execute(String authUserId) {
+  public SignedUserDto execute(Id authUserId) {
     checkIfAuthUserIdIsNull(authUserId);
     final var foundUser = findUserById(authUserId);
     final var token = getToken(authUserId);
@@ -29,14 +29,13 @@ public class GetSignedUserUseCase {
     return signedUser;
   }
 
-  private void checkIfAuthUserIdIsNull(String authUserId) {
-    if (authUserId == null || authUserId == "") {
+  private void checkIfAuthUserIdIsNull(Id authUserId) {
+    if (authUserId == null) {
       throw new MissingRequestAuthUserIdException(errorMessage);
     }
   }
 
-  private User findUserById(String authUserId) {
-    Entity.validateId(authUserId);
+  private User findUserById(Id authUserId) {
     final var foundUser = userDataAccess.findById(authUserId);
     if (foundUser == null) {
       throw new UserNotFoundByIdException(errorMessage);
@@ -44,8 +43,8 @@ public class GetSignedUserUseCase {
     return foundUser;
   }
 
-  private String getToken(String authUserId) {
-    return jwtService.generateToken(authUserId);
+  private String getToken(Id authUserId) {
+    return jwtService.generateToken(authUserId.toString());
   }
 
   private SignedUserDto getSignedUserDto(User foundUser, String token) {
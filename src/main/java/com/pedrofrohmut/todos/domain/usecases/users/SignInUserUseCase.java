@@ -4,16 +4,23 @@ import com.pedrofrohmut.todos.domain.dataaccess.UserDataAccess;
 import com.pedrofrohmut.todos.domain.dtos.SignInUserDto;
 import com.pedrofrohmut.todos.domain.dtos.SignedUserDto;
 import com.pedrofrohmut.todos.domain.entities.User;
+import com.pedrofrohmut.todos.domain.errors.InvalidUserException;
 import com.pedrofrohmut.todos.domain.errors.PasswordAndHashDoNotMatchException;
 import com.pedrofrohmut.todos.domain.errors.UserNotFoundByEmailException;
 import com.pedrofrohmut.todos.domain.mapper.UserMapper;
 import com.pedrofrohmut.todos.domain.services.JwtService;
 import com.pedrofrohmut.todos.domain.services.PasswordService;
 import com.pedrofrohmut.todos.web.errors.MissingRequestBodyException;
+import com.pedrofrohmut.utils.validation.ValidationPlan;
 
 public class SignInUserUseCase {
 
   private static final String errorMessage = "SignInUseCase execute";
+  private static final ValidationPlan<SignInUserDto> credentialsRules =
+    ValidationPlan.<SignInUserDto>of(InvalidUserException::new)
+      .include(dto -> dto.email, User.emailRules)
+      .include(dto -> dto.password, User.passwordRules)
+      .build();
 
   private final UserDataAccess userDataAccess;
   private final PasswordService passwordService;
@@ -26,21 +33,25 @@ public class SignInUserUseCase {
   }
 
   public SignedUserDto execute(SignInUserDto credentials) {
-    checkIfBodyIsNull(credentials);
+    checkCredentials(credentials);
     final var foundUser = findUserByEmail(credentials.email);
+    // Nothing is written, so the lookup is all there is to commit. The connection goes back to the
+    // pool for the hashing, which queues far more sign ins than the pool has connections.
+    userDataAccess.releaseConnection();
     checkPassword(credentials.password, foundUser);
     final var signedUser = generateTokenAndMapSignedUser(foundUser);
     return signedUser;
   }
 
-  private void checkIfBodyIsNull(SignInUserDto dto) {
+  // Malformed credentials are turned away before they cost a lookup
+  private void checkCredentials(SignInUserDto dto) {
     if (dto == null) {
       throw new MissingRequestBodyException(errorMessage);
     }
+    credentialsRules.validate(dto);
   }
 
   private User findUserByEmail(String email) {
-    User.validateEmail(email);
     final var foundUser = userDataAccess.findByEmail(email);
     if (foundUser == null) {
       throw new UserNotFoundByEmailException(errorMessage);
@@ -49,7 +60,6 @@ public class SignInUserUseCase {
   }
 
   private void checkPassword(String password, User foundUser) {
-    User.validatePassword(password);
     final var isMatch = passwordService.comparePasswordAndHash(password, foundUser.getPasswordHash());
     if (!isMatch) {
       throw new PasswordAndHashDoNotMatchException(errorMessage);
@@ -57,7 +67,7 @@ public class SignInUserUseCase {
   }
 
   private SignedUserDto generateTokenAndMapSignedUser(User foundUser) {
-    final var token = jwtService.generateToken(foundUser.getId());
+    final var token = jwtService.generateToken(foundUser.getId().toString());
     final var signedUser = UserMapper.mapEntityAndTokenToSignedUserDto(foundUser, token);
     return signedUser;
   }
@@ -12,4 +12,40 @@ public class DatabaseConfig {
   public static final String TEST_PASSWORD = DatabaseSecrets.TEST_DATABASE_PASSWORD;
   public static final String TEST_DRIVER = "org.postgresql.Driver";
 
+  public static final int POOL_MAX_SIZE = 10;
+  public static final int POOL_MIN_IDLE = 2;
+  public static final long POOL_MAX_WAIT_MILLIS = 5000;
+  public static final int POOL_VALIDATION_TIMEOUT_SECONDS = 2;
+  public static final long POOL_LEAK_DETECTION_MILLIS = 30000;
+  public static final int STATEMENT_CACHE_SIZE = 64;
+  public static final int STREAM_FETCH_SIZE = 500;
+
+  public static final String JDBC_ENGINE = "jdbc";
+  public static final String MEMORY_ENGINE = "memory";
+  // -Dtodos.dataaccess=memory (or TODOS_DATA_ACCESS=memory) runs the API without Postgres
+  public static final String DATA_ACCESS_ENGINE =
+    getSetting("todos.dataaccess", "TODOS_DATA_ACCESS", JDBC_ENGINE);
+  public static final int MEMORY_LOCK_STRIPES = 64;
+
+  public static final int USER_CACHE_MAX_SIZE = 10000;
+  public static final long USER_CACHE_TTL_MILLIS = 60000;
+  public static final long USER_CACHE_NEGATIVE_TTL_MILLIS = 5000;
+
+  // -Dtodos.writebehind=true (or TODOS_WRITE_BEHIND=true) buffers the done state of single todos
+  // and writes it about WRITE_BEHIND_WINDOW_MILLIS later, also about how much a crash can lose
+  public static final boolean WRITE_BEHIND_ENABLED =
+    Boolean.parseBoolean(getSetting("todos.writebehind", "TODOS_WRITE_BEHIND", "false"));
+  public static final long WRITE_BEHIND_WINDOW_MILLIS =
+    Long.parseLong(getSetting("todos.writebehind.window", "TODOS_WRITE_BEHIND_WINDOW", "200"));
+  public static final int WRITE_BEHIND_MAX_PENDING = 10000;
+
+  static String getSetting(String property, String environmentVariable, String fallback) {
+    final var fromProperty = System.getProperty(property);
+    if (fromProperty != null) {
+      return fromProperty;
+    }
+    final var fromEnvironment = System.getenv(environmentVariable);
+    return fromEnvironment == null ? fallback : fromEnvironment;
+  }
+
 }
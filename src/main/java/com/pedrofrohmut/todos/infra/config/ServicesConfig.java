@@ -0,0 +1,23 @@
+package com.pedrofrohmut.todos.infra.config;
+
+public class ServicesConfig {
+
+  // BCrypt is pure CPU, so more threads than cores only adds context switches
+  public static final int PASSWORD_HASHING_THREADS = Runtime.getRuntime().availableProcessors();
+  public static final int PASSWORD_HASHING_QUEUE_LIMIT = 64;
+  public static final int PASSWORD_HASH_COST = 12;
+
+  public static final String SYNC_REQUESTS = "sync";
+  public static final String ASYNC_REQUESTS = "async";
+  // -Dtodos.requests=async (or TODOS_REQUESTS=async) moves request handling off the servlet threads
+  public static final String REQUEST_EXECUTION =
+    DatabaseConfig.getSetting("todos.requests", "TODOS_REQUESTS", SYNC_REQUESTS);
+  // Virtual threads when the JDK has them, otherwise the fixed pool below
+  public static final boolean REQUEST_VIRTUAL_THREADS = Boolean.parseBoolean(
+      DatabaseConfig.getSetting("todos.requests.virtual", "TODOS_REQUESTS_VIRTUAL", "false"));
+  // Requests spend part of their time off the database (token checks, hashing), so twice the pool
+  public static final int REQUEST_EXECUTOR_THREADS = 2 * DatabaseConfig.POOL_MAX_SIZE;
+  public static final int REQUEST_EXECUTOR_QUEUE_LIMIT = 256;
+  public static final long REQUEST_TIMEOUT_MILLIS = 10000;
+
+}
@@ -0,0 +1,56 @@
+package com.pedrofrohmut.todos.infra.dataaccess;
+
+import com.pedrofrohmut.todos.domain.dataaccess.UserDataAccess;
+import com.pedrofrohmut.todos.domain.entities.Id;
+import com.pedrofrohmut.todos.domain.entities.User;
+
+// Read-through cache in front of the users table for findById, which nearly every use case calls
+// only to check that the authenticated user still exists
+public class CachingUserDataAccess implements UserDataAccess {
+
+  private final UserDataAccess userDataAccess;
+  private final UserCache userCache;
+
+  public CachingUserDataAccess(UserDataAccess userDataAccess, UserCache userCache) {
+    this.userDataAccess = userDataAccess;
+    this.userCache = userCache;
+  }
+
+  // Not served from the cache: sign in and sign up must see the current password hash and emails
+  @Override
+  public User findByEmail(String email) {
+    final var foundUser = userDataAccess.findByEmail(email);
+    if (foundUser != null) {
+      userCache.putFound(foundUser);
+    }
+    return foundUser;
+  }
+
+  @Override
+  public User findById(Id userId) {
+    final var cached = userCache.get(userId);
+    if (cached != null) {
+      return cached.getUser();
+    }
+    final var foundUser = userDataAccess.findById(userId);
+    if (foundUser == null) {
+      userCache.putMissing(userId);
+    } else {
+      userCache.putFound(foundUser);
+    }
+    return foundUser;
+  }
+
+  // Nothing to invalidate: the id of a new user is generated as it is written, so it cannot have
+  // been looked up and cached as missing before
+  @Override
+  public void create(User newUser) {
+    userDataAccess.create(newUser);
+  }
+
+  @Override
+  public void releaseConnection() {
+    userDataAccess.releaseConnection();
+  }
+
+}
@@ -0,0 +1,276 @@
+package com.pedrofrohmut.todos.infra.dataaccess;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import com.pedrofrohmut.todos.domain.dataaccess.TodoDataAccess;
+import com.pedrofrohmut.todos.domain.entities.Id;
+import com.pedrofrohmut.todos.infra.database.UnitOfWork;
+import com.pedrofrohmut.todos.infra.dtos.DoneStateBufferStatsDto;
+import com.pedrofrohmut.todos.infra.metrics.LatencyHistogram;
+import com.pedrofrohmut.todos.infra.metrics.Metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Done states waiting to be written, only the last one of each todo, so a burst of toggles on a
+// todo costs one row write. A flush thread writes them all in one statement every windowMillis, in
+// a unit of work of its own. A state leaves the buffer once the transaction that wrote it
+// committed, and a failed flush is tried again on the next tick. The buffer only changes once the
+// request behind the change committed, so a rolled back request neither adds nor drops a state.
+public class DoneStateBuffer {
+
+  private static final Logger logger = LoggerFactory.getLogger(DoneStateBuffer.class);
+  private static final String errorMessage = "[DoneStateBuffer] %s";
+  private static final LatencyHistogram flushTimer =
+    Metrics.timer("todos_write_behind_flush_seconds", "Time a write-behind flush took to commit");
+
+  // Must run in the unit of work of the thread that calls it, the flush thread here
+  private final TodoDataAccess todoDataAccess;
+  private final Supplier<UnitOfWork> unitOfWorkSource;
+  private final long windowMillis;
+  private final int maxPending;
+
+  private final Map<Id, PendingState> pending = new HashMap<>();
+  private final Map<Id, Set<Id>> pendingTodoIdsByTaskId = new HashMap<>();
+  // Of the last state buffered for each task with states pending, for version probes to tell
+  // buffered changes apart without writing them. Seeded from the clock, so a restart does not hand
+  // out the generations of the previous run again.
+  private final Map<Id, Long> generationsByTaskId = new HashMap<>();
+  private long generation = System.currentTimeMillis() * 1000;
+  // Held while a flush writes, so discard can wait for a write it would otherwise race
+  private final Object flushLock = new Object();
+  private final ScheduledExecutorService flusher;
+
+  private final AtomicLong buffered = new AtomicLong();
+  private final AtomicLong coalesced = new AtomicLong();
+  private final AtomicLong writtenThrough = new AtomicLong();
+  private final AtomicLong flushes = new AtomicLong();
+  private final AtomicLong flushedStates = new AtomicLong();
+  private final AtomicLong failedFlushes = new AtomicLong();
+
+  public DoneStateBuffer(
+      TodoDataAccess todoDataAccess,
+      Supplier<UnitOfWork> unitOfWorkSource,
+      long windowMillis,
+      int maxPending) {
+    this.todoDataAccess = todoDataAccess;
+    this.unitOfWorkSource = unitOfWorkSource;
+    this.windowMillis = windowMillis;
+    this.maxPending = maxPending;
+    this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      final var thread = new Thread(runnable, "done-state-flusher");
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.flusher.scheduleWithFixedDelay(
+        this::flushQuietly, windowMillis, windowMillis, TimeUnit.MILLISECONDS);
+  }
+
+  // False when the buffer is full and the todo has no state in it yet, for the caller to write it
+  // through instead
+  public synchronized boolean hasRoomFor(Id todoId) {
+    if (pending.containsKey(todoId) || pending.size() < maxPending) {
+      return true;
+    }
+    writtenThrough.incrementAndGet();
+    return false;
+  }
+
+  // Called once the request that checked hasRoomFor committed, so it always takes the state: the
+  // buffer can go past maxPending by the requests that found room at the same time
+  public synchronized void offer(Id todoId, Id taskId, Id userId, boolean isDone) {
+    final var previous = pending.put(todoId, new PendingState(taskId, userId, isDone));
+    generationsByTaskId.put(taskId, ++generation);
+    if (previous == null) {
+      pendingTodoIdsByTaskId.computeIfAbsent(taskId, key -> new HashSet<>()).add(todoId);
+      buffered.incrementAndGet();
+    } else {
+      coalesced.incrementAndGet();
+    }
+  }
+
+  public synchronized Boolean getIsDone(Id todoId) {
+    final var state = pending.get(todoId);
+    return state == null ? null : state.isDone;
+  }
+
+  public synchronized Map<Id, Boolean> getIsDoneByTaskId(Id taskId) {
+    final var todoIds = pendingTodoIdsByTaskId.get(taskId);
+    final var states = new HashMap<Id, Boolean>();
+    if (todoIds != null) {
+      todoIds.forEach(todoId -> states.put(todoId, pending.get(todoId).isDone));
+    }
+    return states;
+  }
+
+  // 0 when nothing is buffered for the task
+  public synchronized long getGeneration(Id taskId) {
+    return generationsByTaskId.getOrDefault(taskId, 0L);
+  }
+
+  // Writes the states buffered for the task, in the unit of work of the caller, for a write that
+  // must find them in the table. States held by a write in flight are left to it, and flushLock is
+  // held for the same reason as in flush. The states stay buffered, writing them again is a no-op.
+  public void writeThrough(Id taskId) {
+    synchronized (flushLock) {
+      final var isDoneByTodoIds = new HashMap<Id, Boolean>();
+      synchronized (this) {
+        final var todoIds = pendingTodoIdsByTaskId.get(taskId);
+        if (todoIds != null) {
+          todoIds.forEach(todoId -> {
+            final var state = pending.get(todoId);
+            if (state.holds == 0) {
+              isDoneByTodoIds.put(todoId, state.isDone);
+            }
+          });
+        }
+      }
+      if (!isDoneByTodoIds.isEmpty()) {
+        todoDataAccess.setIsDoneByIds(isDoneByTodoIds);
+      }
+    }
+  }
+
+  // Keeps the states of the todos of userId, or of anyone on a null userId, out of the flushes
+  // while a write that overrides them is in flight, and waits for a running flush first, which
+  // could otherwise land after that write. Reads still see them until the write commits.
+  public HeldStates hold(List<Id> todoIds, Id userId) {
+    final var held = new HeldStates();
+    synchronized (flushLock) {
+      synchronized (this) {
+        for (final var todoId : todoIds) {
+          final var state = pending.get(todoId);
+          if (state != null && (userId == null || state.userId.equals(userId))) {
+            state.holds++;
+            held.states.put(todoId, state);
+          }
+        }
+      }
+    }
+    return held;
+  }
+
+  // The write committed: the held states it overrode are dropped, newer ones stay
+  public synchronized void discard(HeldStates held) {
+    held.states.forEach((todoId, state) -> {
+      state.holds--;
+      if (pending.get(todoId) == state) {
+        remove(todoId, state);
+      }
+    });
+  }
+
+  // The write rolled back: the held states go back into the flushes
+  public synchronized void release(HeldStates held) {
+    held.states.forEach((todoId, state) -> state.holds--);
+  }
+
+  public void flush() {
+    synchronized (flushLock) {
+      final Map<Id, PendingState> batch;
+      synchronized (this) {
+        batch = new HashMap<>();
+        pending.forEach((todoId, state) -> {
+          if (state.holds == 0) {
+            batch.put(todoId, state);
+          }
+        });
+      }
+      if (batch.isEmpty()) {
+        return;
+      }
+      final var isDoneByTodoIds = new HashMap<Id, Boolean>();
+      batch.forEach((todoId, state) -> isDoneByTodoIds.put(todoId, state.isDone));
+      final var startedAt = System.nanoTime();
+      try (final var unitOfWork = unitOfWorkSource.get()) {
+        todoDataAccess.setIsDoneByIds(isDoneByTodoIds);
+        unitOfWork.commit();
+      }
+      flushTimer.record(System.nanoTime() - startedAt);
+      // A todo toggled again while the batch was written keeps its newer state for the next flush
+      synchronized (this) {
+        batch.forEach((todoId, state) -> {
+          if (pending.get(todoId) == state) {
+            remove(todoId, state);
+          }
+        });
+      }
+      flushes.incrementAndGet();
+      flushedStates.addAndGet(batch.size());
+    }
+  }
+
+  private void flushQuietly() {
+    try {
+      flush();
+    } catch (RuntimeException e) {
+      failedFlushes.incrementAndGet();
+      logger.warn(String.format(errorMessage, "flush failed: " + e.getMessage()));
+    }
+  }
+
+  // Stops the flush thread and writes what is left, for a clean shutdown to lose nothing
+  public void close() {
+    flusher.shutdownNow();
+    flushQuietly();
+  }
+
+  private void remove(Id todoId, PendingState state) {
+    pending.remove(todoId);
+    final var todoIds = pendingTodoIdsByTaskId.get(state.taskId);
+    todoIds.remove(todoId);
+    if (todoIds.isEmpty()) {
+      pendingTodoIdsByTaskId.remove(state.taskId);
+      generationsByTaskId.remove(state.taskId);
+    }
+  }
+
+  public DoneStateBufferStatsDto getStats() {
+    final var stats = new DoneStateBufferStatsDto();
+    stats.enabled = true;
+    stats.windowMillis = windowMillis;
+    stats.maxPending = maxPending;
+    synchronized (this) {
+      stats.pending = pending.size();
+    }
+    stats.buffered = buffered.get();
+    stats.coalesced = coalesced.get();
+    stats.writtenThrough = writtenThrough.get();
+    stats.flushes = flushes.get();
+    stats.flushedStates = flushedStates.get();
+    stats.failedFlushes = failedFlushes.get();
+    return stats;
+  }
+
+  public static final class HeldStates {
+    private final Map<Id, PendingState> states = new HashMap<>();
+
+    public boolean isEmpty() {
+      return states.isEmpty();
+    }
+  }
+
+  private static final class PendingState {
+    final Id taskId;
+    final Id userId;
+    final boolean isDone;
+    // Writes in flight that override the state, guarded by the buffer
+    int holds = 0;
+
+    PendingState(Id taskId, Id userId, boolean isDone) {
+      this.taskId = taskId;
+      this.userId = userId;
+      this.isDone = isDone;
+    }
+  }
+
+}
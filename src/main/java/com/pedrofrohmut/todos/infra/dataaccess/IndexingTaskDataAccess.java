@@ -0,0 +1,96 @@
+package com.pedrofrohmut.todos.infra.dataaccess;
+
+import java.util.List;
+
+import com.pedrofrohmut.todos.domain.dataaccess.OwnershipWriteResult;
+import com.pedrofrohmut.todos.domain.dataaccess.RowStream;
+import com.pedrofrohmut.todos.domain.dataaccess.RowVersion;
+import com.pedrofrohmut.todos.domain.dataaccess.TaskDataAccess;
+import com.pedrofrohmut.todos.domain.dtos.PageDto;
+import com.pedrofrohmut.todos.domain.entities.Id;
+import com.pedrofrohmut.todos.domain.entities.Task;
+import com.pedrofrohmut.todos.infra.database.UnitOfWork;
+
+// Keeps the search index in step with the tasks written through it. The index is only touched once
+// the unit of work commits, so a rolled back write never shows up in a search.
+public class IndexingTaskDataAccess implements TaskDataAccess {
+
+  private final TaskDataAccess taskDataAccess;
+  private final SearchIndex searchIndex;
+
+  public IndexingTaskDataAccess(TaskDataAccess taskDataAccess, SearchIndex searchIndex) {
+    this.taskDataAccess = taskDataAccess;
+    this.searchIndex = searchIndex;
+  }
+
+  @Override
+  public Id create(Task newTask) {
+    final var taskId = taskDataAccess.create(newTask);
+    UnitOfWork.runAfterCommit(() -> searchIndex.putTask(
+        taskId, newTask.getUserId(), newTask.getName(), newTask.getDescription()));
+    return taskId;
+  }
+
+  @Override
+  public Task findById(Id taskId) {
+    return taskDataAccess.findById(taskId);
+  }
+
+  @Override
+  public RowVersion findVersionById(Id taskId) {
+    return taskDataAccess.findVersionById(taskId);
+  }
+
+  @Override
+  public List<Task> findByUserId(Id userId) {
+    return taskDataAccess.findByUserId(userId);
+  }
+
+  @Override
+  public PageDto<Task> findPageByUserId(Id userId, int limit, String cursor) {
+    return taskDataAccess.findPageByUserId(userId, limit, cursor);
+  }
+
+  @Override
+  public RowStream<Task> streamByUserId(Id userId) {
+    return taskDataAccess.streamByUserId(userId);
+  }
+
+  @Override
+  public RowStream<Task> streamAll() {
+    return taskDataAccess.streamAll();
+  }
+
+  @Override
+  public void update(Task updatedTask) {
+    taskDataAccess.update(updatedTask);
+    UnitOfWork.runAfterCommit(() -> searchIndex.updateContent(
+        updatedTask.getId(), updatedTask.getName(), updatedTask.getDescription()));
+  }
+
+  @Override
+  public void delete(Id taskId) {
+    taskDataAccess.delete(taskId);
+    UnitOfWork.runAfterCommit(() -> searchIndex.remove(taskId));
+  }
+
+  @Override
+  public OwnershipWriteResult updateIfOwner(
+      Id taskId, String name, String description, Id userId) {
+    final var result = taskDataAccess.updateIfOwner(taskId, name, description, userId);
+    if (result == OwnershipWriteResult.WRITTEN) {
+      UnitOfWork.runAfterCommit(() -> searchIndex.updateContent(taskId, name, description));
+    }
+    return result;
+  }
+
+  @Override
+  public OwnershipWriteResult deleteIfOwner(Id taskId, Id userId) {
+    final var result = taskDataAccess.deleteIfOwner(taskId, userId);
+    if (result == OwnershipWriteResult.WRITTEN) {
+      UnitOfWork.runAfterCommit(() -> searchIndex.remove(taskId));
+    }
+    return result;
+  }
+
+}
@@ -0,0 +1,165 @@
+package com.pedrofrohmut.todos.infra.dataaccess;
+
+import java.util.List;
+import java.util.Map;
+
+import com.pedrofrohmut.todos.domain.dataaccess.OwnershipWriteResult;
+import com.pedrofrohmut.todos.domain.dataaccess.RowStream;
+import com.pedrofrohmut.todos.domain.dataaccess.RowVersion;
+import com.pedrofrohmut.todos.domain.dataaccess.TodoDataAccess;
+import com.pedrofrohmut.todos.domain.dtos.PageDto;
+import com.pedrofrohmut.todos.domain.entities.Id;
+import com.pedrofrohmut.todos.domain.entities.Todo;
+import com.pedrofrohmut.todos.infra.database.UnitOfWork;
+
+// Keeps the search index in step with the todos written through it, once the unit of work commits.
+// Done states are not indexed, so toggles go straight through.
+public class IndexingTodoDataAccess implements TodoDataAccess {
+
+  private final TodoDataAccess todoDataAccess;
+  private final SearchIndex searchIndex;
+
+  public IndexingTodoDataAccess(TodoDataAccess todoDataAccess, SearchIndex searchIndex) {
+    this.todoDataAccess = todoDataAccess;
+    this.searchIndex = searchIndex;
+  }
+
+  // Goes through createAll, the only create that tells the id of the new row
+  @Override
+  public void create(Todo newTodo) {
+    createAll(List.of(newTodo));
+  }
+
+  @Override
+  public Todo findById(Id todoId) {
+    return todoDataAccess.findById(todoId);
+  }
+
+  @Override
+  public List<Todo> findByTaskId(Id taskId) {
+    return todoDataAccess.findByTaskId(taskId);
+  }
+
+  @Override
+  public PageDto<Todo> findPageByTaskId(Id taskId, int limit, String cursor) {
+    return todoDataAccess.findPageByTaskId(taskId, limit, cursor);
+  }
+
+  @Override
+  public RowStream<Todo> streamByTaskId(Id taskId) {
+    return todoDataAccess.streamByTaskId(taskId);
+  }
+
+  @Override
+  public RowStream<Todo> streamAll() {
+    return todoDataAccess.streamAll();
+  }
+
+  @Override
+  public RowVersion findVersionByTaskId(Id taskId) {
+    return todoDataAccess.findVersionByTaskId(taskId);
+  }
+
+  @Override
+  public void update(Todo updatedTodo) {
+    todoDataAccess.update(updatedTodo);
+    UnitOfWork.runAfterCommit(() -> searchIndex.updateContent(
+        updatedTodo.getId(), updatedTodo.getTitle(), updatedTodo.getDescription()));
+  }
+
+  @Override
+  public void setDone(Id todoId) {
+    todoDataAccess.setDone(todoId);
+  }
+
+  @Override
+  public void setNotDone(Id todoId) {
+    todoDataAccess.setNotDone(todoId);
+  }
+
+  @Override
+  public void delete(Id todoId) {
+    todoDataAccess.delete(todoId);
+    UnitOfWork.runAfterCommit(() -> searchIndex.remove(todoId));
+  }
+
+  @Override
+  public List<Id> clearCompleteByTaskId(Id taskId) {
+    final var clearedTodoIds = todoDataAccess.clearCompleteByTaskId(taskId);
+    UnitOfWork.runAfterCommit(() -> clearedTodoIds.forEach(searchIndex::remove));
+    return clearedTodoIds;
+  }
+
+  @Override
+  public OwnershipWriteResult updateIfOwner(
+      Id todoId, String title, String description, Id userId) {
+    final var result = todoDataAccess.updateIfOwner(todoId, title, description, userId);
+    if (result == OwnershipWriteResult.WRITTEN) {
+      UnitOfWork.runAfterCommit(() -> searchIndex.updateContent(todoId, title, description));
+    }
+    return result;
+  }
+
+  @Override
+  public OwnershipWriteResult setDoneIfOwner(Id todoId, Id userId) {
+    return todoDataAccess.setDoneIfOwner(todoId, userId);
+  }
+
+  @Override
+  public OwnershipWriteResult setNotDoneIfOwner(Id todoId, Id userId) {
+    return todoDataAccess.setNotDoneIfOwner(todoId, userId);
+  }
+
+  @Override
+  public OwnershipWriteResult deleteIfOwner(Id todoId, Id userId) {
+    final var result = todoDataAccess.deleteIfOwner(todoId, userId);
+    if (result == OwnershipWriteResult.WRITTEN) {
+      UnitOfWork.runAfterCommit(() -> searchIndex.remove(todoId));
+    }
+    return result;
+  }
+
+  @Override
+  public List<Id> createAll(List<Todo> newTodos) {
+    final var todoIds = todoDataAccess.createAll(newTodos);
+    UnitOfWork.runAfterCommit(() -> {
+      for (int i = 0; i < todoIds.size(); i++) {
+        final var newTodo = newTodos.get(i);
+        searchIndex.putTodo(
+            todoIds.get(i),
+            newTodo.getTaskId(),
+            newTodo.getUserId(),
+            newTodo.getTitle(),
+            newTodo.getDescription());
+      }
+    });
+    return todoIds;
+  }
+
+  @Override
+  public Map<Id, Id> findUserIdsByIds(List<Id> todoIds) {
+    return todoDataAccess.findUserIdsByIds(todoIds);
+  }
+
+  @Override
+  public void setDoneAll(List<Id> todoIds, Id userId) {
+    todoDataAccess.setDoneAll(todoIds, userId);
+  }
+
+  @Override
+  public void setNotDoneAll(List<Id> todoIds, Id userId) {
+    todoDataAccess.setNotDoneAll(todoIds, userId);
+  }
+
+  @Override
+  public void deleteAll(List<Id> todoIds, Id userId) {
+    todoDataAccess.deleteAll(todoIds, userId);
+    UnitOfWork.runAfterCommit(() -> searchIndex.removeAll(todoIds, userId));
+  }
+
+  @Override
+  public void setIsDoneByIds(Map<Id, Boolean> isDoneByTodoIds) {
+    todoDataAccess.setIsDoneByIds(isDoneByTodoIds);
+  }
+
+}
@@ -0,0 +1,48 @@
+package com.pedrofrohmut.todos.infra.dataaccess;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.pedrofrohmut.todos.domain.entities.Id;
+import com.pedrofrohmut.todos.domain.errors.InvalidEntityException;
+import com.pedrofrohmut.todos.domain.errors.InvalidPageRequestException;
+
+// Position of the last row of a page in (created_at, id) order. Clients only ever see it as an
+// opaque token they hand back to get the next page.
+public final class KeysetCursor {
+
+  private static final String SEPARATOR = "|";
+
+  public final LocalDateTime createdAt;
+  public final Id id;
+
+  public KeysetCursor(LocalDateTime createdAt, Id id) {
+    this.createdAt = createdAt;
+    this.id = id;
+  }
+
+  public String encode() {
+    final var position = createdAt + SEPARATOR + id;
+    return Base64.getUrlEncoder().withoutPadding()
+      .encodeToString(position.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static KeysetCursor decode(String cursor) {
+    try {
+      final var position =
+        new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      final var separatorIndex = position.indexOf(SEPARATOR);
+      if (separatorIndex < 0) {
+        throw new InvalidPageRequestException("Cursor is malformed");
+      }
+      return new KeysetCursor(
+          LocalDateTime.parse(position.substring(0, separatorIndex)),
+          Id.parse(position.substring(separatorIndex + 1)));
+    } catch (IllegalArgumentException | DateTimeParseException | InvalidEntityException e) {
+      throw new InvalidPageRequestException("Cursor is malformed");
+    }
+  }
+
+}
@@ -0,0 +1,323 @@
+package com.pedrofrohmut.todos.infra.dataaccess;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.pedrofrohmut.todos.domain.dataaccess.RowStream;
+import com.pedrofrohmut.todos.domain.dataaccess.SearchDataAccess;
+import com.pedrofrohmut.todos.domain.dataaccess.SearchHit;
+import com.pedrofrohmut.todos.domain.entities.Id;
+import com.pedrofrohmut.todos.domain.entities.Task;
+import com.pedrofrohmut.todos.domain.entities.Todo;
+import com.pedrofrohmut.todos.infra.dtos.SearchIndexStatsDto;
+import com.pedrofrohmut.todos.infra.metrics.LatencyHistogram;
+import com.pedrofrohmut.todos.infra.metrics.Metrics;
+
+// Inverted index over the names and descriptions of tasks and the titles and descriptions of
+// todos, one per user, held in memory and kept up to date by the indexing data access once their
+// writes commit. A hit must hold every term of the query, as a word or as the start of one. Hits
+// rank by how rare the terms are among the documents of the user, whole words before prefixes and
+// titles before descriptions.
+public class SearchIndex implements SearchDataAccess {
+
+  private static final double TITLE_WEIGHT = 3;
+  private static final double PREFIX_WEIGHT = 0.5;
+  // Rough footprints of the objects behind a document, a term and a posting, for the stats only
+  private static final long DOCUMENT_BYTES = 160;
+  private static final long TERM_BYTES = 120;
+  private static final long POSTING_BYTES = 80;
+  private static final LatencyHistogram searchTimer =
+    Metrics.timer("todos_search_seconds", "Time a search took to match and rank its hits");
+
+  private static final Comparator<SearchHit> RANKING =
+    Comparator.<SearchHit>comparingDouble(hit -> hit.score)
+      .thenComparing(hit -> hit.title, Comparator.nullsFirst(Comparator.reverseOrder()));
+
+  private final ConcurrentHashMap<Id, UserIndex> indexesByUserId = new ConcurrentHashMap<>();
+  // Which index a document is in, for writes that only know its id
+  private final ConcurrentHashMap<Id, Id> userIdsByDocumentId = new ConcurrentHashMap<>();
+  private final AtomicLong queries = new AtomicLong();
+
+  public void putTask(Id taskId, Id userId, String name, String description) {
+    put(new Document(SearchHit.TASK, taskId, taskId, name, description), userId);
+  }
+
+  public void putTodo(Id todoId, Id taskId, Id userId, String title, String description) {
+    put(new Document(SearchHit.TODO, todoId, taskId, title, description), userId);
+  }
+
+  // Documents that are not indexed, deleted meanwhile, stay out
+  public void updateContent(Id documentId, String title, String description) {
+    final var index = indexOf(documentId);
+    if (index == null) {
+      return;
+    }
+    synchronized (index) {
+      final var current = index.documents.get(documentId);
+      if (current != null) {
+        index.put(new Document(current.kind, current.id, current.taskId, title, description));
+      }
+    }
+  }
+
+  // Removing a task removes its todos too, like the ON DELETE CASCADE of app.todos
+  public void remove(Id documentId) {
+    final var index = indexOf(documentId);
+    if (index == null) {
+      return;
+    }
+    synchronized (index) {
+      final var removed = index.remove(documentId);
+      if (removed == null) {
+        return;
+      }
+      userIdsByDocumentId.remove(documentId);
+      if (removed.kind.equals(SearchHit.TASK)) {
+        index.removeTodosOf(documentId).forEach(userIdsByDocumentId::remove);
+      }
+    }
+  }
+
+  // Only the documents of userId, as a bulk delete skips the todos of other users
+  public void removeAll(List<Id> documentIds, Id userId) {
+    final var index = indexesByUserId.get(userId);
+    if (index == null) {
+      return;
+    }
+    synchronized (index) {
+      for (final var documentId : documentIds) {
+        if (index.remove(documentId) != null) {
+          userIdsByDocumentId.remove(documentId);
+        }
+      }
+    }
+  }
+
+  // Fills the index from the tables, before any request can write to them
+  public void rebuild(RowStream<Task> tasks, RowStream<Todo> todos) {
+    indexesByUserId.clear();
+    userIdsByDocumentId.clear();
+    tasks.forEach(task ->
+        putTask(task.getId(), task.getUserId(), task.getName(), task.getDescription()));
+    todos.forEach(todo ->
+        putTodo(todo.getId(), todo.getTaskId(), todo.getUserId(), todo.getTitle(),
+            todo.getDescription()));
+  }
+
+  @Override
+  public List<SearchHit> search(Id userId, String query, int limit) {
+    final var startedAt = System.nanoTime();
+    queries.incrementAndGet();
+    final var terms = new LinkedHashSet<>(tokenize(query));
+    final var index = indexesByUserId.get(userId);
+    final List<SearchHit> hits;
+    if (index == null || terms.isEmpty()) {
+      hits = List.of();
+    } else {
+      synchronized (index) {
+        hits = index.search(terms, limit);
+      }
+    }
+    searchTimer.record(System.nanoTime() - startedAt);
+    return hits;
+  }
+
+  public SearchIndexStatsDto getStats() {
+    final var stats = new SearchIndexStatsDto();
+    for (final var index : indexesByUserId.values()) {
+      synchronized (index) {
+        stats.users++;
+        stats.documents += index.documents.size();
+        stats.terms += index.postingsByTerm.size();
+        stats.postings += index.postings;
+        stats.estimatedBytes +=
+          index.documents.size() * DOCUMENT_BYTES +
+          index.postingsByTerm.size() * TERM_BYTES +
+          index.postings * POSTING_BYTES +
+          index.chars * Character.BYTES;
+      }
+    }
+    stats.queries = queries.get();
+    return stats;
+  }
+
+  // Lower-cased runs of letters and digits
+  static List<String> tokenize(String text) {
+    final var terms = new ArrayList<String>();
+    if (text == null) {
+      return terms;
+    }
+    final var lowerText = text.toLowerCase(Locale.ROOT);
+    var start = -1;
+    for (int i = 0; i <= lowerText.length(); i++) {
+      final var isTermChar =
+        i < lowerText.length() && Character.isLetterOrDigit(lowerText.charAt(i));
+      if (isTermChar && start < 0) {
+        start = i;
+      } else if (!isTermChar && start >= 0) {
+        terms.add(lowerText.substring(start, i));
+        start = -1;
+      }
+    }
+    return terms;
+  }
+
+  private void put(Document document, Id userId) {
+    final var index = indexesByUserId.computeIfAbsent(userId, key -> new UserIndex());
+    synchronized (index) {
+      userIdsByDocumentId.put(document.id, userId);
+      index.put(document);
+    }
+  }
+
+  private UserIndex indexOf(Id documentId) {
+    final var userId = userIdsByDocumentId.get(documentId);
+    return userId == null ? null : indexesByUserId.get(userId);
+  }
+
+  // Guarded by its own monitor. Empty indexes are kept, a user who had documents will likely again.
+  private static final class UserIndex {
+    final Map<Id, Document> documents = new HashMap<>();
+    final TreeMap<String, Map<Id, Posting>> postingsByTerm = new TreeMap<>();
+    long postings = 0;
+    long chars = 0;
+
+    void put(Document document) {
+      remove(document.id);
+      documents.put(document.id, document);
+      chars += document.chars();
+      document.postingsByTerm.forEach((term, posting) -> {
+        final var postingsOfTerm = postingsByTerm.get(term);
+        if (postingsOfTerm == null) {
+          postingsByTerm.put(term, new HashMap<>(Map.of(document.id, posting)));
+          chars += term.length();
+        } else {
+          postingsOfTerm.put(document.id, posting);
+        }
+        postings++;
+      });
+    }
+
+    Document remove(Id documentId) {
+      final var document = documents.remove(documentId);
+      if (document == null) {
+        return null;
+      }
+      chars -= document.chars();
+      for (final var term : document.postingsByTerm.keySet()) {
+        final var postingsOfTerm = postingsByTerm.get(term);
+        postingsOfTerm.remove(documentId);
+        if (postingsOfTerm.isEmpty()) {
+          postingsByTerm.remove(term);
+          chars -= term.length();
+        }
+        postings--;
+      }
+      return document;
+    }
+
+    List<Id> removeTodosOf(Id taskId) {
+      final var todoIds = new ArrayList<Id>();
+      documents.values().forEach(document -> {
+        if (document.kind.equals(SearchHit.TODO) && document.taskId.equals(taskId)) {
+          todoIds.add(document.id);
+        }
+      });
+      todoIds.forEach(this::remove);
+      return todoIds;
+    }
+
+    // A document scores the sum over the query terms of its best match for each, and the top
+    // limit of them are kept in a min-heap instead of sorting every match
+    List<SearchHit> search(Iterable<String> terms, int limit) {
+      Map<Id, Double> scores = null;
+      for (final var term : terms) {
+        final var termScores = score(term);
+        if (scores == null) {
+          scores = termScores;
+        } else {
+          final var previous = scores;
+          termScores.keySet().removeIf(documentId -> !previous.containsKey(documentId));
+          termScores.replaceAll((documentId, score) -> score + previous.get(documentId));
+          scores = termScores;
+        }
+        if (scores.isEmpty()) {
+          return List.of();
+        }
+      }
+      final var top = new PriorityQueue<SearchHit>(limit + 1, RANKING);
+      scores.forEach((documentId, score) -> {
+        final var document = documents.get(documentId);
+        top.add(new SearchHit(
+            document.kind, document.id, document.taskId, document.title, document.description,
+            score));
+        if (top.size() > limit) {
+          top.poll();
+        }
+      });
+      final var hits = new ArrayList<SearchHit>(top.size());
+      while (!top.isEmpty()) {
+        hits.add(top.poll());
+      }
+      Collections.reverse(hits);
+      return hits;
+    }
+
+    // Every indexed term starting with the query term matches it, the term itself scoring highest
+    private Map<Id, Double> score(String term) {
+      final var scores = new HashMap<Id, Double>();
+      final var matches = postingsByTerm.subMap(term, true, term + Character.MAX_VALUE, true);
+      matches.forEach((indexedTerm, postingsOfTerm) -> {
+        final var weight = indexedTerm.length() == term.length() ? 1 : PREFIX_WEIGHT;
+        final var rarity = Math.log(1 + (double) documents.size() / postingsOfTerm.size());
+        postingsOfTerm.forEach((documentId, posting) -> {
+          final var frequency = TITLE_WEIGHT * posting.titleCount + posting.descriptionCount;
+          scores.merge(documentId, weight * rarity * frequency, Math::max);
+        });
+      });
+      return scores;
+    }
+  }
+
+  private static final class Document {
+    final String kind;
+    final Id id;
+    final Id taskId;
+    final String title;
+    final String description;
+    final Map<String, Posting> postingsByTerm = new HashMap<>();
+
+    Document(String kind, Id id, Id taskId, String title, String description) {
+      this.kind = kind;
+      this.id = id;
+      this.taskId = taskId;
+      this.title = title;
+      this.description = description;
+      tokenize(title).forEach(term ->
+          postingsByTerm.computeIfAbsent(term, key -> new Posting()).titleCount++);
+      tokenize(description).forEach(term ->
+          postingsByTerm.computeIfAbsent(term, key -> new Posting()).descriptionCount++);
+    }
+
+    long chars() {
+      return (title == null ? 0 : title.length()) +
+        (description == null ? 0 : description.length());
+    }
+  }
+
+  private static final class Posting {
+    int titleCount = 0;
+    int descriptionCount = 0;
+  }
+
+}
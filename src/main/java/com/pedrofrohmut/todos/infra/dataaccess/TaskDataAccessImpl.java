@@ -4,25 +4,47 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Supplier;
 
+import com.pedrofrohmut.todos.domain.dataaccess.OwnershipWriteResult;
+import com.pedrofrohmut.todos.domain.dataaccess.RowStream;
+import com.pedrofrohmut.todos.domain.dataaccess.RowVersion;
 import com.pedrofrohmut.todos.domain.dataaccess.TaskDataAccess;
+import com.pedrofrohmut.todos.domain.dtos.PageDto;
+import com.pedrofrohmut.todos.domain.entities.Id;
 import com.pedrofrohmut.todos.domain.entities.Task;
 
+import static com.pedrofrohmut.todos.infra.config.DatabaseConfig.*;
+
 public class TaskDataAccessImpl implements TaskDataAccess {
 
-  private final Connection connection;
+  private final Supplier<Connection> connectionSource;
 
   public TaskDataAccessImpl(Connection connection) {
-    this.connection = connection;
+    this(() -> connection);
+  }
+
+  // Resolved on every statement, so one instance can serve every request in its own transaction
+  public TaskDataAccessImpl(Supplier<Connection> connectionSource) {
+    this.connectionSource = connectionSource;
+  }
+
+  private Connection getConnection() {
+    return connectionSource.get();
   }
 
   @Override
-  public void create(Task newTask) {
+  public Id create(Task newTask) {
     try (final var stm = getPreparedStatementToCreate(newTask)) {
       stm.executeUpdate();
+      try (final var rs = stm.getGeneratedKeys()) {
+        rs.next();
+        return Id.of(rs.getObject("id", UUID.class));
+      }
     } catch (SQLException e) {
       throw new RuntimeException(e);
     }
@@ -33,15 +55,15 @@ public class TaskDataAccessImpl implements TaskDataAccess {
     final var descriptionPosition = 2;
     final var userIdPosition = 3;
     final var sql = "INSERT INTO app.tasks (name, description, user_id) VALUES (?, ?, ?)";
-    final var stm = this.connection.prepareStatement(sql);
+    final var stm = getConnection().prepareStatement(sql, new String[] { "id" });
     stm.setString(namePosition, newTask.getName());
     stm.setString(descriptionPosition, newTask.getDescription());
-    stm.setObject(userIdPosition, UUID.fromString(newTask.getUserId()));
+    stm.setObject(userIdPosition, newTask.getUserId().toUuid());
     return stm;
   }
 
   @Override
-  public Task findById(String taskId) {
+  public Task findById(Id taskId) {
     try (
       final var stm = getPreparedStatementToFindById(taskId);
       final var rs = getResultSetToFindById(stm);
@@ -57,11 +79,11 @@ public class TaskDataAccessImpl implements TaskDataAccess {
     }
   }
 
-  private PreparedStatement getPreparedStatementToFindById(String taskId) throws SQLException {
+  private PreparedStatement getPreparedStatementToFindById(Id taskId) throws SQLException {
     final var taskIdPosition = 1;
     final var sql = "SELECT name, description, user_id FROM app.tasks WHERE id = ?";
-    final var stm = this.connection.prepareStatement(sql);
-    stm.setObject(taskIdPosition, UUID.fromString(taskId));
+    final var stm = getConnection().prepareStatement(sql);
+    stm.setObject(taskIdPosition, taskId.toUuid());
     return stm;
   }
 
@@ -70,17 +92,36 @@ public class TaskDataAccessImpl implements TaskDataAccess {
     return rs;
   }
 
-  private Task mapResultToFindById(String taskId, ResultSet rs) throws SQLException {
+  private Task mapResultToFindById(Id taskId, ResultSet rs) throws SQLException {
     final var taskName = rs.getString("name");
     final var taskDescription =
       rs.getString("description") == null ? "" : rs.getString("description");
-    final var userId = rs.getString("user_id");
-    final var foundTask = new Task(taskId, taskName, taskDescription, userId);
+    final var userId = Id.of(rs.getObject("user_id", UUID.class));
+    final var foundTask = Task.hydrate(taskId, taskName, taskDescription, userId);
     return foundTask;
   }
 
+  // Two columns off the primary key, the whole cost of a conditional read that ends in a 304
   @Override
-  public List<Task> findByUserId(String userId) {
+  public RowVersion findVersionById(Id taskId) {
+    final var taskIdPosition = 1;
+    final var sql = "SELECT user_id, version FROM app.tasks WHERE id = ?";
+    try (final var stm = getConnection().prepareStatement(sql)) {
+      stm.setObject(taskIdPosition, taskId.toUuid());
+      try (final var rs = stm.executeQuery()) {
+        if (!rs.next()) {
+          return null;
+        }
+        final var userId = Id.of(rs.getObject("user_id", UUID.class));
+        return new RowVersion(userId, rs.getLong("version"));
+      }
+    } catch (SQLException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  @Override
+  public List<Task> findByUserId(Id userId) {
     try (
       final var stm = getPreparedStatementToFindByUserId(userId);
       final var rs = getResultSetToFindByUserId(stm);
@@ -97,11 +138,13 @@ public class TaskDataAccessImpl implements TaskDataAccess {
   }
 
 
-  private PreparedStatement getPreparedStatementToFindByUserId(String userId) throws SQLException {
+  private PreparedStatement getPreparedStatementToFindByUserId(Id userId) throws SQLException {
     final var userIdPosition = 1;
-    final var sql = "SELECT id, name, description FROM app.tasks WHERE user_id = ?";
-    final var stm = this.connection.prepareStatement(sql);
-    stm.setObject(userIdPosition, UUID.fromString(userId));
+    final var sql =
+      "SELECT id, name, description, todos_count, done_todos_count FROM app.tasks" +
+      " WHERE user_id = ? ORDER BY created_at, id";
+    final var stm = getConnection().prepareStatement(sql);
+    stm.setObject(userIdPosition, userId.toUuid());
     return stm;
   }
 
@@ -110,17 +153,121 @@ public class TaskDataAccessImpl implements TaskDataAccess {
     return rs;
   }
 
-  private List<Task> mapResultToFindByUserId(String userId, ResultSet rs) throws SQLException {
+  private List<Task> mapResultToFindByUserId(Id userId, ResultSet rs) throws SQLException {
     final var tasks = new ArrayList<Task>();
     do {
-      final var taskId = rs.getString("id");
+      tasks.add(mapRowToFindByUserId(userId, rs));
+    } while (rs.next());
+    return tasks;
+  }
+
+  private Task mapRowToFindByUserId(Id userId, ResultSet rs) throws SQLException {
+    final var taskId = Id.of(rs.getObject("id", UUID.class));
+    final var taskName = rs.getString("name");
+    final var taskDescription =
+      rs.getString("description") == null ? "" : rs.getString("description");
+    final var todosCount = rs.getInt("todos_count");
+    final var doneTodosCount = rs.getInt("done_todos_count");
+    final var task =
+      Task.hydrate(taskId, taskName, taskDescription, userId, todosCount, doneTodosCount);
+    return task;
+  }
+
+  // Same query as findByUserId, read through a server-side cursor STREAM_FETCH_SIZE rows at a time
+  @Override
+  public RowStream<Task> streamByUserId(Id userId) {
+    return consumer -> {
+      try (final var stm = getPreparedStatementToFindByUserId(userId)) {
+        stm.setFetchSize(STREAM_FETCH_SIZE);
+        try (final var rs = stm.executeQuery()) {
+          while (rs.next()) {
+            consumer.accept(mapRowToFindByUserId(userId, rs));
+          }
+        } finally {
+          stm.setFetchSize(0);
+        }
+      } catch (SQLException e) {
+        throw new RuntimeException(e);
+      }
+    };
+  }
+
+  // Every task of every user, read through a server-side cursor like streamByUserId
+  @Override
+  public RowStream<Task> streamAll() {
+    final var sql =
+      "SELECT id, name, description, user_id, todos_count, done_todos_count FROM app.tasks";
+    return consumer -> {
+      try (final var stm = getConnection().prepareStatement(sql)) {
+        stm.setFetchSize(STREAM_FETCH_SIZE);
+        try (final var rs = stm.executeQuery()) {
+          while (rs.next()) {
+            final var userId = Id.of(rs.getObject("user_id", UUID.class));
+            consumer.accept(mapRowToFindByUserId(userId, rs));
+          }
+        } finally {
+          stm.setFetchSize(0);
+        }
+      } catch (SQLException e) {
+        throw new RuntimeException(e);
+      }
+    };
+  }
+
+  @Override
+  public PageDto<Task> findPageByUserId(Id userId, int limit, String cursor) {
+    final var after = cursor == null ? null : KeysetCursor.decode(cursor);
+    try (
+      final var stm = getPreparedStatementToFindPageByUserId(userId, limit, after);
+      final var rs = stm.executeQuery();
+    ) {
+      return mapResultToFindPageByUserId(userId, limit, rs);
+    } catch (SQLException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  // One row past the limit is read only to know whether there is a next page
+  private PreparedStatement getPreparedStatementToFindPageByUserId(
+      Id userId, int limit, KeysetCursor after) throws SQLException {
+    final var userIdPosition = 1;
+    final var sql =
+      "SELECT id, name, description, todos_count, done_todos_count, created_at FROM app.tasks" +
+      " WHERE user_id = ?" +
+      (after == null ? "" : " AND (created_at, id) > (?, ?)") +
+      " ORDER BY created_at, id LIMIT ?";
+    final var stm = getConnection().prepareStatement(sql);
+    stm.setObject(userIdPosition, userId.toUuid());
+    if (after == null) {
+      stm.setInt(2, limit + 1);
+    } else {
+      stm.setObject(2, after.createdAt);
+      stm.setObject(3, after.id.toUuid());
+      stm.setInt(4, limit + 1);
+    }
+    return stm;
+  }
+
+  private PageDto<Task> mapResultToFindPageByUserId(Id userId, int limit, ResultSet rs)
+      throws SQLException {
+    final var tasks = new ArrayList<Task>(limit);
+    KeysetCursor last = null;
+    while (rs.next()) {
+      if (tasks.size() == limit) {
+        return new PageDto<>(tasks, last.encode());
+      }
+      final var taskId = Id.of(rs.getObject("id", UUID.class));
       final var taskName = rs.getString("name");
       final var taskDescription =
         rs.getString("description") == null ? "" : rs.getString("description");
-      final var task = new Task(taskId, taskName, taskDescription, userId);
-      tasks.add(task);
-    } while (rs.next());
-    return tasks;
+      final var todosCount = rs.getInt("todos_count");
+      final var doneTodosCount = rs.getInt("done_todos_count");
+      tasks.add(
+          Task.hydrate(taskId, taskName, taskDescription, userId, todosCount, doneTodosCount));
+      last = new KeysetCursor(
+          rs.getObject("created_at", LocalDateTime.class), taskId);
+    }
+    return new PageDto<>(tasks, null);
   }
 
   @Override
@@ -140,15 +287,15 @@ public class TaskDataAccessImpl implements TaskDataAccess {
     final var descriptionPosition = 2;
     final var taskIdPosition = 3;
     final var sql = "UPDATE app.tasks SET name = ?, description = ? WHERE id = ?";
-    final var stm = this.connection.prepareStatement(sql);
+    final var stm = getConnection().prepareStatement(sql);
     stm.setString(namePosition, updatedTask.getName());
     stm.setString(descriptionPosition, updatedTask.getDescription());
-    stm.setObject(taskIdPosition, UUID.fromString(updatedTask.getId()));
+    stm.setObject(taskIdPosition, updatedTask.getId().toUuid());
     return stm;
   }
 
   @Override
-  public void delete(String taskId) {
+  public void delete(Id taskId) {
     try (
       final var stm = getPreparedStatmentToDelete(taskId);
     ) {
@@ -158,12 +305,79 @@ public class TaskDataAccessImpl implements TaskDataAccess {
     }
   }
 
-  private PreparedStatement getPreparedStatmentToDelete(String taskId) throws SQLException {
+  private PreparedStatement getPreparedStatmentToDelete(Id taskId) throws SQLException {
     final var taskIdPosition = 1;
     final var sql = "DELETE FROM app.tasks WHERE id = ?";
-    final var stm = this.connection.prepareStatement(sql);
-    stm.setObject(taskIdPosition, UUID.fromString(taskId));
+    final var stm = getConnection().prepareStatement(sql);
+    stm.setObject(taskIdPosition, taskId.toUuid());
+    return stm;
+  }
+
+  // The write is conditioned on the owner and, in the same round trip, reports whether the row exists
+  // so a zero-row write can tell "not found" from "not the owner"
+  private static final String OWNERSHIP_RESULT_SQL =
+    " SELECT EXISTS (SELECT 1 FROM written) AS is_written," +
+    " EXISTS (SELECT 1 FROM app.tasks WHERE id = ?) AS is_found";
+
+  @Override
+  public OwnershipWriteResult updateIfOwner(
+      Id taskId, String name, String description, Id userId) {
+    try (final var stm = getPreparedStatementToUpdateIfOwner(taskId, name, description, userId)) {
+      return executeOwnershipWrite(stm);
+    } catch (SQLException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private PreparedStatement getPreparedStatementToUpdateIfOwner(
+      Id taskId, String name, String description, Id userId) throws SQLException {
+    final var namePosition = 1;
+    final var descriptionPosition = 2;
+    final var taskIdPosition = 3;
+    final var userIdPosition = 4;
+    final var foundTaskIdPosition = 5;
+    final var sql =
+      "WITH written AS (" +
+      "UPDATE app.tasks SET name = ?, description = ? WHERE id = ? AND user_id = ? RETURNING id)" +
+      OWNERSHIP_RESULT_SQL;
+    final var stm = getConnection().prepareStatement(sql);
+    stm.setString(namePosition, name);
+    stm.setString(descriptionPosition, description);
+    stm.setObject(taskIdPosition, taskId.toUuid());
+    stm.setObject(userIdPosition, userId.toUuid());
+    stm.setObject(foundTaskIdPosition, taskId.toUuid());
     return stm;
   }
 
+  @Override
+  public OwnershipWriteResult deleteIfOwner(Id taskId, Id userId) {
+    try (final var stm = getPreparedStatementToDeleteIfOwner(taskId, userId)) {
+      return executeOwnershipWrite(stm);
+    } catch (SQLException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private PreparedStatement getPreparedStatementToDeleteIfOwner(Id taskId, Id userId)
+      throws SQLException {
+    final var taskIdPosition = 1;
+    final var userIdPosition = 2;
+    final var foundTaskIdPosition = 3;
+    final var sql =
+      "WITH written AS (DELETE FROM app.tasks WHERE id = ? AND user_id = ? RETURNING id)" +
+      OWNERSHIP_RESULT_SQL;
+    final var stm = getConnection().prepareStatement(sql);
+    stm.setObject(taskIdPosition, taskId.toUuid());
+    stm.setObject(userIdPosition, userId.toUuid());
+    stm.setObject(foundTaskIdPosition, taskId.toUuid());
+    return stm;
+  }
+
+  private OwnershipWriteResult executeOwnershipWrite(PreparedStatement stm) throws SQLException {
+    try (final var rs = stm.executeQuery()) {
+      rs.next();
+      return OwnershipWriteResult.of(rs.getBoolean("is_written"), rs.getBoolean("is_found"));
+    }
+  }
+
 }
@@ -1,22 +1,43 @@
 package com.pedrofrohmut.todos.infra.dataaccess;
 
+import java.sql.Array;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Supplier;
 
+import com.pedrofrohmut.todos.domain.dataaccess.OwnershipWriteResult;
+import com.pedrofrohmut.todos.domain.dataaccess.RowStream;
+import com.pedrofrohmut.todos.domain.dataaccess.RowVersion;
 import com.pedrofrohmut.todos.domain.dataaccess.TodoDataAccess;
+import com.pedrofrohmut.todos.domain.dtos.PageDto;
+import com.pedrofrohmut.todos.domain.entities.Id;
 import com.pedrofrohmut.todos.domain.entities.Todo;
 
+import static com.pedrofrohmut.todos.infra.config.DatabaseConfig.*;
+
 public class TodoDataAccessImpl implements TodoDataAccess {
 
-  private final Connection connection;
+  private final Supplier<Connection> connectionSource;
 
   public TodoDataAccessImpl(Connection connection) {
-    this.connection = connection;
+    this(() -> connection);
+  }
+
+  // Resolved on every statement, so one instance can serve every request in its own transaction
+  public TodoDataAccessImpl(Supplier<Connection> connectionSource) {
+    this.connectionSource = connectionSource;
+  }
+
+  private Connection getConnection() {
+    return connectionSource.get();
   }
 
   @Override
@@ -36,17 +57,17 @@ public class TodoDataAccessImpl implements TodoDataAccess {
     final var userIdPosition = 5;
     final var sql =
       "INSERT INTO app.todos (name, description, is_done, task_id, user_id) VALUES (?, ?, ?, ?, ?)";
-    final var stm = this.connection.prepareStatement(sql);
+    final var stm = getConnection().prepareStatement(sql);
     stm.setString(namePosition, newTodo.getTitle());
     stm.setString(descriptionPosition, newTodo.getDescription());
     stm.setBoolean(isDonePosition, newTodo.isDone());
-    stm.setObject(taskIdPosition, UUID.fromString(newTodo.getTaskId()));
-    stm.setObject(userIdPosition, UUID.fromString(newTodo.getUserId()));
+    stm.setObject(taskIdPosition, newTodo.getTaskId().toUuid());
+    stm.setObject(userIdPosition, newTodo.getUserId().toUuid());
     return stm;
   }
 
   @Override
-  public Todo findById(String todoId) {
+  public Todo findById(Id todoId) {
     try (
       final var stm = getPreparedStatementToFindById(todoId);
       final var rs = getResultSetToFindById(stm);
@@ -62,11 +83,11 @@ public class TodoDataAccessImpl implements TodoDataAccess {
     }
   }
 
-  private PreparedStatement getPreparedStatementToFindById(String todoId) throws SQLException {
+  private PreparedStatement getPreparedStatementToFindById(Id todoId) throws SQLException {
     final var todoIdPosition = 1;
     final var sql = "SELECT name, description, is_done, task_id, user_id FROM app.todos WHERE id = ?";
-    final var stm = this.connection.prepareStatement(sql);
-    stm.setObject(todoIdPosition, UUID.fromString(todoId));
+    final var stm = getConnection().prepareStatement(sql);
+    stm.setObject(todoIdPosition, todoId.toUuid());
     return stm;
   }
 
@@ -75,18 +96,18 @@ public class TodoDataAccessImpl implements TodoDataAccess {
     return rs;
   }
 
-  private Todo mapResultToFindById(String todoId, ResultSet rs) throws SQLException {
+  private Todo mapResultToFindById(Id todoId, ResultSet rs) throws SQLException {
     final var todoTitle = rs.getString("name");
     final var todoDescription = rs.getString("description");
     final var todoIsDone = rs.getBoolean("is_done");
-    final var taskId = rs.getString("task_id");
-    final var userId = rs.getString("user_id");
-    final var todo = new Todo(todoId, todoTitle, todoDescription, todoIsDone, taskId, userId);
+    final var taskId = Id.of(rs.getObject("task_id", UUID.class));
+    final var userId = Id.of(rs.getObject("user_id", UUID.class));
+    final var todo = Todo.hydrate(todoId, todoTitle, todoDescription, todoIsDone, taskId, userId);
     return todo;
   }
 
   @Override
-  public List<Todo> findByTaskId(String taskId) {
+  public List<Todo> findByTaskId(Id taskId) {
     try (
       final var stm = getPreparedStatementToFindByTaskId(taskId);
       final var rs = getResultSetToFindByTaskId(stm);
@@ -102,11 +123,13 @@ public class TodoDataAccessImpl implements TodoDataAccess {
     }
   }
 
-  private PreparedStatement getPreparedStatementToFindByTaskId(String taskId) throws SQLException {
+  private PreparedStatement getPreparedStatementToFindByTaskId(Id taskId) throws SQLException {
     final var taskIdPosition = 1;
-    final var sql = "SELECT id, name, description, is_done, user_id FROM app.todos WHERE task_id = ?";
-    final var stm = this.connection.prepareStatement(sql);
-    stm.setObject(taskIdPosition, UUID.fromString(taskId));
+    final var sql =
+      "SELECT id, name, description, is_done, user_id FROM app.todos WHERE task_id = ?" +
+      " ORDER BY created_at, id";
+    final var stm = getConnection().prepareStatement(sql);
+    stm.setObject(taskIdPosition, taskId.toUuid());
     return stm;
   }
 
@@ -115,18 +138,135 @@ public class TodoDataAccessImpl implements TodoDataAccess {
     return rs;
   }
 
-  private List<Todo> mapResultToFindByTaskById(String taskId, ResultSet rs) throws SQLException {
+  private List<Todo> mapResultToFindByTaskById(Id taskId, ResultSet rs) throws SQLException {
     final var todos = new ArrayList<Todo>();
     do {
-      final var todoId = rs.getString("id");
+      todos.add(mapRowToFindByTaskId(taskId, rs));
+    } while (rs.next());
+    return todos;
+  }
+
+  private Todo mapRowToFindByTaskId(Id taskId, ResultSet rs) throws SQLException {
+    final var todoId = Id.of(rs.getObject("id", UUID.class));
+    final var todoTitle = rs.getString("name");
+    final var todoDescription = rs.getString("description");
+    final var todoIsDone = rs.getBoolean("is_done");
+    final var userId = Id.of(rs.getObject("user_id", UUID.class));
+    final var todo = Todo.hydrate(todoId, todoTitle, todoDescription, todoIsDone, taskId, userId);
+    return todo;
+  }
+
+  // Same query as findByTaskId, read through a server-side cursor STREAM_FETCH_SIZE rows at a time.
+  // The driver only uses the cursor inside a transaction, which the unit of work provides.
+  @Override
+  public RowStream<Todo> streamByTaskId(Id taskId) {
+    return consumer -> {
+      try (final var stm = getPreparedStatementToFindByTaskId(taskId)) {
+        stm.setFetchSize(STREAM_FETCH_SIZE);
+        try (final var rs = stm.executeQuery()) {
+          while (rs.next()) {
+            consumer.accept(mapRowToFindByTaskId(taskId, rs));
+          }
+        } finally {
+          stm.setFetchSize(0);
+        }
+      } catch (SQLException e) {
+        throw new RuntimeException(e);
+      }
+    };
+  }
+
+  // Every todo of every user, read through a server-side cursor like streamByTaskId
+  @Override
+  public RowStream<Todo> streamAll() {
+    final var sql = "SELECT id, name, description, is_done, task_id, user_id FROM app.todos";
+    return consumer -> {
+      try (final var stm = getConnection().prepareStatement(sql)) {
+        stm.setFetchSize(STREAM_FETCH_SIZE);
+        try (final var rs = stm.executeQuery()) {
+          while (rs.next()) {
+            final var taskId = Id.of(rs.getObject("task_id", UUID.class));
+            consumer.accept(mapRowToFindByTaskId(taskId, rs));
+          }
+        } finally {
+          stm.setFetchSize(0);
+        }
+      } catch (SQLException e) {
+        throw new RuntimeException(e);
+      }
+    };
+  }
+
+  // The list version lives on the task row, bumped by the triggers on app.todos
+  @Override
+  public RowVersion findVersionByTaskId(Id taskId) {
+    final var taskIdPosition = 1;
+    final var sql = "SELECT user_id, todos_version FROM app.tasks WHERE id = ?";
+    try (final var stm = getConnection().prepareStatement(sql)) {
+      stm.setObject(taskIdPosition, taskId.toUuid());
+      try (final var rs = stm.executeQuery()) {
+        if (!rs.next()) {
+          return null;
+        }
+        final var userId = Id.of(rs.getObject("user_id", UUID.class));
+        return new RowVersion(userId, rs.getLong("todos_version"));
+      }
+    } catch (SQLException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  @Override
+  public PageDto<Todo> findPageByTaskId(Id taskId, int limit, String cursor) {
+    final var after = cursor == null ? null : KeysetCursor.decode(cursor);
+    try (
+      final var stm = getPreparedStatementToFindPageByTaskId(taskId, limit, after);
+      final var rs = stm.executeQuery();
+    ) {
+      return mapResultToFindPageByTaskId(taskId, limit, rs);
+    } catch (SQLException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  // One row past the limit is read only to know whether there is a next page
+  private PreparedStatement getPreparedStatementToFindPageByTaskId(
+      Id taskId, int limit, KeysetCursor after) throws SQLException {
+    final var taskIdPosition = 1;
+    final var sql =
+      "SELECT id, name, description, is_done, user_id, created_at FROM app.todos WHERE task_id = ?" +
+      (after == null ? "" : " AND (created_at, id) > (?, ?)") +
+      " ORDER BY created_at, id LIMIT ?";
+    final var stm = getConnection().prepareStatement(sql);
+    stm.setObject(taskIdPosition, taskId.toUuid());
+    if (after == null) {
+      stm.setInt(2, limit + 1);
+    } else {
+      stm.setObject(2, after.createdAt);
+      stm.setObject(3, after.id.toUuid());
+      stm.setInt(4, limit + 1);
+    }
+    return stm;
+  }
+
+  private PageDto<Todo> mapResultToFindPageByTaskId(Id taskId, int limit, ResultSet rs)
+      throws SQLException {
+    final var todos = new ArrayList<Todo>(limit);
+    KeysetCursor last = null;
+    while (rs.next()) {
+      if (todos.size() == limit) {
+        return new PageDto<>(todos, last.encode());
+      }
+      final var todoId = Id.of(rs.getObject("id", UUID.class));
       final var todoTitle = rs.getString("name");
       final var todoDescription = rs.getString("description");
       final var todoIsDone = rs.getBoolean("is_done");
-      final var userId = rs.getString("user_id");
-      final var todo = new Todo(todoId, todoTitle, todoDescription, todoIsDone, taskId, userId);
-      todos.add(todo);
-    } while (rs.next());
-    return todos;
+      final var userId = Id.of(rs.getObject("user_id", UUID.class));
+      todos.add(Todo.hydrate(todoId, todoTitle, todoDescription, todoIsDone, taskId, userId));
+      last = new KeysetCursor(
+          rs.getObject("created_at", LocalDateTime.class), todoId);
+    }
+    return new PageDto<>(todos, null);
   }
 
   @Override
@@ -143,15 +283,15 @@ public class TodoDataAccessImpl implements TodoDataAccess {
     final var descriptionPosition = 2;
     final var todoIdPosition = 3;
     final var sql = "UPDATE app.todos SET name = ?, description = ? WHERE id = ?";
-    final var stm = this.connection.prepareStatement(sql);
+    final var stm = getConnection().prepareStatement(sql);
     stm.setString(namePosition, updatedTodo.getTitle());
     stm.setString(descriptionPosition, updatedTodo.getDescription());
-    stm.setObject(todoIdPosition, UUID.fromString(updatedTodo.getId()));
+    stm.setObject(todoIdPosition, updatedTodo.getId().toUuid());
     return stm;
   }
 
   @Override
-  public void setDone(String todoId) {
+  public void setDone(Id todoId) {
     try (final var stm = getPreparedStatementToSetDone(todoId)) {
       stm.executeUpdate();
     } catch (SQLException e) {
@@ -159,16 +299,16 @@ public class TodoDataAccessImpl implements TodoDataAccess {
     }
   }
 
-  private PreparedStatement getPreparedStatementToSetDone(String todoId) throws SQLException {
+  private PreparedStatement getPreparedStatementToSetDone(Id todoId) throws SQLException {
     final var todoIdPosition = 1;
     final var sql = "UPDATE app.todos SET is_done = true WHERE id = ?";
-    final var stm = this.connection.prepareStatement(sql);
-    stm.setObject(todoIdPosition, UUID.fromString(todoId));
+    final var stm = getConnection().prepareStatement(sql);
+    stm.setObject(todoIdPosition, todoId.toUuid());
     return stm;
   }
 
   @Override
-  public void setNotDone(String todoId) {
+  public void setNotDone(Id todoId) {
     try (final var stm = getPreparedStatementToSetNotDone(todoId)) {
       stm.executeUpdate();
     } catch (SQLException e) {
@@ -176,16 +316,16 @@ public class TodoDataAccessImpl implements TodoDataAccess {
     }
   }
 
-  private PreparedStatement getPreparedStatementToSetNotDone(String todoId) throws SQLException {
+  private PreparedStatement getPreparedStatementToSetNotDone(Id todoId) throws SQLException {
     final var todoIdPosition = 1;
     final var sql = "UPDATE app.todos SET is_done = false WHERE id = ?";
-    final var stm = this.connection.prepareStatement(sql);
-    stm.setObject(todoIdPosition, UUID.fromString(todoId));
+    final var stm = getConnection().prepareStatement(sql);
+    stm.setObject(todoIdPosition, todoId.toUuid());
     return stm;
   }
 
   @Override
-  public void delete(String todoId) {
+  public void delete(Id todoId) {
     try (final var stm = getPreparedStatementToDelete(todoId)) {
       stm.executeUpdate();
     } catch (SQLException e) {
@@ -193,30 +333,298 @@ public class TodoDataAccessImpl implements TodoDataAccess {
     }
   }
 
-  private PreparedStatement getPreparedStatementToDelete(String todoId) throws SQLException {
+  private PreparedStatement getPreparedStatementToDelete(Id todoId) throws SQLException {
     final var todoIdPosition = 1;
     final var sql = "DELETE FROM app.todos WHERE id = ?";
-    final var stm = this.connection.prepareStatement(sql);
-    stm.setObject(todoIdPosition, UUID.fromString(todoId));
+    final var stm = getConnection().prepareStatement(sql);
+    stm.setObject(todoIdPosition, todoId.toUuid());
     return stm;
   }
 
   @Override
-  public void clearCompleteByTaskId(String taskId) {
-    try (final var stm = getPreparedStatementToClearCompleteByTaskId(taskId)) {
-      stm.executeUpdate();
+  public List<Id> clearCompleteByTaskId(Id taskId) {
+    try (
+      final var stm = getPreparedStatementToClearCompleteByTaskId(taskId);
+      final var rs = stm.executeQuery();
+    ) {
+      final var todoIds = new ArrayList<Id>();
+      while (rs.next()) {
+        todoIds.add(Id.of(rs.getObject("id", UUID.class)));
+      }
+      return todoIds;
     } catch (SQLException e) {
       throw new RuntimeException(e);
     }
   }
 
-  private PreparedStatement getPreparedStatementToClearCompleteByTaskId(String taskId)
+  private PreparedStatement getPreparedStatementToClearCompleteByTaskId(Id taskId)
       throws SQLException {
     final var taskIdPosition = 1;
-    final var sql = "DELETE FROM app.todos WHERE task_id = ? AND is_done = true";
-    final var stm = this.connection.prepareStatement(sql);
-    stm.setObject(taskIdPosition, UUID.fromString(taskId));
+    final var sql = "DELETE FROM app.todos WHERE task_id = ? AND is_done = true RETURNING id";
+    final var stm = getConnection().prepareStatement(sql);
+    stm.setObject(taskIdPosition, taskId.toUuid());
+    return stm;
+  }
+
+  // The write is conditioned on the owner and, in the same round trip, reports whether the row exists
+  // so a zero-row write can tell "not found" from "not the owner"
+  private static final String OWNERSHIP_RESULT_SQL =
+    " SELECT EXISTS (SELECT 1 FROM written) AS is_written," +
+    " EXISTS (SELECT 1 FROM app.todos WHERE id = ?) AS is_found";
+
+  @Override
+  public OwnershipWriteResult updateIfOwner(
+      Id todoId, String title, String description, Id userId) {
+    try (final var stm = getPreparedStatementToUpdateIfOwner(todoId, title, description, userId)) {
+      return executeOwnershipWrite(stm);
+    } catch (SQLException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private PreparedStatement getPreparedStatementToUpdateIfOwner(
+      Id todoId, String title, String description, Id userId) throws SQLException {
+    final var namePosition = 1;
+    final var descriptionPosition = 2;
+    final var todoIdPosition = 3;
+    final var userIdPosition = 4;
+    final var foundTodoIdPosition = 5;
+    final var sql =
+      "WITH written AS (" +
+      "UPDATE app.todos SET name = ?, description = ? WHERE id = ? AND user_id = ? RETURNING id)" +
+      OWNERSHIP_RESULT_SQL;
+    final var stm = getConnection().prepareStatement(sql);
+    stm.setString(namePosition, title);
+    stm.setString(descriptionPosition, description);
+    stm.setObject(todoIdPosition, todoId.toUuid());
+    stm.setObject(userIdPosition, userId.toUuid());
+    stm.setObject(foundTodoIdPosition, todoId.toUuid());
+    return stm;
+  }
+
+  @Override
+  public OwnershipWriteResult setDoneIfOwner(Id todoId, Id userId) {
+    try (final var stm = getPreparedStatementToSetIsDoneIfOwner(todoId, userId, true)) {
+      return executeOwnershipWrite(stm);
+    } catch (SQLException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  @Override
+  public OwnershipWriteResult setNotDoneIfOwner(Id todoId, Id userId) {
+    try (final var stm = getPreparedStatementToSetIsDoneIfOwner(todoId, userId, false)) {
+      return executeOwnershipWrite(stm);
+    } catch (SQLException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private PreparedStatement getPreparedStatementToSetIsDoneIfOwner(
+      Id todoId, Id userId, boolean isDone) throws SQLException {
+    final var isDonePosition = 1;
+    final var todoIdPosition = 2;
+    final var userIdPosition = 3;
+    final var foundTodoIdPosition = 4;
+    final var sql =
+      "WITH written AS (" +
+      "UPDATE app.todos SET is_done = ? WHERE id = ? AND user_id = ? RETURNING id)" +
+      OWNERSHIP_RESULT_SQL;
+    final var stm = getConnection().prepareStatement(sql);
+    stm.setBoolean(isDonePosition, isDone);
+    stm.setObject(todoIdPosition, todoId.toUuid());
+    stm.setObject(userIdPosition, userId.toUuid());
+    stm.setObject(foundTodoIdPosition, todoId.toUuid());
+    return stm;
+  }
+
+  @Override
+  public OwnershipWriteResult deleteIfOwner(Id todoId, Id userId) {
+    try (final var stm = getPreparedStatementToDeleteIfOwner(todoId, userId)) {
+      return executeOwnershipWrite(stm);
+    } catch (SQLException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private PreparedStatement getPreparedStatementToDeleteIfOwner(Id todoId, Id userId)
+      throws SQLException {
+    final var todoIdPosition = 1;
+    final var userIdPosition = 2;
+    final var foundTodoIdPosition = 3;
+    final var sql =
+      "WITH written AS (DELETE FROM app.todos WHERE id = ? AND user_id = ? RETURNING id)" +
+      OWNERSHIP_RESULT_SQL;
+    final var stm = getConnection().prepareStatement(sql);
+    stm.setObject(todoIdPosition, todoId.toUuid());
+    stm.setObject(userIdPosition, userId.toUuid());
+    stm.setObject(foundTodoIdPosition, todoId.toUuid());
+    return stm;
+  }
+
+  private OwnershipWriteResult executeOwnershipWrite(PreparedStatement stm) throws SQLException {
+    try (final var rs = stm.executeQuery()) {
+      rs.next();
+      return OwnershipWriteResult.of(rs.getBoolean("is_written"), rs.getBoolean("is_found"));
+    }
+  }
+
+  // Sent as one JDBC batch, the generated ids come back in the order of newTodos
+  @Override
+  public List<Id> createAll(List<Todo> newTodos) {
+    try (final var stm = getPreparedStatementToCreateAll(newTodos)) {
+      stm.executeBatch();
+      return mapGeneratedKeysToCreateAll(stm, newTodos.size());
+    } catch (SQLException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private PreparedStatement getPreparedStatementToCreateAll(List<Todo> newTodos)
+      throws SQLException {
+    final var namePosition = 1;
+    final var descriptionPosition = 2;
+    final var isDonePosition = 3;
+    final var taskIdPosition = 4;
+    final var userIdPosition = 5;
+    final var sql =
+      "INSERT INTO app.todos (name, description, is_done, task_id, user_id) VALUES (?, ?, ?, ?, ?)";
+    final var stm = getConnection().prepareStatement(sql, new String[] { "id" });
+    for (final var newTodo : newTodos) {
+      stm.setString(namePosition, newTodo.getTitle());
+      stm.setString(descriptionPosition, newTodo.getDescription());
+      stm.setBoolean(isDonePosition, newTodo.isDone());
+      stm.setObject(taskIdPosition, newTodo.getTaskId().toUuid());
+      stm.setObject(userIdPosition, newTodo.getUserId().toUuid());
+      stm.addBatch();
+    }
+    return stm;
+  }
+
+  private List<Id> mapGeneratedKeysToCreateAll(PreparedStatement stm, int size)
+      throws SQLException {
+    final var ids = new ArrayList<Id>(size);
+    try (final var rs = stm.getGeneratedKeys()) {
+      while (rs.next()) {
+        ids.add(Id.of(rs.getObject("id", UUID.class)));
+      }
+    }
+    return ids;
+  }
+
+  @Override
+  public Map<Id, Id> findUserIdsByIds(List<Id> todoIds) {
+    try (
+      final var stm = getPreparedStatementToFindUserIdsByIds(todoIds);
+      final var rs = stm.executeQuery();
+    ) {
+      final var userIds = new HashMap<Id, Id>();
+      while (rs.next()) {
+        userIds.put(Id.of(rs.getObject("id", UUID.class)), Id.of(rs.getObject("user_id", UUID.class)));
+      }
+      return userIds;
+    } catch (SQLException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private PreparedStatement getPreparedStatementToFindUserIdsByIds(List<Id> todoIds)
+      throws SQLException {
+    final var todoIdsPosition = 1;
+    final var sql = "SELECT id, user_id FROM app.todos WHERE id = ANY (?)";
+    final var stm = getConnection().prepareStatement(sql);
+    stm.setArray(todoIdsPosition, getUuidArray(todoIds));
     return stm;
   }
 
+  @Override
+  public void setDoneAll(List<Id> todoIds, Id userId) {
+    try (final var stm = getPreparedStatementToSetIsDoneAll(todoIds, userId, true)) {
+      stm.executeUpdate();
+    } catch (SQLException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  @Override
+  public void setNotDoneAll(List<Id> todoIds, Id userId) {
+    try (final var stm = getPreparedStatementToSetIsDoneAll(todoIds, userId, false)) {
+      stm.executeUpdate();
+    } catch (SQLException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private PreparedStatement getPreparedStatementToSetIsDoneAll(
+      List<Id> todoIds, Id userId, boolean isDone) throws SQLException {
+    final var isDonePosition = 1;
+    final var todoIdsPosition = 2;
+    final var userIdPosition = 3;
+    final var sql = "UPDATE app.todos SET is_done = ? WHERE id = ANY (?) AND user_id = ?";
+    final var stm = getConnection().prepareStatement(sql);
+    stm.setBoolean(isDonePosition, isDone);
+    stm.setArray(todoIdsPosition, getUuidArray(todoIds));
+    stm.setObject(userIdPosition, userId.toUuid());
+    return stm;
+  }
+
+  @Override
+  public void deleteAll(List<Id> todoIds, Id userId) {
+    try (final var stm = getPreparedStatementToDeleteAll(todoIds, userId)) {
+      stm.executeUpdate();
+    } catch (SQLException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private PreparedStatement getPreparedStatementToDeleteAll(List<Id> todoIds, Id userId)
+      throws SQLException {
+    final var todoIdsPosition = 1;
+    final var userIdPosition = 2;
+    final var sql = "DELETE FROM app.todos WHERE id = ANY (?) AND user_id = ?";
+    final var stm = getConnection().prepareStatement(sql);
+    stm.setArray(todoIdsPosition, getUuidArray(todoIds));
+    stm.setObject(userIdPosition, userId.toUuid());
+    return stm;
+  }
+
+  // One statement for any number of todos, each set to its own state. Rows already in that state are
+  // skipped rather than rewritten to the same values.
+  @Override
+  public void setIsDoneByIds(Map<Id, Boolean> isDoneByTodoIds) {
+    if (isDoneByTodoIds.isEmpty()) {
+      return;
+    }
+    try (final var stm = getPreparedStatementToSetIsDoneByIds(isDoneByTodoIds)) {
+      stm.executeUpdate();
+    } catch (SQLException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private PreparedStatement getPreparedStatementToSetIsDoneByIds(Map<Id, Boolean> isDoneByTodoIds)
+      throws SQLException {
+    final var todoIdsPosition = 1;
+    final var isDonesPosition = 2;
+    final var sql =
+      "UPDATE app.todos SET is_done = states.is_done" +
+      " FROM unnest(?::uuid[], ?::boolean[]) AS states (id, is_done)" +
+      " WHERE app.todos.id = states.id AND app.todos.is_done <> states.is_done";
+    final var todoIds = new ArrayList<Id>(isDoneByTodoIds.size());
+    final var isDones = new Boolean[isDoneByTodoIds.size()];
+    for (final var entry : isDoneByTodoIds.entrySet()) {
+      isDones[todoIds.size()] = entry.getValue();
+      todoIds.add(entry.getKey());
+    }
+    final var stm = getConnection().prepareStatement(sql);
+    stm.setArray(todoIdsPosition, getUuidArray(todoIds));
+    stm.setArray(isDonesPosition, getConnection().createArrayOf("boolean", isDones));
+    return stm;
+  }
+
+  private Array getUuidArray(List<Id> ids) throws SQLException {
+    final var uuids = ids.stream().map(Id::toUuid).toArray(UUID[]::new);
+    return getConnection().createArrayOf("uuid", uuids);
+  }
+
 }
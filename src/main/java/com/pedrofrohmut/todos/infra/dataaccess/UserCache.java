@@ -0,0 +1,140 @@
+package com.pedrofrohmut.todos.infra.dataaccess;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import com.pedrofrohmut.todos.domain.entities.Id;
+import com.pedrofrohmut.todos.domain.entities.User;
+import com.pedrofrohmut.todos.infra.dtos.UserCacheStatsDto;
+
+// Users by id shared by every request, least recently used first out once maxSize is reached. A
+// missing user is remembered too, for a shorter time, so bad tokens do not each cost a query.
+public class UserCache {
+
+  private final int maxSize;
+  private final long ttlNanos;
+  private final long negativeTtlNanos;
+  private final LongSupplier nanoClock;
+  private final Map<Id, CachedUser> users;
+
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong negativeHits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+  private final AtomicLong evictions = new AtomicLong();
+  private final AtomicLong expirations = new AtomicLong();
+  private final AtomicLong invalidations = new AtomicLong();
+
+  public UserCache(int maxSize, long ttlMillis, long negativeTtlMillis) {
+    this(maxSize, ttlMillis, negativeTtlMillis, System::nanoTime);
+  }
+
+  public UserCache(int maxSize, long ttlMillis, long negativeTtlMillis, LongSupplier nanoClock) {
+    this.maxSize = maxSize;
+    this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+    this.negativeTtlNanos = TimeUnit.MILLISECONDS.toNanos(negativeTtlMillis);
+    this.nanoClock = nanoClock;
+    this.users = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Id, CachedUser> eldest) {
+        if (size() <= maxSize) {
+          return false;
+        }
+        evictions.incrementAndGet();
+        return true;
+      }
+    };
+  }
+
+  // Null when the id has to be looked up; otherwise the cached result, whose user is null when the
+  // id is known not to exist
+  public CachedUser get(Id userId) {
+    synchronized (users) {
+      final var cached = users.get(userId);
+      if (cached == null) {
+        misses.incrementAndGet();
+        return null;
+      }
+      if (nanoClock.getAsLong() - cached.expiresAt >= 0) {
+        users.remove(userId);
+        expirations.incrementAndGet();
+        misses.incrementAndGet();
+        return null;
+      }
+      if (cached.user == null) {
+        negativeHits.incrementAndGet();
+      } else {
+        hits.incrementAndGet();
+      }
+      return cached;
+    }
+  }
+
+  public void putFound(User user) {
+    final var cached = new CachedUser(copyOf(user), nanoClock.getAsLong() + ttlNanos);
+    synchronized (users) {
+      users.put(user.getId(), cached);
+    }
+  }
+
+  public void putMissing(Id userId) {
+    final var cached = new CachedUser(null, nanoClock.getAsLong() + negativeTtlNanos);
+    synchronized (users) {
+      users.put(userId, cached);
+    }
+  }
+
+  public void invalidate(Id userId) {
+    synchronized (users) {
+      if (users.remove(userId) != null) {
+        invalidations.incrementAndGet();
+      }
+    }
+  }
+
+  public void invalidateAll() {
+    synchronized (users) {
+      invalidations.addAndGet(users.size());
+      users.clear();
+    }
+  }
+
+  public UserCacheStatsDto getStats() {
+    final var stats = new UserCacheStatsDto();
+    stats.maxSize = maxSize;
+    synchronized (users) {
+      stats.size = users.size();
+    }
+    stats.hits = hits.get();
+    stats.negativeHits = negativeHits.get();
+    stats.misses = misses.get();
+    stats.evictions = evictions.get();
+    stats.expirations = expirations.get();
+    stats.invalidations = invalidations.get();
+    final var lookups = stats.hits + stats.negativeHits + stats.misses;
+    stats.hitRate = lookups == 0 ? 0 : (double) (stats.hits + stats.negativeHits) / lookups;
+    return stats;
+  }
+
+  // User has setters, so callers never share the cached instance
+  private static User copyOf(User user) {
+    return User.hydrate(user.getId(), user.getName(), user.getEmail(), user.getPasswordHash());
+  }
+
+  public static class CachedUser {
+    private final User user;
+    private final long expiresAt;
+
+    CachedUser(User user, long expiresAt) {
+      this.user = user;
+      this.expiresAt = expiresAt;
+    }
+
+    public User getUser() {
+      return user == null ? null : copyOf(user);
+    }
+  }
+
+}
@@ -5,16 +5,28 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import com.pedrofrohmut.todos.domain.dataaccess.UserDataAccess;
+import com.pedrofrohmut.todos.domain.entities.Id;
 import com.pedrofrohmut.todos.domain.entities.User;
+import com.pedrofrohmut.todos.infra.database.UnitOfWork;
 
 public class UserDataAccessImpl implements UserDataAccess {
 
-  private final Connection connection;
+  private final Supplier<Connection> connectionSource;
 
   public UserDataAccessImpl(Connection connection) {
-    this.connection = connection;
+    this(() -> connection);
+  }
+
+  // Resolved on every statement, so one instance can serve every request in its own transaction
+  public UserDataAccessImpl(Supplier<Connection> connectionSource) {
+    this.connectionSource = connectionSource;
+  }
+
+  private Connection getConnection() {
+    return connectionSource.get();
   }
 
   @Override
@@ -37,7 +49,7 @@ public class UserDataAccessImpl implements UserDataAccess {
   private PreparedStatement getPreparedStatementToFindByEmail(String email) throws SQLException {
     final var emailPosition = 1;
     final var sql = "SELECT id, name, password_hash FROM app.users WHERE email = ?";
-    final var stm = this.connection.prepareStatement(sql);
+    final var stm = getConnection().prepareStatement(sql);
     stm.setString(emailPosition, email);
     return stm;
   }
@@ -48,15 +60,15 @@ public class UserDataAccessImpl implements UserDataAccess {
   }
 
   private User mapResultToFindByEmail(String email, ResultSet rs) throws SQLException {
-    final var userId = rs.getString("id");
+    final var userId = Id.of(rs.getObject("id", UUID.class));
     final var userName = rs.getString("name");
     final var userPasswordHash = rs.getString("password_hash");
-    final var foundUser = new User(userId, userName, email, userPasswordHash);
+    final var foundUser = User.hydrate(userId, userName, email, userPasswordHash);
     return foundUser;
   }
 
   @Override
-  public User findById(String userId) {
+  public User findById(Id userId) {
     try (
       final var stm = getPreparedStatementToFindById(userId);
       final var rs = getResultSetToFindById(stm);
@@ -72,11 +84,11 @@ public class UserDataAccessImpl implements UserDataAccess {
     }
   }
 
-  private PreparedStatement getPreparedStatementToFindById(String userId) throws SQLException {
+  private PreparedStatement getPreparedStatementToFindById(Id userId) throws SQLException {
     final var idPosition = 1;
     final var sql = "SELECT name, email, password_hash FROM app.users WHERE id = ?";
-    final var stm = this.connection.prepareStatement(sql);
-    stm.setObject(idPosition, UUID.fromString(userId));
+    final var stm = getConnection().prepareStatement(sql);
+    stm.setObject(idPosition, userId.toUuid());
     return stm;
   }
 
@@ -85,11 +97,11 @@ public class UserDataAccessImpl implements UserDataAccess {
     return resultSet;
   }
 
-  private User mapResultToFindById(String userId, ResultSet rs) throws SQLException {
+  private User mapResultToFindById(Id userId, ResultSet rs) throws SQLException {
     final var name = rs.getString("name");
     final var email = rs.getString("email");
     final var passwordHash = rs.getString("password_hash");
-    final var foundUser = new User(userId, name, email, passwordHash);
+    final var foundUser = User.hydrate(userId, name, email, passwordHash);
     return foundUser;
   }
 
@@ -102,12 +114,17 @@ public class UserDataAccessImpl implements UserDataAccess {
     }
   }
 
+  @Override
+  public void releaseConnection() {
+    UnitOfWork.releaseConnection();
+  }
+
   private PreparedStatement getPrepareStatementToCreate(User newUser) throws SQLException {
     final var namePosition = 1;
     final var emailPosition = 2;
     final var passwordHashPosition = 3;
     final var sql = "INSERT INTO app.users (name, email, password_hash) VALUES (?, ?, ?)";
-    final var stm = this.connection.prepareStatement(sql);
+    final var stm = getConnection().prepareStatement(sql);
     stm.setString(namePosition, newUser.getName());
     stm.setString(emailPosition, newUser.getEmail());
     stm.setString(passwordHashPosition, newUser.getPasswordHash());
@@ -0,0 +1,231 @@
+package com.pedrofrohmut.todos.infra.dataaccess;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.pedrofrohmut.todos.domain.dataaccess.OwnershipWriteResult;
+import com.pedrofrohmut.todos.domain.dataaccess.RowStream;
+import com.pedrofrohmut.todos.domain.dataaccess.RowVersion;
+import com.pedrofrohmut.todos.domain.dataaccess.TodoDataAccess;
+import com.pedrofrohmut.todos.domain.dtos.PageDto;
+import com.pedrofrohmut.todos.domain.entities.Id;
+import com.pedrofrohmut.todos.domain.entities.Todo;
+import com.pedrofrohmut.todos.infra.database.UnitOfWork;
+
+// Puts setDoneIfOwner and setNotDoneIfOwner through a DoneStateBuffer instead of an UPDATE each.
+// Reads show the buffered states on top of the rows, so a user sees their own toggles before they
+// are flushed, and every other write goes straight to the database. The buffer is only changed
+// once the unit of work of the request commits.
+public class WriteBehindTodoDataAccess implements TodoDataAccess {
+
+  private final TodoDataAccess todoDataAccess;
+  private final DoneStateBuffer doneStateBuffer;
+
+  public WriteBehindTodoDataAccess(TodoDataAccess todoDataAccess, DoneStateBuffer doneStateBuffer) {
+    this.todoDataAccess = todoDataAccess;
+    this.doneStateBuffer = doneStateBuffer;
+  }
+
+  @Override
+  public void create(Todo newTodo) {
+    todoDataAccess.create(newTodo);
+  }
+
+  @Override
+  public Todo findById(Id todoId) {
+    final var foundTodo = todoDataAccess.findById(todoId);
+    if (foundTodo == null) {
+      return null;
+    }
+    final var isDone = doneStateBuffer.getIsDone(todoId);
+    return isDone == null ? foundTodo : withIsDone(foundTodo, isDone);
+  }
+
+  @Override
+  public List<Todo> findByTaskId(Id taskId) {
+    final var states = doneStateBuffer.getIsDoneByTaskId(taskId);
+    return withIsDone(todoDataAccess.findByTaskId(taskId), states);
+  }
+
+  @Override
+  public PageDto<Todo> findPageByTaskId(Id taskId, int limit, String cursor) {
+    final var states = doneStateBuffer.getIsDoneByTaskId(taskId);
+    final var foundPage = todoDataAccess.findPageByTaskId(taskId, limit, cursor);
+    return new PageDto<>(withIsDone(foundPage.items, states), foundPage.nextCursor);
+  }
+
+  @Override
+  public RowStream<Todo> streamByTaskId(Id taskId) {
+    return consumer -> {
+      final var states = doneStateBuffer.getIsDoneByTaskId(taskId);
+      todoDataAccess.streamByTaskId(taskId)
+        .forEach(todo -> consumer.accept(withIsDone(todo, states)));
+    };
+  }
+
+  @Override
+  public RowStream<Todo> streamAll() {
+    return todoDataAccess.streamAll().map(todo -> {
+      final var isDone = doneStateBuffer.getIsDone(todo.getId());
+      return isDone == null ? todo : withIsDone(todo, isDone);
+    });
+  }
+
+  // The version only moves once the states are in the table, so the generation of the ones buffered
+  // for the task goes along with it and the probe stays a read
+  @Override
+  public RowVersion findVersionByTaskId(Id taskId) {
+    final var generation = doneStateBuffer.getGeneration(taskId);
+    final var foundVersion = todoDataAccess.findVersionByTaskId(taskId);
+    if (foundVersion == null || generation == 0) {
+      return foundVersion;
+    }
+    return new RowVersion(foundVersion.userId, foundVersion.version, generation);
+  }
+
+  @Override
+  public void update(Todo updatedTodo) {
+    todoDataAccess.update(updatedTodo);
+  }
+
+  @Override
+  public void setDone(Id todoId) {
+    holdUntilComplete(List.of(todoId), null);
+    todoDataAccess.setDone(todoId);
+  }
+
+  @Override
+  public void setNotDone(Id todoId) {
+    holdUntilComplete(List.of(todoId), null);
+    todoDataAccess.setNotDone(todoId);
+  }
+
+  @Override
+  public void delete(Id todoId) {
+    holdUntilComplete(List.of(todoId), null);
+    todoDataAccess.delete(todoId);
+  }
+
+  // Clears the todos the user sees as done, buffered states included
+  @Override
+  public List<Id> clearCompleteByTaskId(Id taskId) {
+    doneStateBuffer.writeThrough(taskId);
+    return todoDataAccess.clearCompleteByTaskId(taskId);
+  }
+
+  @Override
+  public OwnershipWriteResult updateIfOwner(
+      Id todoId, String title, String description, Id userId) {
+    return todoDataAccess.updateIfOwner(todoId, title, description, userId);
+  }
+
+  @Override
+  public OwnershipWriteResult setDoneIfOwner(Id todoId, Id userId) {
+    return bufferIfOwner(todoId, userId, true);
+  }
+
+  @Override
+  public OwnershipWriteResult setNotDoneIfOwner(Id todoId, Id userId) {
+    return bufferIfOwner(todoId, userId, false);
+  }
+
+  @Override
+  public OwnershipWriteResult deleteIfOwner(Id todoId, Id userId) {
+    holdUntilComplete(List.of(todoId), userId);
+    return todoDataAccess.deleteIfOwner(todoId, userId);
+  }
+
+  @Override
+  public List<Id> createAll(List<Todo> newTodos) {
+    return todoDataAccess.createAll(newTodos);
+  }
+
+  @Override
+  public Map<Id, Id> findUserIdsByIds(List<Id> todoIds) {
+    return todoDataAccess.findUserIdsByIds(todoIds);
+  }
+
+  @Override
+  public void setDoneAll(List<Id> todoIds, Id userId) {
+    holdUntilComplete(todoIds, userId);
+    todoDataAccess.setDoneAll(todoIds, userId);
+  }
+
+  @Override
+  public void setNotDoneAll(List<Id> todoIds, Id userId) {
+    holdUntilComplete(todoIds, userId);
+    todoDataAccess.setNotDoneAll(todoIds, userId);
+  }
+
+  @Override
+  public void deleteAll(List<Id> todoIds, Id userId) {
+    holdUntilComplete(todoIds, userId);
+    todoDataAccess.deleteAll(todoIds, userId);
+  }
+
+  @Override
+  public void setIsDoneByIds(Map<Id, Boolean> isDoneByTodoIds) {
+    holdUntilComplete(new ArrayList<>(isDoneByTodoIds.keySet()), null);
+    todoDataAccess.setIsDoneByIds(isDoneByTodoIds);
+  }
+
+  // The owner check still reads the row, it is the write that gets deferred, until after the
+  // commit. A full buffer falls back to the UPDATE.
+  private OwnershipWriteResult bufferIfOwner(Id todoId, Id userId, boolean isDone) {
+    final var foundTodo = todoDataAccess.findById(todoId);
+    if (foundTodo == null) {
+      return OwnershipWriteResult.NOT_FOUND;
+    }
+    if (!foundTodo.getUserId().equals(userId)) {
+      return OwnershipWriteResult.NOT_OWNER;
+    }
+    if (!doneStateBuffer.hasRoomFor(todoId)) {
+      return isDone
+        ? todoDataAccess.setDoneIfOwner(todoId, userId)
+        : todoDataAccess.setNotDoneIfOwner(todoId, userId);
+    }
+    final var taskId = foundTodo.getTaskId();
+    UnitOfWork.runAfterCommit(() -> doneStateBuffer.offer(todoId, taskId, userId, isDone));
+    return OwnershipWriteResult.WRITTEN;
+  }
+
+  // Buffered states a direct write overrides are dropped if it commits, and flushed as usual if it
+  // rolls back
+  private void holdUntilComplete(List<Id> todoIds, Id userId) {
+    final var held = doneStateBuffer.hold(todoIds, userId);
+    if (held.isEmpty()) {
+      return;
+    }
+    UnitOfWork.runAfterCommit(() -> doneStateBuffer.discard(held));
+    UnitOfWork.runAfterRollback(() -> doneStateBuffer.release(held));
+  }
+
+  private static List<Todo> withIsDone(List<Todo> todos, Map<Id, Boolean> states) {
+    if (states.isEmpty()) {
+      return todos;
+    }
+    final var overlaid = new ArrayList<Todo>(todos.size());
+    todos.forEach(todo -> overlaid.add(withIsDone(todo, states)));
+    return overlaid;
+  }
+
+  private static Todo withIsDone(Todo todo, Map<Id, Boolean> states) {
+    final var isDone = states.get(todo.getId());
+    return isDone == null ? todo : withIsDone(todo, isDone);
+  }
+
+  private static Todo withIsDone(Todo todo, boolean isDone) {
+    if (todo.isDone() == isDone) {
+      return todo;
+    }
+    return Todo.hydrate(
+        todo.getId(),
+        todo.getTitle(),
+        todo.getDescription(),
+        isDone,
+        todo.getTaskId(),
+        todo.getUserId());
+  }
+
+}
@@ -0,0 +1,230 @@
+package com.pedrofrohmut.todos.infra.dataaccess.memory;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+import com.pedrofrohmut.todos.domain.entities.Id;
+
+// Tables and indexes of the in-memory engine, shared by its data access classes. Rows are immutable
+// and replaced on write. Readers never lock. Writers hold the stripe of the task a row belongs to
+// (of the email for users), so a task, its todos and the indexes over them change together.
+public class InMemoryStore {
+
+  private static final String errorMessage = "[InMemoryStore] %s";
+
+  final ConcurrentHashMap<Id, UserRow> users = new ConcurrentHashMap<>();
+  final ConcurrentHashMap<String, Id> userIdsByEmail = new ConcurrentHashMap<>();
+  final ConcurrentHashMap<Id, TaskRow> tasks = new ConcurrentHashMap<>();
+  final ConcurrentHashMap<Id, NavigableSet<RowKey>> taskKeysByUserId = new ConcurrentHashMap<>();
+  final ConcurrentHashMap<Id, TodoRow> todos = new ConcurrentHashMap<>();
+  final ConcurrentHashMap<Id, NavigableSet<RowKey>> todoKeysByTaskId = new ConcurrentHashMap<>();
+  final LockStripes stripes;
+
+  public InMemoryStore(int lockStripes) {
+    this.stripes = new LockStripes(lockStripes);
+  }
+
+  NavigableSet<RowKey> taskKeysOf(Id userId) {
+    return taskKeysByUserId.computeIfAbsent(userId, key -> new ConcurrentSkipListSet<>());
+  }
+
+  NavigableSet<RowKey> todoKeysOf(Id taskId) {
+    return todoKeysByTaskId.computeIfAbsent(taskId, key -> new ConcurrentSkipListSet<>());
+  }
+
+  // Same failures the foreign keys of app.tasks and app.todos raise on Postgres
+  void checkUserExists(Id userId) {
+    if (!users.containsKey(userId)) {
+      throw new RuntimeException(String.format(errorMessage, "user " + userId + " does not exist"));
+    }
+  }
+
+  void checkTaskExists(Id taskId) {
+    if (!tasks.containsKey(taskId)) {
+      throw new RuntimeException(String.format(errorMessage, "task " + taskId + " does not exist"));
+    }
+  }
+
+  // What the triggers of app.todos do to app.tasks. Called with the stripe of the task held.
+  void bumpTodosVersion(Id taskId) {
+    tasks.computeIfPresent(taskId, (id, task) -> task.withTodosVersion(task.todosVersion + 1));
+  }
+
+  // What the counting triggers of app.todos do to app.tasks, also with the stripe of the task held
+  void countTodos(Id taskId, int todos, int doneTodos) {
+    if (todos == 0 && doneTodos == 0) {
+      return;
+    }
+    tasks.computeIfPresent(taskId, (id, task) ->
+        task.withTodoCounts(task.todosCount + todos, task.doneTodosCount + doneTodos));
+  }
+
+  // Listing order of the JDBC queries: ORDER BY created_at, id
+  static final class RowKey implements Comparable<RowKey> {
+    private static final Comparator<RowKey> ORDER =
+      Comparator.<RowKey, LocalDateTime>comparing(key -> key.createdAt).thenComparing(key -> key.id);
+
+    final LocalDateTime createdAt;
+    final Id id;
+
+    RowKey(LocalDateTime createdAt, Id id) {
+      this.createdAt = createdAt;
+      this.id = id;
+    }
+
+    @Override
+    public int compareTo(RowKey other) {
+      return ORDER.compare(this, other);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      return other instanceof RowKey && compareTo((RowKey) other) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+      return id.hashCode();
+    }
+  }
+
+  static final class UserRow {
+    final Id id;
+    final String name;
+    final String email;
+    final String passwordHash;
+
+    UserRow(Id id, String name, String email, String passwordHash) {
+      this.id = id;
+      this.name = name;
+      this.email = email;
+      this.passwordHash = passwordHash;
+    }
+  }
+
+  static final class TaskRow {
+    final Id id;
+    final String name;
+    final String description;
+    final Id userId;
+    final LocalDateTime createdAt;
+    final long version;
+    final long todosVersion;
+    final int todosCount;
+    final int doneTodosCount;
+
+    TaskRow(Id id, String name, String description, Id userId, LocalDateTime createdAt) {
+      this(id, name, description, userId, createdAt, 1, 1, 0, 0);
+    }
+
+    private TaskRow(
+        Id id,
+        String name,
+        String description,
+        Id userId,
+        LocalDateTime createdAt,
+        long version,
+        long todosVersion,
+        int todosCount,
+        int doneTodosCount) {
+      this.id = id;
+      this.name = name;
+      this.description = description;
+      this.userId = userId;
+      this.createdAt = createdAt;
+      this.version = version;
+      this.todosVersion = todosVersion;
+      this.todosCount = todosCount;
+      this.doneTodosCount = doneTodosCount;
+    }
+
+    RowKey key() {
+      return new RowKey(createdAt, id);
+    }
+
+    // Like the version trigger of app.tasks, only a change of content counts
+    TaskRow withContent(String name, String description) {
+      final var isChanged =
+        !Objects.equals(this.name, name) || !Objects.equals(this.description, description);
+      final var nextVersion = isChanged ? version + 1 : version;
+      return new TaskRow(
+          id, name, description, userId, createdAt,
+          nextVersion, todosVersion, todosCount, doneTodosCount);
+    }
+
+    TaskRow withTodosVersion(long todosVersion) {
+      return new TaskRow(
+          id, name, description, userId, createdAt,
+          version, todosVersion, todosCount, doneTodosCount);
+    }
+
+    TaskRow withTodoCounts(int todosCount, int doneTodosCount) {
+      return new TaskRow(
+          id, name, description, userId, createdAt,
+          version, todosVersion, todosCount, doneTodosCount);
+    }
+  }
+
+  static final class TodoRow {
+    final Id id;
+    final String title;
+    final String description;
+    final boolean isDone;
+    final Id taskId;
+    final Id userId;
+    final LocalDateTime createdAt;
+    final long version;
+
+    TodoRow(
+        Id id,
+        String title,
+        String description,
+        boolean isDone,
+        Id taskId,
+        Id userId,
+        LocalDateTime createdAt) {
+      this(id, title, description, isDone, taskId, userId, createdAt, 1);
+    }
+
+    private TodoRow(
+        Id id,
+        String title,
+        String description,
+        boolean isDone,
+        Id taskId,
+        Id userId,
+        LocalDateTime createdAt,
+        long version) {
+      this.id = id;
+      this.title = title;
+      this.description = description;
+      this.isDone = isDone;
+      this.taskId = taskId;
+      this.userId = userId;
+      this.createdAt = createdAt;
+      this.version = version;
+    }
+
+    RowKey key() {
+      return new RowKey(createdAt, id);
+    }
+
+    TodoRow withContent(String title, String description) {
+      final var isChanged =
+        !Objects.equals(this.title, title) || !Objects.equals(this.description, description);
+      final var nextVersion = isChanged ? version + 1 : version;
+      return new TodoRow(id, title, description, isDone, taskId, userId, createdAt, nextVersion);
+    }
+
+    TodoRow withDone(boolean isDone) {
+      final var isChanged = this.isDone != isDone;
+      final var nextVersion = isChanged ? version + 1 : version;
+      return new TodoRow(id, title, description, isDone, taskId, userId, createdAt, nextVersion);
+    }
+  }
+
+}
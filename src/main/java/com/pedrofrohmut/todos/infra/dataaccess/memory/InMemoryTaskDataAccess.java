@@ -0,0 +1,172 @@
+package com.pedrofrohmut.todos.infra.dataaccess.memory;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+import com.pedrofrohmut.todos.domain.dataaccess.OwnershipWriteResult;
+import com.pedrofrohmut.todos.domain.dataaccess.RowStream;
+import com.pedrofrohmut.todos.domain.dataaccess.RowVersion;
+import com.pedrofrohmut.todos.domain.dataaccess.TaskDataAccess;
+import com.pedrofrohmut.todos.domain.dtos.PageDto;
+import com.pedrofrohmut.todos.domain.entities.Id;
+import com.pedrofrohmut.todos.domain.entities.Task;
+import com.pedrofrohmut.todos.infra.dataaccess.KeysetCursor;
+import com.pedrofrohmut.todos.infra.dataaccess.memory.InMemoryStore.RowKey;
+import com.pedrofrohmut.todos.infra.dataaccess.memory.InMemoryStore.TaskRow;
+
+public class InMemoryTaskDataAccess implements TaskDataAccess {
+
+  private final InMemoryStore store;
+
+  public InMemoryTaskDataAccess(InMemoryStore store) {
+    this.store = store;
+  }
+
+  @Override
+  public Id create(Task newTask) {
+    final var userId = newTask.getUserId();
+    store.checkUserExists(userId);
+    final var row = new TaskRow(
+        Id.random(), newTask.getName(), newTask.getDescription(), userId, LocalDateTime.now());
+    store.stripes.withLock(row.id, () -> {
+      store.tasks.put(row.id, row);
+      store.taskKeysOf(userId).add(row.key());
+      return null;
+    });
+    return row.id;
+  }
+
+  @Override
+  public Task findById(Id taskId) {
+    return mapRowToTask(store.tasks.get(taskId));
+  }
+
+  @Override
+  public RowVersion findVersionById(Id taskId) {
+    final var row = store.tasks.get(taskId);
+    return row == null ? null : new RowVersion(row.userId, row.version);
+  }
+
+  @Override
+  public List<Task> findByUserId(Id userId) {
+    final var keys = store.taskKeysByUserId.get(userId);
+    final var tasks = new ArrayList<Task>();
+    if (keys == null) {
+      return tasks;
+    }
+    for (final var key : keys) {
+      final var task = mapRowToTask(store.tasks.get(key.id));
+      if (task != null) {
+        tasks.add(task);
+      }
+    }
+    return tasks;
+  }
+
+  // Walks the live index, so rows written meanwhile may or may not show up
+  @Override
+  public RowStream<Task> streamByUserId(Id userId) {
+    return consumer -> {
+      final var keys = store.taskKeysByUserId.get(userId);
+      if (keys == null) {
+        return;
+      }
+      for (final var key : keys) {
+        final var task = mapRowToTask(store.tasks.get(key.id));
+        if (task != null) {
+          consumer.accept(task);
+        }
+      }
+    };
+  }
+
+  @Override
+  public RowStream<Task> streamAll() {
+    return consumer -> store.tasks.values().forEach(row -> consumer.accept(mapRowToTask(row)));
+  }
+
+  @Override
+  public PageDto<Task> findPageByUserId(Id userId, int limit, String cursor) {
+    final var after = cursor == null ? null : KeysetCursor.decode(cursor);
+    final var keys = store.taskKeysByUserId.get(userId);
+    final var tasks = new ArrayList<Task>(limit);
+    if (keys == null) {
+      return new PageDto<>(tasks, null);
+    }
+    final var remaining =
+      after == null ? keys : keys.tailSet(new RowKey(after.createdAt, after.id), false);
+    RowKey last = null;
+    for (final var key : remaining) {
+      final var task = mapRowToTask(store.tasks.get(key.id));
+      if (task == null) {
+        continue;
+      }
+      if (tasks.size() == limit) {
+        return new PageDto<>(tasks, new KeysetCursor(last.createdAt, last.id).encode());
+      }
+      tasks.add(task);
+      last = key;
+    }
+    return new PageDto<>(tasks, null);
+  }
+
+  @Override
+  public void update(Task updatedTask) {
+    writeTask(updatedTask.getId(), null,
+        row -> row.withContent(updatedTask.getName(), updatedTask.getDescription()));
+  }
+
+  @Override
+  public void delete(Id taskId) {
+    writeTask(taskId, null, row -> null);
+  }
+
+  @Override
+  public OwnershipWriteResult updateIfOwner(
+      Id taskId, String name, String description, Id userId) {
+    return writeTask(taskId, userId, row -> row.withContent(name, description));
+  }
+
+  @Override
+  public OwnershipWriteResult deleteIfOwner(Id taskId, Id userId) {
+    return writeTask(taskId, userId, row -> null);
+  }
+
+  // A null userId skips the owner check. A write that returns null deletes the task and, like the
+  // ON DELETE CASCADE of app.todos, every todo of it.
+  private OwnershipWriteResult writeTask(
+      Id taskId, Id userId, UnaryOperator<TaskRow> write) {
+    return store.stripes.withLock(taskId, () -> {
+      final var current = store.tasks.get(taskId);
+      if (current == null) {
+        return OwnershipWriteResult.NOT_FOUND;
+      }
+      if (userId != null && !current.userId.equals(userId)) {
+        return OwnershipWriteResult.NOT_OWNER;
+      }
+      final var written = write.apply(current);
+      if (written != null) {
+        store.tasks.put(taskId, written);
+        return OwnershipWriteResult.WRITTEN;
+      }
+      store.tasks.remove(taskId);
+      store.taskKeysOf(current.userId).remove(current.key());
+      final var todoKeys = store.todoKeysByTaskId.remove(taskId);
+      if (todoKeys != null) {
+        todoKeys.forEach(key -> store.todos.remove(key.id));
+      }
+      return OwnershipWriteResult.WRITTEN;
+    });
+  }
+
+  private Task mapRowToTask(TaskRow row) {
+    if (row == null) {
+      return null;
+    }
+    return Task.hydrate(
+        row.id, row.name, row.description, row.userId, row.todosCount, row.doneTodosCount);
+  }
+
+}
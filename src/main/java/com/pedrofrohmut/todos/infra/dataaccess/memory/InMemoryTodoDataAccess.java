@@ -0,0 +1,334 @@
+package com.pedrofrohmut.todos.infra.dataaccess.memory;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+import com.pedrofrohmut.todos.domain.dataaccess.OwnershipWriteResult;
+import com.pedrofrohmut.todos.domain.dataaccess.RowStream;
+import com.pedrofrohmut.todos.domain.dataaccess.RowVersion;
+import com.pedrofrohmut.todos.domain.dataaccess.TodoDataAccess;
+import com.pedrofrohmut.todos.domain.dtos.PageDto;
+import com.pedrofrohmut.todos.domain.entities.Id;
+import com.pedrofrohmut.todos.domain.entities.Todo;
+import com.pedrofrohmut.todos.infra.dataaccess.KeysetCursor;
+import com.pedrofrohmut.todos.infra.dataaccess.memory.InMemoryStore.RowKey;
+import com.pedrofrohmut.todos.infra.dataaccess.memory.InMemoryStore.TodoRow;
+
+public class InMemoryTodoDataAccess implements TodoDataAccess {
+
+  private final InMemoryStore store;
+
+  public InMemoryTodoDataAccess(InMemoryStore store) {
+    this.store = store;
+  }
+
+  @Override
+  public void create(Todo newTodo) {
+    createAll(List.of(newTodo));
+  }
+
+  @Override
+  public Todo findById(Id todoId) {
+    return mapRowToTodo(store.todos.get(todoId));
+  }
+
+  @Override
+  public List<Todo> findByTaskId(Id taskId) {
+    final var keys = store.todoKeysByTaskId.get(taskId);
+    final var todos = new ArrayList<Todo>();
+    if (keys == null) {
+      return todos;
+    }
+    for (final var key : keys) {
+      final var todo = mapRowToTodo(store.todos.get(key.id));
+      if (todo != null) {
+        todos.add(todo);
+      }
+    }
+    return todos;
+  }
+
+  // Walks the live index, so rows written meanwhile may or may not show up
+  @Override
+  public RowStream<Todo> streamByTaskId(Id taskId) {
+    return consumer -> {
+      final var keys = store.todoKeysByTaskId.get(taskId);
+      if (keys == null) {
+        return;
+      }
+      for (final var key : keys) {
+        final var todo = mapRowToTodo(store.todos.get(key.id));
+        if (todo != null) {
+          consumer.accept(todo);
+        }
+      }
+    };
+  }
+
+  @Override
+  public RowStream<Todo> streamAll() {
+    return consumer -> store.todos.values().forEach(row -> consumer.accept(mapRowToTodo(row)));
+  }
+
+  @Override
+  public RowVersion findVersionByTaskId(Id taskId) {
+    final var row = store.tasks.get(taskId);
+    return row == null ? null : new RowVersion(row.userId, row.todosVersion);
+  }
+
+  @Override
+  public PageDto<Todo> findPageByTaskId(Id taskId, int limit, String cursor) {
+    final var after = cursor == null ? null : KeysetCursor.decode(cursor);
+    final var keys = store.todoKeysByTaskId.get(taskId);
+    final var todos = new ArrayList<Todo>(limit);
+    if (keys == null) {
+      return new PageDto<>(todos, null);
+    }
+    final var remaining =
+      after == null ? keys : keys.tailSet(new RowKey(after.createdAt, after.id), false);
+    RowKey last = null;
+    for (final var key : remaining) {
+      final var todo = mapRowToTodo(store.todos.get(key.id));
+      if (todo == null) {
+        continue;
+      }
+      if (todos.size() == limit) {
+        return new PageDto<>(todos, new KeysetCursor(last.createdAt, last.id).encode());
+      }
+      todos.add(todo);
+      last = key;
+    }
+    return new PageDto<>(todos, null);
+  }
+
+  @Override
+  public void update(Todo updatedTodo) {
+    writeTodo(updatedTodo.getId(), null,
+        row -> row.withContent(updatedTodo.getTitle(), updatedTodo.getDescription()));
+  }
+
+  @Override
+  public void setDone(Id todoId) {
+    writeTodo(todoId, null, row -> row.withDone(true));
+  }
+
+  @Override
+  public void setNotDone(Id todoId) {
+    writeTodo(todoId, null, row -> row.withDone(false));
+  }
+
+  @Override
+  public void delete(Id todoId) {
+    writeTodo(todoId, null, row -> null);
+  }
+
+  @Override
+  public List<Id> clearCompleteByTaskId(Id taskId) {
+    return store.stripes.withLock(taskId, () -> {
+      final var keys = store.todoKeysByTaskId.get(taskId);
+      final var clearedTodoIds = new ArrayList<Id>();
+      if (keys == null) {
+        return clearedTodoIds;
+      }
+      for (final var key : keys) {
+        final var row = store.todos.get(key.id);
+        if (row != null && row.isDone) {
+          store.todos.remove(key.id);
+          keys.remove(key);
+          clearedTodoIds.add(key.id);
+        }
+      }
+      final var cleared = clearedTodoIds.size();
+      if (cleared > 0) {
+        store.countTodos(taskId, -cleared, -cleared);
+        store.bumpTodosVersion(taskId);
+      }
+      return clearedTodoIds;
+    });
+  }
+
+  @Override
+  public OwnershipWriteResult updateIfOwner(
+      Id todoId, String title, String description, Id userId) {
+    return writeTodo(todoId, userId, row -> row.withContent(title, description));
+  }
+
+  @Override
+  public OwnershipWriteResult setDoneIfOwner(Id todoId, Id userId) {
+    return writeTodo(todoId, userId, row -> row.withDone(true));
+  }
+
+  @Override
+  public OwnershipWriteResult setNotDoneIfOwner(Id todoId, Id userId) {
+    return writeTodo(todoId, userId, row -> row.withDone(false));
+  }
+
+  @Override
+  public OwnershipWriteResult deleteIfOwner(Id todoId, Id userId) {
+    return writeTodo(todoId, userId, row -> null);
+  }
+
+  // The stripes of every task involved are held while the tasks are checked and the todos inserted,
+  // so a concurrent task delete cannot leave orphan todos behind
+  @Override
+  public List<Id> createAll(List<Todo> newTodos) {
+    final var rows = newTodos.stream()
+      .map(newTodo -> new TodoRow(
+          Id.random(),
+          newTodo.getTitle(),
+          newTodo.getDescription(),
+          newTodo.isDone(),
+          newTodo.getTaskId(),
+          newTodo.getUserId(),
+          LocalDateTime.now()))
+      .collect(Collectors.toList());
+    final var taskIds = rows.stream().map(row -> row.taskId).collect(Collectors.toSet());
+    return store.stripes.withLocks(taskIds, () -> {
+      for (final var row : rows) {
+        store.checkTaskExists(row.taskId);
+        store.checkUserExists(row.userId);
+      }
+      final var ids = new ArrayList<Id>(rows.size());
+      for (final var row : rows) {
+        store.todos.put(row.id, row);
+        store.todoKeysOf(row.taskId).add(row.key());
+        store.countTodos(row.taskId, 1, row.isDone ? 1 : 0);
+        ids.add(row.id);
+      }
+      taskIds.forEach(store::bumpTodosVersion);
+      return ids;
+    });
+  }
+
+  @Override
+  public Map<Id, Id> findUserIdsByIds(List<Id> todoIds) {
+    final var userIds = new HashMap<Id, Id>();
+    for (final var todoId : todoIds) {
+      final var row = store.todos.get(todoId);
+      if (row != null) {
+        userIds.put(row.id, row.userId);
+      }
+    }
+    return userIds;
+  }
+
+  @Override
+  public void setDoneAll(List<Id> todoIds, Id userId) {
+    writeAllTodos(todoIds, userId, row -> row.withDone(true));
+  }
+
+  @Override
+  public void setNotDoneAll(List<Id> todoIds, Id userId) {
+    writeAllTodos(todoIds, userId, row -> row.withDone(false));
+  }
+
+  @Override
+  public void deleteAll(List<Id> todoIds, Id userId) {
+    writeAllTodos(todoIds, userId, row -> null);
+  }
+
+  @Override
+  public void setIsDoneByIds(Map<Id, Boolean> isDoneByTodoIds) {
+    final var taskIds = new HashSet<Id>();
+    for (final var id : isDoneByTodoIds.keySet()) {
+      final var found = store.todos.get(id);
+      if (found != null) {
+        taskIds.add(found.taskId);
+      }
+    }
+    store.stripes.withLocks(taskIds, () -> {
+      final var changedTaskIds = new HashSet<Id>();
+      for (final var entry : isDoneByTodoIds.entrySet()) {
+        final var current = store.todos.get(entry.getKey());
+        final boolean isDone = entry.getValue();
+        if (current != null && applyWrite(current, row -> row.withDone(isDone))) {
+          changedTaskIds.add(current.taskId);
+        }
+      }
+      changedTaskIds.forEach(store::bumpTodosVersion);
+      return null;
+    });
+  }
+
+  // A null userId skips the owner check and a write that returns null deletes the todo. The row is
+  // read again once the stripe of its task is held, since it may have changed in between.
+  private OwnershipWriteResult writeTodo(
+      Id todoId, Id userId, UnaryOperator<TodoRow> write) {
+    final var found = store.todos.get(todoId);
+    if (found == null) {
+      return OwnershipWriteResult.NOT_FOUND;
+    }
+    return store.stripes.withLock(found.taskId, () -> {
+      final var current = store.todos.get(todoId);
+      if (current == null) {
+        return OwnershipWriteResult.NOT_FOUND;
+      }
+      if (userId != null && !current.userId.equals(userId)) {
+        return OwnershipWriteResult.NOT_OWNER;
+      }
+      if (applyWrite(current, write)) {
+        store.bumpTodosVersion(current.taskId);
+      }
+      return OwnershipWriteResult.WRITTEN;
+    });
+  }
+
+  private void writeAllTodos(List<Id> todoIds, Id userId, UnaryOperator<TodoRow> write) {
+    final var taskIds = new HashSet<Id>();
+    for (final var id : todoIds) {
+      final var found = store.todos.get(id);
+      if (found != null) {
+        taskIds.add(found.taskId);
+      }
+    }
+    store.stripes.withLocks(taskIds, () -> {
+      final var changedTaskIds = new HashSet<Id>();
+      for (final var id : todoIds) {
+        final var current = store.todos.get(id);
+        if (current != null && current.userId.equals(userId) && applyWrite(current, write)) {
+          changedTaskIds.add(current.taskId);
+        }
+      }
+      changedTaskIds.forEach(store::bumpTodosVersion);
+      return null;
+    });
+  }
+
+  // Tells whether the list of the task changed, which a write that keeps the content does not
+  private boolean applyWrite(TodoRow current, UnaryOperator<TodoRow> write) {
+    final var written = write.apply(current);
+    final var wasDone = current.isDone ? 1 : 0;
+    if (written != null) {
+      store.todos.put(current.id, written);
+      store.countTodos(current.taskId, 0, (written.isDone ? 1 : 0) - wasDone);
+      return written.version != current.version;
+    }
+    store.todos.remove(current.id);
+    store.countTodos(current.taskId, -1, -wasDone);
+    final var keys = store.todoKeysByTaskId.get(current.taskId);
+    if (keys != null) {
+      keys.remove(current.key());
+    }
+    return true;
+  }
+
+  private Todo mapRowToTodo(TodoRow row) {
+    if (row == null) {
+      return null;
+    }
+    return Todo.hydrate(
+        row.id,
+        row.title,
+        row.description,
+        row.isDone,
+        row.taskId,
+        row.userId);
+  }
+
+}
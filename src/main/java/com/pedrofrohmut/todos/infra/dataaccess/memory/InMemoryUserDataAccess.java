@@ -0,0 +1,59 @@
+package com.pedrofrohmut.todos.infra.dataaccess.memory;
+
+import com.pedrofrohmut.todos.domain.dataaccess.UserDataAccess;
+import com.pedrofrohmut.todos.domain.entities.Id;
+import com.pedrofrohmut.todos.domain.entities.User;
+import com.pedrofrohmut.todos.infra.dataaccess.memory.InMemoryStore.UserRow;
+
+public class InMemoryUserDataAccess implements UserDataAccess {
+
+  private static final String errorMessage = "[InMemoryUserDataAccess] %s";
+
+  private final InMemoryStore store;
+
+  public InMemoryUserDataAccess(InMemoryStore store) {
+    this.store = store;
+  }
+
+  @Override
+  public User findByEmail(String email) {
+    final var userId = store.userIdsByEmail.get(email);
+    if (userId == null) {
+      return null;
+    }
+    return mapRowToUser(store.users.get(userId));
+  }
+
+  @Override
+  public User findById(Id userId) {
+    return mapRowToUser(store.users.get(userId));
+  }
+
+  // The row goes in before the email index so a reader that finds the email always finds the user
+  @Override
+  public void create(User newUser) {
+    store.stripes.withLock(newUser.getEmail(), () -> {
+      if (store.userIdsByEmail.containsKey(newUser.getEmail())) {
+        throw new RuntimeException(String.format(errorMessage, "email is already taken"));
+      }
+      final var row =
+        new UserRow(Id.random(), newUser.getName(), newUser.getEmail(), newUser.getPasswordHash());
+      store.users.put(row.id, row);
+      store.userIdsByEmail.put(row.email, row.id);
+      return null;
+    });
+  }
+
+  private User mapRowToUser(UserRow row) {
+    if (row == null) {
+      return null;
+    }
+    return User.hydrate(row.id, row.name, row.email, row.passwordHash);
+  }
+
+  // Nothing is borrowed
+  @Override
+  public void releaseConnection() {
+  }
+
+}
@@ -0,0 +1,58 @@
+package com.pedrofrohmut.todos.infra.dataaccess.memory;
+
+import java.util.Collection;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+// Fixed set of locks shared by key hash, so writers to unrelated keys rarely contend and the engine
+// does not hold one lock per row
+final class LockStripes {
+
+  private final ReentrantLock[] locks;
+  private final int mask;
+
+  LockStripes(int stripes) {
+    final var size = Integer.highestOneBit(Math.max(1, stripes - 1) << 1);
+    this.locks = new ReentrantLock[size];
+    this.mask = size - 1;
+    for (var i = 0; i < size; i++) {
+      locks[i] = new ReentrantLock();
+    }
+  }
+
+  <T> T withLock(Object key, Supplier<T> action) {
+    final var lock = locks[indexOf(key)];
+    lock.lock();
+    try {
+      return action.get();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  // Stripes are taken in index order so two writers over overlapping keys cannot deadlock
+  <T> T withLocks(Collection<?> keys, Supplier<T> action) {
+    final var indexes = new TreeSet<Integer>();
+    keys.forEach(key -> indexes.add(indexOf(key)));
+    final var taken = new ReentrantLock[indexes.size()];
+    var count = 0;
+    try {
+      for (final var index : indexes) {
+        locks[index].lock();
+        taken[count++] = locks[index];
+      }
+      return action.get();
+    } finally {
+      for (var i = count - 1; i >= 0; i--) {
+        taken[i].unlock();
+      }
+    }
+  }
+
+  private int indexOf(Object key) {
+    final var hash = key.hashCode();
+    return (hash ^ (hash >>> 16)) & mask;
+  }
+
+}
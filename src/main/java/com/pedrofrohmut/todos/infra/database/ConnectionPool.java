@@ -0,0 +1,311 @@
+package com.pedrofrohmut.todos.infra.database;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.pedrofrohmut.todos.infra.dtos.ConnectionPoolStatsDto;
+import com.pedrofrohmut.todos.infra.dtos.StatementCacheStatsDto;
+import com.pedrofrohmut.todos.infra.errors.ConnectionPoolExhaustedException;
+import com.pedrofrohmut.todos.infra.errors.DatabaseDriverNotFoundException;
+import com.pedrofrohmut.todos.infra.errors.GetConnectionException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class ConnectionPool {
+
+  private static final Logger logger = LoggerFactory.getLogger(ConnectionPool.class);
+  private static final String errorMessage = "[ConnectionPool] %s";
+  private static final long HOUSEKEEPING_INTERVAL_MILLIS = 1000;
+  private static final long IDLE_POLL_SLICE_MILLIS = 50;
+  private static final long VALIDATION_IDLE_THRESHOLD_MILLIS = 500;
+
+  private final String url;
+  private final String user;
+  private final String password;
+  private final int maxSize;
+  private final int minIdle;
+  private final long maxWaitMillis;
+  private final int validationTimeoutSeconds;
+  private final long leakDetectionMillis;
+  private final int statementCacheSize;
+
+  private final Semaphore permits;
+  private final LinkedBlockingDeque<Connection> idleConnections = new LinkedBlockingDeque<>();
+  private final Map<Connection, PooledConnection> leases = new ConcurrentHashMap<>();
+  private final Map<Connection, Long> idleSince = new ConcurrentHashMap<>();
+  private final Map<Connection, StatementCache> statementCaches = new ConcurrentHashMap<>();
+  private final AtomicInteger totalConnections = new AtomicInteger();
+  private final AtomicInteger waitingThreads = new AtomicInteger();
+  private final AtomicLong connectionsCreated = new AtomicLong();
+  private final AtomicLong borrowTimeouts = new AtomicLong();
+  private final AtomicLong validationFailures = new AtomicLong();
+  private final AtomicLong leaksDetected = new AtomicLong();
+  private final ScheduledExecutorService housekeeper;
+
+  private volatile boolean closed = false;
+
+  public ConnectionPool(
+      String driver,
+      String url,
+      String user,
+      String password,
+      int maxSize,
+      int minIdle,
+      long maxWaitMillis,
+      int validationTimeoutSeconds,
+      long leakDetectionMillis,
+      int statementCacheSize) {
+    loadDriver(driver);
+    this.url = url;
+    this.user = user;
+    this.password = password;
+    this.maxSize = maxSize;
+    this.minIdle = Math.min(minIdle, maxSize);
+    this.maxWaitMillis = maxWaitMillis;
+    this.validationTimeoutSeconds = validationTimeoutSeconds;
+    this.leakDetectionMillis = leakDetectionMillis;
+    this.statementCacheSize = statementCacheSize;
+    this.permits = new Semaphore(maxSize, true);
+    this.housekeeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      final var thread = new Thread(runnable, "connection-pool-housekeeper");
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.housekeeper.scheduleWithFixedDelay(
+        this::housekeep, 0, HOUSEKEEPING_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+  }
+
+  private void loadDriver(String driver) {
+    try {
+      Class.forName(driver);
+    } catch (ClassNotFoundException e) {
+      throw new DatabaseDriverNotFoundException(String.format(errorMessage, driver));
+    }
+  }
+
+  public Connection borrow() {
+    if (closed) {
+      throw new GetConnectionException(String.format(errorMessage, "pool is closed"));
+    }
+    final var deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+    acquirePermit();
+    try {
+      final var physical = takeValidConnection(deadline);
+      final var statementCache =
+        statementCaches.computeIfAbsent(physical, c -> new StatementCache(c, statementCacheSize));
+      final var lease = new PooledConnection(this, physical, statementCache);
+      leases.put(physical, lease);
+      return lease.getProxy();
+    } catch (RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  private void acquirePermit() {
+    waitingThreads.incrementAndGet();
+    try {
+      if (!permits.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS)) {
+        borrowTimeouts.incrementAndGet();
+        throw new ConnectionPoolExhaustedException(
+            String.format(errorMessage, "no connection available after " + maxWaitMillis + "ms"));
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new GetConnectionException(String.format(errorMessage, "interrupted while waiting"));
+    } finally {
+      waitingThreads.decrementAndGet();
+    }
+  }
+
+  private Connection takeValidConnection(long deadline) {
+    while (true) {
+      var physical = idleConnections.pollFirst();
+      if (physical == null) {
+        physical = createConnectionIfAllowed();
+      }
+      if (physical == null) {
+        physical = pollIdle(deadline);
+      }
+      if (physical == null) {
+        continue;
+      }
+      if (isValid(physical)) {
+        return physical;
+      }
+      validationFailures.incrementAndGet();
+      discard(physical);
+    }
+  }
+
+  // Waits in short slices so a slot freed by a discarded connection can be refilled by the caller
+  private Connection pollIdle(long deadline) {
+    final var remaining = deadline - System.nanoTime();
+    if (remaining <= 0) {
+      borrowTimeouts.incrementAndGet();
+      throw new ConnectionPoolExhaustedException(
+          String.format(errorMessage, "no connection available after " + maxWaitMillis + "ms"));
+    }
+    try {
+      final var slice = Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(IDLE_POLL_SLICE_MILLIS));
+      return idleConnections.pollFirst(slice, TimeUnit.NANOSECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new GetConnectionException(String.format(errorMessage, "interrupted while waiting"));
+    }
+  }
+
+  private Connection createConnectionIfAllowed() {
+    while (true) {
+      final var current = totalConnections.get();
+      if (current >= maxSize) {
+        return null;
+      }
+      if (totalConnections.compareAndSet(current, current + 1)) {
+        break;
+      }
+    }
+    try {
+      final var physical = DriverManager.getConnection(url, user, password);
+      connectionsCreated.incrementAndGet();
+      return physical;
+    } catch (SQLException e) {
+      totalConnections.decrementAndGet();
+      throw new GetConnectionException(e.getMessage());
+    }
+  }
+
+  // Connections returned moments ago are trusted, so the hot path does not pay a validation round trip
+  private boolean isValid(Connection physical) {
+    final var returnedAt = idleSince.remove(physical);
+    final var idleFor = returnedAt == null ? 0 : System.nanoTime() - returnedAt;
+    try {
+      if (physical.isClosed()) {
+        return false;
+      }
+      if (idleFor < TimeUnit.MILLISECONDS.toNanos(VALIDATION_IDLE_THRESHOLD_MILLIS)) {
+        return true;
+      }
+      return physical.isValid(validationTimeoutSeconds);
+    } catch (SQLException e) {
+      return false;
+    }
+  }
+
+  void release(PooledConnection lease) {
+    final var physical = lease.getPhysical();
+    leases.remove(physical);
+    try {
+      if (closed || physical.isClosed()) {
+        discard(physical);
+        return;
+      }
+      resetState(physical);
+      idleSince.put(physical, System.nanoTime());
+      idleConnections.offerFirst(physical);
+    } catch (SQLException e) {
+      discard(physical);
+    } finally {
+      permits.release();
+    }
+  }
+
+  private void resetState(Connection physical) throws SQLException {
+    if (!physical.getAutoCommit()) {
+      physical.rollback();
+      physical.setAutoCommit(true);
+    }
+    physical.clearWarnings();
+  }
+
+  private void discard(Connection physical) {
+    totalConnections.decrementAndGet();
+    idleSince.remove(physical);
+    final var statementCache = statementCaches.remove(physical);
+    if (statementCache != null) {
+      statementCache.closeAll();
+    }
+    try {
+      physical.close();
+    } catch (SQLException e) {
+      logger.debug(String.format(errorMessage, "failed to close connection: " + e.getMessage()));
+    }
+  }
+
+  private void housekeep() {
+    try {
+      detectLeaks();
+      fillMinIdle();
+    } catch (RuntimeException e) {
+      logger.warn(String.format(errorMessage, "housekeeping failed: " + e.getMessage()));
+    }
+  }
+
+  private void detectLeaks() {
+    if (leakDetectionMillis <= 0) {
+      return;
+    }
+    final var threshold = TimeUnit.MILLISECONDS.toNanos(leakDetectionMillis);
+    final var now = System.nanoTime();
+    leases.values().forEach(lease -> {
+      if (now - lease.getBorrowedAt() > threshold && lease.markLeakReported()) {
+        leaksDetected.incrementAndGet();
+        logger.warn(String.format(errorMessage,
+            "connection held by thread '" + lease.getOwnerThread() + "' for more than " +
+            leakDetectionMillis + "ms, possible leak"));
+      }
+    });
+  }
+
+  private void fillMinIdle() {
+    while (!closed && totalConnections.get() < minIdle) {
+      final var physical = createConnectionIfAllowed();
+      if (physical == null) {
+        return;
+      }
+      idleSince.put(physical, System.nanoTime());
+      idleConnections.offerLast(physical);
+    }
+  }
+
+  public ConnectionPoolStatsDto getStats() {
+    final var stats = new ConnectionPoolStatsDto();
+    stats.maxSize = maxSize;
+    stats.minIdle = minIdle;
+    stats.total = totalConnections.get();
+    stats.active = leases.size();
+    stats.idle = idleConnections.size();
+    stats.waiting = waitingThreads.get();
+    stats.connectionsCreated = connectionsCreated.get();
+    stats.borrowTimeouts = borrowTimeouts.get();
+    stats.validationFailures = validationFailures.get();
+    stats.leaksDetected = leaksDetected.get();
+    stats.saturation = maxSize == 0 ? 0 : (double) stats.active / maxSize;
+    return stats;
+  }
+
+  public StatementCacheStatsDto getStatementCacheStats() {
+    return StatementCache.getStats();
+  }
+
+  public void close() {
+    closed = true;
+    housekeeper.shutdownNow();
+    Connection physical;
+    while ((physical = idleConnections.pollFirst()) != null) {
+      discard(physical);
+    }
+  }
+
+}
@@ -0,0 +1,167 @@
+package com.pedrofrohmut.todos.infra.database;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+import com.pedrofrohmut.todos.infra.errors.MigrationFailedException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+// Applies the versioned scripts under db/migration (V<version>__<description>.sql) that are not yet
+// recorded in app.schema_migrations. Each script runs in its own transaction and the whole run holds
+// an advisory lock, so several instances starting together apply every script exactly once.
+public class MigrationRunner {
+
+  private static final Logger logger = LoggerFactory.getLogger(MigrationRunner.class);
+  private static final String errorMessage = "[MigrationRunner] %s";
+  private static final String DEFAULT_LOCATION = "classpath*:db/migration/V*__*.sql";
+  private static final Pattern FILE_NAME = Pattern.compile("V(\\d+)__(.+)\\.sql");
+  private static final long ADVISORY_LOCK_KEY = 7_368_011_234_502_113L;
+
+  private final String location;
+
+  public MigrationRunner() {
+    this(DEFAULT_LOCATION);
+  }
+
+  public MigrationRunner(String location) {
+    this.location = location;
+  }
+
+  public int migrate(Connection connection) {
+    final var migrations = loadMigrations();
+    try {
+      connection.setAutoCommit(true);
+      execute(connection, "SELECT pg_advisory_lock(" + ADVISORY_LOCK_KEY + ")");
+      try {
+        createHistoryTable(connection);
+        final var applied = findAppliedChecksums(connection);
+        var appliedNow = 0;
+        for (final var migration : migrations) {
+          final var appliedChecksum = applied.get(migration.version);
+          if (appliedChecksum == null) {
+            apply(connection, migration);
+            appliedNow++;
+          } else if (appliedChecksum != migration.checksum) {
+            throw new MigrationFailedException(String.format(errorMessage,
+                "V" + migration.version + " was changed after it was applied"));
+          }
+        }
+        return appliedNow;
+      } finally {
+        execute(connection, "SELECT pg_advisory_unlock(" + ADVISORY_LOCK_KEY + ")");
+      }
+    } catch (SQLException e) {
+      throw new MigrationFailedException(String.format(errorMessage, e.getMessage()));
+    }
+  }
+
+  private List<Migration> loadMigrations() {
+    try {
+      final var resources = new PathMatchingResourcePatternResolver().getResources(location);
+      final var migrations = new ArrayList<Migration>();
+      for (final var resource : resources) {
+        migrations.add(toMigration(resource));
+      }
+      migrations.sort(Comparator.comparingInt(migration -> migration.version));
+      return migrations;
+    } catch (IOException e) {
+      throw new MigrationFailedException(String.format(errorMessage, e.getMessage()));
+    }
+  }
+
+  private Migration toMigration(Resource resource) throws IOException {
+    final var matcher = FILE_NAME.matcher(resource.getFilename());
+    if (!matcher.matches()) {
+      throw new MigrationFailedException(
+          String.format(errorMessage, "bad migration name " + resource.getFilename()));
+    }
+    try (final var input = resource.getInputStream()) {
+      final var bytes = input.readAllBytes();
+      final var crc = new CRC32();
+      crc.update(bytes);
+      return new Migration(
+          Integer.parseInt(matcher.group(1)),
+          matcher.group(2).replace('_', ' '),
+          new String(bytes, StandardCharsets.UTF_8),
+          crc.getValue());
+    }
+  }
+
+  private void createHistoryTable(Connection connection) throws SQLException {
+    execute(connection, "CREATE SCHEMA IF NOT EXISTS app");
+    execute(connection,
+        "CREATE TABLE IF NOT EXISTS app.schema_migrations (" +
+        "version INTEGER PRIMARY KEY, " +
+        "description TEXT NOT NULL, " +
+        "checksum BIGINT NOT NULL, " +
+        "applied_at TIMESTAMP NOT NULL DEFAULT now())");
+  }
+
+  private Map<Integer, Long> findAppliedChecksums(Connection connection) throws SQLException {
+    final var applied = new HashMap<Integer, Long>();
+    try (final var stm = connection.createStatement();
+         final var rs = stm.executeQuery("SELECT version, checksum FROM app.schema_migrations")) {
+      while (rs.next()) {
+        applied.put(rs.getInt("version"), rs.getLong("checksum"));
+      }
+    }
+    return applied;
+  }
+
+  private void apply(Connection connection, Migration migration) throws SQLException {
+    connection.setAutoCommit(false);
+    try {
+      execute(connection, migration.sql);
+      try (final var stm = connection.prepareStatement(
+          "INSERT INTO app.schema_migrations (version, description, checksum) VALUES (?, ?, ?)")) {
+        stm.setInt(1, migration.version);
+        stm.setString(2, migration.description);
+        stm.setLong(3, migration.checksum);
+        stm.executeUpdate();
+      }
+      connection.commit();
+      logger.info(String.format(errorMessage,
+          "applied V" + migration.version + " " + migration.description));
+    } catch (SQLException e) {
+      connection.rollback();
+      throw new MigrationFailedException(String.format(errorMessage,
+          "V" + migration.version + " failed: " + e.getMessage()));
+    } finally {
+      connection.setAutoCommit(true);
+    }
+  }
+
+  private void execute(Connection connection, String sql) throws SQLException {
+    try (final var stm = connection.createStatement()) {
+      stm.execute(sql);
+    }
+  }
+
+  private static class Migration {
+    final int version;
+    final String description;
+    final String sql;
+    final long checksum;
+
+    Migration(int version, String description, String sql, long checksum) {
+      this.version = version;
+      this.description = description;
+      this.sql = sql;
+      this.checksum = checksum;
+    }
+  }
+
+}
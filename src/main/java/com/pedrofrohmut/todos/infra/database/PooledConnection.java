@@ -0,0 +1,85 @@
+package com.pedrofrohmut.todos.infra.database;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Lease of a physical connection. Callers only see the proxy, whose close() hands the physical
+// connection back to the pool instead of closing it, and whose prepareStatement(sql) is served from
+// the statement cache of the physical connection.
+class PooledConnection implements InvocationHandler {
+
+  private final ConnectionPool pool;
+  private final Connection physical;
+  private final StatementCache statementCache;
+  private final Connection proxy;
+  private final long borrowedAt;
+  private final String ownerThread;
+  private final AtomicBoolean released = new AtomicBoolean(false);
+  private final AtomicBoolean leakReported = new AtomicBoolean(false);
+
+  PooledConnection(ConnectionPool pool, Connection physical, StatementCache statementCache) {
+    this.pool = pool;
+    this.physical = physical;
+    this.statementCache = statementCache;
+    this.borrowedAt = System.nanoTime();
+    this.ownerThread = Thread.currentThread().getName();
+    this.proxy = (Connection) Proxy.newProxyInstance(
+        Connection.class.getClassLoader(), new Class<?>[] { Connection.class }, this);
+  }
+
+  @Override
+  public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+    switch (method.getName()) {
+      case "close":
+        if (released.compareAndSet(false, true)) {
+          pool.release(this);
+        }
+        return null;
+      case "isClosed":
+        return released.get() || physical.isClosed();
+      case "prepareStatement":
+        if (args.length == 1 && !released.get()) {
+          return statementCache.prepare((String) args[0]);
+        }
+        return TimedStatement.wrap((PreparedStatement) invokePhysical(method, args), (String) args[0]);
+      case "equals":
+        return proxy == args[0];
+      case "hashCode":
+        return System.identityHashCode(proxy);
+      case "toString":
+        return "PooledConnection[" + physical + "]";
+      default:
+        return invokePhysical(method, args);
+    }
+  }
+
+  private Object invokePhysical(Method method, Object[] args) throws Throwable {
+    if (released.get()) {
+      throw new SQLException("Connection was already returned to the pool");
+    }
+    try {
+      return method.invoke(physical, args);
+    } catch (InvocationTargetException e) {
+      throw e.getCause();
+    }
+  }
+
+  Connection getProxy() { return proxy; }
+
+  Connection getPhysical() { return physical; }
+
+  long getBorrowedAt() { return borrowedAt; }
+
+  String getOwnerThread() { return ownerThread; }
+
+  boolean markLeakReported() {
+    return leakReported.compareAndSet(false, true);
+  }
+
+}
@@ -0,0 +1,161 @@
+package com.pedrofrohmut.todos.infra.database;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.pedrofrohmut.todos.infra.dtos.StatementCacheStatsDto;
+import com.pedrofrohmut.todos.infra.metrics.LatencyHistogram;
+
+import org.postgresql.PGStatement;
+
+// Prepared statements of one physical connection keyed by SQL text. A pooled connection is only used
+// by one thread at a time, so the cache itself needs no locking; the counters are shared by all caches.
+class StatementCache {
+
+  private static final AtomicLong hits = new AtomicLong();
+  private static final AtomicLong misses = new AtomicLong();
+  private static final AtomicLong evictions = new AtomicLong();
+
+  private final Connection physical;
+  private final Map<String, CachedStatement> statements;
+
+  StatementCache(Connection physical, int maxSize) {
+    this.physical = physical;
+    this.statements = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, CachedStatement> eldest) {
+        if (size() <= maxSize) {
+          return false;
+        }
+        evictions.incrementAndGet();
+        eldest.getValue().evict();
+        return true;
+      }
+    };
+  }
+
+  PreparedStatement prepare(String sql) throws SQLException {
+    final var cached = statements.get(sql);
+    if (cached != null && !cached.isCheckedOut()) {
+      hits.incrementAndGet();
+      return cached.checkOut();
+    }
+    misses.incrementAndGet();
+    if (cached != null) {
+      // Same SQL already open further up the call stack: hand out a plain statement for this use
+      return TimedStatement.wrap(physical.prepareStatement(sql), sql);
+    }
+    final var stm = physical.prepareStatement(sql);
+    enableServerSidePrepare(stm);
+    final var entry = new CachedStatement(stm, sql);
+    statements.put(sql, entry);
+    return entry.checkOut();
+  }
+
+  // The driver switches to a named server-side statement once the threshold is reached, so with a
+  // threshold of 1 every reuse from this cache skips parsing and planning on the server
+  private void enableServerSidePrepare(PreparedStatement stm) throws SQLException {
+    if (stm.isWrapperFor(PGStatement.class)) {
+      stm.unwrap(PGStatement.class).setPrepareThreshold(1);
+    }
+  }
+
+  void closeAll() {
+    statements.values().forEach(CachedStatement::evict);
+    statements.clear();
+  }
+
+  static StatementCacheStatsDto getStats() {
+    final var stats = new StatementCacheStatsDto();
+    stats.hits = hits.get();
+    stats.misses = misses.get();
+    stats.evictions = evictions.get();
+    final var lookups = stats.hits + stats.misses;
+    stats.hitRate = lookups == 0 ? 0 : (double) stats.hits / lookups;
+    return stats;
+  }
+
+  private static class CachedStatement implements InvocationHandler {
+
+    private final PreparedStatement statement;
+    private final PreparedStatement proxy;
+    private final LatencyHistogram timer;
+    private boolean checkedOut = false;
+    private boolean evicted = false;
+
+    CachedStatement(PreparedStatement statement, String sql) {
+      this.statement = statement;
+      this.timer = TimedStatement.timerFor(sql);
+      this.proxy = (PreparedStatement) Proxy.newProxyInstance(
+          PreparedStatement.class.getClassLoader(), new Class<?>[] { PreparedStatement.class }, this);
+    }
+
+    PreparedStatement checkOut() {
+      checkedOut = true;
+      return proxy;
+    }
+
+    boolean isCheckedOut() { return checkedOut; }
+
+    void evict() {
+      evicted = true;
+      if (!checkedOut) {
+        closeQuietly();
+      }
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      switch (method.getName()) {
+        case "close":
+          giveBack();
+          return null;
+        case "isClosed":
+          return !checkedOut || statement.isClosed();
+        case "equals":
+          return proxy == args[0];
+        case "hashCode":
+          return System.identityHashCode(proxy);
+        default:
+          if (!checkedOut) {
+            throw new SQLException("Statement was already closed");
+          }
+          return TimedStatement.invoke(statement, timer, method, args);
+      }
+    }
+
+    private void giveBack() {
+      if (!checkedOut) {
+        return;
+      }
+      checkedOut = false;
+      if (evicted) {
+        closeQuietly();
+        return;
+      }
+      try {
+        statement.clearParameters();
+      } catch (SQLException e) {
+        evicted = true;
+        closeQuietly();
+      }
+    }
+
+    private void closeQuietly() {
+      try {
+        statement.close();
+      } catch (SQLException e) {
+        // The connection is being discarded or the statement is already gone
+      }
+    }
+
+  }
+
+}
@@ -0,0 +1,62 @@
+package com.pedrofrohmut.todos.infra.database;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+
+import com.pedrofrohmut.todos.infra.metrics.LatencyHistogram;
+import com.pedrofrohmut.todos.infra.metrics.Metrics;
+
+// Times the execute calls of a statement under its SQL text. Cached statements are timed by the
+// statement cache itself; this wraps the ones handed out around it.
+class TimedStatement implements InvocationHandler {
+
+  private final PreparedStatement statement;
+  private final LatencyHistogram timer;
+
+  private TimedStatement(PreparedStatement statement, String sql) {
+    this.statement = statement;
+    this.timer = timerFor(sql);
+  }
+
+  static PreparedStatement wrap(PreparedStatement statement, String sql) {
+    return (PreparedStatement) Proxy.newProxyInstance(
+        PreparedStatement.class.getClassLoader(),
+        new Class<?>[] { PreparedStatement.class },
+        new TimedStatement(statement, sql));
+  }
+
+  static LatencyHistogram timerFor(String sql) {
+    return Metrics.timer("todos_sql_statement_seconds", "SQL statement execution", "sql", sql);
+  }
+
+  static Object invoke(PreparedStatement statement, LatencyHistogram timer, Method method, Object[] args)
+      throws Throwable {
+    final var isExecute = method.getName().startsWith("execute");
+    final var startedAt = isExecute ? System.nanoTime() : 0;
+    try {
+      return method.invoke(statement, args);
+    } catch (InvocationTargetException e) {
+      throw e.getCause();
+    } finally {
+      if (isExecute) {
+        timer.record(System.nanoTime() - startedAt);
+      }
+    }
+  }
+
+  @Override
+  public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+    switch (method.getName()) {
+      case "equals":
+        return proxy == args[0];
+      case "hashCode":
+        return System.identityHashCode(proxy);
+      default:
+        return invoke(statement, timer, method, args);
+    }
+  }
+
+}
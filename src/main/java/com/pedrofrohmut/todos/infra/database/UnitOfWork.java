@@ -0,0 +1,175 @@
+package com.pedrofrohmut.todos.infra.database;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import com.pedrofrohmut.todos.infra.errors.TransactionFailedException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// One connection and one transaction bound to the current request thread. The connection is
+// borrowed on first use and released when the unit of work is closed, rolling back if it was not
+// committed.
+public class UnitOfWork implements AutoCloseable {
+
+  private static final Logger logger = LoggerFactory.getLogger(UnitOfWork.class);
+  private static final String errorMessage = "[UnitOfWork] %s";
+  private static final ThreadLocal<UnitOfWork> current = new ThreadLocal<>();
+
+  private final Supplier<Connection> connectionSource;
+  private Connection connection;
+  private boolean completed = false;
+  private final List<Runnable> afterCommit = new ArrayList<>();
+  private final List<Runnable> afterRollback = new ArrayList<>();
+
+  private UnitOfWork(Supplier<Connection> connectionSource) {
+    this.connectionSource = connectionSource;
+  }
+
+  public static UnitOfWork begin(Supplier<Connection> connectionSource) {
+    if (current.get() != null) {
+      throw new IllegalStateException(String.format(errorMessage, "a unit of work is already active"));
+    }
+    final var unitOfWork = new UnitOfWork(connectionSource);
+    current.set(unitOfWork);
+    return unitOfWork;
+  }
+
+  public static UnitOfWork current() {
+    return current.get();
+  }
+
+  // For what must only see committed writes, run right away when no unit of work is active
+  public static void runAfterCommit(Runnable action) {
+    final var unitOfWork = current.get();
+    if (unitOfWork == null || unitOfWork.completed) {
+      action.run();
+      return;
+    }
+    unitOfWork.afterCommit.add(action);
+  }
+
+  // For undoing what was set aside for a write that did not go through. Without a unit of work
+  // nothing rolls back, so the action is dropped.
+  public static void runAfterRollback(Runnable action) {
+    final var unitOfWork = current.get();
+    if (unitOfWork == null || unitOfWork.completed) {
+      return;
+    }
+    unitOfWork.afterRollback.add(action);
+  }
+
+  // Commits what ran so far and hands the connection back to the pool, for a request that has only
+  // read and is about to wait on something slow that needs no database. The next statement borrows
+  // a connection again, in a new transaction.
+  public static void releaseConnection() {
+    final var unitOfWork = current.get();
+    if (unitOfWork == null || unitOfWork.completed || unitOfWork.connection == null) {
+      return;
+    }
+    try {
+      unitOfWork.connection.commit();
+    } catch (SQLException e) {
+      throw new TransactionFailedException(String.format(errorMessage, "release: " + e.getMessage()));
+    } finally {
+      unitOfWork.closeConnection();
+    }
+  }
+
+  public Connection getConnection() {
+    if (completed) {
+      throw new IllegalStateException(String.format(errorMessage, "unit of work already completed"));
+    }
+    if (connection == null) {
+      connection = connectionSource.get();
+      try {
+        connection.setAutoCommit(false);
+      } catch (SQLException e) {
+        closeConnection();
+        throw new TransactionFailedException(String.format(errorMessage, e.getMessage()));
+      }
+    }
+    return connection;
+  }
+
+  public void commit() {
+    if (completed) {
+      return;
+    }
+    completed = true;
+    if (connection != null) {
+      try {
+        connection.commit();
+      } catch (SQLException e) {
+        afterCommit.clear();
+        runActions(afterRollback, "after rollback");
+        throw new TransactionFailedException(
+            String.format(errorMessage, "commit: " + e.getMessage()));
+      }
+    }
+    afterRollback.clear();
+    runActions(afterCommit, "after commit");
+  }
+
+  public void rollback() {
+    if (completed) {
+      return;
+    }
+    completed = true;
+    // Without a connection nothing was written through it, so there is nothing to undo: the
+    // in-memory engine writes as it goes
+    if (connection == null) {
+      afterRollback.clear();
+      runActions(afterCommit, "after commit");
+      return;
+    }
+    afterCommit.clear();
+    try {
+      connection.rollback();
+    } catch (SQLException e) {
+      throw new TransactionFailedException(String.format(errorMessage, "rollback: " + e.getMessage()));
+    } finally {
+      runActions(afterRollback, "after rollback");
+    }
+  }
+
+  @Override
+  public void close() {
+    try {
+      rollback();
+    } finally {
+      closeConnection();
+      current.remove();
+    }
+  }
+
+  // The transaction is already over, a failing action cannot change how it ended
+  private static void runActions(List<Runnable> actions, String stage) {
+    for (final var action : actions) {
+      try {
+        action.run();
+      } catch (RuntimeException e) {
+        logger.warn(String.format(errorMessage, stage + ": " + e.getMessage()));
+      }
+    }
+    actions.clear();
+  }
+
+  private void closeConnection() {
+    if (connection == null) {
+      return;
+    }
+    try {
+      connection.close();
+    } catch (SQLException e) {
+      throw new TransactionFailedException(String.format(errorMessage, "close: " + e.getMessage()));
+    } finally {
+      connection = null;
+    }
+  }
+
+}
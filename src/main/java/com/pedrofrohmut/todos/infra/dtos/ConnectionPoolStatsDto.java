@@ -0,0 +1,15 @@
+package com.pedrofrohmut.todos.infra.dtos;
+
+public class ConnectionPoolStatsDto {
+  public int maxSize;
+  public int minIdle;
+  public int total;
+  public int active;
+  public int idle;
+  public int waiting;
+  public long connectionsCreated;
+  public long borrowTimeouts;
+  public long validationFailures;
+  public long leaksDetected;
+  public double saturation;
+}
@@ -0,0 +1,14 @@
+package com.pedrofrohmut.todos.infra.dtos;
+
+public class DoneStateBufferStatsDto {
+  public boolean enabled;
+  public long windowMillis;
+  public int maxPending;
+  public int pending;
+  public long buffered;
+  public long coalesced;
+  public long writtenThrough;
+  public long flushes;
+  public long flushedStates;
+  public long failedFlushes;
+}
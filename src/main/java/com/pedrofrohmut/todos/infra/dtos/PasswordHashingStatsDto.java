@@ -0,0 +1,14 @@
+package com.pedrofrohmut.todos.infra.dtos;
+
+public class PasswordHashingStatsDto {
+  public int threads;
+  public int queueLimit;
+  public int queueDepth;
+  public int active;
+  public long completed;
+  public long rejected;
+  public double averageWaitMillis;
+  public double maxWaitMillis;
+  public double averageRunMillis;
+  public double saturation;
+}
@@ -0,0 +1,16 @@
+package com.pedrofrohmut.todos.infra.dtos;
+
+public class RequestExecutorStatsDto {
+  public String mode;
+  public boolean virtualThreads;
+  public int threads;
+  public int queueLimit;
+  public int queueDepth;
+  public int active;
+  public long completed;
+  public long rejected;
+  public long timedOut;
+  public double averageWaitMillis;
+  public double maxWaitMillis;
+  public double saturation;
+}
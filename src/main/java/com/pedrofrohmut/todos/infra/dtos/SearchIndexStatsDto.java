@@ -0,0 +1,10 @@
+package com.pedrofrohmut.todos.infra.dtos;
+
+public class SearchIndexStatsDto {
+  public int users;
+  public long documents;
+  public long terms;
+  public long postings;
+  public long estimatedBytes;
+  public long queries;
+}
@@ -0,0 +1,8 @@
+package com.pedrofrohmut.todos.infra.dtos;
+
+public class StatementCacheStatsDto {
+  public long hits;
+  public long misses;
+  public long evictions;
+  public double hitRate;
+}
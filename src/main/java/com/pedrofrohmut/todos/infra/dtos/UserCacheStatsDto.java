@@ -0,0 +1,13 @@
+package com.pedrofrohmut.todos.infra.dtos;
+
+public class UserCacheStatsDto {
+  public int maxSize;
+  public int size;
+  public long hits;
+  public long negativeHits;
+  public long misses;
+  public long evictions;
+  public long expirations;
+  public long invalidations;
+  public double hitRate;
+}
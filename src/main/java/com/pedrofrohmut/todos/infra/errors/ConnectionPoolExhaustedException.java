@@ -0,0 +1,15 @@
+package com.pedrofrohmut.todos.infra.errors;
+
+public class ConnectionPoolExhaustedException extends RuntimeException {
+
+  public static final String message = "All database connections are in use. Try again later";
+
+  public ConnectionPoolExhaustedException() {
+    super(ConnectionPoolExhaustedException.message);
+  }
+
+  public ConnectionPoolExhaustedException(String msg) {
+    super(msg + ". " + ConnectionPoolExhaustedException.message);
+  }
+
+}
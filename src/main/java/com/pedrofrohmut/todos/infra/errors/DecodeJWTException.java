@@ -1,6 +1,8 @@
 package com.pedrofrohmut.todos.infra.errors;
 
-public class DecodeJWTException extends RuntimeException {
+import com.pedrofrohmut.todos.domain.errors.DomainException;
+
+public class DecodeJWTException extends DomainException {
 
   public static final String message = "The JWT passed could not be decoded";
 
@@ -1,6 +1,8 @@
 package com.pedrofrohmut.todos.infra.errors;
 
-public class InvalidTokenException extends RuntimeException {
+import com.pedrofrohmut.todos.domain.errors.DomainException;
+
+public class InvalidTokenException extends DomainException {
 
   public static final String message = "Invalid token. The token could not be parsed";
 
@@ -0,0 +1,15 @@
+package com.pedrofrohmut.todos.infra.errors;
+
+public class MigrationFailedException extends RuntimeException {
+
+  public static final String message = "Could not migrate the database schema";
+
+  public MigrationFailedException() {
+    super(MigrationFailedException.message);
+  }
+
+  public MigrationFailedException(String msg) {
+    super(msg + ". " + MigrationFailedException.message);
+  }
+
+}
@@ -0,0 +1,15 @@
+package com.pedrofrohmut.todos.infra.errors;
+
+public class PasswordHashingBusyException extends RuntimeException {
+
+  public static final String message = "Too many sign ups and sign ins in progress. Try again later";
+
+  public PasswordHashingBusyException() {
+    super(PasswordHashingBusyException.message);
+  }
+
+  public PasswordHashingBusyException(String msg) {
+    super(msg + ". " + PasswordHashingBusyException.message);
+  }
+
+}
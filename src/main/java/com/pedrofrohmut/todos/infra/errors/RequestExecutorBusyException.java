@@ -0,0 +1,15 @@
+package com.pedrofrohmut.todos.infra.errors;
+
+public class RequestExecutorBusyException extends RuntimeException {
+
+  public static final String message = "Too many requests in progress. Try again later";
+
+  public RequestExecutorBusyException() {
+    super(RequestExecutorBusyException.message);
+  }
+
+  public RequestExecutorBusyException(String msg) {
+    super(msg + ". " + RequestExecutorBusyException.message);
+  }
+
+}
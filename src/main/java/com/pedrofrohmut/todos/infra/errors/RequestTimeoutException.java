@@ -0,0 +1,15 @@
+package com.pedrofrohmut.todos.infra.errors;
+
+public class RequestTimeoutException extends RuntimeException {
+
+  public static final String message = "The request took too long and was not applied. Try again later";
+
+  public RequestTimeoutException() {
+    super(RequestTimeoutException.message);
+  }
+
+  public RequestTimeoutException(String msg) {
+    super(msg + ". " + RequestTimeoutException.message);
+  }
+
+}
@@ -1,6 +1,8 @@
 package com.pedrofrohmut.todos.infra.errors;
 
-public class TokenExpiredException extends RuntimeException {
+import com.pedrofrohmut.todos.domain.errors.DomainException;
+
+public class TokenExpiredException extends DomainException {
 
   public static final String message = "The token is expired. Token exp value is less than now";
 
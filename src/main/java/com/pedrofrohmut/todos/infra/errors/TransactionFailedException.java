@@ -0,0 +1,15 @@
+package com.pedrofrohmut.todos.infra.errors;
+
+public class TransactionFailedException extends RuntimeException {
+
+  public static final String message = "The database transaction could not be completed";
+
+  public TransactionFailedException() {
+    super(TransactionFailedException.message);
+  }
+
+  public TransactionFailedException(String msg) {
+    super(msg + ". " + TransactionFailedException.message);
+  }
+
+}
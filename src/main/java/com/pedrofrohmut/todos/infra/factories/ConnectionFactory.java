@@ -2,24 +2,85 @@ package com.pedrofrohmut.todos.infra.factories;
 
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.SQLException;
 
+import com.pedrofrohmut.todos.infra.database.ConnectionPool;
+import com.pedrofrohmut.todos.infra.database.MigrationRunner;
+import com.pedrofrohmut.todos.infra.database.UnitOfWork;
+import com.pedrofrohmut.todos.infra.dtos.ConnectionPoolStatsDto;
+import com.pedrofrohmut.todos.infra.dtos.StatementCacheStatsDto;
 import com.pedrofrohmut.todos.infra.errors.GetConnectionException;
 
 import static com.pedrofrohmut.todos.infra.config.DatabaseConfig.*;
 
 public class ConnectionFactory {
 
+  private static class PoolHolder {
+    private static final ConnectionPool pool = createPool();
+
+    private static ConnectionPool createPool() {
+      final var pool =
+        new ConnectionPool(
+            POSTGRES_DRIVER,
+            POSTGRES_URL,
+            POSTGRES_USER,
+            POSTGRES_PASSWORD,
+            POOL_MAX_SIZE,
+            POOL_MIN_IDLE,
+            POOL_MAX_WAIT_MILLIS,
+            POOL_VALIDATION_TIMEOUT_SECONDS,
+            POOL_LEAK_DETECTION_MILLIS,
+            STATEMENT_CACHE_SIZE);
+      final var shutdown = new Thread(() -> {
+        DataAccessFactory.flushPendingWrites();
+        pool.close();
+      }, "connection-pool-shutdown");
+      Runtime.getRuntime().addShutdownHook(shutdown);
+      return pool;
+    }
+  }
+
+  // Inside a unit of work this is the request connection, whose transaction the unit of work owns.
+  // Outside of one the caller gets a pooled connection of its own and must close it.
   public static Connection getConnection() {
-    try {
-      Class.forName(POSTGRES_DRIVER);
-      final var connection =
-        DriverManager.getConnection(POSTGRES_URL, POSTGRES_USER, POSTGRES_PASSWORD);
-      return connection;
-    } catch (Exception e) {
+    final var unitOfWork = UnitOfWork.current();
+    if (unitOfWork != null) {
+      return unitOfWork.getConnection();
+    }
+    return PoolHolder.pool.borrow();
+  }
+
+  // For objects shared across requests: they may only run inside the unit of work of a request, as a
+  // connection borrowed here on their behalf would never be returned
+  public static Connection getRequestConnection() {
+    final var unitOfWork = UnitOfWork.current();
+    if (unitOfWork == null) {
+      throw new GetConnectionException("[ConnectionFactory] no unit of work is active on this thread");
+    }
+    return unitOfWork.getConnection();
+  }
+
+  // The pool is only touched once the request asks for a connection
+  public static UnitOfWork beginUnitOfWork() {
+    return UnitOfWork.begin(() -> PoolHolder.pool.borrow());
+  }
+
+  public static void migrate() {
+    try (final var connection = PoolHolder.pool.borrow()) {
+      new MigrationRunner().migrate(connection);
+    } catch (SQLException e) {
       throw new GetConnectionException(e.getMessage());
     }
   }
 
+  public static ConnectionPoolStatsDto getPoolStats() {
+    return PoolHolder.pool.getStats();
+  }
+
+  public static StatementCacheStatsDto getStatementCacheStats() {
+    return PoolHolder.pool.getStatementCacheStats();
+  }
+
   public static Connection getTestConnection() {
     try {
       Class.forName(TEST_DRIVER);
@@ -0,0 +1,168 @@
+package com.pedrofrohmut.todos.infra.factories;
+
+import java.sql.Connection;
+import java.util.function.Supplier;
+
+import com.pedrofrohmut.todos.domain.dataaccess.SearchDataAccess;
+import com.pedrofrohmut.todos.domain.dataaccess.TaskDataAccess;
+import com.pedrofrohmut.todos.domain.dataaccess.TodoDataAccess;
+import com.pedrofrohmut.todos.domain.dataaccess.UserDataAccess;
+import com.pedrofrohmut.todos.infra.dataaccess.CachingUserDataAccess;
+import com.pedrofrohmut.todos.infra.dataaccess.DoneStateBuffer;
+import com.pedrofrohmut.todos.infra.dataaccess.IndexingTaskDataAccess;
+import com.pedrofrohmut.todos.infra.dataaccess.IndexingTodoDataAccess;
+import com.pedrofrohmut.todos.infra.dataaccess.SearchIndex;
+import com.pedrofrohmut.todos.infra.dataaccess.TaskDataAccessImpl;
+import com.pedrofrohmut.todos.infra.dataaccess.TodoDataAccessImpl;
+import com.pedrofrohmut.todos.infra.dataaccess.UserCache;
+import com.pedrofrohmut.todos.infra.dataaccess.UserDataAccessImpl;
+import com.pedrofrohmut.todos.infra.dataaccess.WriteBehindTodoDataAccess;
+import com.pedrofrohmut.todos.infra.dataaccess.memory.InMemoryStore;
+import com.pedrofrohmut.todos.infra.dataaccess.memory.InMemoryTaskDataAccess;
+import com.pedrofrohmut.todos.infra.dataaccess.memory.InMemoryTodoDataAccess;
+import com.pedrofrohmut.todos.infra.dataaccess.memory.InMemoryUserDataAccess;
+import com.pedrofrohmut.todos.infra.dtos.DoneStateBufferStatsDto;
+import com.pedrofrohmut.todos.infra.dtos.SearchIndexStatsDto;
+import com.pedrofrohmut.todos.infra.dtos.UserCacheStatsDto;
+
+import static com.pedrofrohmut.todos.infra.config.DatabaseConfig.*;
+
+// Picks the data access engine from DATA_ACCESS_ENGINE. The JDBC classes work on the connection
+// they are given, with users read through a process-wide cache; the in-memory ones ignore it and
+// share one store for the life of the process. With WRITE_BEHIND_ENABLED the done state of single
+// todos goes through one process-wide buffer, flushed in units of work of its own. Tasks and todos
+// written through either engine are indexed for search in one process-wide index.
+public class DataAccessFactory {
+
+  private static final String errorMessage = "[DataAccessFactory] %s";
+  private static final boolean inMemory = isMemoryEngine(DATA_ACCESS_ENGINE);
+
+  private static class StoreHolder {
+    private static final InMemoryStore store = new InMemoryStore(MEMORY_LOCK_STRIPES);
+    private static final UserDataAccess userDataAccess = new InMemoryUserDataAccess(store);
+    private static final TaskDataAccess taskDataAccess = new InMemoryTaskDataAccess(store);
+    private static final TodoDataAccess todoDataAccess = new InMemoryTodoDataAccess(store);
+  }
+
+  private static class UserCacheHolder {
+    private static final UserCache userCache =
+      new UserCache(USER_CACHE_MAX_SIZE, USER_CACHE_TTL_MILLIS, USER_CACHE_NEGATIVE_TTL_MILLIS);
+  }
+
+  private static class WriteBehindHolder {
+    private static final DoneStateBuffer doneStateBuffer =
+      new DoneStateBuffer(
+          getTodoDataAccessOf(ConnectionFactory::getRequestConnection),
+          ConnectionFactory::beginUnitOfWork,
+          WRITE_BEHIND_WINDOW_MILLIS,
+          WRITE_BEHIND_MAX_PENDING);
+  }
+
+  private static class SearchIndexHolder {
+    private static final SearchIndex searchIndex = new SearchIndex();
+  }
+
+  private static boolean isMemoryEngine(String engine) {
+    switch (engine) {
+      case JDBC_ENGINE:
+        return false;
+      case MEMORY_ENGINE:
+        return true;
+      default:
+        throw new IllegalArgumentException(
+            String.format(errorMessage, "unknown data access engine '" + engine + "'"));
+    }
+  }
+
+  public static boolean isInMemory() {
+    return inMemory;
+  }
+
+  public static UserDataAccess getUserDataAccess(Connection connection) {
+    return getUserDataAccess(() -> connection);
+  }
+
+  // The supplier is asked for a connection on every statement, so the instance can be shared
+  public static UserDataAccess getUserDataAccess(Supplier<Connection> connectionSource) {
+    if (inMemory) {
+      return StoreHolder.userDataAccess;
+    }
+    return new CachingUserDataAccess(
+        new UserDataAccessImpl(connectionSource), UserCacheHolder.userCache);
+  }
+
+  public static TaskDataAccess getTaskDataAccess(Connection connection) {
+    return getTaskDataAccess(() -> connection);
+  }
+
+  public static TaskDataAccess getTaskDataAccess(Supplier<Connection> connectionSource) {
+    return new IndexingTaskDataAccess(
+        getTaskDataAccessOf(connectionSource), SearchIndexHolder.searchIndex);
+  }
+
+  private static TaskDataAccess getTaskDataAccessOf(Supplier<Connection> connectionSource) {
+    if (inMemory) {
+      return StoreHolder.taskDataAccess;
+    }
+    return new TaskDataAccessImpl(connectionSource);
+  }
+
+  public static TodoDataAccess getTodoDataAccess(Connection connection) {
+    return getTodoDataAccess(() -> connection);
+  }
+
+  public static TodoDataAccess getTodoDataAccess(Supplier<Connection> connectionSource) {
+    final var todoDataAccess = getTodoDataAccessOf(connectionSource);
+    final var searchIndex = SearchIndexHolder.searchIndex;
+    if (!WRITE_BEHIND_ENABLED) {
+      return new IndexingTodoDataAccess(todoDataAccess, searchIndex);
+    }
+    return new IndexingTodoDataAccess(
+        new WriteBehindTodoDataAccess(todoDataAccess, WriteBehindHolder.doneStateBuffer),
+        searchIndex);
+  }
+
+  private static TodoDataAccess getTodoDataAccessOf(Supplier<Connection> connectionSource) {
+    if (inMemory) {
+      return StoreHolder.todoDataAccess;
+    }
+    return new TodoDataAccessImpl(connectionSource);
+  }
+
+  public static SearchDataAccess getSearchDataAccess() {
+    return SearchIndexHolder.searchIndex;
+  }
+
+  // Reads every task and todo into the search index, at startup before any request comes in
+  public static void rebuildSearchIndex() {
+    try (final var unitOfWork = ConnectionFactory.beginUnitOfWork()) {
+      SearchIndexHolder.searchIndex.rebuild(
+          getTaskDataAccessOf(ConnectionFactory::getRequestConnection).streamAll(),
+          getTodoDataAccessOf(ConnectionFactory::getRequestConnection).streamAll());
+      unitOfWork.commit();
+    }
+  }
+
+  // Writes the buffered done states while the pool still has connections to give
+  public static void flushPendingWrites() {
+    if (WRITE_BEHIND_ENABLED) {
+      WriteBehindHolder.doneStateBuffer.close();
+    }
+  }
+
+  public static UserCacheStatsDto getUserCacheStats() {
+    return UserCacheHolder.userCache.getStats();
+  }
+
+  public static DoneStateBufferStatsDto getWriteBehindStats() {
+    if (!WRITE_BEHIND_ENABLED) {
+      return new DoneStateBufferStatsDto();
+    }
+    return WriteBehindHolder.doneStateBuffer.getStats();
+  }
+
+  public static SearchIndexStatsDto getSearchIndexStats() {
+    return SearchIndexHolder.searchIndex.getStats();
+  }
+
+}
@@ -0,0 +1,86 @@
+package com.pedrofrohmut.todos.infra.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+// Log-linear buckets in the style of HdrHistogram: every power of two of nanoseconds is split into
+// SUB_BUCKETS equal steps, so a percentile is never more than 1/SUB_BUCKETS (about 3%) above the
+// recorded value, whatever its magnitude. Recording is lock free and allocation free.
+public class LatencyHistogram {
+
+  private static final int SUB_BUCKET_BITS = 5;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+  private final LongAdder sum = new LongAdder();
+  private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+  public void record(long nanos) {
+    final var value = Math.max(nanos, 0);
+    counts.incrementAndGet(indexOf(value));
+    sum.add(value);
+    max.accumulate(value);
+  }
+
+  static int indexOf(long value) {
+    if (value < SUB_BUCKETS) {
+      return (int) value;
+    }
+    final var shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+    return (shift + 1) * SUB_BUCKETS + (int) ((value >>> shift) - SUB_BUCKETS);
+  }
+
+  // Highest value that lands in the bucket
+  static long highestValueOf(int index) {
+    if (index < SUB_BUCKETS) {
+      return index;
+    }
+    final var shift = index / SUB_BUCKETS - 1;
+    final var lowest = (long) (index % SUB_BUCKETS + SUB_BUCKETS) << shift;
+    return lowest + (1L << shift) - 1;
+  }
+
+  public Snapshot snapshot() {
+    final var copy = new long[BUCKETS];
+    var count = 0L;
+    for (var i = 0; i < BUCKETS; i++) {
+      copy[i] = counts.get(i);
+      count += copy[i];
+    }
+    return new Snapshot(copy, count, sum.sum(), max.get());
+  }
+
+  public static class Snapshot {
+
+    public final long count;
+    public final long sumNanos;
+    public final long maxNanos;
+    private final long[] counts;
+
+    private Snapshot(long[] counts, long count, long sumNanos, long maxNanos) {
+      this.counts = counts;
+      this.count = count;
+      this.sumNanos = sumNanos;
+      this.maxNanos = maxNanos;
+    }
+
+    public long getValueAtPercentile(double percentile) {
+      if (count == 0) {
+        return 0;
+      }
+      final var rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+      var seen = 0L;
+      for (var i = 0; i < counts.length; i++) {
+        seen += counts[i];
+        if (seen >= rank) {
+          return Math.min(highestValueOf(i), maxNanos);
+        }
+      }
+      return maxNanos;
+    }
+
+  }
+
+}
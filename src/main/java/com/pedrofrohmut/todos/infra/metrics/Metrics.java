@@ -0,0 +1,86 @@
+package com.pedrofrohmut.todos.infra.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Process-wide latency timers, one histogram per metric name and label set, rendered as Prometheus
+// summaries. Label values must come from a bounded set (routes, statuses, SQL text), never from
+// request data.
+public class Metrics {
+
+  private static final double[] QUANTILES = { 0.5, 0.99, 0.999 };
+  private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+  private static final Map<String, Family> families = new ConcurrentHashMap<>();
+
+  // Labels are given as name, value, name, value...
+  public static LatencyHistogram timer(String name, String help, String... labels) {
+    final var family = families.computeIfAbsent(name, key -> new Family(help));
+    return family.timers.computeIfAbsent(formatLabels(labels), key -> new LatencyHistogram());
+  }
+
+  private static String formatLabels(String[] labels) {
+    if (labels.length % 2 != 0) {
+      throw new IllegalArgumentException("[Metrics] labels must be name and value pairs");
+    }
+    final var formatted = new StringBuilder();
+    for (var i = 0; i < labels.length; i += 2) {
+      if (i > 0) {
+        formatted.append(',');
+      }
+      formatted.append(labels[i]).append("=\"").append(escape(labels[i + 1])).append('"');
+    }
+    return formatted.toString();
+  }
+
+  private static String escape(String value) {
+    return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+  }
+
+  // Prometheus text exposition format 0.0.4
+  public static String scrape() {
+    final var text = new StringBuilder();
+    new TreeMap<>(families).forEach((name, family) -> {
+      text.append("# HELP ").append(name).append(' ').append(family.help).append('\n');
+      text.append("# TYPE ").append(name).append(" summary\n");
+      new TreeMap<>(family.timers).forEach((labels, timer) -> {
+        final var snapshot = timer.snapshot();
+        for (final var quantile : QUANTILES) {
+          final var value = snapshot.getValueAtPercentile(quantile * 100);
+          appendSample(text, name, withQuantile(labels, quantile), seconds(value));
+        }
+        appendSample(text, name + "_sum", labels, seconds(snapshot.sumNanos));
+        appendSample(text, name + "_count", labels, Long.toString(snapshot.count));
+      });
+    });
+    return text.toString();
+  }
+
+  private static String withQuantile(String labels, double quantile) {
+    final var label = "quantile=\"" + quantile + "\"";
+    return labels.isEmpty() ? label : labels + "," + label;
+  }
+
+  private static void appendSample(StringBuilder text, String name, String labels, String value) {
+    text.append(name);
+    if (!labels.isEmpty()) {
+      text.append('{').append(labels).append('}');
+    }
+    text.append(' ').append(value).append('\n');
+  }
+
+  private static String seconds(long nanos) {
+    return Double.toString(nanos / NANOS_PER_SECOND);
+  }
+
+  private static class Family {
+    final String help;
+    final Map<String, LatencyHistogram> timers = new ConcurrentHashMap<>();
+
+    Family(String help) {
+      this.help = help;
+    }
+  }
+
+}
@@ -1,23 +1,84 @@
 package com.pedrofrohmut.todos.infra.services;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
 import com.pedrofrohmut.todos.domain.services.PasswordService;
+import com.pedrofrohmut.todos.infra.dtos.PasswordHashingStatsDto;
 
 import at.favre.lib.crypto.bcrypt.BCrypt;
 
+import static com.pedrofrohmut.todos.infra.config.ServicesConfig.*;
+
+// Hashing runs on the shared PasswordHashingExecutor, never on the request thread. The blocking
+// methods wait for it, so a burst of sign ins costs at most one core each and the rest get a 503.
 public class BcryptPasswordService implements PasswordService {
 
+  private static final String errorMessage = "[BcryptPasswordService] %s";
+
+  private static class ExecutorHolder {
+    private static final PasswordHashingExecutor executor =
+      new PasswordHashingExecutor(PASSWORD_HASHING_THREADS, PASSWORD_HASHING_QUEUE_LIMIT);
+  }
+
+  private final PasswordHashingExecutor executor;
+  private final int cost;
+
+  public BcryptPasswordService() {
+    this(ExecutorHolder.executor);
+  }
+
+  public BcryptPasswordService(PasswordHashingExecutor executor) {
+    this(executor, PASSWORD_HASH_COST);
+  }
+
+  public BcryptPasswordService(PasswordHashingExecutor executor, int cost) {
+    this.executor = executor;
+    this.cost = cost;
+  }
+
   public String hashPassword(String password) {
-    final var hasher = BCrypt.withDefaults();
-    final var COST = 12;
-    final var passwordHash = hasher.hashToString(COST, password.toCharArray());
-    return passwordHash;
+    return await(hashPasswordAsync(password));
   }
 
   public boolean comparePasswordAndHash(String password, String hashedPassword) {
-    final var verifyer = BCrypt.verifyer();
-    final var verifyResult = verifyer.verify(password.toCharArray(), hashedPassword);
-    final var isMatch = verifyResult.verified;
-    return isMatch;
+    return await(comparePasswordAndHashAsync(password, hashedPassword));
+  }
+
+  public CompletableFuture<String> hashPasswordAsync(String password) {
+    return executor.submit(() -> {
+      final var hasher = BCrypt.withDefaults();
+      final var passwordHash = hasher.hashToString(cost, password.toCharArray());
+      return passwordHash;
+    });
+  }
+
+  public CompletableFuture<Boolean> comparePasswordAndHashAsync(String password, String hashedPassword) {
+    return executor.submit(() -> {
+      final var verifyer = BCrypt.verifyer();
+      final var verifyResult = verifyer.verify(password.toCharArray(), hashedPassword);
+      final var isMatch = verifyResult.verified;
+      return isMatch;
+    });
+  }
+
+  public static PasswordHashingStatsDto getStats() {
+    return ExecutorHolder.executor.getStats();
+  }
+
+  private static <T> T await(CompletableFuture<T> future) {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(String.format(errorMessage, "interrupted while hashing"));
+    } catch (ExecutionException | CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new RuntimeException(String.format(errorMessage, e.getCause()));
+    }
   }
 
 }
@@ -15,8 +15,17 @@ import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 
+// The signing key and parser are built once per process and shared, as is the cache of tokens
+// already verified, so a client reusing its token skips the HMAC check and claims parsing.
 public class JjwtJwtService implements JwtService {
 
+  private static final int VERIFIED_TOKEN_CACHE_SIZE = 10000;
+  private static final VerifiedTokenCache verifiedTokens =
+    new VerifiedTokenCache(VERIFIED_TOKEN_CACHE_SIZE);
+
+  private static volatile SecretKey signKey;
+  private static volatile JwtParser parser;
+
   public String generateToken(String userId) {
     var expiration = getExpirationDate();
     var signKey = getSignKey();
@@ -41,16 +50,45 @@ public class JjwtJwtService implements JwtService {
   }
 
   private AuthTokenDto decodeToken(String token) {
-    final var key = getSignKey();
-    final var parser = buildParser(key);
-    final var claims = parser.parseClaimsJws(token);
+    final var cached = verifiedTokens.get(token, System.currentTimeMillis());
+    if (cached != null) {
+      return cached;
+    }
+    final var claims = getParser().parseClaimsJws(token);
     final var dto = new AuthTokenDto();
     dto.userId = (String) claims.getBody().get("userId");
     dto.exp = claims.getBody().getExpiration().getTime();
+    verifiedTokens.put(token, dto);
     return dto;
   }
 
-  private SecretKey getSignKey() {
+  private static SecretKey getSignKey() {
+    var key = signKey;
+    if (key == null) {
+      synchronized (JjwtJwtService.class) {
+        if (signKey == null) {
+          signKey = loadSignKey();
+        }
+        key = signKey;
+      }
+    }
+    return key;
+  }
+
+  private static JwtParser getParser() {
+    var current = parser;
+    if (current == null) {
+      synchronized (JjwtJwtService.class) {
+        if (parser == null) {
+          parser = buildParser(getSignKey());
+        }
+        current = parser;
+      }
+    }
+    return current;
+  }
+
+  private static SecretKey loadSignKey() {
     final var resource = "application.properties";
     final var props = new Properties();
     try (
@@ -69,7 +107,7 @@ public class JjwtJwtService implements JwtService {
     }
   }
 
-  private JwtParser buildParser(SecretKey key) {
+  private static JwtParser buildParser(SecretKey key) {
     return Jwts
       .parserBuilder()
       .setSigningKey(key)
@@ -77,6 +115,11 @@ public class JjwtJwtService implements JwtService {
   }
 
   public String getUserIdFromToken(String token) {
+    // Junk not even shaped like a signed token is turned away before jjwt, whose own exception
+    // would fill in a stack trace
+    if (!isCompactJws(token)) {
+      throw new DecodeJWTException("[JjwtJwtService] getUserIdFromToken");
+    }
     try {
       final var decoded = decodeToken(token);
       return decoded.userId;
@@ -85,4 +128,12 @@ public class JjwtJwtService implements JwtService {
     }
   }
 
+  // Header, claims and signature joined by two dots
+  private static boolean isCompactJws(String token) {
+    final var firstDot = token.indexOf('.');
+    final var lastDot = token.lastIndexOf('.');
+    return firstDot > 0 && lastDot > firstDot + 1 && lastDot < token.length() - 1 &&
+      token.indexOf('.', firstDot + 1) == lastDot;
+  }
+
 }
@@ -0,0 +1,106 @@
+package com.pedrofrohmut.todos.infra.services;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import com.pedrofrohmut.todos.infra.dtos.PasswordHashingStatsDto;
+import com.pedrofrohmut.todos.infra.errors.PasswordHashingBusyException;
+import com.pedrofrohmut.todos.infra.metrics.LatencyHistogram;
+import com.pedrofrohmut.todos.infra.metrics.Metrics;
+
+// Fixed number of threads for password hashing with a bounded queue in front. Once the queue is
+// full new work fails right away with PasswordHashingBusyException instead of piling up request
+// threads behind a few hundred milliseconds of BCrypt each.
+public class PasswordHashingExecutor {
+
+  private static final String errorMessage = "[PasswordHashingExecutor] %s";
+  private static final LatencyHistogram waitTimer = Metrics.timer(
+      "todos_executor_wait_seconds", "Time work waited for an executor thread",
+      "executor", "password-hashing");
+
+  private final ThreadPoolExecutor executor;
+  private final int threads;
+  private final int queueLimit;
+
+  private final AtomicLong rejected = new AtomicLong();
+  private final LongAdder waitNanos = new LongAdder();
+  private final LongAdder runNanos = new LongAdder();
+  private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+
+  public PasswordHashingExecutor(int threads, int queueLimit) {
+    this.threads = threads;
+    this.queueLimit = queueLimit;
+    final var threadCount = new AtomicInteger();
+    this.executor = new ThreadPoolExecutor(
+        threads,
+        threads,
+        0,
+        TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueLimit),
+        runnable -> {
+          final var thread = new Thread(runnable, "password-hashing-" + threadCount.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        },
+        new ThreadPoolExecutor.AbortPolicy());
+  }
+
+  public <T> CompletableFuture<T> submit(Supplier<T> work) {
+    final var future = new CompletableFuture<T>();
+    final var queuedAt = System.nanoTime();
+    try {
+      executor.execute(() -> {
+        final var startedAt = System.nanoTime();
+        final var waited = startedAt - queuedAt;
+        waitNanos.add(waited);
+        maxWaitNanos.accumulate(waited);
+        waitTimer.record(waited);
+        try {
+          future.complete(work.get());
+        } catch (Throwable e) {
+          future.completeExceptionally(e);
+        } finally {
+          runNanos.add(System.nanoTime() - startedAt);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      rejected.incrementAndGet();
+      future.completeExceptionally(new PasswordHashingBusyException(
+          String.format(errorMessage, queueLimit + " hashes already queued")));
+    }
+    return future;
+  }
+
+  public PasswordHashingStatsDto getStats() {
+    final var stats = new PasswordHashingStatsDto();
+    stats.threads = threads;
+    stats.queueLimit = queueLimit;
+    stats.queueDepth = executor.getQueue().size();
+    stats.active = executor.getActiveCount();
+    stats.completed = executor.getCompletedTaskCount();
+    stats.rejected = rejected.get();
+    final var started = Math.max(1, stats.completed + stats.active);
+    stats.averageWaitMillis = toMillis(waitNanos.sum()) / started;
+    stats.maxWaitMillis = toMillis(maxWaitNanos.get());
+    stats.averageRunMillis = stats.completed == 0 ? 0 : toMillis(runNanos.sum()) / stats.completed;
+    stats.saturation = (double) (stats.active + stats.queueDepth) / (threads + queueLimit);
+    return stats;
+  }
+
+  private static double toMillis(long nanos) {
+    return nanos / 1_000_000.0;
+  }
+
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+
+}
@@ -0,0 +1,189 @@
+package com.pedrofrohmut.todos.infra.services;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import com.pedrofrohmut.todos.infra.dtos.RequestExecutorStatsDto;
+import com.pedrofrohmut.todos.infra.errors.RequestExecutorBusyException;
+import com.pedrofrohmut.todos.infra.errors.RequestTimeoutException;
+import com.pedrofrohmut.todos.infra.metrics.LatencyHistogram;
+import com.pedrofrohmut.todos.infra.metrics.Metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Runs whole requests, unit of work included, so blocking JDBC never holds a servlet thread. At most
+// threads + queueLimit requests are in flight; beyond that work fails right away with
+// RequestExecutorBusyException, and work not finished within the timeout fails with
+// RequestTimeoutException while it keeps running to its rollback.
+public class RequestExecutor {
+
+  private static final Logger logger = LoggerFactory.getLogger(RequestExecutor.class);
+  private static final String errorMessage = "[RequestExecutor] %s";
+  private static final LatencyHistogram waitTimer = Metrics.timer(
+      "todos_executor_wait_seconds", "Time work waited for an executor thread",
+      "executor", "requests");
+
+  private final ExecutorService executor;
+  private final ThreadPoolExecutor platformThreads;
+  private final ScheduledThreadPoolExecutor timeouts;
+  private final Semaphore permits;
+  private final boolean virtualThreads;
+  private final int threads;
+  private final int queueLimit;
+  private final long timeoutMillis;
+
+  private final AtomicInteger active = new AtomicInteger();
+  private final LongAdder completed = new LongAdder();
+  private final AtomicLong rejected = new AtomicLong();
+  private final AtomicLong timedOut = new AtomicLong();
+  private final LongAdder waitNanos = new LongAdder();
+  private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+
+  public RequestExecutor(int threads, int queueLimit, long timeoutMillis, boolean useVirtualThreads) {
+    this.threads = threads;
+    this.queueLimit = queueLimit;
+    this.timeoutMillis = timeoutMillis;
+    this.permits = new Semaphore(threads + queueLimit);
+    final var virtual = useVirtualThreads ? newVirtualThreadExecutor() : null;
+    this.virtualThreads = virtual != null;
+    if (virtual != null) {
+      this.executor = virtual;
+      this.platformThreads = null;
+    } else {
+      final var threadCount = new AtomicInteger();
+      this.platformThreads = new ThreadPoolExecutor(
+          threads,
+          threads,
+          0,
+          TimeUnit.MILLISECONDS,
+          new LinkedBlockingQueue<>(),
+          runnable -> {
+            final var thread = new Thread(runnable, "request-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+          });
+      this.executor = platformThreads;
+    }
+    this.timeouts = new ScheduledThreadPoolExecutor(1, runnable -> {
+      final var thread = new Thread(runnable, "request-timeouts");
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.timeouts.setRemoveOnCancelPolicy(true);
+  }
+
+  // Executors.newVirtualThreadPerTaskExecutor exists from JDK 21 on, after the version we build for
+  private static ExecutorService newVirtualThreadExecutor() {
+    try {
+      final var factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+      return (ExecutorService) factory.invoke(null);
+    } catch (ReflectiveOperationException e) {
+      logger.warn(String.format(errorMessage, "virtual threads are not available, using platform threads"));
+      return null;
+    }
+  }
+
+  public <T> CompletableFuture<T> submit(Function<Call, T> work) {
+    if (!permits.tryAcquire()) {
+      rejected.incrementAndGet();
+      return CompletableFuture.failedFuture(new RequestExecutorBusyException(
+          String.format(errorMessage, (threads + queueLimit) + " requests already in flight")));
+    }
+    final var future = new CompletableFuture<T>();
+    final var call = new Call();
+    final var queuedAt = System.nanoTime();
+    final var timeout = timeouts.schedule(() -> {
+      if (call.claim()) {
+        timedOut.incrementAndGet();
+        future.completeExceptionally(new RequestTimeoutException(
+            String.format(errorMessage, "no response after " + timeoutMillis + "ms")));
+      }
+    }, timeoutMillis, TimeUnit.MILLISECONDS);
+    try {
+      executor.execute(() -> {
+        final var waited = System.nanoTime() - queuedAt;
+        waitNanos.add(waited);
+        maxWaitNanos.accumulate(waited);
+        waitTimer.record(waited);
+        active.incrementAndGet();
+        try {
+          // Already answered while it was queued, nobody is waiting for it
+          if (!call.isClaimed()) {
+            future.complete(work.apply(call));
+          }
+        } catch (Throwable e) {
+          future.completeExceptionally(e);
+        } finally {
+          active.decrementAndGet();
+          completed.increment();
+          timeout.cancel(false);
+          permits.release();
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      timeout.cancel(false);
+      permits.release();
+      future.completeExceptionally(new RequestExecutorBusyException(
+          String.format(errorMessage, "executor is shut down")));
+    }
+    return future;
+  }
+
+  public RequestExecutorStatsDto getStats() {
+    final var stats = new RequestExecutorStatsDto();
+    stats.virtualThreads = virtualThreads;
+    stats.threads = threads;
+    stats.queueLimit = queueLimit;
+    stats.queueDepth = platformThreads == null ? 0 : platformThreads.getQueue().size();
+    stats.active = active.get();
+    stats.completed = completed.sum();
+    stats.rejected = rejected.get();
+    stats.timedOut = timedOut.get();
+    final var started = Math.max(1, stats.completed + stats.active);
+    stats.averageWaitMillis = toMillis(waitNanos.sum()) / started;
+    stats.maxWaitMillis = toMillis(maxWaitNanos.get());
+    final var inFlight = threads + queueLimit - permits.availablePermits();
+    stats.saturation = (double) inFlight / (threads + queueLimit);
+    return stats;
+  }
+
+  private static double toMillis(long nanos) {
+    return nanos / 1_000_000.0;
+  }
+
+  public void shutdown() {
+    timeouts.shutdownNow();
+    executor.shutdownNow();
+  }
+
+  // Decides between the work and its timeout: a request that is about to commit claims the call so
+  // it can no longer be answered with a timeout, and one that was answered can no longer commit
+  public static class Call {
+
+    private final AtomicBoolean claimed = new AtomicBoolean(false);
+
+    public boolean claim() {
+      return claimed.compareAndSet(false, true);
+    }
+
+    boolean isClaimed() {
+      return claimed.get();
+    }
+
+  }
+
+}
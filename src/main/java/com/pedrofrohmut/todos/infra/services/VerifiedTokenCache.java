@@ -0,0 +1,45 @@
+package com.pedrofrohmut.todos.infra.services;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.pedrofrohmut.todos.infra.dtos.AuthTokenDto;
+
+// Tokens whose signature was already checked, keyed by the whole token: a digest of it would cost
+// about as much as the HMAC check this skips, and the signature alone would match a copy with other
+// claims. An entry is only good until the token itself expires.
+class VerifiedTokenCache {
+
+  private final Map<String, AuthTokenDto> tokens;
+
+  VerifiedTokenCache(int maxSize) {
+    this.tokens = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, AuthTokenDto> eldest) {
+        return size() > maxSize;
+      }
+    };
+  }
+
+  // Null when the token has to be verified
+  AuthTokenDto get(String token, long nowMillis) {
+    synchronized (tokens) {
+      final var verified = tokens.get(token);
+      if (verified == null) {
+        return null;
+      }
+      if (verified.exp <= nowMillis) {
+        tokens.remove(token);
+        return null;
+      }
+      return verified;
+    }
+  }
+
+  void put(String token, AuthTokenDto verified) {
+    synchronized (tokens) {
+      tokens.put(token, verified);
+    }
+  }
+
+}
@@ -0,0 +1,65 @@
+package com.pedrofrohmut.todos.web.adapter;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.pedrofrohmut.todos.infra.metrics.LatencyHistogram;
+import com.pedrofrohmut.todos.infra.metrics.Metrics;
+
+// The timers of one controller action, resolved once so that timing a request reads a field or an
+// array slot instead of building its label string and looking it up. The request timer of a status
+// is resolved the first time the action answers with it.
+public class ActionTimers {
+
+  private static final int MIN_STATUS = 100;
+  private static final int MAX_STATUS = 599;
+
+  private static class UnnamedHolder {
+    private static final ActionTimers timers = new ActionTimers("unknown", "unknown");
+  }
+
+  private final String controllerName;
+  private final String methodName;
+  private final LatencyHistogram useCaseTimer;
+  private final AtomicReferenceArray<LatencyHistogram> requestTimersByStatus =
+    new AtomicReferenceArray<>(MAX_STATUS - MIN_STATUS + 1);
+
+  ActionTimers(String controllerName, String methodName) {
+    this.controllerName = controllerName;
+    this.methodName = methodName;
+    this.useCaseTimer = Metrics.timer(
+        "todos_use_case_seconds", "Use case execution, including its SQL statements",
+        "controller", controllerName,
+        "method", methodName);
+  }
+
+  // For actions that do not name themselves
+  static ActionTimers unnamed() {
+    return UnnamedHolder.timers;
+  }
+
+  LatencyHistogram useCase() {
+    return useCaseTimer;
+  }
+
+  LatencyHistogram request(int status) {
+    if (status < MIN_STATUS || status > MAX_STATUS) {
+      return requestTimer(status);
+    }
+    final var index = status - MIN_STATUS;
+    var timer = requestTimersByStatus.get(index);
+    if (timer == null) {
+      timer = requestTimer(status);
+      requestTimersByStatus.set(index, timer);
+    }
+    return timer;
+  }
+
+  private LatencyHistogram requestTimer(int status) {
+    return Metrics.timer(
+        "todos_request_seconds", "Requests through SpringAdapter, from token decode to commit",
+        "controller", controllerName,
+        "method", methodName,
+        "status", Integer.toString(status));
+  }
+
+}
@@ -1,15 +1,86 @@
 package com.pedrofrohmut.todos.web.adapter;
 
+import java.util.HashMap;
+import java.util.Map;
+
+import com.pedrofrohmut.todos.domain.dtos.PageDto;
+import com.pedrofrohmut.todos.domain.entities.Id;
+import com.pedrofrohmut.todos.domain.errors.InvalidPageRequestException;
+
 public class AdaptedRequest<T> {
 
+  public static final String LIMIT_QUERY = "limit";
+  public static final String CURSOR_QUERY = "cursor";
+  public static final String SEARCH_QUERY = "q";
+
   public T body;
   public String authUserId;
   public String param;
+  public Map<String, String> query;
 
   public AdaptedRequest(T body, String authUserId, String param) {
+    this(body, authUserId, param, Map.of());
+  }
+
+  public AdaptedRequest(T body, String authUserId, String param, Map<String, String> query) {
     this.body = body;
     this.authUserId = authUserId;
     this.param = param;
+    this.query = query;
+  }
+
+  public static Map<String, String> pageQuery(String limit, String cursor) {
+    final var query = new HashMap<String, String>();
+    if (limit != null) {
+      query.put(LIMIT_QUERY, limit);
+    }
+    if (cursor != null) {
+      query.put(CURSOR_QUERY, cursor);
+    }
+    return query;
+  }
+
+  public static Map<String, String> searchQuery(String q, String limit) {
+    final var query = pageQuery(limit, null);
+    if (q != null) {
+      query.put(SEARCH_QUERY, q);
+    }
+    return query;
+  }
+
+  // Ids are parsed here, once per request, and travel as Id from then on. A missing value stays
+  // null so the use case can answer for it; a malformed one throws InvalidEntityException.
+  public Id getParamAsId() {
+    return param == null ? null : Id.parse(param);
+  }
+
+  public Id getAuthUserIdAsId() {
+    return authUserId == null ? null : Id.parse(authUserId);
+  }
+
+  // Listings without limit or cursor keep answering with the whole list
+  public boolean isPageRequested() {
+    return query.containsKey(LIMIT_QUERY) || query.containsKey(CURSOR_QUERY);
+  }
+
+  public int getPageLimit() {
+    final var limit = query.get(LIMIT_QUERY);
+    if (limit == null) {
+      return PageDto.DEFAULT_LIMIT;
+    }
+    try {
+      return Integer.parseInt(limit);
+    } catch (NumberFormatException e) {
+      throw new InvalidPageRequestException("Limit must be a number");
+    }
+  }
+
+  public String getPageCursor() {
+    return query.get(CURSOR_QUERY);
+  }
+
+  public String getSearchQuery() {
+    return query.get(SEARCH_QUERY);
   }
 
 }
@@ -0,0 +1,18 @@
+package com.pedrofrohmut.todos.web.adapter;
+
+import com.pedrofrohmut.todos.web.dtos.ControllerResponseDto;
+
+// One controller method bound to its controller instance
+@FunctionalInterface
+public interface ControllerAction {
+
+  ControllerResponseDto<?> handle(AdaptedRequest<?> request);
+
+  // Names the action in metrics
+  default String getControllerName() { return "unknown"; }
+
+  default String getMethodName() { return "unknown"; }
+
+  default ActionTimers getTimers() { return ActionTimers.unnamed(); }
+
+}
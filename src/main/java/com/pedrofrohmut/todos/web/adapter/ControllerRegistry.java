@@ -0,0 +1,115 @@
+package com.pedrofrohmut.todos.web.adapter;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.pedrofrohmut.todos.web.controllers.SearchController;
+import com.pedrofrohmut.todos.web.controllers.TaskController;
+import com.pedrofrohmut.todos.web.controllers.TodoController;
+import com.pedrofrohmut.todos.web.controllers.UserController;
+import com.pedrofrohmut.todos.web.dtos.ControllerResponseDto;
+import com.pedrofrohmut.todos.web.errors.ControllerMethodNotFoundException;
+import com.pedrofrohmut.todos.web.errors.ControllerNotFoundException;
+
+// Every controller method that takes just an AdaptedRequest, bound once to a single controller
+// instance through a generated ControllerAction, so a request is a map lookup and a direct call.
+// Controllers hold no state, which is what makes sharing one instance safe.
+public class ControllerRegistry {
+
+  private static final String errorMessage = "[ControllerRegistry] resolve";
+  private static final MethodType ACTION_TYPE =
+    MethodType.methodType(ControllerResponseDto.class, AdaptedRequest.class);
+
+  private static final Map<String, Map<String, ControllerAction>> controllers =
+    register(
+        new UserController(), new TaskController(), new TodoController(), new SearchController());
+
+  private static Map<String, Map<String, ControllerAction>> register(Object... instances) {
+    final var registered = new HashMap<String, Map<String, ControllerAction>>();
+    for (final var controller : instances) {
+      final var actions = new HashMap<String, ControllerAction>();
+      for (final var method : controller.getClass().getDeclaredMethods()) {
+        if (isControllerMethod(method)) {
+          actions.put(method.getName(), toAction(controller, method));
+        }
+      }
+      registered.put(controller.getClass().getSimpleName(), Map.copyOf(actions));
+    }
+    return Map.copyOf(registered);
+  }
+
+  private static boolean isControllerMethod(Method method) {
+    return Modifier.isPublic(method.getModifiers()) &&
+      !Modifier.isStatic(method.getModifiers()) &&
+      method.getParameterCount() == 1 &&
+      method.getParameterTypes()[0] == AdaptedRequest.class &&
+      method.getReturnType() == ControllerResponseDto.class;
+  }
+
+  private static ControllerAction toAction(Object controller, Method method) {
+    try {
+      final var lookup = MethodHandles.lookup();
+      final var callSite = LambdaMetafactory.metafactory(
+          lookup,
+          "handle",
+          MethodType.methodType(ControllerAction.class, controller.getClass()),
+          ACTION_TYPE,
+          lookup.unreflect(method),
+          ACTION_TYPE);
+      final var bound = (ControllerAction) callSite.getTarget().invoke(controller);
+      return new RegisteredAction(controller.getClass().getSimpleName(), method.getName(), bound);
+    } catch (Throwable e) {
+      throw new IllegalStateException(
+          "[ControllerRegistry] cannot bind " + method.getDeclaringClass().getSimpleName() + "." +
+          method.getName() + ": " + e.getMessage(), e);
+    }
+  }
+
+  public static ControllerAction resolve(String controllerClass, String controllerMethod) {
+    final var actions = controllers.get(controllerClass);
+    if (actions == null) {
+      throw new ControllerNotFoundException(errorMessage);
+    }
+    final var action = actions.get(controllerMethod);
+    if (action == null) {
+      throw new ControllerMethodNotFoundException(errorMessage);
+    }
+    return action;
+  }
+
+  private static class RegisteredAction implements ControllerAction {
+
+    private final String controllerName;
+    private final String methodName;
+    private final ControllerAction bound;
+    private final ActionTimers timers;
+
+    RegisteredAction(String controllerName, String methodName, ControllerAction bound) {
+      this.controllerName = controllerName;
+      this.methodName = methodName;
+      this.bound = bound;
+      this.timers = new ActionTimers(controllerName, methodName);
+    }
+
+    @Override
+    public ControllerResponseDto<?> handle(AdaptedRequest<?> request) {
+      return bound.handle(request);
+    }
+
+    @Override
+    public String getControllerName() { return controllerName; }
+
+    @Override
+    public String getMethodName() { return methodName; }
+
+    @Override
+    public ActionTimers getTimers() { return timers; }
+
+  }
+
+}
@@ -0,0 +1,24 @@
+package com.pedrofrohmut.todos.web.adapter;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.pedrofrohmut.todos.domain.entities.Id;
+
+import org.springframework.boot.jackson.JsonComponent;
+
+// Writes ids in their canonical text form straight from the two longs, without building a String
+@JsonComponent
+public class IdJsonSerializer extends JsonSerializer<Id> {
+
+  @Override
+  public void serialize(Id id, JsonGenerator generator, SerializerProvider provider)
+      throws IOException {
+    final var chars = new char[Id.LENGTH];
+    id.writeTo(chars, 0);
+    generator.writeString(chars, 0, Id.LENGTH);
+  }
+
+}
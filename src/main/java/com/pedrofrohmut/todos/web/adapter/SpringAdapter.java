@@ -1,20 +1,83 @@
 package com.pedrofrohmut.todos.web.adapter;
 
-import java.lang.reflect.Method;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BooleanSupplier;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.pedrofrohmut.todos.domain.dataaccess.RowStream;
+import com.pedrofrohmut.todos.domain.entities.Id;
+import com.pedrofrohmut.todos.domain.services.JwtService;
+import com.pedrofrohmut.todos.infra.database.UnitOfWork;
+import com.pedrofrohmut.todos.infra.dtos.RequestExecutorStatsDto;
+import com.pedrofrohmut.todos.infra.errors.ConnectionPoolExhaustedException;
 import com.pedrofrohmut.todos.infra.errors.DecodeJWTException;
+import com.pedrofrohmut.todos.infra.errors.RequestExecutorBusyException;
+import com.pedrofrohmut.todos.infra.errors.RequestTimeoutException;
+import com.pedrofrohmut.todos.infra.factories.ConnectionFactory;
+import com.pedrofrohmut.todos.infra.metrics.LatencyHistogram;
+import com.pedrofrohmut.todos.infra.metrics.Metrics;
 import com.pedrofrohmut.todos.infra.services.JjwtJwtService;
+import com.pedrofrohmut.todos.infra.services.RequestExecutor;
 import com.pedrofrohmut.todos.web.dtos.ControllerResponseDto;
 import com.pedrofrohmut.todos.web.errors.ControllerMethodNotFoundException;
 import com.pedrofrohmut.todos.web.errors.ControllerNotFoundException;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import static com.pedrofrohmut.todos.infra.config.ServicesConfig.*;
 
 public class SpringAdapter {
 
-  private static final String CONTROLLER_PREFIX = "com.pedrofrohmut.todos.web.controllers.";
-  private static final String errorMessage = "[SpringAdapter] callController";
+  private static final Logger logger = LoggerFactory.getLogger(SpringAdapter.class);
+  private static final JwtService jwtService = new JjwtJwtService();
+  private static final LatencyHistogram jwtDecodeTimer =
+    Metrics.timer("todos_jwt_decode_seconds", "Authentication token decode and verification");
+  private static final LatencyHistogram commitTimer = transactionEndTimer("commit");
+  private static final LatencyHistogram rollbackTimer = transactionEndTimer("rollback");
+  private static final boolean isAsync = isAsyncExecution(REQUEST_EXECUTION);
+  // Not the Spring managed mapper, so the id serializer is registered by hand
+  private static final ObjectMapper streamMapper = new ObjectMapper()
+    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+    .disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT)
+    .registerModule(new SimpleModule().addSerializer(Id.class, new IdJsonSerializer()));
+
+  private static class ExecutorHolder {
+    private static final RequestExecutor executor = new RequestExecutor(
+        REQUEST_EXECUTOR_THREADS, REQUEST_EXECUTOR_QUEUE_LIMIT, REQUEST_TIMEOUT_MILLIS,
+        REQUEST_VIRTUAL_THREADS);
+  }
+
+  private static LatencyHistogram transactionEndTimer(String outcome) {
+    return Metrics.timer(
+        "todos_transaction_end_seconds", "Commit or rollback of the request transaction",
+        "outcome", outcome);
+  }
+
+  private static boolean isAsyncExecution(String execution) {
+    switch (execution) {
+      case SYNC_REQUESTS:
+        return false;
+      case ASYNC_REQUESTS:
+        return true;
+      default:
+        throw new IllegalArgumentException(
+            "[SpringAdapter] unknown request execution '" + execution + "'");
+    }
+  }
 
   public static ResponseEntity<?> callController(
       String controllerClass,
@@ -22,19 +85,185 @@ public class SpringAdapter {
       Object body,
       String token,
       String param
+  ) {
+    return callController(controllerClass, controllerMethod, body, token, param, Map.of());
+  }
+
+  // Resolved per call, for callers that name the controller at runtime. Routes resolve theirs once.
+  public static ResponseEntity<?> callController(
+      String controllerClass,
+      String controllerMethod,
+      Object body,
+      String token,
+      String param,
+      Map<String, String> query
+  ) {
+    try {
+      final var action = ControllerRegistry.resolve(controllerClass, controllerMethod);
+      return callController(action, body, token, param, query);
+    } catch (ControllerNotFoundException | ControllerMethodNotFoundException e) {
+      return new ResponseEntity<>(e.getMessage(), HttpStatus.valueOf(404));
+    }
+  }
+
+  public static ResponseEntity<?> callController(
+      ControllerAction action, Object body, String token, String param) {
+    return callController(action, body, token, param, Map.of());
+  }
+
+  public static ResponseEntity<?> callController(
+      ControllerAction action,
+      Object body,
+      String token,
+      String param,
+      Map<String, String> query
+  ) {
+    return callController(action, body, token, param, query, () -> true);
+  }
+
+  public static CompletableFuture<ResponseEntity<?>> dispatch(
+      ControllerAction action, Object body, String token, String param) {
+    return dispatch(action, body, token, param, Map.of());
+  }
+
+  // Routes go through here. In async mode the request runs on the request executor and a request
+  // that times out is answered 503 and rolled back; otherwise it runs on the calling thread.
+  public static CompletableFuture<ResponseEntity<?>> dispatch(
+      ControllerAction action,
+      Object body,
+      String token,
+      String param,
+      Map<String, String> query
+  ) {
+    if (!isAsync) {
+      return CompletableFuture.completedFuture(callController(action, body, token, param, query));
+    }
+    return ExecutorHolder.executor
+      .<ResponseEntity<?>>submit(call -> callController(action, body, token, param, query, call::claim))
+      .exceptionally(SpringAdapter::getExecutorErrorResponse);
+  }
+
+  public static CompletableFuture<ResponseEntity<?>> dispatchConditional(
+      ControllerAction probe,
+      ControllerAction action,
+      String token,
+      String param,
+      String ifNoneMatch
+  ) {
+    return dispatchConditional(probe, action, token, param, Map.of(), ifNoneMatch);
+  }
+
+  // For reads clients poll. The probe answers with the version of what the action would return, and
+  // when its ETag is in If-None-Match the answer is a 304 without the action ever running. Otherwise
+  // the probe runs first in the same unit of work, so the ETag sent is never newer than the body.
+  public static CompletableFuture<ResponseEntity<?>> dispatchConditional(
+      ControllerAction probe,
+      ControllerAction action,
+      String token,
+      String param,
+      Map<String, String> query,
+      String ifNoneMatch
+  ) {
+    return dispatch(new ConditionalAction(probe, action, ifNoneMatch), null, token, param, query);
+  }
+
+  // For lists too long to hold in memory. The checks run in the request's own unit of work, then
+  // Spring writes the body on its async thread: rows are read, mapped and written one at a time in a
+  // second unit of work, so memory stays flat whatever the list size.
+  public static ResponseEntity<StreamingResponseBody> stream(
+      ControllerAction action, Object body, String token, String param) {
+    final var response = callController(action, body, token, param);
+    if (!(response.getBody() instanceof RowStream)) {
+      final var message = String.valueOf(response.getBody()).getBytes(StandardCharsets.UTF_8);
+      return ResponseEntity.status(response.getStatusCode())
+        .contentType(MediaType.TEXT_PLAIN)
+        .body(output -> output.write(message));
+    }
+    final var rows = (RowStream<?>) response.getBody();
+    return ResponseEntity.ok()
+      .contentType(MediaType.APPLICATION_JSON)
+      .body(output -> writeRows(rows, output));
+  }
+
+  // The 200 and the start of the array are out by the time a row fails, so failing means aborting:
+  // the array is left open and the error goes back to the container, which drops the connection
+  // instead of ending the body. A client never gets a short list that parses.
+  private static void writeRows(RowStream<?> rows, OutputStream output) throws IOException {
+    try (final var unitOfWork = ConnectionFactory.beginUnitOfWork();
+         final var generator = streamMapper.getFactory().createGenerator(output)) {
+      generator.writeStartArray();
+      rows.forEach(row -> {
+        try {
+          generator.writeObject(row);
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      });
+      generator.writeEndArray();
+      unitOfWork.commit();
+    } catch (UncheckedIOException e) {
+      logger.warn("[SpringAdapter] stream aborted: " + e.getCause().getMessage());
+      throw e.getCause();
+    } catch (IOException | RuntimeException e) {
+      logger.warn("[SpringAdapter] stream aborted: " + e.getMessage());
+      throw e;
+    }
+  }
+
+  private static ResponseEntity<?> getExecutorErrorResponse(Throwable error) {
+    final var cause = error instanceof CompletionException ? error.getCause() : error;
+    if (cause instanceof RequestExecutorBusyException || cause instanceof RequestTimeoutException) {
+      return new ResponseEntity<>(cause.getMessage(), HttpStatus.valueOf(503));
+    }
+    return new ResponseEntity<>(cause.getMessage(), HttpStatus.valueOf(500));
+  }
+
+  public static RequestExecutorStatsDto getExecutorStats() {
+    if (!isAsync) {
+      final var stats = new RequestExecutorStatsDto();
+      stats.mode = SYNC_REQUESTS;
+      return stats;
+    }
+    final var stats = ExecutorHolder.executor.getStats();
+    stats.mode = ASYNC_REQUESTS;
+    return stats;
+  }
+
+  private static ResponseEntity<?> callController(
+      ControllerAction action,
+      Object body,
+      String token,
+      String param,
+      Map<String, String> query,
+      BooleanSupplier mayCommit
+  ) {
+    final var startedAt = System.nanoTime();
+    final var response = handle(action, body, token, param, query, mayCommit);
+    action.getTimers().request(response.getStatusCodeValue()).record(System.nanoTime() - startedAt);
+    return response;
+  }
+
+  private static ResponseEntity<?> handle(
+      ControllerAction action,
+      Object body,
+      String token,
+      String param,
+      Map<String, String> query,
+      BooleanSupplier mayCommit
   ) {
     try {
       final var authUserId = getAuthUserId(token);
-      final var controller = getController(controllerClass);
-      final var method = getControllerMethod(controller, controllerMethod);
-      final var adaptedRequest = new AdaptedRequest<>(body, authUserId, param);
-      final var controllerResponse = invokeControllerMethod(method, controller, adaptedRequest);
-      final var adaptedResponse = getAdaptResponse(controllerResponse);
-      return adaptedResponse;
+      final var adaptedRequest = new AdaptedRequest<>(body, authUserId, param, query);
+      try (final var unitOfWork = ConnectionFactory.beginUnitOfWork()) {
+        final var controllerResponse = handleTimed(action, adaptedRequest);
+        completeUnitOfWork(unitOfWork, controllerResponse, mayCommit);
+        final var adaptedResponse = getAdaptResponse(controllerResponse);
+        return adaptedResponse;
+      }
     } catch (DecodeJWTException e) {
       return new ResponseEntity<>(e.getMessage(), HttpStatus.valueOf(401));
-    } catch (ControllerNotFoundException | ControllerMethodNotFoundException e) {
-      return new ResponseEntity<>(e.getMessage(), HttpStatus.valueOf(404));
+    } catch (ConnectionPoolExhaustedException e) {
+      return new ResponseEntity<>(e.getMessage(), HttpStatus.valueOf(503));
     } catch (Exception e) {
       return new ResponseEntity<>(e.getMessage(), HttpStatus.valueOf(500));
     }
@@ -44,38 +273,104 @@ public class SpringAdapter {
     if (token == null || token == "") {
       return "";
     }
-    final var authUserId = new JjwtJwtService().getUserIdFromToken(token);
-    return authUserId;
-  }
-
-  private static Object getController(String className) {
+    final var startedAt = System.nanoTime();
     try {
-      final var controllerClass = Class.forName(CONTROLLER_PREFIX + className);
-      final var controller = controllerClass.getDeclaredConstructor().newInstance();
-      return controller;
-    } catch (ClassNotFoundException e) {
-      throw new ControllerNotFoundException(errorMessage);
-    } catch (Exception e) {
-      throw new RuntimeException(e);
+      final var authUserId = jwtService.getUserIdFromToken(token);
+      return authUserId;
+    } finally {
+      jwtDecodeTimer.record(System.nanoTime() - startedAt);
     }
   }
 
-  private static Method getControllerMethod(Object controller, String methodName) {
+  // Each controller method runs exactly one use case, so this is the use case with its data access
+  private static ControllerResponseDto<?> handleTimed(
+      ControllerAction action, AdaptedRequest<?> adaptedRequest) {
+    final var startedAt = System.nanoTime();
     try {
-      final var method = controller.getClass().getMethod(methodName, AdaptedRequest.class);
-      return method;
-    } catch (NoSuchMethodException e) {
-      throw new ControllerMethodNotFoundException(errorMessage);
+      return action.handle(adaptedRequest);
+    } finally {
+      action.getTimers().useCase().record(System.nanoTime() - startedAt);
     }
   }
 
-  private static ControllerResponseDto<?> invokeControllerMethod(
-      Method method, Object controller, AdaptedRequest<?> adaptedRequest) throws Exception {
-    return (ControllerResponseDto<?>) method.invoke(controller, adaptedRequest);
+  // Controllers turn domain errors into 4xx/5xx responses instead of throwing, so the status decides
+  private static void completeUnitOfWork(
+      UnitOfWork unitOfWork, ControllerResponseDto<?> dto, BooleanSupplier mayCommit) {
+    final var startedAt = System.nanoTime();
+    final var isCommit = dto.httpStatus < 400 && mayCommit.getAsBoolean();
+    if (isCommit) {
+      unitOfWork.commit();
+    } else {
+      unitOfWork.rollback();
+    }
+    final var timer = isCommit ? commitTimer : rollbackTimer;
+    timer.record(System.nanoTime() - startedAt);
   }
 
+  // Responses with an ETag are revalidated on every use, and only by the client that got them
   private static ResponseEntity<?> getAdaptResponse(ControllerResponseDto<?> dto) {
-    return ResponseEntity.status(dto.httpStatus).body(dto.body);
+    if (dto.etag == null) {
+      return ResponseEntity.status(dto.httpStatus).body(dto.body);
+    }
+    return ResponseEntity.status(dto.httpStatus)
+      .eTag(dto.etag)
+      .cacheControl(CacheControl.noCache().cachePrivate())
+      .body(dto.body);
+  }
+
+  // If-None-Match compares weakly, so W/"7" matches "7" as well
+  private static boolean isETagMatch(String ifNoneMatch, String etag) {
+    if (ifNoneMatch == null) {
+      return false;
+    }
+    for (final var candidate : ifNoneMatch.split(",")) {
+      final var tag = candidate.trim();
+      final var opaqueTag = tag.startsWith("W/") ? tag.substring(2) : tag;
+      if (opaqueTag.equals("*") || opaqueTag.equals(etag)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static class ConditionalAction implements ControllerAction {
+
+    private final ControllerAction probe;
+    private final ControllerAction action;
+    private final String ifNoneMatch;
+
+    ConditionalAction(ControllerAction probe, ControllerAction action, String ifNoneMatch) {
+      this.probe = probe;
+      this.action = action;
+      this.ifNoneMatch = ifNoneMatch;
+    }
+
+    // A probe that fails answers in place of the action, with the same error the action would give
+    @Override
+    public ControllerResponseDto<?> handle(AdaptedRequest<?> request) {
+      final var probed = probe.handle(request);
+      if (probed.httpStatus != 200) {
+        return probed;
+      }
+      final var etag = "\"" + probed.body + "\"";
+      final var response = isETagMatch(ifNoneMatch, etag)
+        ? new ControllerResponseDto<>(304)
+        : action.handle(request);
+      if (response.httpStatus == 200 || response.httpStatus == 304) {
+        response.etag = etag;
+      }
+      return response;
+    }
+
+    @Override
+    public String getControllerName() { return action.getControllerName(); }
+
+    @Override
+    public String getMethodName() { return action.getMethodName(); }
+
+    @Override
+    public ActionTimers getTimers() { return action.getTimers(); }
+
   }
 
 }
@@ -0,0 +1,38 @@
+package com.pedrofrohmut.todos.web.controllers;
+
+import com.pedrofrohmut.todos.domain.errors.InvalidEntityException;
+import com.pedrofrohmut.todos.domain.errors.InvalidPageRequestException;
+import com.pedrofrohmut.todos.domain.errors.InvalidSearchQueryException;
+import com.pedrofrohmut.todos.domain.errors.UserNotFoundByIdException;
+import com.pedrofrohmut.todos.domain.factories.UseCaseFactory;
+import com.pedrofrohmut.todos.domain.usecases.search.SearchUseCase;
+import com.pedrofrohmut.todos.web.adapter.AdaptedRequest;
+import com.pedrofrohmut.todos.web.dtos.ControllerResponseDto;
+import com.pedrofrohmut.todos.web.errors.MissingRequestAuthUserIdException;
+
+public class SearchController {
+
+  public ControllerResponseDto<?> search(AdaptedRequest<?> request) {
+    final var searchUseCase = (SearchUseCase) UseCaseFactory.getInstance("SearchUseCase");
+    return search(searchUseCase, request);
+  }
+
+  public ControllerResponseDto<?> search(SearchUseCase searchUseCase, AdaptedRequest<?> request) {
+    try {
+      final var results = searchUseCase.execute(
+          request.getSearchQuery(), request.getPageLimit(), request.getAuthUserIdAsId());
+      return new ControllerResponseDto<>(200, results);
+    } catch (
+        InvalidSearchQueryException |
+        InvalidPageRequestException |
+        InvalidEntityException |
+        UserNotFoundByIdException e) {
+      return new ControllerResponseDto<>(400, e.getMessage());
+    } catch (MissingRequestAuthUserIdException e) {
+      return new ControllerResponseDto<>(401, e.getMessage());
+    } catch (Exception e) {
+      return new ControllerResponseDto<>(500, e.getMessage());
+    }
+  }
+
+}
@@ -3,6 +3,7 @@ package com.pedrofrohmut.todos.web.controllers;
 import com.pedrofrohmut.todos.domain.dtos.CreateTaskDto;
 import com.pedrofrohmut.todos.domain.dtos.UpdateTaskDto;
 import com.pedrofrohmut.todos.domain.errors.InvalidEntityException;
+import com.pedrofrohmut.todos.domain.errors.InvalidPageRequestException;
 import com.pedrofrohmut.todos.domain.errors.InvalidTaskException;
 import com.pedrofrohmut.todos.domain.errors.TaskNotFoundByIdException;
 import com.pedrofrohmut.todos.domain.errors.UserNotFoundByIdException;
@@ -16,7 +17,6 @@ import com.pedrofrohmut.todos.domain.usecases.tasks.FindTasksByUserIdUseCase;
 import com.pedrofrohmut.todos.domain.usecases.tasks.UpdateTaskUseCase;
 import com.pedrofrohmut.todos.infra.dataaccess.TaskDataAccessImpl;
 import com.pedrofrohmut.todos.infra.dataaccess.UserDataAccessImpl;
-import com.pedrofrohmut.todos.infra.factories.ConnectionFactory;
 import com.pedrofrohmut.todos.web.adapter.AdaptedRequest;
 import com.pedrofrohmut.todos.web.dtos.ControllerResponseDto;
 import com.pedrofrohmut.todos.web.errors.MissingRequestAuthUserIdException;
@@ -26,15 +26,14 @@ import com.pedrofrohmut.todos.web.errors.MissingRequestParametersException;
 public class TaskController {
 
   public ControllerResponseDto<?> create(AdaptedRequest<CreateTaskDto> request) {
-    final var connection = ConnectionFactory.getConnection();
-    final var createTaskUseCase = (CreateTaskUseCase) UseCaseFactory.getInstance("CreateTaskUseCase", connection);
+    final var createTaskUseCase = (CreateTaskUseCase) UseCaseFactory.getInstance("CreateTaskUseCase");
     return create(createTaskUseCase, request);
   }
 
   public ControllerResponseDto<?> create(CreateTaskUseCase createTaskUseCase, AdaptedRequest<CreateTaskDto> request) {
     try {
       final var newTask = request.body;
-      createTaskUseCase.execute(newTask, request.authUserId);
+      createTaskUseCase.execute(newTask, request.getAuthUserIdAsId());
       return new ControllerResponseDto<>(201);
     } catch (MissingRequestBodyException | InvalidTaskException | InvalidEntityException | UserNotFoundByIdException e) {
       return new ControllerResponseDto<>(400, e.getMessage());
@@ -46,15 +45,14 @@ public class TaskController {
   }
 
   public ControllerResponseDto<?> findById(AdaptedRequest<?> request) {
-    final var connection = ConnectionFactory.getConnection();
-    final var findTaskByIdUseCase = (FindTaskByIdUseCase) UseCaseFactory.getInstance("FindTaskByIdUseCase", connection);
+    final var findTaskByIdUseCase = (FindTaskByIdUseCase) UseCaseFactory.getInstance("FindTaskByIdUseCase");
     return findById(findTaskByIdUseCase, request);
   }
 
   public ControllerResponseDto<?> findById(FindTaskByIdUseCase findTaskByIdUseCase, AdaptedRequest<?> request) {
     try {
-      final var taskId = request.param;
-      final var foundTask = findTaskByIdUseCase.execute(taskId, request.authUserId);
+      final var taskId = request.getParamAsId();
+      final var foundTask = findTaskByIdUseCase.execute(taskId, request.getAuthUserIdAsId());
       return new ControllerResponseDto<>(200, foundTask);
     } catch (
         UserNotFoundByIdException |
@@ -69,18 +67,72 @@ public class TaskController {
     }
   }
 
+  public ControllerResponseDto<?> findVersionById(AdaptedRequest<?> request) {
+    final var findTaskByIdUseCase = (FindTaskByIdUseCase) UseCaseFactory.getInstance("FindTaskByIdUseCase");
+    return findVersionById(findTaskByIdUseCase, request);
+  }
+
+  // The version probe of findById, answering with the version in place of the task
+  public ControllerResponseDto<?> findVersionById(
+      FindTaskByIdUseCase findTaskByIdUseCase, AdaptedRequest<?> request) {
+    try {
+      final var taskId = request.getParamAsId();
+      final var version = findTaskByIdUseCase.findVersion(taskId, request.getAuthUserIdAsId());
+      return new ControllerResponseDto<>(200, version);
+    } catch (
+        UserNotFoundByIdException |
+        TaskNotFoundByIdException |
+        InvalidEntityException |
+        MissingRequestParametersException e) {
+      return new ControllerResponseDto<>(400, e.getMessage());
+    } catch (MissingRequestAuthUserIdException | UserNotResourceOwnerException e) {
+      return new ControllerResponseDto<>(401, e.getMessage());
+    } catch (Exception e) {
+      return new ControllerResponseDto<>(500, e.getMessage());
+    }
+  }
+
   public ControllerResponseDto <?> findByUserId(AdaptedRequest<?> request) {
-    final var connection = ConnectionFactory.getConnection();
     final var findTasksByUserIdUseCase =
-      (FindTasksByUserIdUseCase) UseCaseFactory.getInstance("FindTasksByUserIdUseCase", connection);
+      (FindTasksByUserIdUseCase) UseCaseFactory.getInstance("FindTasksByUserIdUseCase");
     return findByUserId(findTasksByUserIdUseCase, request);
   }
 
   public ControllerResponseDto<?> findByUserId(
       FindTasksByUserIdUseCase findTasksByUserIdUseCase, AdaptedRequest<?> request) {
     try {
-      final var foundTasks = findTasksByUserIdUseCase.execute(request.param, request.authUserId);
+      if (request.isPageRequested()) {
+        final var foundPage =
+          findTasksByUserIdUseCase.execute(
+              request.getParamAsId(), request.getAuthUserIdAsId(), request.getPageLimit(), request.getPageCursor());
+        return new ControllerResponseDto<>(200, foundPage);
+      }
+      final var foundTasks = findTasksByUserIdUseCase.execute(request.getParamAsId(), request.getAuthUserIdAsId());
       return new ControllerResponseDto<>(200, foundTasks);
+    } catch (
+        UserNotFoundByIdException |
+        InvalidEntityException |
+        InvalidPageRequestException |
+        MissingRequestParametersException e) {
+      return new ControllerResponseDto<>(400, e.getMessage());
+    } catch (MissingRequestAuthUserIdException | UserNotResourceOwnerException e) {
+      return new ControllerResponseDto<>(401, e.getMessage());
+    } catch (Exception e) {
+      return new ControllerResponseDto<>(500, e.getMessage());
+    }
+  }
+
+  public ControllerResponseDto<?> streamByUserId(AdaptedRequest<?> request) {
+    final var findTasksByUserIdUseCase =
+      (FindTasksByUserIdUseCase) UseCaseFactory.getInstance("FindTasksByUserIdUseCase");
+    return streamByUserId(findTasksByUserIdUseCase, request);
+  }
+
+  public ControllerResponseDto<?> streamByUserId(
+      FindTasksByUserIdUseCase findTasksByUserIdUseCase, AdaptedRequest<?> request) {
+    try {
+      final var tasks = findTasksByUserIdUseCase.stream(request.getParamAsId(), request.getAuthUserIdAsId());
+      return new ControllerResponseDto<>(200, tasks);
     } catch (
         UserNotFoundByIdException |
         InvalidEntityException |
@@ -94,16 +146,15 @@ public class TaskController {
   }
 
   public ControllerResponseDto<?> update(AdaptedRequest<UpdateTaskDto> request) {
-    final var connection = ConnectionFactory.getConnection();
-    final var updateTaskUseCase = (UpdateTaskUseCase) UseCaseFactory.getInstance("UpdateTaskUseCase", connection);
+    final var updateTaskUseCase = (UpdateTaskUseCase) UseCaseFactory.getInstance("UpdateTaskUseCase");
     return update(updateTaskUseCase, request);
   }
 
   public ControllerResponseDto<?> update(UpdateTaskUseCase updateTaskUseCase, AdaptedRequest<UpdateTaskDto> request) {
     try {
       final var updatedTask = (UpdateTaskDto) request.body;
-      final var taskId = request.param;
-      updateTaskUseCase.execute(updatedTask, request.authUserId, taskId);
+      final var taskId = request.getParamAsId();
+      updateTaskUseCase.execute(updatedTask, request.getAuthUserIdAsId(), taskId);
       return new ControllerResponseDto<>(204);
     } catch (
         MissingRequestBodyException |
@@ -122,15 +173,14 @@ public class TaskController {
   }
 
   public ControllerResponseDto<?> delete(AdaptedRequest<?> request) {
-    final var connection = ConnectionFactory.getConnection();
-    final var deleteTaskUseCase = (DeleteTaskUseCase) UseCaseFactory.getInstance("DeleteTaskUseCase", connection);
+    final var deleteTaskUseCase = (DeleteTaskUseCase) UseCaseFactory.getInstance("DeleteTaskUseCase");
     return delete(deleteTaskUseCase, request);
   }
 
   public ControllerResponseDto<?> delete(DeleteTaskUseCase deleteTaskUseCase, AdaptedRequest<?> request) {
     try {
-      final var taskId = request.param;
-      deleteTaskUseCase.execute(request.authUserId, taskId);
+      final var taskId = request.getParamAsId();
+      deleteTaskUseCase.execute(request.getAuthUserIdAsId(), taskId);
       return new ControllerResponseDto<>(204);
     } catch (
         InvalidEntityException |
@@ -1,8 +1,12 @@
 package com.pedrofrohmut.todos.web.controllers;
 
+import java.util.List;
+
 import com.pedrofrohmut.todos.domain.dtos.CreateTodoDto;
 import com.pedrofrohmut.todos.domain.dtos.UpdateTodoDto;
+import com.pedrofrohmut.todos.domain.errors.BulkTooLargeException;
 import com.pedrofrohmut.todos.domain.errors.InvalidEntityException;
+import com.pedrofrohmut.todos.domain.errors.InvalidPageRequestException;
 import com.pedrofrohmut.todos.domain.errors.InvalidTodoException;
 import com.pedrofrohmut.todos.domain.errors.TaskNotFoundByIdException;
 import com.pedrofrohmut.todos.domain.errors.TodoNotFoundByIdException;
@@ -10,6 +14,10 @@ import com.pedrofrohmut.todos.domain.errors.UserNotFoundByIdException;
 import com.pedrofrohmut.todos.domain.errors.UserNotResourceOwnerException;
 import com.pedrofrohmut.todos.domain.factories.UseCaseFactory;
 import com.pedrofrohmut.todos.domain.usecases.TodoUseCase;
+import com.pedrofrohmut.todos.domain.usecases.todos.BulkCreateTodosUseCase;
+import com.pedrofrohmut.todos.domain.usecases.todos.BulkDeleteTodosUseCase;
+import com.pedrofrohmut.todos.domain.usecases.todos.BulkSetDoneTodosUseCase;
+import com.pedrofrohmut.todos.domain.usecases.todos.BulkSetNotDoneTodosUseCase;
 import com.pedrofrohmut.todos.domain.usecases.todos.ClearCompleteTodosByTaskIdUseCase;
 import com.pedrofrohmut.todos.domain.usecases.todos.CreateTodoUseCase;
 import com.pedrofrohmut.todos.domain.usecases.todos.DeleteTodoUseCase;
@@ -21,7 +29,6 @@ import com.pedrofrohmut.todos.domain.usecases.todos.UpdateTodoUseCase;
 import com.pedrofrohmut.todos.infra.dataaccess.TaskDataAccessImpl;
 import com.pedrofrohmut.todos.infra.dataaccess.TodoDataAccessImpl;
 import com.pedrofrohmut.todos.infra.dataaccess.UserDataAccessImpl;
-import com.pedrofrohmut.todos.infra.factories.ConnectionFactory;
 import com.pedrofrohmut.todos.web.adapter.AdaptedRequest;
 import com.pedrofrohmut.todos.web.dtos.ControllerResponseDto;
 import com.pedrofrohmut.todos.web.errors.MissingRequestAuthUserIdException;
@@ -31,15 +38,14 @@ import com.pedrofrohmut.todos.web.errors.MissingRequestParametersException;
 public class TodoController {
 
   public ControllerResponseDto<?> create(AdaptedRequest<CreateTodoDto> request) {
-    final var connection = ConnectionFactory.getConnection();
-    final var createTodoUseCase = (CreateTodoUseCase) UseCaseFactory.getInstance("CreateTodoUseCase", connection);
+    final var createTodoUseCase = (CreateTodoUseCase) UseCaseFactory.getInstance("CreateTodoUseCase");
     return create(createTodoUseCase, request);
   }
 
   public ControllerResponseDto<?> create(CreateTodoUseCase createTodoUseCase, AdaptedRequest<CreateTodoDto> request) {
     try {
       final var newTodo = request.body;
-      createTodoUseCase.execute(newTodo, request.authUserId);
+      createTodoUseCase.execute(newTodo, request.getAuthUserIdAsId());
       return new ControllerResponseDto<>(201);
     } catch (
         MissingRequestBodyException |
@@ -57,14 +63,13 @@ public class TodoController {
   }
 
   public ControllerResponseDto<?> findById(AdaptedRequest<?> request) {
-    final var connection = ConnectionFactory.getConnection();
-    final var findTodoByIdUseCase = (FindTodoByIdUseCase) UseCaseFactory.getInstance("FindTodoByIdUseCase", connection);
+    final var findTodoByIdUseCase = (FindTodoByIdUseCase) UseCaseFactory.getInstance("FindTodoByIdUseCase");
     return findById(findTodoByIdUseCase, request);
   }
 
   public ControllerResponseDto<?> findById(FindTodoByIdUseCase findTodoByIdUseCase, AdaptedRequest<?> request) {
     try {
-      final var foundTodo = findTodoByIdUseCase.execute(request.param, request.authUserId);
+      final var foundTodo = findTodoByIdUseCase.execute(request.getParamAsId(), request.getAuthUserIdAsId());
       return new ControllerResponseDto<>(200, foundTodo);
     } catch (
         InvalidEntityException |
@@ -80,18 +85,74 @@ public class TodoController {
   }
 
   public ControllerResponseDto<?> findByTaskId(AdaptedRequest<?> request) {
-    final var connection = ConnectionFactory.getConnection();
     final var findTodosByTaskIdUseCase =
-      (FindTodosByTaskIdUseCase) UseCaseFactory.getInstance("FindTodosByTaskIdUseCase", connection);
+      (FindTodosByTaskIdUseCase) UseCaseFactory.getInstance("FindTodosByTaskIdUseCase");
     return findByTaskId(findTodosByTaskIdUseCase, request);
   }
 
   public ControllerResponseDto<?> findByTaskId(
       FindTodosByTaskIdUseCase findTodosByTaskIdUseCase, AdaptedRequest<?> request) {
     try {
-      final var taskId = request.param;
-      final var foundTodos = findTodosByTaskIdUseCase.execute(taskId, request.authUserId);
+      final var taskId = request.getParamAsId();
+      if (request.isPageRequested()) {
+        final var foundPage =
+          findTodosByTaskIdUseCase.execute(
+              taskId, request.getAuthUserIdAsId(), request.getPageLimit(), request.getPageCursor());
+        return new ControllerResponseDto<>(200, foundPage);
+      }
+      final var foundTodos = findTodosByTaskIdUseCase.execute(taskId, request.getAuthUserIdAsId());
       return new ControllerResponseDto<>(200, foundTodos);
+    } catch (
+        InvalidEntityException |
+        InvalidPageRequestException |
+        MissingRequestParametersException |
+        UserNotFoundByIdException |
+        TaskNotFoundByIdException e) {
+      return new ControllerResponseDto<>(400, e.getMessage());
+    } catch (MissingRequestAuthUserIdException | UserNotResourceOwnerException e) {
+      return new ControllerResponseDto<>(401, e.getMessage());
+    } catch (Exception e) {
+      return new ControllerResponseDto<>(500, e.getMessage());
+    }
+  }
+
+  public ControllerResponseDto<?> findVersionByTaskId(AdaptedRequest<?> request) {
+    final var findTodosByTaskIdUseCase =
+      (FindTodosByTaskIdUseCase) UseCaseFactory.getInstance("FindTodosByTaskIdUseCase");
+    return findVersionByTaskId(findTodosByTaskIdUseCase, request);
+  }
+
+  // The version probe of findByTaskId, answering with the todos version of the task in place of them
+  public ControllerResponseDto<?> findVersionByTaskId(
+      FindTodosByTaskIdUseCase findTodosByTaskIdUseCase, AdaptedRequest<?> request) {
+    try {
+      final var taskId = request.getParamAsId();
+      final var version = findTodosByTaskIdUseCase.findVersion(taskId, request.getAuthUserIdAsId());
+      return new ControllerResponseDto<>(200, version);
+    } catch (
+        InvalidEntityException |
+        MissingRequestParametersException |
+        UserNotFoundByIdException |
+        TaskNotFoundByIdException e) {
+      return new ControllerResponseDto<>(400, e.getMessage());
+    } catch (MissingRequestAuthUserIdException | UserNotResourceOwnerException e) {
+      return new ControllerResponseDto<>(401, e.getMessage());
+    } catch (Exception e) {
+      return new ControllerResponseDto<>(500, e.getMessage());
+    }
+  }
+
+  public ControllerResponseDto<?> streamByTaskId(AdaptedRequest<?> request) {
+    final var findTodosByTaskIdUseCase =
+      (FindTodosByTaskIdUseCase) UseCaseFactory.getInstance("FindTodosByTaskIdUseCase");
+    return streamByTaskId(findTodosByTaskIdUseCase, request);
+  }
+
+  public ControllerResponseDto<?> streamByTaskId(
+      FindTodosByTaskIdUseCase findTodosByTaskIdUseCase, AdaptedRequest<?> request) {
+    try {
+      final var todos = findTodosByTaskIdUseCase.stream(request.getParamAsId(), request.getAuthUserIdAsId());
+      return new ControllerResponseDto<>(200, todos);
     } catch (
         InvalidEntityException |
         MissingRequestParametersException |
@@ -106,16 +167,15 @@ public class TodoController {
   }
 
   public ControllerResponseDto<?> update(AdaptedRequest<UpdateTodoDto> request) {
-    final var connection = ConnectionFactory.getConnection();
-    final var updateTodoUseCase = (UpdateTodoUseCase) UseCaseFactory.getInstance("UpdateTodoUseCase", connection);
+    final var updateTodoUseCase = (UpdateTodoUseCase) UseCaseFactory.getInstance("UpdateTodoUseCase");
     return update(updateTodoUseCase, request);
   }
 
   public ControllerResponseDto<?> update(UpdateTodoUseCase updateTodoUseCase, AdaptedRequest<UpdateTodoDto> request) {
     try {
-      final var todoId = request.param;
+      final var todoId = request.getParamAsId();
       final var updatedTodo = request.body;
-      updateTodoUseCase.execute(todoId, updatedTodo, request.authUserId);
+      updateTodoUseCase.execute(todoId, updatedTodo, request.getAuthUserIdAsId());
       return new ControllerResponseDto<>(204);
     } catch (
         MissingRequestBodyException |
@@ -133,14 +193,13 @@ public class TodoController {
   }
 
   public ControllerResponseDto<?> setDone(AdaptedRequest<?> request) {
-    final var connection = ConnectionFactory.getConnection();
-    final var setDoneTodoUseCase = (SetDoneTodoUseCase) UseCaseFactory.getInstance("SetDoneTodoUseCase", connection);
+    final var setDoneTodoUseCase = (SetDoneTodoUseCase) UseCaseFactory.getInstance("SetDoneTodoUseCase");
     return setDone(setDoneTodoUseCase, request);
   }
 
   public ControllerResponseDto<?> setDone(SetDoneTodoUseCase setDoneTodoUseCase, AdaptedRequest<?> request) {
     try {
-      setDoneTodoUseCase.execute(request.param, request.authUserId);
+      setDoneTodoUseCase.execute(request.getParamAsId(), request.getAuthUserIdAsId());
       return new ControllerResponseDto<>(204);
     } catch (
         InvalidEntityException |
@@ -156,15 +215,14 @@ public class TodoController {
   }
 
   public ControllerResponseDto<?> setNotDone(AdaptedRequest<?> request) {
-    final var connection = ConnectionFactory.getConnection();
-    final var setNotDoneTodoUseCase = (SetNotDoneTodoUseCase) UseCaseFactory.getInstance("SetNotDoneTodoUseCase", connection);
+    final var setNotDoneTodoUseCase = (SetNotDoneTodoUseCase) UseCaseFactory.getInstance("SetNotDoneTodoUseCase");
     return setNotDone(setNotDoneTodoUseCase, request);
   }
 
   public ControllerResponseDto<?> setNotDone(SetNotDoneTodoUseCase setNotDoneTodoUseCase, AdaptedRequest<?> request) {
     try {
-      final var todoId = request.param;
-      setNotDoneTodoUseCase.execute(todoId, request.authUserId);
+      final var todoId = request.getParamAsId();
+      setNotDoneTodoUseCase.execute(todoId, request.getAuthUserIdAsId());
       return new ControllerResponseDto<>(204);
     } catch (
         InvalidEntityException |
@@ -180,15 +238,14 @@ public class TodoController {
   }
 
   public ControllerResponseDto<?> delete(AdaptedRequest<?> request) {
-    final var connection = ConnectionFactory.getConnection();
-    final var deleteTodoUseCase = (DeleteTodoUseCase) UseCaseFactory.getInstance("DeleteTodoUseCase", connection);
+    final var deleteTodoUseCase = (DeleteTodoUseCase) UseCaseFactory.getInstance("DeleteTodoUseCase");
     return delete(deleteTodoUseCase, request);
   }
 
   public ControllerResponseDto<?> delete(DeleteTodoUseCase deleteTodoUseCase, AdaptedRequest<?> request) {
     try {
-      final var todoId = request.param;
-      deleteTodoUseCase.execute(todoId, request.authUserId);
+      final var todoId = request.getParamAsId();
+      deleteTodoUseCase.execute(todoId, request.getAuthUserIdAsId());
       return new ControllerResponseDto<>(204);
     } catch (
         InvalidEntityException |
@@ -204,17 +261,16 @@ public class TodoController {
   }
 
   public ControllerResponseDto<?> clearCompleteByTaskId(AdaptedRequest<?> request) {
-    final var connection = ConnectionFactory.getConnection();
     final var clearCompleteTodosByTaskIdUseCase =
-      (ClearCompleteTodosByTaskIdUseCase) UseCaseFactory.getInstance("ClearCompleteTodosByTaskIdUseCase", connection);
+      (ClearCompleteTodosByTaskIdUseCase) UseCaseFactory.getInstance("ClearCompleteTodosByTaskIdUseCase");
     return clearCompleteByTaskId(clearCompleteTodosByTaskIdUseCase, request);
   }
 
   public ControllerResponseDto<?> clearCompleteByTaskId(
       ClearCompleteTodosByTaskIdUseCase clearCompleteTodosByTaskIdUseCase, AdaptedRequest<?> request) {
     try {
-      final var taskId = request.param;
-      clearCompleteTodosByTaskIdUseCase.execute(taskId, request.authUserId);
+      final var taskId = request.getParamAsId();
+      clearCompleteTodosByTaskIdUseCase.execute(taskId, request.getAuthUserIdAsId());
       return new ControllerResponseDto<>(204);
     } catch (
         InvalidEntityException |
@@ -229,4 +285,100 @@ public class TodoController {
     }
   }
 
+  public ControllerResponseDto<?> bulkCreate(AdaptedRequest<List<CreateTodoDto>> request) {
+    final var bulkCreateTodosUseCase =
+      (BulkCreateTodosUseCase) UseCaseFactory.getInstance("BulkCreateTodosUseCase");
+    return bulkCreate(bulkCreateTodosUseCase, request);
+  }
+
+  public ControllerResponseDto<?> bulkCreate(
+      BulkCreateTodosUseCase bulkCreateTodosUseCase, AdaptedRequest<List<CreateTodoDto>> request) {
+    try {
+      final var results = bulkCreateTodosUseCase.execute(request.body, request.getAuthUserIdAsId());
+      return new ControllerResponseDto<>(200, results);
+    } catch (
+        MissingRequestBodyException |
+        BulkTooLargeException |
+        InvalidEntityException |
+        UserNotFoundByIdException e) {
+      return new ControllerResponseDto<>(400, e.getMessage());
+    } catch (MissingRequestAuthUserIdException e) {
+      return new ControllerResponseDto<>(401, e.getMessage());
+    } catch (Exception e) {
+      return new ControllerResponseDto<>(500, e.getMessage());
+    }
+  }
+
+  public ControllerResponseDto<?> bulkSetDone(AdaptedRequest<List<String>> request) {
+    final var bulkSetDoneTodosUseCase =
+      (BulkSetDoneTodosUseCase) UseCaseFactory.getInstance("BulkSetDoneTodosUseCase");
+    return bulkSetDone(bulkSetDoneTodosUseCase, request);
+  }
+
+  public ControllerResponseDto<?> bulkSetDone(
+      BulkSetDoneTodosUseCase bulkSetDoneTodosUseCase, AdaptedRequest<List<String>> request) {
+    try {
+      final var results = bulkSetDoneTodosUseCase.execute(request.body, request.getAuthUserIdAsId());
+      return new ControllerResponseDto<>(200, results);
+    } catch (
+        MissingRequestBodyException |
+        BulkTooLargeException |
+        InvalidEntityException |
+        UserNotFoundByIdException e) {
+      return new ControllerResponseDto<>(400, e.getMessage());
+    } catch (MissingRequestAuthUserIdException e) {
+      return new ControllerResponseDto<>(401, e.getMessage());
+    } catch (Exception e) {
+      return new ControllerResponseDto<>(500, e.getMessage());
+    }
+  }
+
+  public ControllerResponseDto<?> bulkSetNotDone(AdaptedRequest<List<String>> request) {
+    final var bulkSetNotDoneTodosUseCase =
+      (BulkSetNotDoneTodosUseCase) UseCaseFactory.getInstance("BulkSetNotDoneTodosUseCase");
+    return bulkSetNotDone(bulkSetNotDoneTodosUseCase, request);
+  }
+
+  public ControllerResponseDto<?> bulkSetNotDone(
+      BulkSetNotDoneTodosUseCase bulkSetNotDoneTodosUseCase, AdaptedRequest<List<String>> request) {
+    try {
+      final var results = bulkSetNotDoneTodosUseCase.execute(request.body, request.getAuthUserIdAsId());
+      return new ControllerResponseDto<>(200, results);
+    } catch (
+        MissingRequestBodyException |
+        BulkTooLargeException |
+        InvalidEntityException |
+        UserNotFoundByIdException e) {
+      return new ControllerResponseDto<>(400, e.getMessage());
+    } catch (MissingRequestAuthUserIdException e) {
+      return new ControllerResponseDto<>(401, e.getMessage());
+    } catch (Exception e) {
+      return new ControllerResponseDto<>(500, e.getMessage());
+    }
+  }
+
+  public ControllerResponseDto<?> bulkDelete(AdaptedRequest<List<String>> request) {
+    final var bulkDeleteTodosUseCase =
+      (BulkDeleteTodosUseCase) UseCaseFactory.getInstance("BulkDeleteTodosUseCase");
+    return bulkDelete(bulkDeleteTodosUseCase, request);
+  }
+
+  public ControllerResponseDto<?> bulkDelete(
+      BulkDeleteTodosUseCase bulkDeleteTodosUseCase, AdaptedRequest<List<String>> request) {
+    try {
+      final var results = bulkDeleteTodosUseCase.execute(request.body, request.getAuthUserIdAsId());
+      return new ControllerResponseDto<>(200, results);
+    } catch (
+        MissingRequestBodyException |
+        BulkTooLargeException |
+        InvalidEntityException |
+        UserNotFoundByIdException e) {
+      return new ControllerResponseDto<>(400, e.getMessage());
+    } catch (MissingRequestAuthUserIdException e) {
+      return new ControllerResponseDto<>(401, e.getMessage());
+    } catch (Exception e) {
+      return new ControllerResponseDto<>(500, e.getMessage());
+    }
+  }
+
 }
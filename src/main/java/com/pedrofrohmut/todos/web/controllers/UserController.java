@@ -3,6 +3,7 @@ package com.pedrofrohmut.todos.web.controllers;
 import com.pedrofrohmut.todos.domain.dtos.CreateUserDto;
 import com.pedrofrohmut.todos.domain.dtos.SignInUserDto;
 import com.pedrofrohmut.todos.domain.dtos.SignedUserDto;
+import com.pedrofrohmut.todos.domain.errors.InvalidEntityException;
 import com.pedrofrohmut.todos.domain.errors.InvalidUserException;
 import com.pedrofrohmut.todos.domain.errors.PasswordAndHashDoNotMatchException;
 import com.pedrofrohmut.todos.domain.errors.UserEmailAlreadyTakenException;
@@ -13,8 +14,8 @@ import com.pedrofrohmut.todos.domain.usecases.users.CreateUserUseCase;
 import com.pedrofrohmut.todos.domain.usecases.users.GetSignedUserUseCase;
 import com.pedrofrohmut.todos.domain.usecases.users.SignInUserUseCase;
 import com.pedrofrohmut.todos.infra.errors.InvalidTokenException;
+import com.pedrofrohmut.todos.infra.errors.PasswordHashingBusyException;
 import com.pedrofrohmut.todos.infra.errors.TokenExpiredException;
-import com.pedrofrohmut.todos.infra.factories.ConnectionFactory;
 import com.pedrofrohmut.todos.web.adapter.AdaptedRequest;
 import com.pedrofrohmut.todos.web.dtos.ControllerResponseDto;
 import com.pedrofrohmut.todos.web.errors.MissingRequestAuthUserIdException;
@@ -23,8 +24,7 @@ import com.pedrofrohmut.todos.web.errors.MissingRequestBodyException;
 public class UserController {
 
   public ControllerResponseDto<?> create(AdaptedRequest<CreateUserDto> request) {
-    final var connection = ConnectionFactory.getConnection();
-    final var createUserUseCase = (CreateUserUseCase) UseCaseFactory.getInstance("CreateUserUseCase", connection);
+    final var createUserUseCase = (CreateUserUseCase) UseCaseFactory.getInstance("CreateUserUseCase");
     return create(createUserUseCase, request);
   }
 
@@ -34,14 +34,15 @@ public class UserController {
       return new ControllerResponseDto<>(201);
     } catch (MissingRequestBodyException | UserEmailAlreadyTakenException | InvalidUserException e) {
       return new ControllerResponseDto<>(400, e.getMessage());
+    } catch (PasswordHashingBusyException e) {
+      return new ControllerResponseDto<>(503, e.getMessage());
     } catch (Exception e) {
       return new ControllerResponseDto<>(500, e.getMessage());
     }
   }
 
   public ControllerResponseDto<?> signIn(AdaptedRequest<SignInUserDto> request) {
-    final var connection = ConnectionFactory.getConnection();
-    final var signInUserUseCase = (SignInUserUseCase) UseCaseFactory.getInstance("SignInUserUseCase", connection);
+    final var signInUserUseCase = (SignInUserUseCase) UseCaseFactory.getInstance("SignInUserUseCase");
     return signIn(signInUserUseCase, request);
   }
 
@@ -56,22 +57,31 @@ public class UserController {
         PasswordAndHashDoNotMatchException e
     ) {
       return new ControllerResponseDto<>(400, e.getMessage());
+    } catch (PasswordHashingBusyException e) {
+      return new ControllerResponseDto<>(503, e.getMessage());
     } catch (Exception e) {
       return new ControllerResponseDto<>(500, e.getMessage());
     }
   }
 
   public ControllerResponseDto<?> getSigned(AdaptedRequest<?> request) {
-    final var connection = ConnectionFactory.getConnection();
-    final var getSignedUserUseCase = (GetSignedUserUseCase) UseCaseFactory.getInstance("GetSignedUserUseCase", connection);
+    final var getSignedUserUseCase = (GetSignedUserUseCase) UseCaseFactory.getInstance("GetSignedUserUseCase");
     return getSigned(getSignedUserUseCase, request);
   }
 
   public ControllerResponseDto<?> getSigned(GetSignedUserUseCase getSignedUserUseCase, AdaptedRequest<?> request) {
     try {
-      final var signedUser = getSignedUserUseCase.execute(request.authUserId);
+      // A request without a token arrives with an empty id, which counts as missing here
+      final var isMissing = request.authUserId == null || request.authUserId.isEmpty();
+      final var authUserId = isMissing ? null : request.getAuthUserIdAsId();
+      final var signedUser = getSignedUserUseCase.execute(authUserId);
       return new ControllerResponseDto<>(200, signedUser);
-    } catch (MissingRequestAuthUserIdException | UserNotFoundByIdException | TokenExpiredException | InvalidTokenException e) {
+    } catch (
+        MissingRequestAuthUserIdException |
+        InvalidEntityException |
+        UserNotFoundByIdException |
+        TokenExpiredException |
+        InvalidTokenException e) {
       return new ControllerResponseDto<>(400, e.getMessage());
     } catch (Exception e) {
       e.printStackTrace();
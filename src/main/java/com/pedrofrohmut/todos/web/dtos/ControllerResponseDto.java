@@ -3,6 +3,8 @@ package com.pedrofrohmut.todos.web.dtos;
 public class ControllerResponseDto<T> {
   public int httpStatus;
   public T body;
+  // Set by SpringAdapter on conditional reads, controllers leave it null
+  public String etag;
 
   public ControllerResponseDto(int httpStatus, T body) {
     this.httpStatus = httpStatus;
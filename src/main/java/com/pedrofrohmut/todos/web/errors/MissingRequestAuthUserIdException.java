@@ -1,6 +1,8 @@
 package com.pedrofrohmut.todos.web.errors;
 
-public class MissingRequestAuthUserIdException extends RuntimeException {
+import com.pedrofrohmut.todos.domain.errors.DomainException;
+
+public class MissingRequestAuthUserIdException extends DomainException {
 
   public static final String message = "Request is missing the auth user id when it required";
 
@@ -1,6 +1,8 @@
 package com.pedrofrohmut.todos.web.errors;
 
-public class MissingRequestBodyException extends RuntimeException {
+import com.pedrofrohmut.todos.domain.errors.DomainException;
+
+public class MissingRequestBodyException extends DomainException {
 
   public static final String message = "Request is missing the body when it required";
 
@@ -1,6 +1,8 @@
 package com.pedrofrohmut.todos.web.errors;
 
-public class MissingRequestParametersException extends RuntimeException {
+import com.pedrofrohmut.todos.domain.errors.DomainException;
+
+public class MissingRequestParametersException extends DomainException {
 
   public static final String message = "Request is missing the parameter(s) when it required";
 
@@ -0,0 +1,19 @@
+package com.pedrofrohmut.todos.web.routes;
+
+import com.pedrofrohmut.todos.infra.metrics.Metrics;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.GetMapping;
+
+@Component
+public class MetricsRoutes {
+
+  private static final String PROMETHEUS_CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+  @GetMapping(value = "/metrics", produces = PROMETHEUS_CONTENT_TYPE)
+  public ResponseEntity<?> getMetrics() {
+    return ResponseEntity.ok(Metrics.scrape());
+  }
+
+}
@@ -0,0 +1,35 @@
+package com.pedrofrohmut.todos.web.routes;
+
+import java.util.concurrent.CompletableFuture;
+
+import com.pedrofrohmut.todos.web.adapter.AdaptedRequest;
+import com.pedrofrohmut.todos.web.adapter.ControllerAction;
+import com.pedrofrohmut.todos.web.adapter.ControllerRegistry;
+import com.pedrofrohmut.todos.web.adapter.SpringAdapter;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+@Component
+@RequestMapping("/api/search")
+public class SearchRoutes {
+
+  private static final String TOKEN_HEADER = "authentication_token";
+
+  private static final ControllerAction SEARCH =
+    ControllerRegistry.resolve("SearchController", "search");
+
+  @GetMapping
+  public CompletableFuture<ResponseEntity<?>> search(
+      @RequestParam(required = false) String q,
+      @RequestParam(required = false) String limit,
+      @RequestHeader(TOKEN_HEADER) String token) {
+    final var query = AdaptedRequest.searchQuery(q, limit);
+    return SpringAdapter.dispatch(SEARCH, null, token, null, query);
+  }
+
+}
@@ -0,0 +1,52 @@
+package com.pedrofrohmut.todos.web.routes;
+
+import com.pedrofrohmut.todos.infra.factories.ConnectionFactory;
+import com.pedrofrohmut.todos.infra.factories.DataAccessFactory;
+import com.pedrofrohmut.todos.infra.services.BcryptPasswordService;
+import com.pedrofrohmut.todos.web.adapter.SpringAdapter;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+@Component
+@RequestMapping("/api/stats")
+public class StatsRoutes {
+
+  @GetMapping("/pool")
+  public ResponseEntity<?> getPoolStats() {
+    return ResponseEntity.ok(ConnectionFactory.getPoolStats());
+  }
+
+  @GetMapping("/statements")
+  public ResponseEntity<?> getStatementCacheStats() {
+    return ResponseEntity.ok(ConnectionFactory.getStatementCacheStats());
+  }
+
+  @GetMapping("/users")
+  public ResponseEntity<?> getUserCacheStats() {
+    return ResponseEntity.ok(DataAccessFactory.getUserCacheStats());
+  }
+
+  @GetMapping("/writebehind")
+  public ResponseEntity<?> getWriteBehindStats() {
+    return ResponseEntity.ok(DataAccessFactory.getWriteBehindStats());
+  }
+
+  @GetMapping("/search")
+  public ResponseEntity<?> getSearchIndexStats() {
+    return ResponseEntity.ok(DataAccessFactory.getSearchIndexStats());
+  }
+
+  @GetMapping("/passwords")
+  public ResponseEntity<?> getPasswordHashingStats() {
+    return ResponseEntity.ok(BcryptPasswordService.getStats());
+  }
+
+  @GetMapping("/requests")
+  public ResponseEntity<?> getRequestExecutorStats() {
+    return ResponseEntity.ok(SpringAdapter.getExecutorStats());
+  }
+
+}
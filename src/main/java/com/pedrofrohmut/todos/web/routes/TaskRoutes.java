@@ -1,9 +1,15 @@
 package com.pedrofrohmut.todos.web.routes;
 
+import java.util.concurrent.CompletableFuture;
+
 import com.pedrofrohmut.todos.domain.dtos.CreateTaskDto;
 import com.pedrofrohmut.todos.domain.dtos.UpdateTaskDto;
+import com.pedrofrohmut.todos.web.adapter.AdaptedRequest;
+import com.pedrofrohmut.todos.web.adapter.ControllerAction;
+import com.pedrofrohmut.todos.web.adapter.ControllerRegistry;
 import com.pedrofrohmut.todos.web.adapter.SpringAdapter;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -14,6 +20,8 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Component
 @RequestMapping("/api/tasks")
@@ -21,36 +29,64 @@ public class TaskRoutes {
 
   private static final String TOKEN_HEADER = "authentication_token";
 
+  private static final ControllerAction CREATE =
+    ControllerRegistry.resolve("TaskController", "create");
+  private static final ControllerAction FIND_BY_ID =
+    ControllerRegistry.resolve("TaskController", "findById");
+  private static final ControllerAction FIND_VERSION_BY_ID =
+    ControllerRegistry.resolve("TaskController", "findVersionById");
+  private static final ControllerAction FIND_BY_USER_ID =
+    ControllerRegistry.resolve("TaskController", "findByUserId");
+  private static final ControllerAction STREAM_BY_USER_ID =
+    ControllerRegistry.resolve("TaskController", "streamByUserId");
+  private static final ControllerAction UPDATE =
+    ControllerRegistry.resolve("TaskController", "update");
+  private static final ControllerAction DELETE =
+    ControllerRegistry.resolve("TaskController", "delete");
+
   @PostMapping
-  public ResponseEntity<?> create(
+  public CompletableFuture<ResponseEntity<?>> create(
       @RequestBody CreateTaskDto dto, @RequestHeader(TOKEN_HEADER) String token) {
-    return SpringAdapter.callController("TaskController", "create", dto, token, null);
+    return SpringAdapter.dispatch(CREATE, dto, token, null);
   }
 
   @GetMapping("/{taskId}")
-  public ResponseEntity<?> findById(
-      @PathVariable String taskId, @RequestHeader(TOKEN_HEADER) String token) {
-    return SpringAdapter.callController("TaskController", "findById", null, token, taskId);
+  public CompletableFuture<ResponseEntity<?>> findById(
+      @PathVariable String taskId,
+      @RequestHeader(TOKEN_HEADER) String token,
+      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+    return SpringAdapter.dispatchConditional(
+        FIND_VERSION_BY_ID, FIND_BY_ID, token, taskId, ifNoneMatch);
   }
 
   @GetMapping("/user/{userId}")
-  public ResponseEntity<?> findByUserId(
+  public CompletableFuture<ResponseEntity<?>> findByUserId(
+      @PathVariable String userId,
+      @RequestParam(required = false) String limit,
+      @RequestParam(required = false) String cursor,
+      @RequestHeader(TOKEN_HEADER) String token) {
+    final var query = AdaptedRequest.pageQuery(limit, cursor);
+    return SpringAdapter.dispatch(FIND_BY_USER_ID, null, token, userId, query);
+  }
+
+  @GetMapping("/user/{userId}/stream")
+  public ResponseEntity<StreamingResponseBody> streamByUserId(
       @PathVariable String userId, @RequestHeader(TOKEN_HEADER) String token) {
-    return SpringAdapter.callController("TaskController", "findByUserId", null, token, userId);
+    return SpringAdapter.stream(STREAM_BY_USER_ID, null, token, userId);
   }
 
   @PutMapping("/{taskId}")
-  public ResponseEntity<?> update(
+  public CompletableFuture<ResponseEntity<?>> update(
       @PathVariable String taskId,
       @RequestBody UpdateTaskDto dto,
       @RequestHeader(TOKEN_HEADER) String token) {
-    return SpringAdapter.callController("TaskController", "update", dto, token, taskId);
+    return SpringAdapter.dispatch(UPDATE, dto, token, taskId);
   }
 
   @DeleteMapping("/{taskId}")
-  public ResponseEntity<?> delete(
+  public CompletableFuture<ResponseEntity<?>> delete(
       @PathVariable String taskId, @RequestHeader(TOKEN_HEADER) String token) {
-    return SpringAdapter.callController("TaskController", "delete", null, token, taskId);
+    return SpringAdapter.dispatch(DELETE, null, token, taskId);
   }
 
 }
@@ -1,9 +1,16 @@
 package com.pedrofrohmut.todos.web.routes;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 import com.pedrofrohmut.todos.domain.dtos.CreateTodoDto;
 import com.pedrofrohmut.todos.domain.dtos.UpdateTodoDto;
+import com.pedrofrohmut.todos.web.adapter.AdaptedRequest;
+import com.pedrofrohmut.todos.web.adapter.ControllerAction;
+import com.pedrofrohmut.todos.web.adapter.ControllerRegistry;
 import com.pedrofrohmut.todos.web.adapter.SpringAdapter;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -15,6 +22,8 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Component
 @RequestMapping("/api/todos")
@@ -22,56 +31,120 @@ public class TodoRoutes {
 
   private static final String TOKEN_HEADER = "authentication_token";
 
+  private static final ControllerAction CREATE =
+    ControllerRegistry.resolve("TodoController", "create");
+  private static final ControllerAction FIND_BY_ID =
+    ControllerRegistry.resolve("TodoController", "findById");
+  private static final ControllerAction FIND_BY_TASK_ID =
+    ControllerRegistry.resolve("TodoController", "findByTaskId");
+  private static final ControllerAction FIND_VERSION_BY_TASK_ID =
+    ControllerRegistry.resolve("TodoController", "findVersionByTaskId");
+  private static final ControllerAction STREAM_BY_TASK_ID =
+    ControllerRegistry.resolve("TodoController", "streamByTaskId");
+  private static final ControllerAction UPDATE =
+    ControllerRegistry.resolve("TodoController", "update");
+  private static final ControllerAction SET_DONE =
+    ControllerRegistry.resolve("TodoController", "setDone");
+  private static final ControllerAction SET_NOT_DONE =
+    ControllerRegistry.resolve("TodoController", "setNotDone");
+  private static final ControllerAction DELETE =
+    ControllerRegistry.resolve("TodoController", "delete");
+  private static final ControllerAction CLEAR_COMPLETE_BY_TASK_ID =
+    ControllerRegistry.resolve("TodoController", "clearCompleteByTaskId");
+  private static final ControllerAction BULK_CREATE =
+    ControllerRegistry.resolve("TodoController", "bulkCreate");
+  private static final ControllerAction BULK_SET_DONE =
+    ControllerRegistry.resolve("TodoController", "bulkSetDone");
+  private static final ControllerAction BULK_SET_NOT_DONE =
+    ControllerRegistry.resolve("TodoController", "bulkSetNotDone");
+  private static final ControllerAction BULK_DELETE =
+    ControllerRegistry.resolve("TodoController", "bulkDelete");
+
   @PostMapping
-  public ResponseEntity<?> create(
+  public CompletableFuture<ResponseEntity<?>> create(
       @RequestBody CreateTodoDto dto, @RequestHeader(TOKEN_HEADER) String token) {
-    return SpringAdapter.callController("TodoController", "create", dto, token, null);
+    return SpringAdapter.dispatch(CREATE, dto, token, null);
   }
 
   @GetMapping("/{todoId}")
-  public ResponseEntity<?> findById(
+  public CompletableFuture<ResponseEntity<?>> findById(
       @PathVariable String todoId, @RequestHeader(TOKEN_HEADER) String token) {
-    return SpringAdapter.callController("TodoController", "findById", null, token, todoId);
+    return SpringAdapter.dispatch(FIND_BY_ID, null, token, todoId);
   }
 
   @GetMapping("/task/{taskId}")
-  public ResponseEntity<?> findByTaskId(
+  public CompletableFuture<ResponseEntity<?>> findByTaskId(
+      @PathVariable String taskId,
+      @RequestParam(required = false) String limit,
+      @RequestParam(required = false) String cursor,
+      @RequestHeader(TOKEN_HEADER) String token,
+      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+    final var query = AdaptedRequest.pageQuery(limit, cursor);
+    return SpringAdapter.dispatchConditional(
+        FIND_VERSION_BY_TASK_ID, FIND_BY_TASK_ID, token, taskId, query, ifNoneMatch);
+  }
+
+  @GetMapping("/task/{taskId}/stream")
+  public ResponseEntity<StreamingResponseBody> streamByTaskId(
       @PathVariable String taskId, @RequestHeader(TOKEN_HEADER) String token) {
-    return SpringAdapter.callController("TodoController", "findByTaskId", null, token, taskId);
+    return SpringAdapter.stream(STREAM_BY_TASK_ID, null, token, taskId);
   }
 
   @PutMapping("/{todoId}")
-  public ResponseEntity<?> update(
+  public CompletableFuture<ResponseEntity<?>> update(
       @PathVariable String todoId,
       @RequestBody UpdateTodoDto dto,
       @RequestHeader(TOKEN_HEADER) String token
   ) {
-    return SpringAdapter.callController("TodoController", "update", dto, token, todoId);
+    return SpringAdapter.dispatch(UPDATE, dto, token, todoId);
   }
 
   @PatchMapping("/setdone/{todoId}")
-  public ResponseEntity<?> setDone(
+  public CompletableFuture<ResponseEntity<?>> setDone(
       @PathVariable String todoId, @RequestHeader(TOKEN_HEADER) String token) {
-    return SpringAdapter.callController("TodoController", "setDone", null, token, todoId);
+    return SpringAdapter.dispatch(SET_DONE, null, token, todoId);
   }
 
   @PatchMapping("/setnotdone/{todoId}")
-  public ResponseEntity<?> setNotDone(
+  public CompletableFuture<ResponseEntity<?>> setNotDone(
       @PathVariable String todoId, @RequestHeader(TOKEN_HEADER) String token) {
-    return SpringAdapter.callController("TodoController", "setNotDone", null, token, todoId);
+    return SpringAdapter.dispatch(SET_NOT_DONE, null, token, todoId);
   }
 
   @DeleteMapping("/{todoId}")
-  public ResponseEntity<?> delete(
+  public CompletableFuture<ResponseEntity<?>> delete(
       @PathVariable String todoId, @RequestHeader(TOKEN_HEADER) String token) {
-    return SpringAdapter.callController("TodoController", "delete", null, token, todoId);
+    return SpringAdapter.dispatch(DELETE, null, token, todoId);
   }
 
   @DeleteMapping("/task/{taskId}")
-  public ResponseEntity<?> clearCompleteByTaskId(
+  public CompletableFuture<ResponseEntity<?>> clearCompleteByTaskId(
       @PathVariable String taskId, @RequestHeader(TOKEN_HEADER) String token) {
-    return SpringAdapter.callController(
-        "TodoController", "clearCompleteByTaskId", null, token, taskId);
+    return SpringAdapter.dispatch(CLEAR_COMPLETE_BY_TASK_ID, null, token, taskId);
+  }
+
+  @PostMapping("/bulk")
+  public CompletableFuture<ResponseEntity<?>> bulkCreate(
+      @RequestBody List<CreateTodoDto> dtos, @RequestHeader(TOKEN_HEADER) String token) {
+    return SpringAdapter.dispatch(BULK_CREATE, dtos, token, null);
+  }
+
+  @PatchMapping("/bulk/setdone")
+  public CompletableFuture<ResponseEntity<?>> bulkSetDone(
+      @RequestBody List<String> todoIds, @RequestHeader(TOKEN_HEADER) String token) {
+    return SpringAdapter.dispatch(BULK_SET_DONE, todoIds, token, null);
+  }
+
+  @PatchMapping("/bulk/setnotdone")
+  public CompletableFuture<ResponseEntity<?>> bulkSetNotDone(
+      @RequestBody List<String> todoIds, @RequestHeader(TOKEN_HEADER) String token) {
+    return SpringAdapter.dispatch(BULK_SET_NOT_DONE, todoIds, token, null);
+  }
+
+  @DeleteMapping("/bulk")
+  public CompletableFuture<ResponseEntity<?>> bulkDelete(
+      @RequestBody List<String> todoIds, @RequestHeader(TOKEN_HEADER) String token) {
+    return SpringAdapter.dispatch(BULK_DELETE, todoIds, token, null);
   }
 
 }
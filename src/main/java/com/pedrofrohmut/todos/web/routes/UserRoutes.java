@@ -1,7 +1,11 @@
 package com.pedrofrohmut.todos.web.routes;
 
+import java.util.concurrent.CompletableFuture;
+
 import com.pedrofrohmut.todos.domain.dtos.CreateUserDto;
 import com.pedrofrohmut.todos.domain.dtos.SignInUserDto;
+import com.pedrofrohmut.todos.web.adapter.ControllerAction;
+import com.pedrofrohmut.todos.web.adapter.ControllerRegistry;
 import com.pedrofrohmut.todos.web.adapter.SpringAdapter;
 
 import org.springframework.http.ResponseEntity;
@@ -16,19 +20,26 @@ import org.springframework.web.bind.annotation.RequestMapping;
 @RequestMapping("/api/users")
 public class UserRoutes {
 
+  private static final ControllerAction CREATE =
+    ControllerRegistry.resolve("UserController", "create");
+  private static final ControllerAction SIGN_IN =
+    ControllerRegistry.resolve("UserController", "signIn");
+  private static final ControllerAction GET_SIGNED =
+    ControllerRegistry.resolve("UserController", "getSigned");
+
   @PostMapping
-  public ResponseEntity<?> create(@RequestBody CreateUserDto dto) {
-    return SpringAdapter.callController("UserController", "create", dto, null, null);
+  public CompletableFuture<ResponseEntity<?>> create(@RequestBody CreateUserDto dto) {
+    return SpringAdapter.dispatch(CREATE, dto, null, null);
   }
 
   @PostMapping("/signin")
-  public ResponseEntity<?> signIn(@RequestBody SignInUserDto dto) {
-    return SpringAdapter.callController("UserController", "signIn", dto, null, null);
+  public CompletableFuture<ResponseEntity<?>> signIn(@RequestBody SignInUserDto dto) {
+    return SpringAdapter.dispatch(SIGN_IN, dto, null, null);
   }
 
   @GetMapping("/signed")
-  public ResponseEntity<?> getSignedUser(@RequestHeader("authentication_token") String token) {
-    return SpringAdapter.callController("UserController", "getSigned", null, token, null);
+  public CompletableFuture<ResponseEntity<?>> getSignedUser(@RequestHeader("authentication_token") String token) {
+    return SpringAdapter.dispatch(GET_SIGNED, null, token, null);
   }
 
 }
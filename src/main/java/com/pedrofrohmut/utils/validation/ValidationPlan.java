@@ -0,0 +1,144 @@
+package com.pedrofrohmut.utils.validation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+// Rules for the string fields of a T, declared once and flattened into parallel arrays and lists
+// that validate walks in declaration order. The first failing check throws the error of the plan it
+// was declared in; a passing run allocates nothing.
+public final class ValidationPlan<T> {
+
+  private static final int REQUIRED = 0;
+  private static final int LENGTH = 1;
+  private static final int MAX_LENGTH = 2;
+  private static final int EMAIL = 3;
+
+  private final List<Function<T, String>> fields;
+  private final int[] kinds;
+  private final int[] mins;
+  private final int[] maxs;
+  private final String[] messages;
+  private final List<Function<String, ? extends RuntimeException>> errors;
+
+  private ValidationPlan(List<Check<T>> checks) {
+    final var size = checks.size();
+    final var fields = new ArrayList<Function<T, String>>(size);
+    final var errors = new ArrayList<Function<String, ? extends RuntimeException>>(size);
+    this.kinds = new int[size];
+    this.mins = new int[size];
+    this.maxs = new int[size];
+    this.messages = new String[size];
+    for (var i = 0; i < size; i++) {
+      final var check = checks.get(i);
+      fields.add(check.field);
+      kinds[i] = check.kind;
+      mins[i] = check.min;
+      maxs[i] = check.max;
+      messages[i] = check.message;
+      errors.add(check.error);
+    }
+    this.fields = List.copyOf(fields);
+    this.errors = List.copyOf(errors);
+  }
+
+  public static <T> Builder<T> of(Function<String, ? extends RuntimeException> error) {
+    return new Builder<>(error);
+  }
+
+  public void validate(T target) {
+    for (var i = 0; i < kinds.length; i++) {
+      if (!passes(i, fields.get(i).apply(target))) {
+        throw errors.get(i).apply(messages[i]);
+      }
+    }
+  }
+
+  private boolean passes(int i, String value) {
+    switch (kinds[i]) {
+      case REQUIRED:
+        return value != null && !value.isBlank();
+      case LENGTH:
+        return value.length() >= mins[i] && value.length() <= maxs[i];
+      // Optional fields, a null one has no length to check
+      case MAX_LENGTH:
+        return value == null || value.length() <= maxs[i];
+      case EMAIL:
+        return Validator.isEmail(value);
+      default:
+        throw new IllegalStateException("Unknown check kind " + kinds[i]);
+    }
+  }
+
+  public static final class Builder<T> {
+
+    private final Function<String, ? extends RuntimeException> error;
+    private final List<Check<T>> checks = new ArrayList<>();
+
+    private Builder(Function<String, ? extends RuntimeException> error) {
+      this.error = error;
+    }
+
+    // Required checks go before the others of a field, which assume the value is not null
+    public Builder<T> required(Function<T, String> field, String message) {
+      return add(field, REQUIRED, 0, 0, message);
+    }
+
+    public Builder<T> length(Function<T, String> field, int min, int max, String message) {
+      return add(field, LENGTH, min, max, message);
+    }
+
+    public Builder<T> maxLength(Function<T, String> field, int max, String message) {
+      return add(field, MAX_LENGTH, 0, max, message);
+    }
+
+    public Builder<T> email(Function<T, String> field, String message) {
+      return add(field, EMAIL, 0, 0, message);
+    }
+
+    // Runs every check of plan on field, each still throwing the error of plan
+    public Builder<T> include(Function<T, String> field, ValidationPlan<String> plan) {
+      for (var i = 0; i < plan.kinds.length; i++) {
+        checks.add(new Check<>(
+            plan.fields.get(i).compose(field), plan.kinds[i], plan.mins[i], plan.maxs[i],
+            plan.messages[i], plan.errors.get(i)));
+      }
+      return this;
+    }
+
+    public ValidationPlan<T> build() {
+      return new ValidationPlan<>(checks);
+    }
+
+    private Builder<T> add(Function<T, String> field, int kind, int min, int max, String message) {
+      checks.add(new Check<>(field, kind, min, max, message, error));
+      return this;
+    }
+
+  }
+
+  private static final class Check<T> {
+    final Function<T, String> field;
+    final int kind;
+    final int min;
+    final int max;
+    final String message;
+    final Function<String, ? extends RuntimeException> error;
+
+    Check(
+        Function<T, String> field,
+        int kind,
+        int min,
+        int max,
+        String message,
+        Function<String, ? extends RuntimeException> error) {
+      this.field = field;
+      this.kind = kind;
+      this.min = min;
+      this.max = max;
+      this.message = message;
+      this.error = error;
+    }
+  }
+
+}
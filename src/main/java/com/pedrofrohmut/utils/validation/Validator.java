@@ -1,15 +1,74 @@
 package com.pedrofrohmut.utils.validation;
 
-import java.util.regex.Pattern;
-
 public class Validator {
 
-  private static final String emailRegex =
-    "^[a-zA-Z0-9_+&*-]+(?:\\.[a-zA-Z0-9_+&*-]+)*@(?:[a-zA-Z0-9-]+\\.)+[a-zA-Z]{2,7}$";
-
+  // Accepts what ^[a-zA-Z0-9_+&*-]+(?:\.[a-zA-Z0-9_+&*-]+)*@(?:[a-zA-Z0-9-]+\.)+[a-zA-Z]{2,7}$
+  // does, scanned by hand so a check neither compiles a pattern nor allocates a matcher
   public static boolean isEmail(String email) {
-    final var isEmail = Pattern.matches(emailRegex, email);
-    return isEmail;
+    final var at = email.indexOf('@');
+    if (at < 0) {
+      return false;
+    }
+    return isLocalPart(email, 0, at) && isDomain(email, at + 1, email.length());
+  }
+
+  // Dot separated runs of local part characters, none of them empty
+  private static boolean isLocalPart(String email, int start, int end) {
+    var runLength = 0;
+    for (var i = start; i < end; i++) {
+      final var c = email.charAt(i);
+      if (c == '.') {
+        if (runLength == 0) {
+          return false;
+        }
+        runLength = 0;
+      } else if (isAlphanumeric(c) || c == '_' || c == '+' || c == '&' || c == '*' || c == '-') {
+        runLength++;
+      } else {
+        return false;
+      }
+    }
+    return runLength > 0;
+  }
+
+  // At least one label and a dot before a top level domain of 2 to 7 letters
+  private static boolean isDomain(String email, int start, int end) {
+    final var lastDot = email.lastIndexOf('.', end - 1);
+    if (lastDot < start) {
+      return false;
+    }
+    var labelLength = 0;
+    for (var i = start; i <= lastDot; i++) {
+      final var c = email.charAt(i);
+      if (c == '.') {
+        if (labelLength == 0) {
+          return false;
+        }
+        labelLength = 0;
+      } else if (isAlphanumeric(c) || c == '-') {
+        labelLength++;
+      } else {
+        return false;
+      }
+    }
+    final var tldLength = end - lastDot - 1;
+    if (tldLength < 2 || tldLength > 7) {
+      return false;
+    }
+    for (var i = lastDot + 1; i < end; i++) {
+      if (!isLetter(email.charAt(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isLetter(char c) {
+    return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+  }
+
+  private static boolean isAlphanumeric(char c) {
+    return isLetter(c) || (c >= '0' && c <= '9');
   }
 
 }
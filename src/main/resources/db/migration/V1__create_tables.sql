@@ -1,12 +1,8 @@
-DROP TABLE IF EXISTS app.todos;
-
-DROP TABLE IF EXISTS app.tasks;
-
-DROP TABLE IF EXISTS app.users;
-
 CREATE EXTENSION IF NOT EXISTS "uuid-ossp";
 
-CREATE TABLE app.users (
+CREATE SCHEMA IF NOT EXISTS app;
+
+CREATE TABLE IF NOT EXISTS app.users (
   id UUID DEFAULT uuid_generate_v4(),
   name TEXT NOT NULL,
   email TEXT NOT NULL UNIQUE,
@@ -14,9 +10,9 @@ CREATE TABLE app.users (
   PRIMARY KEY (id)
 );
 
-CREATE INDEX index_users_email ON app.users(email);
+CREATE INDEX IF NOT EXISTS index_users_email ON app.users(email);
 
-CREATE TABLE app.tasks (
+CREATE TABLE IF NOT EXISTS app.tasks (
   id UUID DEFAULT uuid_generate_v4(),
   name TEXT NOT NULL,
   description TEXT,
@@ -26,7 +22,7 @@ CREATE TABLE app.tasks (
   CONSTRAINT fk_tasks_user FOREIGN KEY (user_id) REFERENCES app.users(id) ON DELETE CASCADE
 );
 
-CREATE TABLE app.todos (
+CREATE TABLE IF NOT EXISTS app.todos (
   id UUID DEFAULT uuid_generate_v4(),
   name TEXT NOT NULL,
   description TEXT,
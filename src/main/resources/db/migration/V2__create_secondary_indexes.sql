@@ -0,0 +1,11 @@
+-- TaskDataAccess findByUserId, ordered by creation for listing
+CREATE INDEX IF NOT EXISTS index_tasks_user_id_created_at ON app.tasks(user_id, created_at, id);
+
+-- TodoDataAccess findByTaskId, ordered by creation for listing
+CREATE INDEX IF NOT EXISTS index_todos_task_id_created_at ON app.todos(task_id, created_at, id);
+
+-- TodoDataAccess clearCompleteByTaskId only ever touches the done todos of a task
+CREATE INDEX IF NOT EXISTS index_todos_task_id_done ON app.todos(task_id) WHERE is_done = true;
+
+-- ON DELETE CASCADE from app.users would otherwise scan every todo
+CREATE INDEX IF NOT EXISTS index_todos_user_id ON app.todos(user_id);
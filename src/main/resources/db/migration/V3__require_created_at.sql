@@ -0,0 +1,8 @@
+-- Listing pages are keyed on (created_at, id), which needs every row to have a creation time
+UPDATE app.tasks SET created_at = now() WHERE created_at IS NULL;
+
+ALTER TABLE app.tasks ALTER COLUMN created_at SET NOT NULL;
+
+UPDATE app.todos SET created_at = now() WHERE created_at IS NULL;
+
+ALTER TABLE app.todos ALTER COLUMN created_at SET NOT NULL;
@@ -0,0 +1,69 @@
+-- Conditional reads compare these counters instead of loading rows. version counts the content
+-- writes to a row. todos_version counts the writes to the todos of a task, deletes included, which
+-- no column on app.todos could show.
+ALTER TABLE app.tasks ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 1;
+
+ALTER TABLE app.tasks ADD COLUMN IF NOT EXISTS todos_version BIGINT NOT NULL DEFAULT 1;
+
+ALTER TABLE app.todos ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 1;
+
+CREATE OR REPLACE FUNCTION app.bump_version() RETURNS trigger AS $$
+BEGIN
+  NEW.version := OLD.version + 1;
+  RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Writes that leave the content as it was keep the version, and so the clients' ETags
+CREATE TRIGGER tasks_bump_version
+  BEFORE UPDATE ON app.tasks
+  FOR EACH ROW
+  WHEN (OLD.name IS DISTINCT FROM NEW.name OR OLD.description IS DISTINCT FROM NEW.description)
+  EXECUTE PROCEDURE app.bump_version();
+
+CREATE TRIGGER todos_bump_version
+  BEFORE UPDATE ON app.todos
+  FOR EACH ROW
+  WHEN (
+    OLD.name IS DISTINCT FROM NEW.name OR
+    OLD.description IS DISTINCT FROM NEW.description OR
+    OLD.is_done IS DISTINCT FROM NEW.is_done)
+  EXECUTE PROCEDURE app.bump_version();
+
+-- Once per statement, so a bulk write bumps each of its tasks once
+CREATE OR REPLACE FUNCTION app.bump_todos_version() RETURNS trigger AS $$
+BEGIN
+  UPDATE app.tasks SET todos_version = todos_version + 1
+  WHERE id IN (SELECT task_id FROM changed_todos);
+  RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION app.bump_todos_version_on_update() RETURNS trigger AS $$
+BEGIN
+  UPDATE app.tasks SET todos_version = todos_version + 1
+  WHERE id IN (
+    SELECT new_todos.task_id FROM new_todos
+    JOIN old_todos ON old_todos.id = new_todos.id
+    WHERE new_todos.version <> old_todos.version);
+  RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER todos_insert_bump_todos_version
+  AFTER INSERT ON app.todos
+  REFERENCING NEW TABLE AS changed_todos
+  FOR EACH STATEMENT
+  EXECUTE PROCEDURE app.bump_todos_version();
+
+CREATE TRIGGER todos_delete_bump_todos_version
+  AFTER DELETE ON app.todos
+  REFERENCING OLD TABLE AS changed_todos
+  FOR EACH STATEMENT
+  EXECUTE PROCEDURE app.bump_todos_version();
+
+CREATE TRIGGER todos_update_bump_todos_version
+  AFTER UPDATE ON app.todos
+  REFERENCING OLD TABLE AS old_todos NEW TABLE AS new_todos
+  FOR EACH STATEMENT
+  EXECUTE PROCEDURE app.bump_todos_version_on_update();
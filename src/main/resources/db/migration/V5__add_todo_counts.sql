@@ -0,0 +1,66 @@
+-- How many todos a task has and how many of them are done, for the list of tasks to show progress
+-- without reading a single todo. Kept by the statement triggers of app.todos, in the transaction
+-- of the write, like todos_version.
+ALTER TABLE app.tasks ADD COLUMN IF NOT EXISTS todos_count INTEGER NOT NULL DEFAULT 0;
+
+ALTER TABLE app.tasks ADD COLUMN IF NOT EXISTS done_todos_count INTEGER NOT NULL DEFAULT 0;
+
+UPDATE app.tasks SET
+  todos_count = counts.todos_count,
+  done_todos_count = counts.done_todos_count
+FROM (
+  SELECT task_id, count(*) AS todos_count, count(*) FILTER (WHERE is_done) AS done_todos_count
+  FROM app.todos
+  GROUP BY task_id) AS counts
+WHERE app.tasks.id = counts.task_id;
+
+-- Inserted todos count up and deleted ones down, once per task per statement
+CREATE OR REPLACE FUNCTION app.count_todos() RETURNS trigger AS $$
+DECLARE
+  sign INTEGER := CASE TG_OP WHEN 'INSERT' THEN 1 ELSE -1 END;
+BEGIN
+  UPDATE app.tasks SET
+    todos_count = todos_count + sign * counts.todos_count,
+    done_todos_count = done_todos_count + sign * counts.done_todos_count
+  FROM (
+    SELECT task_id, count(*) AS todos_count, count(*) FILTER (WHERE is_done) AS done_todos_count
+    FROM changed_todos
+    GROUP BY task_id) AS counts
+  WHERE app.tasks.id = counts.task_id;
+  RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION app.count_todos_on_update() RETURNS trigger AS $$
+BEGIN
+  UPDATE app.tasks SET done_todos_count = done_todos_count + counts.done_todos_count
+  FROM (
+    SELECT new_todos.task_id,
+      count(*) FILTER (WHERE new_todos.is_done) -
+      count(*) FILTER (WHERE old_todos.is_done) AS done_todos_count
+    FROM new_todos
+    JOIN old_todos ON old_todos.id = new_todos.id
+    WHERE new_todos.is_done IS DISTINCT FROM old_todos.is_done
+    GROUP BY new_todos.task_id) AS counts
+  WHERE app.tasks.id = counts.task_id;
+  RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER todos_insert_count_todos
+  AFTER INSERT ON app.todos
+  REFERENCING NEW TABLE AS changed_todos
+  FOR EACH STATEMENT
+  EXECUTE PROCEDURE app.count_todos();
+
+CREATE TRIGGER todos_delete_count_todos
+  AFTER DELETE ON app.todos
+  REFERENCING OLD TABLE AS changed_todos
+  FOR EACH STATEMENT
+  EXECUTE PROCEDURE app.count_todos();
+
+CREATE TRIGGER todos_update_count_todos
+  AFTER UPDATE ON app.todos
+  REFERENCING OLD TABLE AS old_todos NEW TABLE AS new_todos
+  FOR EACH STATEMENT
+  EXECUTE PROCEDURE app.count_todos_on_update();
@@ -0,0 +1,43 @@
+package com.pedrofrohmut.adapters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.pedrofrohmut.todos.web.adapter.ControllerRegistry;
+import com.pedrofrohmut.todos.web.errors.ControllerMethodNotFoundException;
+import com.pedrofrohmut.todos.web.errors.ControllerNotFoundException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@DisplayName("ControllerRegistry resolve")
+public class ControllerRegistryTests {
+
+  @Test
+  @DisplayName("Registered controller method => same action every time")
+  void registeredMethod() {
+    // When
+    final var first = ControllerRegistry.resolve("TodoController", "bulkSetDone");
+    final var second = ControllerRegistry.resolve("TodoController", "bulkSetDone");
+    // Then
+    assertThat(first).isNotNull();
+    assertThat(second).isSameAs(first);
+  }
+
+  @Test
+  @DisplayName("Unknown controller => ControllerNotFoundException")
+  void unknownController() {
+    assertThatThrownBy(() -> ControllerRegistry.resolve("InvalidController", "create"))
+      .isInstanceOf(ControllerNotFoundException.class);
+  }
+
+  @Test
+  @DisplayName("Unknown controller method => ControllerMethodNotFoundException")
+  void unknownMethod() {
+    assertThatThrownBy(() -> ControllerRegistry.resolve("UserController", "invalidMethod"))
+      .isInstanceOf(ControllerMethodNotFoundException.class);
+  }
+
+}
@@ -0,0 +1,361 @@
+package com.pedrofrohmut.todos.integration.infra.database;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import com.pedrofrohmut.todos.domain.entities.Id;
+import com.pedrofrohmut.todos.domain.entities.Task;
+import com.pedrofrohmut.todos.domain.entities.Todo;
+import com.pedrofrohmut.todos.domain.entities.User;
+import com.pedrofrohmut.todos.infra.dataaccess.TaskDataAccessImpl;
+import com.pedrofrohmut.todos.infra.dataaccess.TodoDataAccessImpl;
+import com.pedrofrohmut.todos.infra.dataaccess.UserDataAccessImpl;
+import com.pedrofrohmut.todos.infra.database.MigrationRunner;
+import com.pedrofrohmut.todos.infra.factories.ConnectionFactory;
+import com.pedrofrohmut.todos.utils.dataaccess.UserDataAccessUtil;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+@Tag("integration")
+@DisplayName("Query plans of the data access statements")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanIntTests {
+
+  // Large enough that the planner only picks a sequential scan when no index fits the query
+  static final int SEEDED_USERS = 1000;
+  static final int SEEDED_TASKS_PER_USER = 10;
+  static final int SEEDED_TODOS_PER_TASK = 10;
+
+  static final int PAGE_LIMIT = 3;
+
+  final Connection connection;
+  final UserDataAccessUtil userDataAccessUtil;
+
+  // Each statement the data access classes ran in the current call, with its plan
+  final Map<String, List<String>> plansBySql = new LinkedHashMap<>();
+
+  final UserDataAccessImpl userDataAccess;
+  final TaskDataAccessImpl taskDataAccess;
+  final TodoDataAccessImpl todoDataAccess;
+
+  Id userId;
+  Id taskId;
+  Id todoId;
+
+  public QueryPlanIntTests() {
+    connection = ConnectionFactory.getTestConnection();
+    userDataAccessUtil = new UserDataAccessUtil(connection);
+    final var explainingConnection = explaining(connection);
+    userDataAccess = new UserDataAccessImpl(explainingConnection);
+    taskDataAccess = new TaskDataAccessImpl(explainingConnection);
+    todoDataAccess = new TodoDataAccessImpl(explainingConnection);
+  }
+
+  // Every data access method that runs SQL, called against the seeded rows
+  Stream<Arguments> dataAccessCalls() {
+    return Stream.of(
+        Arguments.of("UserDataAccess.findByEmail", (Runnable) () ->
+            userDataAccess.findByEmail("user500@mail.com")),
+        Arguments.of("UserDataAccess.findById", (Runnable) () ->
+            userDataAccess.findById(userId)),
+        Arguments.of("UserDataAccess.create", (Runnable) () ->
+            userDataAccess.create(newUser())),
+        Arguments.of("TaskDataAccess.create", (Runnable) () ->
+            taskDataAccess.create(new Task("Task", "Description", userId))),
+        Arguments.of("TaskDataAccess.findById", (Runnable) () ->
+            taskDataAccess.findById(taskId)),
+        Arguments.of("TaskDataAccess.findVersionById", (Runnable) () ->
+            taskDataAccess.findVersionById(taskId)),
+        Arguments.of("TaskDataAccess.findByUserId", (Runnable) () ->
+            taskDataAccess.findByUserId(userId)),
+        Arguments.of("TaskDataAccess.findPageByUserId", (Runnable) () ->
+            taskDataAccess.findPageByUserId(userId, PAGE_LIMIT,
+                taskDataAccess.findPageByUserId(userId, PAGE_LIMIT, null).nextCursor)),
+        Arguments.of("TaskDataAccess.streamByUserId", (Runnable) () ->
+            taskDataAccess.streamByUserId(userId).forEach(task -> {})),
+        Arguments.of("TaskDataAccess.update", (Runnable) () ->
+            taskDataAccess.update(new Task(taskId, "Task", "Description", userId))),
+        Arguments.of("TaskDataAccess.delete", (Runnable) () ->
+            taskDataAccess.delete(taskId)),
+        Arguments.of("TaskDataAccess.updateIfOwner", (Runnable) () ->
+            taskDataAccess.updateIfOwner(taskId, "Task", "Description", userId)),
+        Arguments.of("TaskDataAccess.deleteIfOwner", (Runnable) () ->
+            taskDataAccess.deleteIfOwner(taskId, userId)),
+        Arguments.of("TodoDataAccess.create", (Runnable) () ->
+            todoDataAccess.create(new Todo("Todo", "Description", taskId, userId))),
+        Arguments.of("TodoDataAccess.findById", (Runnable) () ->
+            todoDataAccess.findById(todoId)),
+        Arguments.of("TodoDataAccess.findByTaskId", (Runnable) () ->
+            todoDataAccess.findByTaskId(taskId)),
+        Arguments.of("TodoDataAccess.findPageByTaskId", (Runnable) () ->
+            todoDataAccess.findPageByTaskId(taskId, PAGE_LIMIT,
+                todoDataAccess.findPageByTaskId(taskId, PAGE_LIMIT, null).nextCursor)),
+        Arguments.of("TodoDataAccess.streamByTaskId", (Runnable) () ->
+            todoDataAccess.streamByTaskId(taskId).forEach(todo -> {})),
+        Arguments.of("TodoDataAccess.findVersionByTaskId", (Runnable) () ->
+            todoDataAccess.findVersionByTaskId(taskId)),
+        Arguments.of("TodoDataAccess.update", (Runnable) () ->
+            todoDataAccess.update(new Todo(todoId, "Todo", "Description", true, taskId, userId))),
+        Arguments.of("TodoDataAccess.setDone", (Runnable) () ->
+            todoDataAccess.setDone(todoId)),
+        Arguments.of("TodoDataAccess.setNotDone", (Runnable) () ->
+            todoDataAccess.setNotDone(todoId)),
+        Arguments.of("TodoDataAccess.delete", (Runnable) () ->
+            todoDataAccess.delete(todoId)),
+        Arguments.of("TodoDataAccess.clearCompleteByTaskId", (Runnable) () ->
+            todoDataAccess.clearCompleteByTaskId(taskId)),
+        Arguments.of("TodoDataAccess.updateIfOwner", (Runnable) () ->
+            todoDataAccess.updateIfOwner(todoId, "Todo", "Description", userId)),
+        Arguments.of("TodoDataAccess.setDoneIfOwner", (Runnable) () ->
+            todoDataAccess.setDoneIfOwner(todoId, userId)),
+        Arguments.of("TodoDataAccess.setNotDoneIfOwner", (Runnable) () ->
+            todoDataAccess.setNotDoneIfOwner(todoId, userId)),
+        Arguments.of("TodoDataAccess.deleteIfOwner", (Runnable) () ->
+            todoDataAccess.deleteIfOwner(todoId, userId)),
+        Arguments.of("TodoDataAccess.createAll", (Runnable) () ->
+            todoDataAccess.createAll(List.of(
+                new Todo("Todo", "Description", taskId, userId),
+                new Todo("Todo", "Description", taskId, userId)))),
+        Arguments.of("TodoDataAccess.findUserIdsByIds", (Runnable) () ->
+            todoDataAccess.findUserIdsByIds(List.of(todoId, Id.random()))),
+        Arguments.of("TodoDataAccess.setDoneAll", (Runnable) () ->
+            todoDataAccess.setDoneAll(List.of(todoId, Id.random()), userId)),
+        Arguments.of("TodoDataAccess.setNotDoneAll", (Runnable) () ->
+            todoDataAccess.setNotDoneAll(List.of(todoId, Id.random()), userId)),
+        Arguments.of("TodoDataAccess.deleteAll", (Runnable) () ->
+            todoDataAccess.deleteAll(List.of(todoId, Id.random()), userId)),
+        Arguments.of("TodoDataAccess.setIsDoneByIds", (Runnable) () ->
+            todoDataAccess.setIsDoneByIds(Map.of(todoId, true, Id.random(), false))));
+  }
+
+  // The lists that carry the todo counts of each task
+  Stream<Arguments> taskListCalls() {
+    return Stream.of(
+        Arguments.of("TaskDataAccess.findByUserId", (Runnable) () ->
+            taskDataAccess.findByUserId(userId)),
+        Arguments.of("TaskDataAccess.findPageByUserId", (Runnable) () ->
+            taskDataAccess.findPageByUserId(userId, PAGE_LIMIT, null)),
+        Arguments.of("TaskDataAccess.streamByUserId", (Runnable) () ->
+            taskDataAccess.streamByUserId(userId).forEach(task -> {})));
+  }
+
+  // The reads that rebuild the search index, the only ones meant to go through whole tables
+  Stream<Arguments> fullTableCalls() {
+    return Stream.of(
+        Arguments.of("TaskDataAccess.streamAll", (Runnable) () ->
+            taskDataAccess.streamAll().forEach(task -> {})),
+        Arguments.of("TodoDataAccess.streamAll", (Runnable) () ->
+            todoDataAccess.streamAll().forEach(todo -> {})));
+  }
+
+  @BeforeAll
+  void beforeAll() throws SQLException {
+    new MigrationRunner().migrate(connection);
+    userDataAccessUtil.deleteAllUsers();
+    seed();
+    execute("ANALYZE app.users");
+    execute("ANALYZE app.tasks");
+    execute("ANALYZE app.todos");
+  }
+
+  @AfterAll
+  void afterAll() throws SQLException {
+    userDataAccessUtil.deleteAllUsers();
+    connection.close();
+  }
+
+  @Test
+  @DisplayName("Running the migrations again applies nothing")
+  void migrationsAreIdempotent() {
+    // When
+    final var applied = new MigrationRunner().migrate(connection);
+    // Then
+    assertThat(applied).isZero();
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("dataAccessCalls")
+  @DisplayName("Data access call => no sequential scan")
+  void noSequentialScan(String name, Runnable call) throws SQLException {
+    // When
+    explainCall(call);
+    // Then
+    assertThat(plansBySql).isNotEmpty();
+    plansBySql.forEach((sql, plan) ->
+        assertThat(plan).as(sql).noneMatch(line -> line.contains("Seq Scan")));
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("taskListCalls")
+  @DisplayName("Task list call => todo counts read off the task rows, not app.todos")
+  void taskListSkipsTodos(String name, Runnable call) throws SQLException {
+    // When
+    explainCall(call);
+    // Then
+    assertThat(plansBySql).isNotEmpty();
+    plansBySql.forEach((sql, plan) ->
+        assertThat(plan).as(sql).noneMatch(line -> line.contains(" on todos")));
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("fullTableCalls")
+  @DisplayName("Full table stream => one pass over the table, without a sort")
+  void fullTableStreamIsUnsorted(String name, Runnable call) throws SQLException {
+    // When
+    explainCall(call);
+    // Then
+    assertThat(plansBySql).hasSize(1);
+    plansBySql.forEach((sql, plan) ->
+        assertThat(plan).as(sql).noneMatch(line -> line.contains("Sort")));
+  }
+
+  private void explainCall(Runnable call) throws SQLException {
+    plansBySql.clear();
+    // Rolled back afterwards, so the writes leave the seeded rows as they were
+    connection.setAutoCommit(false);
+    try {
+      call.run();
+    } finally {
+      connection.rollback();
+      connection.setAutoCommit(true);
+    }
+  }
+
+  private void seed() throws SQLException {
+    execute(
+        "INSERT INTO app.users (name, email, password_hash)" +
+        " SELECT 'User ' || i, 'user' || i || '@mail.com', 'password_hash'" +
+        " FROM generate_series(1, " + SEEDED_USERS + ") AS i");
+    execute(
+        "INSERT INTO app.tasks (name, description, user_id)" +
+        " SELECT 'Task ' || i, 'Description', users.id" +
+        " FROM app.users, generate_series(1, " + SEEDED_TASKS_PER_USER + ") AS i");
+    execute(
+        "INSERT INTO app.todos (name, description, is_done, task_id, user_id)" +
+        " SELECT 'Todo ' || i, 'Description', i % 2 = 0, tasks.id, tasks.user_id" +
+        " FROM app.tasks, generate_series(1, " + SEEDED_TODOS_PER_TASK + ") AS i");
+    userId = selectId("SELECT id FROM app.users WHERE email = 'user500@mail.com'");
+    taskId = selectId("SELECT id FROM app.tasks WHERE user_id = '" + userId + "' LIMIT 1");
+    todoId = selectId("SELECT id FROM app.todos WHERE task_id = '" + taskId + "' LIMIT 1");
+  }
+
+  private User newUser() {
+    final var user = new User("New User", "new@mail.com");
+    user.setPasswordHash("password_hash");
+    return user;
+  }
+
+  private Id selectId(String sql) throws SQLException {
+    try (
+      final var stm = connection.createStatement();
+      final var rs = stm.executeQuery(sql);
+    ) {
+      rs.next();
+      return Id.of(rs.getObject("id", UUID.class));
+    }
+  }
+
+  // Hands out statements that run EXPLAIN with the same parameters before they execute, so the
+  // plans checked are those of the SQL the data access classes actually send
+  private Connection explaining(Connection target) {
+    return (Connection) Proxy.newProxyInstance(
+        Connection.class.getClassLoader(),
+        new Class<?>[] { Connection.class },
+        (proxy, method, args) -> {
+          final var result = invoke(target, method, args);
+          if (method.getName().equals("prepareStatement")) {
+            return explaining((PreparedStatement) result, (String) args[0]);
+          }
+          return result;
+        });
+  }
+
+  private PreparedStatement explaining(PreparedStatement target, String sql) {
+    final var parameters = new ArrayList<BoundParameter>();
+    return (PreparedStatement) Proxy.newProxyInstance(
+        PreparedStatement.class.getClassLoader(),
+        new Class<?>[] { PreparedStatement.class },
+        (proxy, method, args) -> {
+          final var name = method.getName();
+          if (isParameterSetter(method)) {
+            parameters.add(new BoundParameter(method, args));
+          } else if (name.equals("clearParameters")) {
+            parameters.clear();
+          } else if (args == null && (name.equals("addBatch") || isSingleExecute(name))) {
+            // A batch is explained with the parameters of its first row
+            plansBySql.putIfAbsent(sql, explain(sql, parameters));
+          }
+          return invoke(target, method, args);
+        });
+  }
+
+  private static boolean isParameterSetter(Method method) {
+    return method.getName().startsWith("set") &&
+      method.getParameterCount() >= 2 &&
+      method.getParameterTypes()[0] == int.class;
+  }
+
+  private static boolean isSingleExecute(String name) {
+    return name.startsWith("execute") && !name.equals("executeBatch");
+  }
+
+  private List<String> explain(String sql, List<BoundParameter> parameters) throws Throwable {
+    final var plan = new ArrayList<String>();
+    try (final var stm = connection.prepareStatement("EXPLAIN " + sql)) {
+      for (final var parameter : parameters) {
+        invoke(stm, parameter.setter, parameter.args);
+      }
+      try (final var rs = stm.executeQuery()) {
+        while (rs.next()) {
+          plan.add(rs.getString(1));
+        }
+      }
+    }
+    return plan;
+  }
+
+  private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+    try {
+      return method.invoke(target, args);
+    } catch (InvocationTargetException e) {
+      throw e.getCause();
+    }
+  }
+
+  private void execute(String sql) throws SQLException {
+    try (final var stm = connection.createStatement()) {
+      stm.execute(sql);
+    }
+  }
+
+  private static class BoundParameter {
+    final Method setter;
+    final Object[] args;
+
+    BoundParameter(Method setter, Object[] args) {
+      this.setter = setter;
+      this.args = args;
+    }
+  }
+
+}
@@ -96,7 +96,7 @@ public class UserControllerTests {
     assertThat(((SignedUserDto) controllerResponse.body).email).isEqualTo(foundUser.getEmail());
     final var responseToken = ((SignedUserDto) controllerResponse.body).token;
     final var responseTokenUserId = jwtService.getUserIdFromToken(responseToken);
-    assertThat(responseTokenUserId).isEqualTo(foundUser.getId());
+    assertThat(responseTokenUserId).isEqualTo(foundUser.getId().toString());
   }
 
   @Test
@@ -110,11 +110,11 @@ public class UserControllerTests {
     newUser.setPasswordHash(passwordHash);
     userDataAccessUtil.create(newUser);
     final var foundUser = userDataAccessUtil.findByEmail(USER_EMAIL);
-    final var token = jwtService.generateToken(foundUser.getId());
+    final var token = jwtService.generateToken(foundUser.getId().toString());
     final var userIdFromToken = jwtService.getUserIdFromToken(token);
     final var request = new AdaptedRequest<>(null, userIdFromToken, null);
     // Given
-    assertThat(userIdFromToken).isEqualTo(foundUser.getId());
+    assertThat(userIdFromToken).isEqualTo(foundUser.getId().toString());
     // When
     final var controllerResponse = userController.getSigned(getSignedUserUseCase, request);
     // Then
@@ -124,7 +124,7 @@ public class UserControllerTests {
     assertThat(((SignedUserDto) controllerResponse.body).email).isEqualTo(foundUser.getEmail());
     final var responseToken = ((SignedUserDto) controllerResponse.body).token;
     final var responseTokenUserId = jwtService.getUserIdFromToken(responseToken);
-    assertThat(responseTokenUserId).isEqualTo(foundUser.getId());
+    assertThat(responseTokenUserId).isEqualTo(foundUser.getId().toString());
   }
 
 }
@@ -2,10 +2,10 @@ package com.pedrofrohmut.todos.integration.web.controllers.users;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import java.sql.Connection;
-import java.util.UUID;
 
 import com.pedrofrohmut.todos.domain.dataaccess.UserDataAccess;
 import com.pedrofrohmut.todos.domain.dtos.CreateUserDto;
+import com.pedrofrohmut.todos.domain.entities.Id;
 import com.pedrofrohmut.todos.domain.entities.User;
 import com.pedrofrohmut.todos.domain.errors.InvalidUserException;
 import com.pedrofrohmut.todos.domain.errors.UserEmailAlreadyTakenException;
@@ -158,7 +158,7 @@ class UserControllerCreateIntTests {
     final var newUser = new CreateUserDto(USER_NAME, USER_EMAIL, USER_PASSWORD);
     final var passwordHash = passwordService.hashPassword("registered_user_password");
     final var registeredUser =
-      new User(UUID.randomUUID().toString(), "Registered User Name", USER_EMAIL, passwordHash);
+      new User(Id.random(), "Registered User Name", USER_EMAIL, passwordHash);
     userDataAccessUtil.create(registeredUser);
     final var foundUser = userDataAccessUtil.findByEmail(USER_EMAIL);
     request.body = newUser;
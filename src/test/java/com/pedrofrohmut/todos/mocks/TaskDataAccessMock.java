@@ -1,38 +1,66 @@
 package com.pedrofrohmut.todos.mocks;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
 import java.util.List;
 
+import com.pedrofrohmut.todos.domain.dataaccess.OwnershipWriteResult;
+import com.pedrofrohmut.todos.domain.dataaccess.RowVersion;
 import com.pedrofrohmut.todos.domain.dataaccess.TaskDataAccess;
+import com.pedrofrohmut.todos.domain.dtos.PageDto;
+import com.pedrofrohmut.todos.domain.entities.Id;
 import com.pedrofrohmut.todos.domain.entities.Task;
 
 public class TaskDataAccessMock {
 
+  public static final String NEXT_CURSOR = "next_cursor";
+  public static final long VERSION = 7;
+
   public static TaskDataAccess getMockForTaskFoundById(String taskId, String name, String description, String userId) {
-    final var taskDB = new Task(taskId, name, description, userId);
+    final var taskDB = new Task(Id.parse(taskId), name, description, Id.parse(userId));
     final var mockTaskDataAccess = mock(TaskDataAccess.class);
-    when(mockTaskDataAccess.findById(taskId)).thenReturn(taskDB);
+    when(mockTaskDataAccess.findById(Id.parse(taskId))).thenReturn(taskDB);
+    when(mockTaskDataAccess.findVersionById(Id.parse(taskId)))
+      .thenReturn(new RowVersion(Id.parse(userId), VERSION));
+    final var notOwner = OwnershipWriteResult.NOT_OWNER;
+    when(mockTaskDataAccess.updateIfOwner(eq(Id.parse(taskId)), any(), any(), any())).thenReturn(notOwner);
+    when(mockTaskDataAccess.deleteIfOwner(eq(Id.parse(taskId)), any())).thenReturn(notOwner);
+    final var written = OwnershipWriteResult.WRITTEN;
+    when(mockTaskDataAccess.updateIfOwner(eq(Id.parse(taskId)), any(), any(), eq(Id.parse(userId)))).thenReturn(written);
+    when(mockTaskDataAccess.deleteIfOwner(Id.parse(taskId), Id.parse(userId))).thenReturn(written);
     return mockTaskDataAccess;
   }
 
   public static TaskDataAccess getMockForTaskNotFoundById(String taskId) {
     final var mockTaskDataAccess = mock(TaskDataAccess.class);
-    when(mockTaskDataAccess.findById(taskId)).thenReturn(null);
+    when(mockTaskDataAccess.findById(Id.parse(taskId))).thenReturn(null);
+    final var notFound = OwnershipWriteResult.NOT_FOUND;
+    when(mockTaskDataAccess.updateIfOwner(eq(Id.parse(taskId)), any(), any(), any())).thenReturn(notFound);
+    when(mockTaskDataAccess.deleteIfOwner(eq(Id.parse(taskId)), any())).thenReturn(notFound);
     return mockTaskDataAccess;
   }
 
   public static TaskDataAccess getMockForTasksFoundByUserId(String userId, List<Task> tasks) {
     final var mockTaskDataAccess = mock(TaskDataAccess.class);
-    when(mockTaskDataAccess.findByUserId(userId)).thenReturn(tasks);
+    when(mockTaskDataAccess.findByUserId(Id.parse(userId))).thenReturn(tasks);
+    when(mockTaskDataAccess.findPageByUserId(eq(Id.parse(userId)), anyInt(), any())).thenAnswer(invocation -> {
+      final int limit = invocation.getArgument(1);
+      if (tasks.size() <= limit) {
+        return new PageDto<>(tasks, null);
+      }
+      return new PageDto<>(tasks.subList(0, limit), NEXT_CURSOR);
+    });
     return mockTaskDataAccess;
   }
 
   public static TaskDataAccess getMockForTasksNotFoundByUserId(String userId) {
     final var mockTaskDataAccess = mock(TaskDataAccess.class);
-    when(mockTaskDataAccess.findByUserId(userId)).thenReturn(new ArrayList<Task>());
+    when(mockTaskDataAccess.findByUserId(Id.parse(userId))).thenReturn(new ArrayList<Task>());
     return mockTaskDataAccess;
   }
 
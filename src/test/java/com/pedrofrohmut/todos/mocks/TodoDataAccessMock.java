@@ -1,44 +1,102 @@
 package com.pedrofrohmut.todos.mocks;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
-import java.util.UUID;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
+import com.pedrofrohmut.todos.domain.dataaccess.OwnershipWriteResult;
+import com.pedrofrohmut.todos.domain.dataaccess.RowVersion;
 import com.pedrofrohmut.todos.domain.dataaccess.TodoDataAccess;
+import com.pedrofrohmut.todos.domain.dtos.PageDto;
+import com.pedrofrohmut.todos.domain.entities.Id;
 import com.pedrofrohmut.todos.domain.entities.Todo;
 
 public class TodoDataAccessMock {
 
+  public static final String NEXT_CURSOR = "next_cursor";
+  public static final long VERSION = 11;
+
   public static TodoDataAccess getMockForTodoFoundById(
       String todoId, String name, String description, boolean isDone, String taskId, String userId) {
     final var mockTodoDataAccess = mock(TodoDataAccess.class);
-    final var todoDB = new Todo(todoId, name, description, isDone, taskId, userId);
-    when(mockTodoDataAccess.findById(todoId)).thenReturn(todoDB);
+    final var todoDB = new Todo(Id.parse(todoId), name, description, isDone, Id.parse(taskId), Id.parse(userId));
+    when(mockTodoDataAccess.findById(Id.parse(todoId))).thenReturn(todoDB);
+    final var notOwner = OwnershipWriteResult.NOT_OWNER;
+    when(mockTodoDataAccess.updateIfOwner(eq(Id.parse(todoId)), any(), any(), any())).thenReturn(notOwner);
+    when(mockTodoDataAccess.setDoneIfOwner(eq(Id.parse(todoId)), any())).thenReturn(notOwner);
+    when(mockTodoDataAccess.setNotDoneIfOwner(eq(Id.parse(todoId)), any())).thenReturn(notOwner);
+    when(mockTodoDataAccess.deleteIfOwner(eq(Id.parse(todoId)), any())).thenReturn(notOwner);
+    final var written = OwnershipWriteResult.WRITTEN;
+    when(mockTodoDataAccess.updateIfOwner(eq(Id.parse(todoId)), any(), any(), eq(Id.parse(userId)))).thenReturn(written);
+    when(mockTodoDataAccess.setDoneIfOwner(Id.parse(todoId), Id.parse(userId))).thenReturn(written);
+    when(mockTodoDataAccess.setNotDoneIfOwner(Id.parse(todoId), Id.parse(userId))).thenReturn(written);
+    when(mockTodoDataAccess.deleteIfOwner(Id.parse(todoId), Id.parse(userId))).thenReturn(written);
     return mockTodoDataAccess;
   }
 
   public static TodoDataAccess getMockForTodoNotFoundById(String todoId) {
     final var mockTodoDataAccess = mock(TodoDataAccess.class);
-    when(mockTodoDataAccess.findById(todoId)).thenReturn(null);
+    when(mockTodoDataAccess.findById(Id.parse(todoId))).thenReturn(null);
+    final var notFound = OwnershipWriteResult.NOT_FOUND;
+    when(mockTodoDataAccess.updateIfOwner(eq(Id.parse(todoId)), any(), any(), any())).thenReturn(notFound);
+    when(mockTodoDataAccess.setDoneIfOwner(eq(Id.parse(todoId)), any())).thenReturn(notFound);
+    when(mockTodoDataAccess.setNotDoneIfOwner(eq(Id.parse(todoId)), any())).thenReturn(notFound);
+    when(mockTodoDataAccess.deleteIfOwner(eq(Id.parse(todoId)), any())).thenReturn(notFound);
     return mockTodoDataAccess;
   }
 
   public static TodoDataAccess getMockForTodosFoundByTaskId(String taskId, String userId) {
     final var mockTodoDataAccess = mock(TodoDataAccess.class);
     final var todosDB = new ArrayList<Todo>();
-    todosDB.add(new Todo(UUID.randomUUID().toString(), "Todo Title 1", "Todo Description 1", false, taskId, userId));
-    todosDB.add(new Todo(UUID.randomUUID().toString(), "Todo Title 2", "Todo Description 2", false, taskId, userId));
-    todosDB.add(new Todo(UUID.randomUUID().toString(), "Todo Title 3", "Todo Description 3", false, taskId, userId));
-    when(mockTodoDataAccess.findByTaskId(taskId)).thenReturn(todosDB);
+    todosDB.add(new Todo(Id.random(), "Todo Title 1", "Todo Description 1", false, Id.parse(taskId), Id.parse(userId)));
+    todosDB.add(new Todo(Id.random(), "Todo Title 2", "Todo Description 2", false, Id.parse(taskId), Id.parse(userId)));
+    todosDB.add(new Todo(Id.random(), "Todo Title 3", "Todo Description 3", false, Id.parse(taskId), Id.parse(userId)));
+    when(mockTodoDataAccess.findByTaskId(Id.parse(taskId))).thenReturn(todosDB);
+    when(mockTodoDataAccess.streamByTaskId(Id.parse(taskId))).thenReturn(consumer -> todosDB.forEach(consumer));
+    when(mockTodoDataAccess.findVersionByTaskId(Id.parse(taskId))).thenReturn(new RowVersion(Id.parse(userId), VERSION));
+    when(mockTodoDataAccess.findPageByTaskId(eq(Id.parse(taskId)), anyInt(), any())).thenAnswer(invocation -> {
+      final int limit = invocation.getArgument(1);
+      if (todosDB.size() <= limit) {
+        return new PageDto<>(todosDB, null);
+      }
+      return new PageDto<>(todosDB.subList(0, limit), NEXT_CURSOR);
+    });
     return mockTodoDataAccess;
   }
 
   public static TodoDataAccess getMockForTodosNotFoundByTaskId(String taskId) {
     final var mockTodoDataAccess = mock(TodoDataAccess.class);
     final var todosDB = new ArrayList<Todo>();
-    when(mockTodoDataAccess.findByTaskId(taskId)).thenReturn(todosDB);
+    when(mockTodoDataAccess.findByTaskId(Id.parse(taskId))).thenReturn(todosDB);
+    return mockTodoDataAccess;
+  }
+
+  // Knows the owner of each todo in userIdsByTodoIds and creates todos with fresh ids
+  public static TodoDataAccess getMockForBulkTodos(Map<String, String> userIdsByTodoIds) {
+    final var mockTodoDataAccess = mock(TodoDataAccess.class);
+    when(mockTodoDataAccess.findUserIdsByIds(anyList())).thenAnswer(invocation -> {
+      final List<Id> todoIds = invocation.getArgument(0);
+      final var userIds = new HashMap<Id, Id>();
+      todoIds.stream()
+        .filter(todoId -> userIdsByTodoIds.containsKey(todoId.toString()))
+        .forEach(todoId -> userIds.put(todoId, Id.parse(userIdsByTodoIds.get(todoId.toString()))));
+      return userIds;
+    });
+    when(mockTodoDataAccess.createAll(anyList())).thenAnswer(invocation -> {
+      final List<Todo> newTodos = invocation.getArgument(0);
+      return newTodos.stream()
+        .map(todo -> Id.random())
+        .collect(Collectors.toList());
+    });
     return mockTodoDataAccess;
   }
 
@@ -0,0 +1,78 @@
+package com.pedrofrohmut.todos.unit.domain.entities;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.UUID;
+
+import com.pedrofrohmut.todos.domain.entities.Id;
+import com.pedrofrohmut.todos.domain.errors.InvalidEntityException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@Tag("unit")
+@DisplayName("Id parse and format")
+class IdTests {
+
+  @Test
+  @DisplayName("Canonical uuid => same uuid and same text back")
+  void roundTrip() {
+    // Given
+    final var uuid = UUID.randomUUID();
+    // When
+    final var id = Id.parse(uuid.toString());
+    // Then
+    assertThat(id.toUuid()).isEqualTo(uuid);
+    assertThat(id.toString()).isEqualTo(uuid.toString());
+    assertThat(id).isEqualTo(Id.of(uuid));
+    assertThat(id.hashCode()).isEqualTo(Id.of(uuid).hashCode());
+  }
+
+  @Test
+  @DisplayName("Upper case uuid => equal to the lower case one")
+  void upperCase() {
+    // Given
+    final var text = UUID.randomUUID().toString();
+    // Then
+    assertThat(Id.parse(text.toUpperCase())).isEqualTo(Id.parse(text));
+    assertThat(Id.parse(text.toUpperCase()).toString()).isEqualTo(text);
+  }
+
+  @Test
+  @DisplayName("Ids order like Postgres orders uuid columns")
+  void unsignedOrder() {
+    // Given
+    final var low = Id.parse("7fffffff-ffff-ffff-ffff-ffffffffffff");
+    final var high = Id.parse("80000000-0000-0000-0000-000000000000");
+    // Then
+    assertThat(low.compareTo(high)).isNegative();
+    assertThat(high.compareTo(low)).isPositive();
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+    "",
+    "   ",
+    "not-a-uuid",
+    "1-1-1-1-1",
+    "123e4567e89b12d3a456426614174000",
+    "123e4567-e89b-12d3-a456-42661417400g",
+    "123e4567-e89b-12d3-a456_426614174000",
+    "{123e4567-e89b-12d3-a456-426614174000}"
+  })
+  @DisplayName("Not a canonical uuid => InvalidEntityException")
+  void invalid(String text) {
+    assertThatThrownBy(() -> Id.parse(text)).isInstanceOf(InvalidEntityException.class);
+  }
+
+  @Test
+  @DisplayName("Null => InvalidEntityException")
+  void nullText() {
+    assertThatThrownBy(() -> Id.parse(null)).isInstanceOf(InvalidEntityException.class);
+  }
+
+}
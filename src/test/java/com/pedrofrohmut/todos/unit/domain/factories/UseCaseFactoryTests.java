@@ -0,0 +1,36 @@
+package com.pedrofrohmut.todos.unit.domain.factories;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.pedrofrohmut.todos.domain.errors.UseCaseNotListedException;
+import com.pedrofrohmut.todos.domain.factories.UseCaseFactory;
+import com.pedrofrohmut.todos.domain.usecases.todos.CreateTodoUseCase;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@DisplayName("UseCaseFactory getInstance")
+class UseCaseFactoryTests {
+
+  @Test
+  @DisplayName("Listed use case => the same instance on every call")
+  void listedUseCase() {
+    // When
+    final var first = UseCaseFactory.getInstance("CreateTodoUseCase");
+    final var second = UseCaseFactory.getInstance("CreateTodoUseCase");
+    // Then
+    assertThat(first).isInstanceOf(CreateTodoUseCase.class);
+    assertThat(second).isSameAs(first);
+  }
+
+  @Test
+  @DisplayName("Use case not listed => UseCaseNotListedException")
+  void useCaseNotListed() {
+    assertThatThrownBy(() -> UseCaseFactory.getInstance("InvalidUseCase"))
+      .isInstanceOf(UseCaseNotListedException.class);
+  }
+
+}
@@ -0,0 +1,121 @@
+package com.pedrofrohmut.todos.unit.infra.dataaccess;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.pedrofrohmut.todos.domain.dataaccess.UserDataAccess;
+import com.pedrofrohmut.todos.domain.entities.Id;
+import com.pedrofrohmut.todos.domain.entities.User;
+import com.pedrofrohmut.todos.infra.dataaccess.CachingUserDataAccess;
+import com.pedrofrohmut.todos.infra.dataaccess.UserCache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@DisplayName("Caching user data access")
+class CachingUserDataAccessTests {
+
+  static final Id USER_ID = Id.random();
+  static final String USER_NAME = "User Name";
+  static final String USER_EMAIL = "user@mail.com";
+  static final String USER_PASSWORD_HASH = "password_hash";
+  static final long TTL_MILLIS = 1000;
+  static final long NEGATIVE_TTL_MILLIS = 100;
+
+  final AtomicLong now = new AtomicLong();
+  final UserDataAccess mockUserDataAccess;
+  final UserCache userCache;
+  final CachingUserDataAccess cachingUserDataAccess;
+
+  public CachingUserDataAccessTests() {
+    mockUserDataAccess = mock(UserDataAccess.class);
+    when(mockUserDataAccess.findById(USER_ID))
+      .thenReturn(new User(USER_ID, USER_NAME, USER_EMAIL, USER_PASSWORD_HASH));
+    userCache = new UserCache(2, TTL_MILLIS, NEGATIVE_TTL_MILLIS, now::get);
+    cachingUserDataAccess = new CachingUserDataAccess(mockUserDataAccess, userCache);
+  }
+
+  void advanceMillis(long millis) {
+    now.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+  }
+
+  @Test
+  @DisplayName("Found user => read once and served from the cache until it expires")
+  void foundUserIsCached() {
+    // When
+    final var first = cachingUserDataAccess.findById(USER_ID);
+    final var second = cachingUserDataAccess.findById(USER_ID);
+    advanceMillis(TTL_MILLIS);
+    final var third = cachingUserDataAccess.findById(USER_ID);
+    // Then
+    assertThat(first.getEmail()).isEqualTo(USER_EMAIL);
+    assertThat(second.getEmail()).isEqualTo(USER_EMAIL);
+    assertThat(second).isNotSameAs(first);
+    assertThat(third).isNotNull();
+    verify(mockUserDataAccess, times(2)).findById(USER_ID);
+    final var stats = userCache.getStats();
+    assertThat(stats.hits).isEqualTo(1);
+    assertThat(stats.misses).isEqualTo(2);
+    assertThat(stats.expirations).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Missing user => cached as missing for the shorter ttl")
+  void missingUserIsCached() {
+    final var missingUserId = Id.random();
+    // When
+    assertThat(cachingUserDataAccess.findById(missingUserId)).isNull();
+    assertThat(cachingUserDataAccess.findById(missingUserId)).isNull();
+    advanceMillis(NEGATIVE_TTL_MILLIS);
+    assertThat(cachingUserDataAccess.findById(missingUserId)).isNull();
+    // Then
+    verify(mockUserDataAccess, times(2)).findById(missingUserId);
+    assertThat(userCache.getStats().negativeHits).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("New user => written through, cached users left as they are")
+  void createLeavesCache() {
+    final var missingUserId = Id.random();
+    cachingUserDataAccess.findById(missingUserId);
+    cachingUserDataAccess.findById(USER_ID);
+    final var newUser = new User(USER_NAME, "new@mail.com");
+    newUser.setPasswordHash(USER_PASSWORD_HASH);
+    // When
+    cachingUserDataAccess.create(newUser);
+    cachingUserDataAccess.findById(missingUserId);
+    cachingUserDataAccess.findById(USER_ID);
+    // Then
+    verify(mockUserDataAccess, times(1)).create(newUser);
+    verify(mockUserDataAccess, times(1)).findById(missingUserId);
+    verify(mockUserDataAccess, times(1)).findById(USER_ID);
+    assertThat(userCache.getStats().invalidations).isZero();
+  }
+
+  @Test
+  @DisplayName("More users than maxSize => least recently used is evicted")
+  void evictsLeastRecentlyUsed() {
+    final var otherUserId = Id.random();
+    final var anotherUserId = Id.random();
+    // When
+    cachingUserDataAccess.findById(USER_ID);
+    cachingUserDataAccess.findById(otherUserId);
+    cachingUserDataAccess.findById(USER_ID);
+    cachingUserDataAccess.findById(anotherUserId);
+    cachingUserDataAccess.findById(USER_ID);
+    // Then
+    final var stats = userCache.getStats();
+    assertThat(stats.size).isEqualTo(2);
+    assertThat(stats.evictions).isEqualTo(1);
+    verify(mockUserDataAccess, times(1)).findById(USER_ID);
+  }
+
+}
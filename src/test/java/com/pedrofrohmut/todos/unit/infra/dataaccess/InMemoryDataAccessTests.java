@@ -0,0 +1,234 @@
+package com.pedrofrohmut.todos.unit.infra.dataaccess;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import com.pedrofrohmut.todos.domain.dataaccess.OwnershipWriteResult;
+import com.pedrofrohmut.todos.domain.entities.Id;
+import com.pedrofrohmut.todos.domain.entities.Task;
+import com.pedrofrohmut.todos.domain.entities.Todo;
+import com.pedrofrohmut.todos.domain.entities.User;
+import com.pedrofrohmut.todos.infra.dataaccess.memory.InMemoryStore;
+import com.pedrofrohmut.todos.infra.dataaccess.memory.InMemoryTaskDataAccess;
+import com.pedrofrohmut.todos.infra.dataaccess.memory.InMemoryTodoDataAccess;
+import com.pedrofrohmut.todos.infra.dataaccess.memory.InMemoryUserDataAccess;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@DisplayName("In-memory data access")
+class InMemoryDataAccessTests {
+
+  static final String USER_EMAIL = "user@mail.com";
+  static final String OTHER_USER_EMAIL = "other@mail.com";
+
+  InMemoryUserDataAccess userDataAccess;
+  InMemoryTaskDataAccess taskDataAccess;
+  InMemoryTodoDataAccess todoDataAccess;
+  Id userId;
+  Id otherUserId;
+  Id taskId;
+
+  @BeforeEach
+  void beforeEach() {
+    final var store = new InMemoryStore(8);
+    userDataAccess = new InMemoryUserDataAccess(store);
+    taskDataAccess = new InMemoryTaskDataAccess(store);
+    todoDataAccess = new InMemoryTodoDataAccess(store);
+    userId = createUser("User Name", USER_EMAIL);
+    otherUserId = createUser("Other Name", OTHER_USER_EMAIL);
+    taskDataAccess.create(new Task("Task Name", "Task Description", userId));
+    taskId = taskDataAccess.findByUserId(userId).get(0).getId();
+  }
+
+  Id createUser(String name, String email) {
+    final var user = new User(name, email);
+    user.setPasswordHash("password_hash");
+    userDataAccess.create(user);
+    return userDataAccess.findByEmail(email).getId();
+  }
+
+  List<Id> createTodos(int count) {
+    final var newTodos = new ArrayList<Todo>();
+    for (var i = 0; i < count; i++) {
+      newTodos.add(new Todo("Todo " + i, "Description", taskId, userId));
+    }
+    return todoDataAccess.createAll(newTodos);
+  }
+
+  @Test
+  @DisplayName("Email already taken => throws")
+  void emailAlreadyTaken() {
+    // Given
+    assertThat(userDataAccess.findByEmail(USER_EMAIL)).isNotNull();
+    // Then
+    assertThatThrownBy(() -> createUser("Another Name", USER_EMAIL))
+      .isInstanceOf(RuntimeException.class);
+  }
+
+  @Test
+  @DisplayName("Todo for a task that does not exist => throws and creates nothing")
+  void todoForMissingTask() {
+    final var missingTaskId = Id.random();
+    final var newTodos = List.of(
+        new Todo("Todo Title", "Description", taskId, userId),
+        new Todo("Todo Title", "Description", missingTaskId, userId));
+    // Then
+    assertThatThrownBy(() -> todoDataAccess.createAll(newTodos)).isInstanceOf(RuntimeException.class);
+    assertThat(todoDataAccess.findByTaskId(taskId)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Todos are listed and paged in creation order")
+  void pagesInCreationOrder() {
+    final var todoIds = createTodos(5);
+    // When
+    final var firstPage = todoDataAccess.findPageByTaskId(taskId, 3, null);
+    final var secondPage = todoDataAccess.findPageByTaskId(taskId, 3, firstPage.nextCursor);
+    // Then
+    final var listedIds =
+      todoDataAccess.findByTaskId(taskId).stream().map(Todo::getId).collect(Collectors.toList());
+    assertThat(listedIds).containsExactlyInAnyOrderElementsOf(todoIds);
+    assertThat(firstPage.items).hasSize(3);
+    assertThat(firstPage.nextCursor).isNotNull();
+    assertThat(secondPage.items).hasSize(2);
+    assertThat(secondPage.nextCursor).isNull();
+    final var pagedIds = new ArrayList<Id>();
+    firstPage.items.forEach(todo -> pagedIds.add(todo.getId()));
+    secondPage.items.forEach(todo -> pagedIds.add(todo.getId()));
+    assertThat(pagedIds).containsExactlyElementsOf(listedIds);
+  }
+
+  @Test
+  @DisplayName("Owner checked writes => WRITTEN, NOT_OWNER or NOT_FOUND")
+  void ownerCheckedWrites() {
+    final var todoId = createTodos(1).get(0);
+    final var missingTodoId = Id.random();
+    // Then
+    assertThat(todoDataAccess.setDoneIfOwner(todoId, otherUserId)).isEqualTo(OwnershipWriteResult.NOT_OWNER);
+    assertThat(todoDataAccess.findById(todoId).isDone()).isFalse();
+    assertThat(todoDataAccess.setDoneIfOwner(todoId, userId)).isEqualTo(OwnershipWriteResult.WRITTEN);
+    assertThat(todoDataAccess.findById(todoId).isDone()).isTrue();
+    assertThat(todoDataAccess.deleteIfOwner(missingTodoId, userId)).isEqualTo(OwnershipWriteResult.NOT_FOUND);
+  }
+
+  @Test
+  @DisplayName("Bulk writes only touch the todos of the given user")
+  void bulkWritesCheckOwner() {
+    final var todoIds = createTodos(3);
+    // When
+    todoDataAccess.setDoneAll(todoIds.subList(0, 2), userId);
+    todoDataAccess.deleteAll(todoIds, otherUserId);
+    // Then
+    assertThat(todoDataAccess.findUserIdsByIds(todoIds)).hasSize(3);
+    assertThat(todoDataAccess.findById(todoIds.get(0)).isDone()).isTrue();
+    assertThat(todoDataAccess.findById(todoIds.get(2)).isDone()).isFalse();
+    // When
+    final var clearedTodoIds = todoDataAccess.clearCompleteByTaskId(taskId);
+    // Then
+    assertThat(clearedTodoIds).containsExactlyInAnyOrderElementsOf(todoIds.subList(0, 2));
+    assertThat(todoDataAccess.findByTaskId(taskId)).hasSize(1);
+  }
+
+  @Test
+  @DisplayName("Deleting a task deletes its todos")
+  void deleteTaskCascades() {
+    final var todoIds = createTodos(3);
+    // When
+    final var result = taskDataAccess.deleteIfOwner(taskId, userId);
+    // Then
+    assertThat(result).isEqualTo(OwnershipWriteResult.WRITTEN);
+    assertThat(taskDataAccess.findById(taskId)).isNull();
+    assertThat(taskDataAccess.findByUserId(userId)).isEmpty();
+    assertThat(todoDataAccess.findUserIdsByIds(todoIds)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Task version => moves on content changes only")
+  void taskVersion() {
+    final var created = taskDataAccess.findVersionById(taskId).version;
+    // When
+    taskDataAccess.updateIfOwner(taskId, "Task Name", "Task Description", userId);
+    final var unchanged = taskDataAccess.findVersionById(taskId).version;
+    taskDataAccess.updateIfOwner(taskId, "New Task Name", "Task Description", userId);
+    final var renamed = taskDataAccess.findVersionById(taskId).version;
+    createTodos(1);
+    // Then
+    assertThat(unchanged).isEqualTo(created);
+    assertThat(renamed).isGreaterThan(created);
+    assertThat(taskDataAccess.findVersionById(taskId).version).isEqualTo(renamed);
+    assertThat(taskDataAccess.findVersionById(taskId).userId).isEqualTo(userId);
+    assertThat(taskDataAccess.findVersionById(Id.random())).isNull();
+  }
+
+  @Test
+  @DisplayName("Todos version => moves on every write to the list of the task")
+  void todosVersion() {
+    final var versions = new ArrayList<Long>();
+    versions.add(todoDataAccess.findVersionByTaskId(taskId).version);
+    // When
+    final var todoIds = createTodos(2);
+    versions.add(todoDataAccess.findVersionByTaskId(taskId).version);
+    todoDataAccess.setDoneIfOwner(todoIds.get(0), userId);
+    versions.add(todoDataAccess.findVersionByTaskId(taskId).version);
+    todoDataAccess.setDoneIfOwner(todoIds.get(0), userId);
+    final var afterNoOp = todoDataAccess.findVersionByTaskId(taskId).version;
+    todoDataAccess.clearCompleteByTaskId(taskId);
+    versions.add(todoDataAccess.findVersionByTaskId(taskId).version);
+    todoDataAccess.deleteAll(todoIds, userId);
+    versions.add(todoDataAccess.findVersionByTaskId(taskId).version);
+    // Then
+    assertThat(versions).doesNotHaveDuplicates().isSorted();
+    assertThat(afterNoOp).isEqualTo(versions.get(2));
+  }
+
+  @Test
+  @DisplayName("Todo counts => follow every write to the todos of the task")
+  void todoCounts() {
+    // When
+    final var todoIds = createTodos(4);
+    todoDataAccess.setDoneIfOwner(todoIds.get(0), userId);
+    todoDataAccess.setDoneAll(todoIds.subList(1, 3), userId);
+    todoDataAccess.setDoneIfOwner(todoIds.get(0), userId);
+    todoDataAccess.setNotDoneIfOwner(todoIds.get(1), userId);
+    final var afterToggles = taskDataAccess.findByUserId(userId).get(0);
+    todoDataAccess.clearCompleteByTaskId(taskId);
+    todoDataAccess.deleteIfOwner(todoIds.get(3), userId);
+    final var afterDeletes = taskDataAccess.findByUserId(userId).get(0);
+    // Then
+    assertThat(afterToggles.getTodosCount()).isEqualTo(4);
+    assertThat(afterToggles.getDoneTodosCount()).isEqualTo(2);
+    assertThat(afterDeletes.getTodosCount()).isEqualTo(1);
+    assertThat(afterDeletes.getDoneTodosCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("Concurrent creates on one task => every todo is indexed")
+  void concurrentCreates() throws InterruptedException {
+    final var threads = 8;
+    final var todosPerThread = 50;
+    final var executor = Executors.newFixedThreadPool(threads);
+    // When
+    for (var i = 0; i < threads; i++) {
+      executor.submit(() -> {
+        for (var j = 0; j < todosPerThread; j++) {
+          todoDataAccess.create(new Todo("Todo Title", "Description", taskId, userId));
+        }
+      });
+    }
+    executor.shutdown();
+    assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+    // Then
+    assertThat(todoDataAccess.findByTaskId(taskId)).hasSize(threads * todosPerThread);
+  }
+
+}
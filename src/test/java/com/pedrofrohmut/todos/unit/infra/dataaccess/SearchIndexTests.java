@@ -0,0 +1,173 @@
+package com.pedrofrohmut.todos.unit.infra.dataaccess;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.sql.Connection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.pedrofrohmut.todos.domain.dataaccess.SearchHit;
+import com.pedrofrohmut.todos.domain.entities.Id;
+import com.pedrofrohmut.todos.domain.entities.Task;
+import com.pedrofrohmut.todos.domain.entities.Todo;
+import com.pedrofrohmut.todos.domain.entities.User;
+import com.pedrofrohmut.todos.infra.database.UnitOfWork;
+import com.pedrofrohmut.todos.infra.dataaccess.IndexingTaskDataAccess;
+import com.pedrofrohmut.todos.infra.dataaccess.IndexingTodoDataAccess;
+import com.pedrofrohmut.todos.infra.dataaccess.SearchIndex;
+import com.pedrofrohmut.todos.infra.dataaccess.memory.InMemoryStore;
+import com.pedrofrohmut.todos.infra.dataaccess.memory.InMemoryTaskDataAccess;
+import com.pedrofrohmut.todos.infra.dataaccess.memory.InMemoryTodoDataAccess;
+import com.pedrofrohmut.todos.infra.dataaccess.memory.InMemoryUserDataAccess;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@DisplayName("Search index")
+class SearchIndexTests {
+
+  InMemoryTaskDataAccess taskDataAccess;
+  InMemoryTodoDataAccess todoDataAccess;
+  SearchIndex searchIndex;
+  IndexingTaskDataAccess indexingTaskDataAccess;
+  IndexingTodoDataAccess indexingTodoDataAccess;
+  Id userId;
+  Id otherUserId;
+  Id taskId;
+
+  @BeforeEach
+  void beforeEach() {
+    final var store = new InMemoryStore(8);
+    final var userDataAccess = new InMemoryUserDataAccess(store);
+    taskDataAccess = new InMemoryTaskDataAccess(store);
+    todoDataAccess = new InMemoryTodoDataAccess(store);
+    searchIndex = new SearchIndex();
+    indexingTaskDataAccess = new IndexingTaskDataAccess(taskDataAccess, searchIndex);
+    indexingTodoDataAccess = new IndexingTodoDataAccess(todoDataAccess, searchIndex);
+    userId = createUser(userDataAccess, "user@mail.com");
+    otherUserId = createUser(userDataAccess, "other@mail.com");
+    taskId = indexingTaskDataAccess.create(new Task("Groceries", "Weekly shopping list", userId));
+  }
+
+  Id createUser(InMemoryUserDataAccess userDataAccess, String email) {
+    final var user = new User("User Name", email);
+    user.setPasswordHash("password_hash");
+    userDataAccess.create(user);
+    return userDataAccess.findByEmail(email).getId();
+  }
+
+  Id createTodo(String title, String description, Id userId) {
+    return indexingTodoDataAccess
+      .createAll(List.of(new Todo(title, description, taskId, userId)))
+      .get(0);
+  }
+
+  List<Id> search(Id userId, String query) {
+    return searchIndex.search(userId, query, 10).stream()
+      .map(hit -> hit.id)
+      .collect(Collectors.toList());
+  }
+
+  @Test
+  @DisplayName("Prefix terms => every term must match, title hits rank first")
+  void prefixAndRanking() {
+    // Given
+    final var milkId = createTodo("Buy milk", "From the corner shop", userId);
+    final var shopId = createTodo("Shop hours", "Ask about the milk", userId);
+    createTodo("Buy bread", "", userId);
+    // Then
+    assertThat(search(userId, "mil")).containsExactly(milkId, shopId);
+    assertThat(search(userId, "MILK shop")).containsExactlyInAnyOrder(milkId, shopId);
+    assertThat(search(userId, "shop")).startsWith(shopId).contains(milkId, taskId);
+    assertThat(search(userId, "milk bread")).isEmpty();
+    assertThat(searchIndex.search(userId, "gro", 10).get(0).kind).isEqualTo(SearchHit.TASK);
+  }
+
+  @Test
+  @DisplayName("Other users => never see each other's documents")
+  void perUser() {
+    // Given
+    createTodo("Buy milk", "", userId);
+    // Then
+    assertThat(search(otherUserId, "milk")).isEmpty();
+    assertThat(search(otherUserId, "groceries")).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Updates and deletes => the index follows the writes")
+  void incrementalUpdates() {
+    // Given
+    final var todoId = createTodo("Buy milk", "", userId);
+    // When
+    indexingTodoDataAccess.updateIfOwner(todoId, "Buy oat drink", "", otherUserId);
+    // Then
+    assertThat(search(userId, "milk")).containsExactly(todoId);
+    // When
+    indexingTodoDataAccess.updateIfOwner(todoId, "Buy oat drink", "", userId);
+    // Then
+    assertThat(search(userId, "milk")).isEmpty();
+    assertThat(search(userId, "oat")).containsExactly(todoId);
+    // When
+    indexingTaskDataAccess.deleteIfOwner(taskId, userId);
+    // Then
+    assertThat(search(userId, "oat")).isEmpty();
+    assertThat(search(userId, "groceries")).isEmpty();
+    assertThat(searchIndex.getStats().documents).isZero();
+    assertThat(searchIndex.getStats().postings).isZero();
+  }
+
+  @Test
+  @DisplayName("Clear complete => only the done todos leave the index")
+  void clearComplete() {
+    // Given
+    final var doneId = createTodo("Buy milk", "", userId);
+    final var openId = createTodo("Buy bread", "", userId);
+    indexingTodoDataAccess.setDoneIfOwner(doneId, userId);
+    // When
+    final var clearedTodoIds = indexingTodoDataAccess.clearCompleteByTaskId(taskId);
+    // Then
+    assertThat(clearedTodoIds).containsExactly(doneId);
+    assertThat(search(userId, "buy")).containsExactly(openId);
+  }
+
+  @Test
+  @DisplayName("Rolled back unit of work => the write is not indexed")
+  void rollback() {
+    // Given
+    final var connection = mock(Connection.class);
+    // When
+    try (final var unitOfWork = UnitOfWork.begin(() -> connection)) {
+      unitOfWork.getConnection();
+      createTodo("Buy milk", "", userId);
+      assertThat(search(userId, "milk")).isEmpty();
+    }
+    // Then
+    assertThat(search(userId, "milk")).isEmpty();
+    // When
+    try (final var unitOfWork = UnitOfWork.begin(() -> connection)) {
+      unitOfWork.getConnection();
+      createTodo("Buy bread", "", userId);
+      unitOfWork.commit();
+    }
+    // Then
+    assertThat(search(userId, "bread")).hasSize(1);
+  }
+
+  @Test
+  @DisplayName("Rebuild => indexes every task and todo in the tables")
+  void rebuild() {
+    // Given
+    todoDataAccess.createAll(List.of(new Todo("Buy milk", "", taskId, userId)));
+    assertThat(search(userId, "milk")).isEmpty();
+    // When
+    searchIndex.rebuild(taskDataAccess.streamAll(), todoDataAccess.streamAll());
+    // Then
+    assertThat(search(userId, "milk")).hasSize(1);
+    assertThat(search(userId, "groceries")).containsExactly(taskId);
+  }
+
+}
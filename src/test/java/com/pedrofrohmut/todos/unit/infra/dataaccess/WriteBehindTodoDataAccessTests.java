@@ -0,0 +1,223 @@
+package com.pedrofrohmut.todos.unit.infra.dataaccess;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.sql.Connection;
+import java.util.List;
+
+import com.pedrofrohmut.todos.domain.dataaccess.OwnershipWriteResult;
+import com.pedrofrohmut.todos.domain.entities.Id;
+import com.pedrofrohmut.todos.domain.entities.Task;
+import com.pedrofrohmut.todos.domain.entities.Todo;
+import com.pedrofrohmut.todos.domain.entities.User;
+import com.pedrofrohmut.todos.infra.database.UnitOfWork;
+import com.pedrofrohmut.todos.infra.dataaccess.DoneStateBuffer;
+import com.pedrofrohmut.todos.infra.dataaccess.WriteBehindTodoDataAccess;
+import com.pedrofrohmut.todos.infra.dataaccess.memory.InMemoryStore;
+import com.pedrofrohmut.todos.infra.dataaccess.memory.InMemoryTaskDataAccess;
+import com.pedrofrohmut.todos.infra.dataaccess.memory.InMemoryTodoDataAccess;
+import com.pedrofrohmut.todos.infra.dataaccess.memory.InMemoryUserDataAccess;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@DisplayName("Write-behind todo data access")
+class WriteBehindTodoDataAccessTests {
+
+  // Long enough for the flush thread to stay out of the way, the tests flush by hand
+  static final long WINDOW_MILLIS = 60000;
+
+  InMemoryTodoDataAccess todoDataAccess;
+  DoneStateBuffer doneStateBuffer;
+  WriteBehindTodoDataAccess writeBehindTodoDataAccess;
+  Id userId;
+  Id otherUserId;
+  Id taskId;
+  Id todoId;
+
+  @BeforeEach
+  void beforeEach() {
+    final var store = new InMemoryStore(8);
+    final var userDataAccess = new InMemoryUserDataAccess(store);
+    final var taskDataAccess = new InMemoryTaskDataAccess(store);
+    todoDataAccess = new InMemoryTodoDataAccess(store);
+    userId = createUser(userDataAccess, "user@mail.com");
+    otherUserId = createUser(userDataAccess, "other@mail.com");
+    taskDataAccess.create(new Task("Task Name", "Task Description", userId));
+    taskId = taskDataAccess.findByUserId(userId).get(0).getId();
+    todoId = todoDataAccess
+      .createAll(List.of(new Todo("Todo", "Description", taskId, userId)))
+      .get(0);
+    useBuffer(100);
+  }
+
+  @AfterEach
+  void afterEach() {
+    doneStateBuffer.close();
+  }
+
+  // The in-memory engine never asks the unit of work for a connection
+  void useBuffer(int maxPending) {
+    if (doneStateBuffer != null) {
+      doneStateBuffer.close();
+    }
+    doneStateBuffer = new DoneStateBuffer(
+        todoDataAccess, () -> UnitOfWork.begin(() -> null), WINDOW_MILLIS, maxPending);
+    writeBehindTodoDataAccess = new WriteBehindTodoDataAccess(todoDataAccess, doneStateBuffer);
+  }
+
+  Id createUser(InMemoryUserDataAccess userDataAccess, String email) {
+    final var user = new User("User Name", email);
+    user.setPasswordHash("password_hash");
+    userDataAccess.create(user);
+    return userDataAccess.findByEmail(email).getId();
+  }
+
+  @Test
+  @DisplayName("Burst of toggles => one buffered state, shown to reads and written by the flush")
+  void coalescesToggles() {
+    // When
+    writeBehindTodoDataAccess.setDoneIfOwner(todoId, userId);
+    writeBehindTodoDataAccess.setNotDoneIfOwner(todoId, userId);
+    final var result = writeBehindTodoDataAccess.setDoneIfOwner(todoId, userId);
+    // Then
+    assertThat(result).isEqualTo(OwnershipWriteResult.WRITTEN);
+    assertThat(todoDataAccess.findById(todoId).isDone()).isFalse();
+    assertThat(writeBehindTodoDataAccess.findById(todoId).isDone()).isTrue();
+    assertThat(writeBehindTodoDataAccess.findByTaskId(taskId).get(0).isDone()).isTrue();
+    assertThat(doneStateBuffer.getStats().buffered).isEqualTo(1);
+    assertThat(doneStateBuffer.getStats().coalesced).isEqualTo(2);
+    // When
+    doneStateBuffer.flush();
+    // Then
+    assertThat(todoDataAccess.findById(todoId).isDone()).isTrue();
+    assertThat(doneStateBuffer.getStats().pending).isZero();
+    assertThat(doneStateBuffer.getStats().flushedStates).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Not found or not the owner => same results as a direct write, nothing buffered")
+  void ownershipChecks() {
+    // Then
+    assertThat(writeBehindTodoDataAccess.setDoneIfOwner(Id.random(), userId))
+      .isEqualTo(OwnershipWriteResult.NOT_FOUND);
+    assertThat(writeBehindTodoDataAccess.setDoneIfOwner(todoId, otherUserId))
+      .isEqualTo(OwnershipWriteResult.NOT_OWNER);
+    assertThat(doneStateBuffer.getStats().pending).isZero();
+  }
+
+  @Test
+  @DisplayName("Version probe with buffered states => version moves before the flush, no write")
+  void versionProbe() {
+    // Given
+    final var before = writeBehindTodoDataAccess.findVersionByTaskId(taskId).getTag();
+    // When
+    writeBehindTodoDataAccess.setDoneIfOwner(todoId, userId);
+    final var buffered = writeBehindTodoDataAccess.findVersionByTaskId(taskId).getTag();
+    writeBehindTodoDataAccess.setNotDoneIfOwner(todoId, userId);
+    final var toggledBack = writeBehindTodoDataAccess.findVersionByTaskId(taskId).getTag();
+    // Then
+    assertThat(buffered).isNotEqualTo(before);
+    assertThat(toggledBack).isNotEqualTo(buffered);
+    assertThat(todoDataAccess.findById(todoId).isDone()).isFalse();
+    assertThat(todoDataAccess.findVersionByTaskId(taskId).getTag()).isEqualTo(before);
+  }
+
+  @Test
+  @DisplayName("Direct write after a buffered one => the flush does not undo it")
+  void directWriteWins() {
+    // Given
+    writeBehindTodoDataAccess.setDoneIfOwner(todoId, userId);
+    // When
+    writeBehindTodoDataAccess.setNotDoneAll(List.of(todoId), userId);
+    doneStateBuffer.flush();
+    // Then
+    assertThat(todoDataAccess.findById(todoId).isDone()).isFalse();
+  }
+
+  @Test
+  @DisplayName("Clear complete => clears the todos done in the buffer too")
+  void clearComplete() {
+    // Given
+    writeBehindTodoDataAccess.setDoneIfOwner(todoId, userId);
+    // When
+    writeBehindTodoDataAccess.clearCompleteByTaskId(taskId);
+    // Then
+    assertThat(todoDataAccess.findById(todoId)).isNull();
+  }
+
+  @Test
+  @DisplayName("Clear complete during a direct write => the state it overrides is not written")
+  void clearCompleteSkipsHeldStates() {
+    // Given
+    writeBehindTodoDataAccess.setDoneIfOwner(todoId, userId);
+    try (final var unitOfWork = beginWithConnection()) {
+      writeBehindTodoDataAccess.setNotDoneAll(List.of(todoId), userId);
+      // When
+      writeBehindTodoDataAccess.clearCompleteByTaskId(taskId);
+      // Then
+      assertThat(todoDataAccess.findById(todoId).isDone()).isFalse();
+      unitOfWork.commit();
+    }
+    assertThat(doneStateBuffer.getStats().pending).isZero();
+  }
+
+  // The in-memory engine writes as it goes, so a connection is borrowed for the rollback to count
+  UnitOfWork beginWithConnection() {
+    final var unitOfWork = UnitOfWork.begin(() -> mock(Connection.class));
+    unitOfWork.getConnection();
+    return unitOfWork;
+  }
+
+  @Test
+  @DisplayName("Toggle in a request that rolls back => never buffered")
+  void rolledBackToggle() {
+    // When
+    try (final var unitOfWork = beginWithConnection()) {
+      final var result = writeBehindTodoDataAccess.setDoneIfOwner(todoId, userId);
+      assertThat(result).isEqualTo(OwnershipWriteResult.WRITTEN);
+      assertThat(doneStateBuffer.getStats().pending).isZero();
+    }
+    // Then
+    assertThat(doneStateBuffer.getStats().pending).isZero();
+    assertThat(writeBehindTodoDataAccess.findById(todoId).isDone()).isFalse();
+  }
+
+  @Test
+  @DisplayName("Direct write in a request that rolls back => the buffered toggle is kept")
+  void rolledBackDirectWrite() {
+    // Given
+    writeBehindTodoDataAccess.setDoneIfOwner(todoId, userId);
+    // When
+    try (final var unitOfWork = beginWithConnection()) {
+      writeBehindTodoDataAccess.setNotDoneAll(List.of(todoId), userId);
+      doneStateBuffer.flush();
+      // Then, held back from the flush while the write is in flight
+      assertThat(todoDataAccess.findById(todoId).isDone()).isFalse();
+      assertThat(doneStateBuffer.getStats().pending).isEqualTo(1);
+    }
+    // Then
+    assertThat(doneStateBuffer.getStats().pending).isEqualTo(1);
+    doneStateBuffer.flush();
+    assertThat(todoDataAccess.findById(todoId).isDone()).isTrue();
+  }
+
+  @Test
+  @DisplayName("Full buffer => the write goes straight through")
+  void fullBuffer() {
+    // Given
+    useBuffer(0);
+    // When
+    final var result = writeBehindTodoDataAccess.setDoneIfOwner(todoId, userId);
+    // Then
+    assertThat(result).isEqualTo(OwnershipWriteResult.WRITTEN);
+    assertThat(todoDataAccess.findById(todoId).isDone()).isTrue();
+    assertThat(doneStateBuffer.getStats().writtenThrough).isEqualTo(1);
+  }
+
+}
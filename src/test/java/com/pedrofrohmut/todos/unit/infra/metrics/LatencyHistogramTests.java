@@ -0,0 +1,63 @@
+package com.pedrofrohmut.todos.unit.infra.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.pedrofrohmut.todos.infra.metrics.LatencyHistogram;
+import com.pedrofrohmut.todos.infra.metrics.Metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@DisplayName("Latency histogram and Prometheus rendering")
+class LatencyHistogramTests {
+
+  // Buckets are 1/32 of their power of two wide
+  static final double RELATIVE_ERROR = 1.0 / 32;
+
+  @Test
+  @DisplayName("Percentiles land within the bucket precision of the recorded values")
+  void percentiles() {
+    // Given
+    final var histogram = new LatencyHistogram();
+    for (var i = 1; i <= 1000; i++) {
+      histogram.record(i * 1_000L);
+    }
+    // When
+    final var snapshot = histogram.snapshot();
+    // Then
+    assertThat(snapshot.count).isEqualTo(1000);
+    assertThat(snapshot.maxNanos).isEqualTo(1_000_000);
+    assertThat((double) snapshot.getValueAtPercentile(50))
+      .isCloseTo(500_000, within(500_000 * RELATIVE_ERROR));
+    assertThat((double) snapshot.getValueAtPercentile(99))
+      .isCloseTo(990_000, within(990_000 * RELATIVE_ERROR));
+    assertThat(snapshot.getValueAtPercentile(99.9)).isLessThanOrEqualTo(1_000_000);
+  }
+
+  @Test
+  @DisplayName("Empty histogram => zero percentiles")
+  void emptyHistogram() {
+    // When
+    final var snapshot = new LatencyHistogram().snapshot();
+    // Then
+    assertThat(snapshot.count).isZero();
+    assertThat(snapshot.getValueAtPercentile(99)).isZero();
+  }
+
+  @Test
+  @DisplayName("Timers render as Prometheus summaries in seconds")
+  void scrape() {
+    // Given
+    Metrics.timer("test_latency_seconds", "Test timer", "route", "a\"b").record(2_000_000);
+    // When
+    final var text = Metrics.scrape();
+    // Then
+    assertThat(text).contains("# TYPE test_latency_seconds summary");
+    assertThat(text).contains("test_latency_seconds{route=\"a\\\"b\",quantile=\"0.99\"} 0.002");
+    assertThat(text).contains("test_latency_seconds_count{route=\"a\\\"b\"} 1");
+  }
+
+}
@@ -0,0 +1,63 @@
+package com.pedrofrohmut.todos.unit.infra.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.util.UUID;
+
+import com.pedrofrohmut.todos.domain.services.JwtService;
+import com.pedrofrohmut.todos.infra.errors.DecodeJWTException;
+import com.pedrofrohmut.todos.infra.services.JjwtJwtService;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@DisplayName("Jjwt jwt service")
+class JjwtJwtServiceTests {
+
+  static final String USER_ID = UUID.randomUUID().toString();
+
+  final JwtService jwtService = new JjwtJwtService();
+
+  @Test
+  @DisplayName("Same token decoded again => same userId")
+  void repeatedToken() {
+    final var token = jwtService.generateToken(USER_ID);
+    // When
+    final var first = jwtService.getUserIdFromToken(token);
+    final var second = new JjwtJwtService().getUserIdFromToken(token);
+    // Then
+    assertThat(first).isEqualTo(USER_ID);
+    assertThat(second).isEqualTo(USER_ID);
+  }
+
+  @Test
+  @DisplayName("Tampered copy of a verified token => throws")
+  void tamperedToken() {
+    final var token = jwtService.generateToken(USER_ID);
+    final var otherToken = jwtService.generateToken(UUID.randomUUID().toString());
+    // Given
+    assertThat(jwtService.getUserIdFromToken(token)).isEqualTo(USER_ID);
+    // When
+    final var otherPayload = otherToken.split("\\.")[1];
+    final var parts = token.split("\\.");
+    final var tampered = parts[0] + "." + otherPayload + "." + parts[2];
+    // Then
+    assertThatThrownBy(() -> jwtService.getUserIdFromToken(tampered))
+      .isInstanceOf(DecodeJWTException.class);
+  }
+
+  @Test
+  @DisplayName("Junk instead of a token => throws without a stack trace")
+  void junkToken() {
+    // When
+    final var thrown = catchThrowable(() -> jwtService.getUserIdFromToken("not-a-token"));
+    // Then
+    assertThat(thrown).isInstanceOf(DecodeJWTException.class);
+    assertThat(thrown.getStackTrace()).isEmpty();
+  }
+
+}
@@ -0,0 +1,90 @@
+package com.pedrofrohmut.todos.unit.infra.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.pedrofrohmut.todos.infra.errors.RequestExecutorBusyException;
+import com.pedrofrohmut.todos.infra.errors.RequestTimeoutException;
+import com.pedrofrohmut.todos.infra.services.RequestExecutor;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@DisplayName("Request executor")
+class RequestExecutorTests {
+
+  static final long TIMEOUT_MILLIS = 100;
+
+  final CountDownLatch release = new CountDownLatch(1);
+  final RequestExecutor executor = new RequestExecutor(1, 0, TIMEOUT_MILLIS, false);
+
+  @AfterEach
+  void afterEach() {
+    release.countDown();
+    executor.shutdown();
+  }
+
+  @Test
+  @DisplayName("Work finished in time => its result")
+  void completes() throws Exception {
+    // When
+    final var result = executor.submit(call -> "done").get(1, TimeUnit.SECONDS);
+    // Then
+    assertThat(result).isEqualTo("done");
+  }
+
+  @Test
+  @DisplayName("No thread or queue slot left => RequestExecutorBusyException")
+  void busy() {
+    // Given
+    executor.submit(call -> awaitRelease());
+    // When
+    final var rejected = executor.submit(call -> "never runs");
+    // Then
+    assertThatThrownBy(() -> rejected.get(1, TimeUnit.SECONDS))
+      .isInstanceOf(ExecutionException.class)
+      .hasCauseInstanceOf(RequestExecutorBusyException.class);
+  }
+
+  @Test
+  @DisplayName("Timed out work => RequestTimeoutException and the work can no longer claim the call")
+  void timeout() throws Exception {
+    // Given
+    final var claimedAfterTimeout = new AtomicBoolean(true);
+    final var finished = new CountDownLatch(1);
+    // When
+    final var future = executor.submit(call -> {
+      awaitRelease();
+      claimedAfterTimeout.set(call.claim());
+      finished.countDown();
+      return "late";
+    });
+    // Then
+    assertThatThrownBy(() -> future.get(1, TimeUnit.SECONDS))
+      .isInstanceOf(ExecutionException.class)
+      .hasCauseInstanceOf(RequestTimeoutException.class);
+    release.countDown();
+    assertThat(finished.await(1, TimeUnit.SECONDS)).isTrue();
+    assertThat(claimedAfterTimeout.get()).isFalse();
+    assertThat(executor.getStats().timedOut).isEqualTo(1);
+  }
+
+  private String awaitRelease() {
+    try {
+      release.await(1, TimeUnit.SECONDS);
+      return "released";
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return "interrupted";
+    }
+  }
+
+}
@@ -0,0 +1,133 @@
+package com.pedrofrohmut.todos.unit.web.controllers.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import com.pedrofrohmut.todos.domain.dataaccess.SearchHit;
+import com.pedrofrohmut.todos.domain.dataaccess.UserDataAccess;
+import com.pedrofrohmut.todos.domain.dtos.SearchResultDto;
+import com.pedrofrohmut.todos.domain.entities.Id;
+import com.pedrofrohmut.todos.domain.errors.InvalidPageRequestException;
+import com.pedrofrohmut.todos.domain.errors.InvalidSearchQueryException;
+import com.pedrofrohmut.todos.domain.errors.UserNotFoundByIdException;
+import com.pedrofrohmut.todos.domain.services.PasswordService;
+import com.pedrofrohmut.todos.domain.usecases.search.SearchUseCase;
+import com.pedrofrohmut.todos.infra.dataaccess.SearchIndex;
+import com.pedrofrohmut.todos.infra.services.BcryptPasswordService;
+import com.pedrofrohmut.todos.mocks.UserDataAccessMock;
+import com.pedrofrohmut.todos.web.adapter.AdaptedRequest;
+import com.pedrofrohmut.todos.web.controllers.SearchController;
+import com.pedrofrohmut.todos.web.errors.MissingRequestAuthUserIdException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@DisplayName("Search controller search")
+public class SearchControllerTests {
+
+  static final String USER_ID = UUID.randomUUID().toString();
+  static final String USER_NAME = "User Name";
+  static final String USER_EMAIL = "user@mail.com";
+  static final String USER_PASSWORD = "user_password";
+  static final Id TASK_ID = Id.random();
+  static final Id TODO_ID = Id.random();
+
+  final PasswordService passwordService;
+  final UserDataAccess mockUserDataAccess;
+  final SearchIndex searchIndex;
+  final SearchUseCase searchUseCase;
+  final SearchController searchController;
+
+  public SearchControllerTests() {
+    passwordService = new BcryptPasswordService();
+    mockUserDataAccess =
+      UserDataAccessMock.getMockForUserFoundById(USER_ID, USER_NAME, USER_EMAIL, USER_PASSWORD, passwordService);
+    searchIndex = new SearchIndex();
+    searchIndex.putTask(TASK_ID, Id.parse(USER_ID), "Groceries", "Weekly shopping list");
+    searchIndex.putTodo(TODO_ID, TASK_ID, Id.parse(USER_ID), "Buy milk", "From the corner shop");
+    searchUseCase = new SearchUseCase(searchIndex, mockUserDataAccess);
+    searchController = new SearchController();
+  }
+
+  AdaptedRequest<?> request;
+
+  @BeforeEach
+  void beforeEach() {
+    request = new AdaptedRequest<>(null, null, null, AdaptedRequest.searchQuery("shop", null));
+  }
+
+  @Test
+  @DisplayName("Null authUserId => 401/message")
+  void nullAuthUserId() {
+    // Given
+    assertThat(request.authUserId).isNull();
+    // When
+    final var controllerResponse = searchController.search(searchUseCase, request);
+    // Then
+    assertThat(controllerResponse.httpStatus).isEqualTo(401);
+    assertThat(controllerResponse.body.toString()).contains(MissingRequestAuthUserIdException.message);
+  }
+
+  @Test
+  @DisplayName("Missing or blank query => 400/message")
+  void blankQuery() {
+    request.authUserId = USER_ID;
+    for (final var query : List.of(Map.<String, String>of(), AdaptedRequest.searchQuery("  ", null))) {
+      request.query = query;
+      // When
+      final var controllerResponse = searchController.search(searchUseCase, request);
+      // Then
+      assertThat(controllerResponse.httpStatus).isEqualTo(400);
+      assertThat(controllerResponse.body.toString()).contains(InvalidSearchQueryException.message);
+    }
+  }
+
+  @Test
+  @DisplayName("Limit out of range => 400/message")
+  void invalidLimit() {
+    request.authUserId = USER_ID;
+    request.query = AdaptedRequest.searchQuery("shop", "0");
+    // When
+    final var controllerResponse = searchController.search(searchUseCase, request);
+    // Then
+    assertThat(controllerResponse.httpStatus).isEqualTo(400);
+    assertThat(controllerResponse.body.toString()).contains(InvalidPageRequestException.message);
+  }
+
+  @Test
+  @DisplayName("Valid request but user not found => 400/message")
+  void userNotFound() {
+    final var mockUserDataAccess = UserDataAccessMock.getMockForUserNotFoundById(USER_ID);
+    final var searchUseCase = new SearchUseCase(searchIndex, mockUserDataAccess);
+    request.authUserId = USER_ID;
+    // When
+    final var controllerResponse = searchController.search(searchUseCase, request);
+    // Then
+    assertThat(controllerResponse.httpStatus).isEqualTo(400);
+    assertThat(controllerResponse.body.toString()).contains(UserNotFoundByIdException.message);
+  }
+
+  @Test
+  @DisplayName("Valid request => 200/ranked results")
+  void results() {
+    request.authUserId = USER_ID;
+    // When
+    final var controllerResponse = searchController.search(searchUseCase, request);
+    // Then
+    assertThat(controllerResponse.httpStatus).isEqualTo(200);
+    @SuppressWarnings("unchecked")
+    final var results = (List<SearchResultDto>) controllerResponse.body;
+    assertThat(results).hasSize(2);
+    assertThat(results.get(0).kind).isEqualTo(SearchHit.TODO);
+    assertThat(results.get(0).id).isEqualTo(TODO_ID);
+    assertThat(results.get(1).id).isEqualTo(TASK_ID);
+    assertThat(results.get(0).score).isGreaterThan(results.get(1).score);
+  }
+
+}
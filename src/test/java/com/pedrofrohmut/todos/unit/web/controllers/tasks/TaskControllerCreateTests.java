@@ -9,6 +9,7 @@ import com.pedrofrohmut.todos.domain.dataaccess.TaskDataAccess;
 import com.pedrofrohmut.todos.domain.dataaccess.UserDataAccess;
 import com.pedrofrohmut.todos.domain.dtos.CreateTaskDto;
 import com.pedrofrohmut.todos.domain.entities.Entity;
+import com.pedrofrohmut.todos.domain.entities.Id;
 import com.pedrofrohmut.todos.domain.entities.Task;
 import com.pedrofrohmut.todos.domain.errors.InvalidEntityException;
 import com.pedrofrohmut.todos.domain.errors.InvalidTaskException;
@@ -168,7 +169,7 @@ public class TaskControllerCreateTests {
   void userNotFound() {
     final var mockUserDataAccess = UserDataAccessMock.getMockForUserNotFoundById(USER_ID);
     final var createTaskUseCase = new CreateTaskUseCase(mockTaskDataAccess, mockUserDataAccess);
-    final var foundUser = mockUserDataAccess.findById(USER_ID);
+    final var foundUser = mockUserDataAccess.findById(Id.parse(USER_ID));
     request.body = new CreateTaskDto(TASK_NAME, TASK_DESCRIPTION);
     request.authUserId = USER_ID;
     // Given
@@ -187,7 +188,7 @@ public class TaskControllerCreateTests {
     final var nameErr = getNameErr(TASK_NAME);
     final var descriptionErr = getDescriptionErr(TASK_DESCRIPTION);
     final var authUserIdErr = getAuthUserIdErr(USER_ID);
-    final var foundUser = mockUserDataAccess.findById(USER_ID);
+    final var foundUser = mockUserDataAccess.findById(Id.parse(USER_ID));
     request.body = new CreateTaskDto(TASK_NAME, TASK_DESCRIPTION);
     request.authUserId = USER_ID;
     // Given
@@ -10,6 +10,7 @@ import java.util.UUID;
 import com.pedrofrohmut.todos.domain.dataaccess.TaskDataAccess;
 import com.pedrofrohmut.todos.domain.dataaccess.UserDataAccess;
 import com.pedrofrohmut.todos.domain.entities.Entity;
+import com.pedrofrohmut.todos.domain.entities.Id;
 import com.pedrofrohmut.todos.domain.entities.Task;
 import com.pedrofrohmut.todos.domain.errors.InvalidEntityException;
 import com.pedrofrohmut.todos.domain.errors.TaskNotFoundByIdException;
@@ -146,8 +147,9 @@ public class TaskControllerDeleteTests {
   @DisplayName("Valid request but user not found by request.authUserId => 400/message")
   void userNotFound() {
     final var mockUserDataAccess = UserDataAccessMock.getMockForUserNotFoundById(USER_ID);
+    final var mockTaskDataAccess = TaskDataAccessMock.getMockForTaskNotFoundById(TASK_ID);
     final var deleteTaskUseCase = new DeleteTaskUseCase(mockTaskDataAccess, mockUserDataAccess);
-    final var foundUser = mockUserDataAccess.findById(USER_ID);
+    final var foundUser = mockUserDataAccess.findById(Id.parse(USER_ID));
     request.authUserId = USER_ID;
     request.param = TASK_ID;
     // Given
@@ -158,9 +160,9 @@ public class TaskControllerDeleteTests {
     // Then
     assertThat(controllerResponse.httpStatus).isEqualTo(400);
     assertThat(controllerResponse.body.toString()).contains(UserNotFoundByIdException.message);
-    verify(mockUserDataAccess, times(2)).findById(USER_ID);
-    verify(mockTaskDataAccess, times(0)).findById(TASK_ID);
-    verify(mockTaskDataAccess, times(0)).delete(TASK_ID);
+    verify(mockUserDataAccess, times(2)).findById(Id.parse(USER_ID));
+    verify(mockTaskDataAccess, times(0)).findById(Id.parse(TASK_ID));
+    verify(mockTaskDataAccess, times(0)).deleteIfOwner(any(), any());
   }
 
   @Test
@@ -168,8 +170,8 @@ public class TaskControllerDeleteTests {
   void userFoundButTaskNotFound() {
     final var mockTaskDataAccess = TaskDataAccessMock.getMockForTaskNotFoundById(TASK_ID);
     final var deleteTaskUseCase = new DeleteTaskUseCase(mockTaskDataAccess, mockUserDataAccess);
-    final var foundUser = mockUserDataAccess.findById(USER_ID);
-    final var foundTask = mockTaskDataAccess.findById(TASK_ID);
+    final var foundUser = mockUserDataAccess.findById(Id.parse(USER_ID));
+    final var foundTask = mockTaskDataAccess.findById(Id.parse(TASK_ID));
     request.authUserId = USER_ID;
     request.param = TASK_ID;
     // Given
@@ -181,16 +183,16 @@ public class TaskControllerDeleteTests {
     // Then
     assertThat(controllerResponse.httpStatus).isEqualTo(400);
     assertThat(controllerResponse.body.toString()).contains(TaskNotFoundByIdException.message);
-    verify(mockUserDataAccess, times(2)).findById(USER_ID);
-    verify(mockTaskDataAccess, times(2)).findById(TASK_ID);
-    verify(mockTaskDataAccess, times(0)).delete(TASK_ID);
+    verify(mockUserDataAccess, times(2)).findById(Id.parse(USER_ID));
+    verify(mockTaskDataAccess, times(1)).findById(Id.parse(TASK_ID));
+    verify(mockTaskDataAccess, times(1)).deleteIfOwner(Id.parse(TASK_ID), Id.parse(USER_ID));
   }
 
   @Test
   @DisplayName("Valid request, user and task found => 204")
   void userAndTaskFound() {
-    final var foundUser = mockUserDataAccess.findById(USER_ID);
-    final var foundTask = mockTaskDataAccess.findById(TASK_ID);
+    final var foundUser = mockUserDataAccess.findById(Id.parse(USER_ID));
+    final var foundTask = mockTaskDataAccess.findById(Id.parse(TASK_ID));
     final var authUserIdErr = getAuthUserIdErr(USER_ID);
     final var taskIdErr = getTaskIdErr(TASK_ID);
     request.authUserId = USER_ID;
@@ -207,9 +209,9 @@ public class TaskControllerDeleteTests {
     // Then
     assertThat(controllerResponse.httpStatus).isEqualTo(204);
     assertThat(controllerResponse.body).isNull();
-    verify(mockUserDataAccess, times(2)).findById(USER_ID);
-    verify(mockTaskDataAccess, times(2)).findById(TASK_ID);
-    verify(mockTaskDataAccess, times(1)).delete(TASK_ID);
+    verify(mockUserDataAccess, times(2)).findById(Id.parse(USER_ID));
+    verify(mockTaskDataAccess, times(1)).findById(Id.parse(TASK_ID));
+    verify(mockTaskDataAccess, times(1)).deleteIfOwner(Id.parse(TASK_ID), Id.parse(USER_ID));
   }
 
 }
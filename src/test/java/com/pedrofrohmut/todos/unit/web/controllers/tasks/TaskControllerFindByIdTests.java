@@ -8,6 +8,7 @@ import com.pedrofrohmut.todos.domain.dataaccess.TaskDataAccess;
 import com.pedrofrohmut.todos.domain.dataaccess.UserDataAccess;
 import com.pedrofrohmut.todos.domain.dtos.TaskDto;
 import com.pedrofrohmut.todos.domain.entities.Entity;
+import com.pedrofrohmut.todos.domain.entities.Id;
 import com.pedrofrohmut.todos.domain.entities.Task;
 import com.pedrofrohmut.todos.domain.errors.InvalidEntityException;
 import com.pedrofrohmut.todos.domain.errors.TaskNotFoundByIdException;
@@ -146,7 +147,7 @@ public class TaskControllerFindByIdTests {
   void userNotFound() {
     final var mockUserDataAccess = UserDataAccessMock.getMockForUserNotFoundById(USER_ID);
     final var findTaskByIdUseCase = new FindTaskByIdUseCase(mockTaskDataAccess, mockUserDataAccess);
-    final var foundUser = mockUserDataAccess.findById(USER_ID);
+    final var foundUser = mockUserDataAccess.findById(Id.parse(USER_ID));
     request.authUserId = USER_ID;
     request.param = TASK_ID;
     // Given
@@ -164,8 +165,8 @@ public class TaskControllerFindByIdTests {
   void taskNotFound() {
     final var mockTaskDataAccess = TaskDataAccessMock.getMockForTaskNotFoundById(TASK_ID);
     final var findTaskByIdUseCase = new FindTaskByIdUseCase(mockTaskDataAccess, mockUserDataAccess);
-    final var foundUser = mockUserDataAccess.findById(USER_ID);
-    final var foundTask = mockTaskDataAccess.findById(TASK_ID);
+    final var foundUser = mockUserDataAccess.findById(Id.parse(USER_ID));
+    final var foundTask = mockTaskDataAccess.findById(Id.parse(TASK_ID));
     request.authUserId = USER_ID;
     request.param = TASK_ID;
     // Given
@@ -183,19 +184,19 @@ public class TaskControllerFindByIdTests {
   @DisplayName("Valid request, user and task found but task.userId != authUserId => 401/message")
   void userAndTaskFoundButUserNotOwner() {
     final var otherUserId = UUID.randomUUID().toString();
-    final var otherUserTask = new Task(UUID.randomUUID().toString(), TASK_NAME, TASK_DESCRIPTION, otherUserId);
-    final var otherUserTaskId = otherUserTask.getId();
+    final var otherUserTask = new Task(Id.random(), TASK_NAME, TASK_DESCRIPTION, Id.parse(otherUserId));
+    final var otherUserTaskId = otherUserTask.getId().toString();
     final var mockTaskDataAccess =
       TaskDataAccessMock.getMockForTaskFoundById(otherUserTaskId, TASK_NAME, TASK_DESCRIPTION, otherUserId);
     final var findTaskByIdUseCase = new FindTaskByIdUseCase(mockTaskDataAccess, mockUserDataAccess);
-    final var foundUser = mockUserDataAccess.findById(USER_ID);
-    final var foundTask = mockTaskDataAccess.findById(otherUserTaskId);
+    final var foundUser = mockUserDataAccess.findById(Id.parse(USER_ID));
+    final var foundTask = mockTaskDataAccess.findById(Id.parse(otherUserTaskId));
     request.authUserId = USER_ID;
     request.param = otherUserTaskId;
     // Given
     assertThat(foundUser).isNotNull();
     assertThat(foundTask).isNotNull();
-    assertThat(foundTask.getUserId()).isNotEqualTo(USER_ID);
+    assertThat(foundTask.getUserId()).isNotEqualTo(Id.parse(USER_ID));
     assertThat(request.param).isEqualTo(otherUserTaskId);
     // When
     final var controllerResponse = taskController.findById(findTaskByIdUseCase, request);
@@ -207,8 +208,8 @@ public class TaskControllerFindByIdTests {
   @Test
   @DisplayName("Valid request, user and task found => 200/{ id, name, description, userId }")
   void userAndTaskFound() {
-    final var foundUser = mockUserDataAccess.findById(USER_ID);
-    final var foundTask = mockTaskDataAccess.findById(TASK_ID);
+    final var foundUser = mockUserDataAccess.findById(Id.parse(USER_ID));
+    final var foundTask = mockTaskDataAccess.findById(Id.parse(TASK_ID));
     final var authUserIdErr = getAuthUserIdErr(USER_ID);
     final var taskIdErr = getTaskIdErr(TASK_ID);
     request.authUserId = USER_ID;
@@ -225,10 +226,10 @@ public class TaskControllerFindByIdTests {
     // Then
     assertThat(controllerResponse.httpStatus).isEqualTo(200);
     final var responseBody = (TaskDto) controllerResponse.body;
-    assertThat(responseBody.id).isEqualTo(TASK_ID);
+    assertThat(responseBody.id).isEqualTo(Id.parse(TASK_ID));
     assertThat(responseBody.name).isEqualTo(TASK_NAME);
     assertThat(responseBody.description).isEqualTo(TASK_DESCRIPTION);
-    assertThat(responseBody.userId).isEqualTo(USER_ID);
+    assertThat(responseBody.userId).isEqualTo(Id.parse(USER_ID));
   }
 
 }
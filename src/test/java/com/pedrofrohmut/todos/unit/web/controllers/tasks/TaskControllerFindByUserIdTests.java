@@ -9,10 +9,14 @@ import java.util.stream.Collectors;
 
 import com.pedrofrohmut.todos.domain.dataaccess.TaskDataAccess;
 import com.pedrofrohmut.todos.domain.dataaccess.UserDataAccess;
+import com.pedrofrohmut.todos.domain.dtos.PageDto;
 import com.pedrofrohmut.todos.domain.dtos.TaskDto;
+import com.pedrofrohmut.todos.domain.dtos.TaskSummaryDto;
 import com.pedrofrohmut.todos.domain.entities.Entity;
+import com.pedrofrohmut.todos.domain.entities.Id;
 import com.pedrofrohmut.todos.domain.entities.Task;
 import com.pedrofrohmut.todos.domain.errors.InvalidEntityException;
+import com.pedrofrohmut.todos.domain.errors.InvalidPageRequestException;
 import com.pedrofrohmut.todos.domain.errors.UserNotFoundByIdException;
 import com.pedrofrohmut.todos.domain.errors.UserNotResourceOwnerException;
 import com.pedrofrohmut.todos.domain.services.PasswordService;
@@ -41,11 +45,11 @@ public class TaskControllerFindByUserIdTests {
   static final List<Task> TASKS = new ArrayList<>();
 
   static {
-    TASKS.add(new Task(UUID.randomUUID().toString(), "Task Name 1", "Task Description 1", USER_ID));
-    TASKS.add(new Task(UUID.randomUUID().toString(), "Task Name 2", "Task Description 2", USER_ID));
-    TASKS.add(new Task(UUID.randomUUID().toString(), "Task Name 3", "Task Description 3", USER_ID));
-    TASKS.add(new Task(UUID.randomUUID().toString(), "Task Name 4", "Task Description 4", USER_ID));
-    TASKS.add(new Task(UUID.randomUUID().toString(), "Task Name 5", "Task Description 5", USER_ID));
+    TASKS.add(new Task(Id.random(), "Task Name 1", "Task Description 1", Id.parse(USER_ID)));
+    TASKS.add(new Task(Id.random(), "Task Name 2", "Task Description 2", Id.parse(USER_ID)));
+    TASKS.add(new Task(Id.random(), "Task Name 3", "Task Description 3", Id.parse(USER_ID)));
+    TASKS.add(new Task(Id.random(), "Task Name 4", "Task Description 4", Id.parse(USER_ID)));
+    TASKS.add(new Task(Id.random(), "Task Name 5", "Task Description 5", Id.parse(USER_ID)));
   }
 
   final PasswordService passwordService;
@@ -169,7 +173,7 @@ public class TaskControllerFindByUserIdTests {
   void userNotFound() {
     final var mockUserDataAccess = UserDataAccessMock.getMockForUserNotFoundById(USER_ID);
     final var findTasksByUserIdUseCase = new FindTasksByUserIdUseCase(mockTaskDataAccess, mockUserDataAccess);
-    final var foundUser = mockUserDataAccess.findById(USER_ID);
+    final var foundUser = mockUserDataAccess.findById(Id.parse(USER_ID));
     request.authUserId = USER_ID;
     request.param = USER_ID;
     // Given
@@ -185,8 +189,8 @@ public class TaskControllerFindByUserIdTests {
   @Test
   @DisplayName("Valid request, user found and tasks found => 200/tasks")
   void userAndTasksFound() {
-    final var foundUser = mockUserDataAccess.findById(USER_ID);
-    final var foundTasks = mockTaskDataAccess.findByUserId(USER_ID);
+    final var foundUser = mockUserDataAccess.findById(Id.parse(USER_ID));
+    final var foundTasks = mockTaskDataAccess.findByUserId(Id.parse(USER_ID));
     request.authUserId = USER_ID;
     request.param = USER_ID;
     // Given
@@ -204,23 +208,41 @@ public class TaskControllerFindByUserIdTests {
 
   private List<String> getResponseTaskIds(List<TaskDto> tasks) {
     return  tasks.stream()
-      .map(task -> task.id)
+      .map(task -> task.id.toString())
       .collect(Collectors.toList());
   }
 
   private List<String> getTasksIds(List<Task> tasks) {
     return tasks.stream()
-      .map(task -> task.getId())
+      .map(task -> task.getId().toString())
       .collect(Collectors.toList());
   }
 
+  @Test
+  @DisplayName("Valid request and tasks found => 200/tasks with the counts of their todos")
+  void tasksWithTodoCounts() {
+    final var task = Task.hydrate(Id.random(), "Task Name", "Task Description", Id.parse(USER_ID), 12, 3);
+    final var mockTaskDataAccess = TaskDataAccessMock.getMockForTasksFoundByUserId(USER_ID, List.of(task));
+    final var findTasksByUserIdUseCase = new FindTasksByUserIdUseCase(mockTaskDataAccess, mockUserDataAccess);
+    request.authUserId = USER_ID;
+    request.param = USER_ID;
+    // When
+    final var controllerResponse = taskController.findByUserId(findTasksByUserIdUseCase, request);
+    // Then
+    assertThat(controllerResponse.httpStatus).isEqualTo(200);
+    final var tasks = (List<TaskSummaryDto>) controllerResponse.body;
+    assertThat(tasks).hasSize(1);
+    assertThat(tasks.get(0).todosCount).isEqualTo(12);
+    assertThat(tasks.get(0).doneTodosCount).isEqualTo(3);
+  }
+
   @Test
   @DisplayName("Valid request and user found but not tasks found => 200/empty tasks")
   void userFoundButTasksNotFound() {
     final var mockTaskDataAccess = TaskDataAccessMock.getMockForTasksNotFoundByUserId(USER_ID);
     final var findTasksByUserIdUseCase = new FindTasksByUserIdUseCase(mockTaskDataAccess, mockUserDataAccess);
-    final var foundUser = mockUserDataAccess.findById(USER_ID);
-    final var foundTasks = mockTaskDataAccess.findByUserId(USER_ID);
+    final var foundUser = mockUserDataAccess.findById(Id.parse(USER_ID));
+    final var foundTasks = mockTaskDataAccess.findByUserId(Id.parse(USER_ID));
     request.authUserId = USER_ID;
     request.param = USER_ID;
     // Given
@@ -234,4 +256,48 @@ public class TaskControllerFindByUserIdTests {
     assertThat((List<TaskDto>) controllerResponse.body).isNotNull().isEmpty();
   }
 
+  @Test
+  @DisplayName("Valid request with page limit => 200/first page and next cursor")
+  void userAndTasksPageFound() {
+    final var limit = 2;
+    request = new AdaptedRequest<>(null, USER_ID, USER_ID, AdaptedRequest.pageQuery("2", null));
+    // Given
+    assertThat(TASKS.size()).isGreaterThan(limit);
+    assertThat(request.isPageRequested()).isTrue();
+    // When
+    final var controllerResponse = taskController.findByUserId(findTasksByUserIdUseCase, request);
+    // Then
+    assertThat(controllerResponse.httpStatus).isEqualTo(200);
+    final var page = (PageDto<TaskDto>) controllerResponse.body;
+    assertThat(getResponseTaskIds(page.items)).isEqualTo(getTasksIds(TASKS.subList(0, limit)));
+    assertThat(page.nextCursor).isEqualTo(TaskDataAccessMock.NEXT_CURSOR);
+  }
+
+  @Test
+  @DisplayName("Page limit out of range => 400/message")
+  void pageLimitOutOfRange() {
+    final var limit = String.valueOf(PageDto.MAX_LIMIT + 1);
+    request = new AdaptedRequest<>(null, USER_ID, USER_ID, AdaptedRequest.pageQuery(limit, null));
+    // Given
+    assertThat(request.getPageLimit()).isGreaterThan(PageDto.MAX_LIMIT);
+    // When
+    final var controllerResponse = taskController.findByUserId(findTasksByUserIdUseCase, request);
+    // Then
+    assertThat(controllerResponse.httpStatus).isEqualTo(400);
+    assertThat(controllerResponse.body.toString()).contains(InvalidPageRequestException.message);
+  }
+
+  @Test
+  @DisplayName("Page limit not a number => 400/message")
+  void pageLimitNotANumber() {
+    request = new AdaptedRequest<>(null, USER_ID, USER_ID, AdaptedRequest.pageQuery("ten", null));
+    // Given
+    assertThat(request.isPageRequested()).isTrue();
+    // When
+    final var controllerResponse = taskController.findByUserId(findTasksByUserIdUseCase, request);
+    // Then
+    assertThat(controllerResponse.httpStatus).isEqualTo(400);
+    assertThat(controllerResponse.body.toString()).contains(InvalidPageRequestException.message);
+  }
+
 }
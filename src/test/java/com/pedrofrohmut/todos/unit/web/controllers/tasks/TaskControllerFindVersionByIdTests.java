@@ -0,0 +1,122 @@
+package com.pedrofrohmut.todos.unit.web.controllers.tasks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+
+import com.pedrofrohmut.todos.domain.dataaccess.TaskDataAccess;
+import com.pedrofrohmut.todos.domain.dataaccess.UserDataAccess;
+import com.pedrofrohmut.todos.domain.entities.Id;
+import com.pedrofrohmut.todos.domain.errors.TaskNotFoundByIdException;
+import com.pedrofrohmut.todos.domain.errors.UserNotResourceOwnerException;
+import com.pedrofrohmut.todos.domain.services.PasswordService;
+import com.pedrofrohmut.todos.domain.usecases.tasks.FindTaskByIdUseCase;
+import com.pedrofrohmut.todos.infra.services.BcryptPasswordService;
+import com.pedrofrohmut.todos.mocks.TaskDataAccessMock;
+import com.pedrofrohmut.todos.mocks.UserDataAccessMock;
+import com.pedrofrohmut.todos.web.adapter.AdaptedRequest;
+import com.pedrofrohmut.todos.web.controllers.TaskController;
+import com.pedrofrohmut.todos.web.errors.MissingRequestAuthUserIdException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@DisplayName("Task controller find version by id")
+public class TaskControllerFindVersionByIdTests {
+
+  static final String TASK_ID = UUID.randomUUID().toString();
+  static final String TASK_NAME = "Task Name";
+  static final String TASK_DESCRIPTION = "Task Description";
+  static final String USER_ID = UUID.randomUUID().toString();
+  static final String USER_NAME = "User Name";
+  static final String USER_EMAIL = "user@mail.com";
+  static final String USER_PASSWORD = "user_password";
+
+  final PasswordService passwordService;
+  final TaskDataAccess mockTaskDataAccess;
+  final UserDataAccess mockUserDataAccess;
+  final FindTaskByIdUseCase findTaskByIdUseCase;
+  final TaskController taskController;
+
+  public TaskControllerFindVersionByIdTests() {
+    passwordService = new BcryptPasswordService();
+    mockTaskDataAccess =
+      TaskDataAccessMock.getMockForTaskFoundById(TASK_ID, TASK_NAME, TASK_DESCRIPTION, USER_ID);
+    mockUserDataAccess =
+      UserDataAccessMock.getMockForUserFoundById(USER_ID, USER_NAME, USER_EMAIL, USER_PASSWORD, passwordService);
+    findTaskByIdUseCase = new FindTaskByIdUseCase(mockTaskDataAccess, mockUserDataAccess);
+    taskController = new TaskController();
+  }
+
+  AdaptedRequest<?> request;
+
+  @BeforeEach
+  void beforeEach() {
+    request = new AdaptedRequest<>(null, null, null);
+  }
+
+  @Test
+  @DisplayName("Null authUser => 401/message")
+  void nullAuthUserId() {
+    request.param = TASK_ID;
+    // Given
+    assertThat(request.authUserId).isNull();
+    // When
+    final var controllerResponse = taskController.findVersionById(findTaskByIdUseCase, request);
+    // Then
+    assertThat(controllerResponse.httpStatus).isEqualTo(401);
+    assertThat(controllerResponse.body.toString()).contains(MissingRequestAuthUserIdException.message);
+  }
+
+  @Test
+  @DisplayName("Valid request and user found but task not found => 400/message")
+  void taskNotFound() {
+    final var mockTaskDataAccess = TaskDataAccessMock.getMockForTaskNotFoundById(TASK_ID);
+    final var findTaskByIdUseCase = new FindTaskByIdUseCase(mockTaskDataAccess, mockUserDataAccess);
+    request.authUserId = USER_ID;
+    request.param = TASK_ID;
+    // Given
+    assertThat(mockTaskDataAccess.findVersionById(Id.parse(TASK_ID))).isNull();
+    // When
+    final var controllerResponse = taskController.findVersionById(findTaskByIdUseCase, request);
+    // Then
+    assertThat(controllerResponse.httpStatus).isEqualTo(400);
+    assertThat(controllerResponse.body.toString()).contains(TaskNotFoundByIdException.message);
+  }
+
+  @Test
+  @DisplayName("Valid request, task found but task.userId != authUserId => 401/message")
+  void userNotOwner() {
+    final var otherUserId = UUID.randomUUID().toString();
+    final var mockTaskDataAccess =
+      TaskDataAccessMock.getMockForTaskFoundById(TASK_ID, TASK_NAME, TASK_DESCRIPTION, otherUserId);
+    final var findTaskByIdUseCase = new FindTaskByIdUseCase(mockTaskDataAccess, mockUserDataAccess);
+    request.authUserId = USER_ID;
+    request.param = TASK_ID;
+    // Given
+    assertThat(mockTaskDataAccess.findVersionById(Id.parse(TASK_ID)).userId)
+      .isNotEqualTo(Id.parse(USER_ID));
+    // When
+    final var controllerResponse = taskController.findVersionById(findTaskByIdUseCase, request);
+    // Then
+    assertThat(controllerResponse.httpStatus).isEqualTo(401);
+    assertThat(controllerResponse.body.toString()).contains(UserNotResourceOwnerException.message);
+  }
+
+  @Test
+  @DisplayName("Valid request, user and task found => 200/version")
+  void userAndTaskFound() {
+    request.authUserId = USER_ID;
+    request.param = TASK_ID;
+    // When
+    final var controllerResponse = taskController.findVersionById(findTaskByIdUseCase, request);
+    // Then
+    assertThat(controllerResponse.httpStatus).isEqualTo(200);
+    assertThat(controllerResponse.body).isEqualTo(TaskDataAccessMock.VERSION);
+    assertThat(controllerResponse.etag).isNull();
+  }
+
+}
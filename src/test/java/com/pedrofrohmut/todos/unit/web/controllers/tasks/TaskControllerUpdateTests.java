@@ -12,6 +12,7 @@ import com.pedrofrohmut.todos.domain.dataaccess.TaskDataAccess;
 import com.pedrofrohmut.todos.domain.dataaccess.UserDataAccess;
 import com.pedrofrohmut.todos.domain.dtos.UpdateTaskDto;
 import com.pedrofrohmut.todos.domain.entities.Entity;
+import com.pedrofrohmut.todos.domain.entities.Id;
 import com.pedrofrohmut.todos.domain.entities.Task;
 import com.pedrofrohmut.todos.domain.errors.InvalidEntityException;
 import com.pedrofrohmut.todos.domain.errors.InvalidTaskException;
@@ -219,8 +220,9 @@ public class TaskControllerUpdateTests {
   @DisplayName("Valid request but user not found by request.authUserId => 400/message")
   void userNotFound() {
     final var mockUserDataAccess = UserDataAccessMock.getMockForUserNotFoundById(USER_ID);
+    final var mockTaskDataAccess = TaskDataAccessMock.getMockForTaskNotFoundById(TASK_ID);
     final var updateTaskUseCase = new UpdateTaskUseCase(mockTaskDataAccess, mockUserDataAccess);
-    final var foundUser = mockUserDataAccess.findById(USER_ID);
+    final var foundUser = mockUserDataAccess.findById(Id.parse(USER_ID));
     request.body = new UpdateTaskDto(TASK_NAME, TASK_DESCRIPTION);
     request.authUserId = USER_ID;
     request.param = TASK_ID;
@@ -232,9 +234,9 @@ public class TaskControllerUpdateTests {
     // Then
     assertThat(controllerResponse.httpStatus).isEqualTo(400);
     assertThat(controllerResponse.body.toString()).contains(UserNotFoundByIdException.message);
-    verify(mockUserDataAccess, times(2)).findById(USER_ID);
-    verify(mockTaskDataAccess, times(0)).findById(TASK_ID);
-    verify(mockTaskDataAccess, times(0)).update(any(Task.class));
+    verify(mockUserDataAccess, times(2)).findById(Id.parse(USER_ID));
+    verify(mockTaskDataAccess, times(0)).findById(Id.parse(TASK_ID));
+    verify(mockTaskDataAccess, times(0)).updateIfOwner(any(), any(), any(), any());
   }
 
   @Test
@@ -242,8 +244,8 @@ public class TaskControllerUpdateTests {
   void userFoundButTaskNotFound() {
     final var mockTaskDataAccess = TaskDataAccessMock.getMockForTaskNotFoundById(TASK_ID);
     final var updateTaskUseCase = new UpdateTaskUseCase(mockTaskDataAccess, mockUserDataAccess);
-    final var foundUser = mockUserDataAccess.findById(USER_ID);
-    final var foundTask = mockTaskDataAccess.findById(TASK_ID);
+    final var foundUser = mockUserDataAccess.findById(Id.parse(USER_ID));
+    final var foundTask = mockTaskDataAccess.findById(Id.parse(TASK_ID));
     request.body = new UpdateTaskDto(TASK_NAME, TASK_DESCRIPTION);
     request.authUserId = USER_ID;
     request.param = TASK_ID;
@@ -256,16 +258,16 @@ public class TaskControllerUpdateTests {
     // Then
     assertThat(controllerResponse.httpStatus).isEqualTo(400);
     assertThat(controllerResponse.body.toString()).contains(TaskNotFoundByIdException.message);
-    verify(mockUserDataAccess, times(2)).findById(USER_ID);
-    verify(mockTaskDataAccess, times(2)).findById(TASK_ID);
-    verify(mockTaskDataAccess, times(0)).update(any(Task.class));
+    verify(mockUserDataAccess, times(2)).findById(Id.parse(USER_ID));
+    verify(mockTaskDataAccess, times(1)).findById(Id.parse(TASK_ID));
+    verify(mockTaskDataAccess, times(1)).updateIfOwner(Id.parse(TASK_ID), TASK_NAME, TASK_DESCRIPTION, Id.parse(USER_ID));
   }
 
   @Test
   @DisplayName("Valid request, user and task found => 204")
   void userAndTaskFound() {
-    final var foundUser = mockUserDataAccess.findById(USER_ID);
-    final var foundTask = mockTaskDataAccess.findById(TASK_ID);
+    final var foundUser = mockUserDataAccess.findById(Id.parse(USER_ID));
+    final var foundTask = mockTaskDataAccess.findById(Id.parse(TASK_ID));
     final var nameErr = getNameErr(TASK_NAME);
     final var descriptionErr = getDescriptionErr(TASK_DESCRIPTION);
     final var authUserIdErr = getAuthUserIdErr(USER_ID);
@@ -289,9 +291,9 @@ public class TaskControllerUpdateTests {
     // Then
     assertThat(controllerResponse.httpStatus).isEqualTo(204);
     assertThat(controllerResponse.body).isNull();
-    verify(mockUserDataAccess, times(2)).findById(USER_ID);
-    verify(mockTaskDataAccess, times(2)).findById(TASK_ID);
-    verify(mockTaskDataAccess, times(1)).update(any(Task.class));
+    verify(mockUserDataAccess, times(2)).findById(Id.parse(USER_ID));
+    verify(mockTaskDataAccess, times(1)).findById(Id.parse(TASK_ID));
+    verify(mockTaskDataAccess, times(1)).updateIfOwner(Id.parse(TASK_ID), TASK_NAME, TASK_DESCRIPTION, Id.parse(USER_ID));
   }
 
 }
@@ -0,0 +1,170 @@
+package com.pedrofrohmut.todos.unit.web.controllers.todos;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import com.pedrofrohmut.todos.domain.dataaccess.TaskDataAccess;
+import com.pedrofrohmut.todos.domain.dataaccess.TodoDataAccess;
+import com.pedrofrohmut.todos.domain.dataaccess.UserDataAccess;
+import com.pedrofrohmut.todos.domain.dtos.BulkItemResultDto;
+import com.pedrofrohmut.todos.domain.dtos.CreateTodoDto;
+import com.pedrofrohmut.todos.domain.entities.Id;
+import com.pedrofrohmut.todos.domain.errors.BulkTooLargeException;
+import com.pedrofrohmut.todos.domain.errors.TaskNotFoundByIdException;
+import com.pedrofrohmut.todos.domain.errors.UserNotFoundByIdException;
+import com.pedrofrohmut.todos.domain.services.PasswordService;
+import com.pedrofrohmut.todos.domain.usecases.todos.BulkCreateTodosUseCase;
+import com.pedrofrohmut.todos.infra.services.BcryptPasswordService;
+import com.pedrofrohmut.todos.mocks.TaskDataAccessMock;
+import com.pedrofrohmut.todos.mocks.TodoDataAccessMock;
+import com.pedrofrohmut.todos.mocks.UserDataAccessMock;
+import com.pedrofrohmut.todos.web.adapter.AdaptedRequest;
+import com.pedrofrohmut.todos.web.controllers.TodoController;
+import com.pedrofrohmut.todos.web.errors.MissingRequestAuthUserIdException;
+import com.pedrofrohmut.todos.web.errors.MissingRequestBodyException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@DisplayName("Todo controller bulk create")
+public class TodoControllerBulkCreateTests {
+
+  static final String TODO_TITLE = "Todo Title";
+  static final String TODO_DESCRIPTION = "Todo Description";
+  static final String TASK_ID = UUID.randomUUID().toString();
+  static final String TASK_NAME = "Task Name";
+  static final String TASK_DESCRIPTION = "Task Description";
+  static final String USER_ID = UUID.randomUUID().toString();
+  static final String USER_NAME = "User Name";
+  static final String USER_EMAIL = "user@mail.com";
+  static final String USER_PASSWORD = "user_password";
+
+  final PasswordService passwordService;
+  final TodoDataAccess mockTodoDataAccess;
+  final TaskDataAccess mockTaskDataAccess;
+  final UserDataAccess mockUserDataAccess;
+  final BulkCreateTodosUseCase bulkCreateTodosUseCase;
+  final TodoController todoController;
+
+  public TodoControllerBulkCreateTests() {
+    passwordService = new BcryptPasswordService();
+    mockTodoDataAccess = TodoDataAccessMock.getMockForBulkTodos(Map.of());
+    mockTaskDataAccess =
+      TaskDataAccessMock.getMockForTaskFoundById(TASK_ID, TASK_NAME, TASK_DESCRIPTION, USER_ID);
+    mockUserDataAccess =
+      UserDataAccessMock.getMockForUserFoundById(USER_ID, USER_NAME, USER_EMAIL, USER_PASSWORD, passwordService);
+    bulkCreateTodosUseCase =
+      new BulkCreateTodosUseCase(mockTodoDataAccess, mockTaskDataAccess, mockUserDataAccess);
+    todoController = new TodoController();
+  }
+
+  AdaptedRequest<List<CreateTodoDto>> request;
+
+  @BeforeEach
+  void beforeEach() {
+    request = new AdaptedRequest<>(null, null, null);
+  }
+
+  @Test
+  @DisplayName("Null authUserId => 401/message")
+  void nullAuthUserId() {
+    request.body = List.of(new CreateTodoDto(TODO_TITLE, TODO_DESCRIPTION, TASK_ID));
+    // Given
+    assertThat(request.authUserId).isNull();
+    // When
+    final var controllerResponse = todoController.bulkCreate(bulkCreateTodosUseCase, request);
+    // Then
+    assertThat(controllerResponse.httpStatus).isEqualTo(401);
+    assertThat(controllerResponse.body.toString()).contains(MissingRequestAuthUserIdException.message);
+  }
+
+  @Test
+  @DisplayName("Empty body => 400/message")
+  void emptyBody() {
+    request.authUserId = USER_ID;
+    request.body = List.of();
+    // Given
+    assertThat(request.body).isEmpty();
+    // When
+    final var controllerResponse = todoController.bulkCreate(bulkCreateTodosUseCase, request);
+    // Then
+    assertThat(controllerResponse.httpStatus).isEqualTo(400);
+    assertThat(controllerResponse.body.toString()).contains(MissingRequestBodyException.message);
+  }
+
+  @Test
+  @DisplayName("More items than allowed => 400/message")
+  void tooManyItems() {
+    final var newTodo = new CreateTodoDto(TODO_TITLE, TODO_DESCRIPTION, TASK_ID);
+    request.authUserId = USER_ID;
+    request.body = Collections.nCopies(BulkItemResultDto.MAX_ITEMS + 1, newTodo);
+    // Given
+    assertThat(request.body.size()).isGreaterThan(BulkItemResultDto.MAX_ITEMS);
+    // When
+    final var controllerResponse = todoController.bulkCreate(bulkCreateTodosUseCase, request);
+    // Then
+    assertThat(controllerResponse.httpStatus).isEqualTo(400);
+    assertThat(controllerResponse.body.toString()).contains(BulkTooLargeException.message);
+    verify(mockTodoDataAccess, times(0)).createAll(anyList());
+  }
+
+  @Test
+  @DisplayName("Valid request but user not found => 400/message")
+  void userNotFound() {
+    final var mockUserDataAccess = UserDataAccessMock.getMockForUserNotFoundById(USER_ID);
+    final var bulkCreateTodosUseCase =
+      new BulkCreateTodosUseCase(mockTodoDataAccess, mockTaskDataAccess, mockUserDataAccess);
+    request.authUserId = USER_ID;
+    request.body = List.of(new CreateTodoDto(TODO_TITLE, TODO_DESCRIPTION, TASK_ID));
+    // Given
+    assertThat(mockUserDataAccess.findById(Id.parse(USER_ID))).isNull();
+    // When
+    final var controllerResponse = todoController.bulkCreate(bulkCreateTodosUseCase, request);
+    // Then
+    assertThat(controllerResponse.httpStatus).isEqualTo(400);
+    assertThat(controllerResponse.body.toString()).contains(UserNotFoundByIdException.message);
+  }
+
+  @Test
+  @DisplayName("Valid and invalid items => 200/per item results, valid items created in one batch")
+  void validAndInvalidItems() {
+    final var otherTaskId = UUID.randomUUID().toString();
+    final var newTodos = new ArrayList<CreateTodoDto>();
+    newTodos.add(new CreateTodoDto(TODO_TITLE, TODO_DESCRIPTION, TASK_ID));
+    newTodos.add(new CreateTodoDto("", TODO_DESCRIPTION, TASK_ID));
+    newTodos.add(new CreateTodoDto(TODO_TITLE, TODO_DESCRIPTION, otherTaskId));
+    newTodos.add(new CreateTodoDto(TODO_TITLE, TODO_DESCRIPTION, TASK_ID));
+    request.authUserId = USER_ID;
+    request.body = newTodos;
+    // Given
+    assertThat(mockTaskDataAccess.findById(Id.parse(TASK_ID))).isNotNull();
+    assertThat(mockTaskDataAccess.findById(Id.parse(otherTaskId))).isNull();
+    // When
+    final var controllerResponse = todoController.bulkCreate(bulkCreateTodosUseCase, request);
+    // Then
+    assertThat(controllerResponse.httpStatus).isEqualTo(200);
+    final var results = (List<BulkItemResultDto>) controllerResponse.body;
+    assertThat(results).hasSize(newTodos.size());
+    assertThat(results.get(0).isSuccess).isTrue();
+    assertThat(results.get(0).id).isNotNull();
+    assertThat(results.get(1).isSuccess).isFalse();
+    assertThat(results.get(2).isSuccess).isFalse();
+    assertThat(results.get(2).error).contains(TaskNotFoundByIdException.message);
+    assertThat(results.get(3).isSuccess).isTrue();
+    verify(mockTodoDataAccess, times(1)).createAll(anyList());
+    // Given call plus a single ownership check for the task shared by items 0 and 3
+    verify(mockTaskDataAccess, times(2)).findById(Id.parse(TASK_ID));
+  }
+
+}
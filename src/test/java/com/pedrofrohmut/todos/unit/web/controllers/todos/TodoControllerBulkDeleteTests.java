@@ -0,0 +1,131 @@
+package com.pedrofrohmut.todos.unit.web.controllers.todos;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import com.pedrofrohmut.todos.domain.dataaccess.TodoDataAccess;
+import com.pedrofrohmut.todos.domain.dataaccess.UserDataAccess;
+import com.pedrofrohmut.todos.domain.dtos.BulkItemResultDto;
+import com.pedrofrohmut.todos.domain.entities.Id;
+import com.pedrofrohmut.todos.domain.errors.TodoNotFoundByIdException;
+import com.pedrofrohmut.todos.domain.errors.UserNotResourceOwnerException;
+import com.pedrofrohmut.todos.domain.services.PasswordService;
+import com.pedrofrohmut.todos.domain.usecases.todos.BulkDeleteTodosUseCase;
+import com.pedrofrohmut.todos.infra.services.BcryptPasswordService;
+import com.pedrofrohmut.todos.mocks.TodoDataAccessMock;
+import com.pedrofrohmut.todos.mocks.UserDataAccessMock;
+import com.pedrofrohmut.todos.web.adapter.AdaptedRequest;
+import com.pedrofrohmut.todos.web.controllers.TodoController;
+import com.pedrofrohmut.todos.web.errors.MissingRequestAuthUserIdException;
+import com.pedrofrohmut.todos.web.errors.MissingRequestBodyException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@DisplayName("Todo controller bulk delete")
+public class TodoControllerBulkDeleteTests {
+
+  static final String TODO_ID = UUID.randomUUID().toString();
+  static final String OTHER_USER_TODO_ID = UUID.randomUUID().toString();
+  static final String USER_ID = UUID.randomUUID().toString();
+  static final String OTHER_USER_ID = UUID.randomUUID().toString();
+  static final String USER_NAME = "User Name";
+  static final String USER_EMAIL = "user@mail.com";
+  static final String USER_PASSWORD = "user_password";
+
+  final PasswordService passwordService;
+  final TodoDataAccess mockTodoDataAccess;
+  final UserDataAccess mockUserDataAccess;
+  final BulkDeleteTodosUseCase bulkDeleteTodosUseCase;
+  final TodoController todoController;
+
+  public TodoControllerBulkDeleteTests() {
+    passwordService = new BcryptPasswordService();
+    mockTodoDataAccess =
+      TodoDataAccessMock.getMockForBulkTodos(Map.of(TODO_ID, USER_ID, OTHER_USER_TODO_ID, OTHER_USER_ID));
+    mockUserDataAccess =
+      UserDataAccessMock.getMockForUserFoundById(USER_ID, USER_NAME, USER_EMAIL, USER_PASSWORD, passwordService);
+    bulkDeleteTodosUseCase = new BulkDeleteTodosUseCase(mockTodoDataAccess, mockUserDataAccess);
+    todoController = new TodoController();
+  }
+
+  AdaptedRequest<List<String>> request;
+
+  @BeforeEach
+  void beforeEach() {
+    request = new AdaptedRequest<>(null, null, null);
+  }
+
+  @Test
+  @DisplayName("Null authUserId => 401/message")
+  void nullAuthUserId() {
+    request.body = List.of(TODO_ID);
+    // Given
+    assertThat(request.authUserId).isNull();
+    // When
+    final var controllerResponse = todoController.bulkDelete(bulkDeleteTodosUseCase, request);
+    // Then
+    assertThat(controllerResponse.httpStatus).isEqualTo(401);
+    assertThat(controllerResponse.body.toString()).contains(MissingRequestAuthUserIdException.message);
+  }
+
+  @Test
+  @DisplayName("Null body => 400/message")
+  void nullBody() {
+    request.authUserId = USER_ID;
+    // Given
+    assertThat(request.body).isNull();
+    // When
+    final var controllerResponse = todoController.bulkDelete(bulkDeleteTodosUseCase, request);
+    // Then
+    assertThat(controllerResponse.httpStatus).isEqualTo(400);
+    assertThat(controllerResponse.body.toString()).contains(MissingRequestBodyException.message);
+  }
+
+  @Test
+  @DisplayName("Owned, foreign, missing and invalid ids => 200/per item results, owned ids deleted")
+  void mixedTodoIds() {
+    final var missingTodoId = UUID.randomUUID().toString();
+    request.authUserId = USER_ID;
+    request.body = List.of(TODO_ID, OTHER_USER_TODO_ID, missingTodoId, "not_an_id");
+    // Given
+    assertThat(request.body).hasSize(4);
+    // When
+    final var controllerResponse = todoController.bulkDelete(bulkDeleteTodosUseCase, request);
+    // Then
+    assertThat(controllerResponse.httpStatus).isEqualTo(200);
+    final var results = (List<BulkItemResultDto>) controllerResponse.body;
+    assertThat(results).hasSize(4);
+    assertThat(results.get(0).isSuccess).isTrue();
+    assertThat(results.get(1).error).contains(UserNotResourceOwnerException.message);
+    assertThat(results.get(2).error).contains(TodoNotFoundByIdException.message);
+    assertThat(results.get(3).isSuccess).isFalse();
+    verify(mockTodoDataAccess, times(1)).findUserIdsByIds(anyList());
+    verify(mockTodoDataAccess, times(1)).deleteAll(List.of(Id.parse(TODO_ID)), Id.parse(USER_ID));
+  }
+
+  @Test
+  @DisplayName("No owned ids => 200/per item results, nothing deleted")
+  void noOwnedTodoIds() {
+    request.authUserId = USER_ID;
+    request.body = List.of(OTHER_USER_TODO_ID);
+    // Given
+    assertThat(request.body).doesNotContain(TODO_ID);
+    // When
+    final var controllerResponse = todoController.bulkDelete(bulkDeleteTodosUseCase, request);
+    // Then
+    assertThat(controllerResponse.httpStatus).isEqualTo(200);
+    verify(mockTodoDataAccess, times(0)).deleteAll(anyList(), any());
+  }
+
+}
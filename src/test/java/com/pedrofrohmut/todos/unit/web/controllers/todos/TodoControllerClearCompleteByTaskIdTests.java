@@ -11,6 +11,7 @@ import com.pedrofrohmut.todos.domain.dataaccess.TaskDataAccess;
 import com.pedrofrohmut.todos.domain.dataaccess.TodoDataAccess;
 import com.pedrofrohmut.todos.domain.dataaccess.UserDataAccess;
 import com.pedrofrohmut.todos.domain.entities.Entity;
+import com.pedrofrohmut.todos.domain.entities.Id;
 import com.pedrofrohmut.todos.domain.errors.InvalidEntityException;
 import com.pedrofrohmut.todos.domain.errors.TaskNotFoundByIdException;
 import com.pedrofrohmut.todos.domain.errors.UserNotFoundByIdException;
@@ -151,7 +152,7 @@ public class TodoControllerClearCompleteByTaskIdTests {
     final var mockUserDataAccess = UserDataAccessMock.getMockForUserNotFoundById(USER_ID);
     final var clearCompleteTodosByTaskIdUseCase =
       new ClearCompleteTodosByTaskIdUseCase(mockTodoDataAccess, mockTaskDataAccess, mockUserDataAccess);
-    final var foundUser = mockUserDataAccess.findById(USER_ID);
+    final var foundUser = mockUserDataAccess.findById(Id.parse(USER_ID));
     request.authUserId = USER_ID;
     request.param = TASK_ID;
     // Given
@@ -170,8 +171,8 @@ public class TodoControllerClearCompleteByTaskIdTests {
     final var mockTaskDataAccess = TaskDataAccessMock.getMockForTaskNotFoundById(TASK_ID);
     final var clearCompleteTodosByTaskIdUseCase =
       new ClearCompleteTodosByTaskIdUseCase(mockTodoDataAccess, mockTaskDataAccess, mockUserDataAccess);
-    final var foundUser = mockUserDataAccess.findById(USER_ID);
-    final var foundTask = mockTaskDataAccess.findById(TASK_ID);
+    final var foundUser = mockUserDataAccess.findById(Id.parse(USER_ID));
+    final var foundTask = mockTaskDataAccess.findById(Id.parse(TASK_ID));
     request.authUserId = USER_ID;
     request.param = TASK_ID;
     // Given
@@ -194,14 +195,14 @@ public class TodoControllerClearCompleteByTaskIdTests {
       TaskDataAccessMock.getMockForTaskFoundById(otherUserTaskId, TASK_NAME, TASK_DESCRIPTION, otherUserId);
     final var clearCompleteTodosByTaskIdUseCase =
       new ClearCompleteTodosByTaskIdUseCase(mockTodoDataAccess, mockTaskDataAccess, mockUserDataAccess);
-    final var foundUser = mockUserDataAccess.findById(USER_ID);
-    final var foundTask = mockTaskDataAccess.findById(otherUserTaskId);
+    final var foundUser = mockUserDataAccess.findById(Id.parse(USER_ID));
+    final var foundTask = mockTaskDataAccess.findById(Id.parse(otherUserTaskId));
     request.authUserId = USER_ID;
     request.param = otherUserTaskId;
     // Given
     assertThat(foundUser).isNotNull();
     assertThat(foundTask).isNotNull();
-    assertThat(foundTask.getUserId()).isNotEqualTo(USER_ID);
+    assertThat(foundTask.getUserId()).isNotEqualTo(Id.parse(USER_ID));
     assertThat(request.authUserId).isEqualTo(USER_ID);
     assertThat(request.param).isEqualTo(otherUserTaskId);
     // When
@@ -214,8 +215,8 @@ public class TodoControllerClearCompleteByTaskIdTests {
   @Test
   @DisplayName("Valid request, user and task found => 204")
   void userAndTaskFound() {
-    final var foundUser = mockUserDataAccess.findById(USER_ID);
-    final var foundTask = mockTaskDataAccess.findById(TASK_ID);
+    final var foundUser = mockUserDataAccess.findById(Id.parse(USER_ID));
+    final var foundTask = mockTaskDataAccess.findById(Id.parse(TASK_ID));
     request.authUserId = USER_ID;
     request.param = TASK_ID;
     // Given
@@ -228,7 +229,7 @@ public class TodoControllerClearCompleteByTaskIdTests {
     // Then
     assertThat(controllerResponse.httpStatus).isEqualTo(204);
     assertThat(controllerResponse.body).isNull();
-    verify(mockTodoDataAccess, times(1)).clearCompleteByTaskId(TASK_ID);
+    verify(mockTodoDataAccess, times(1)).clearCompleteByTaskId(Id.parse(TASK_ID));
   }
 
 }
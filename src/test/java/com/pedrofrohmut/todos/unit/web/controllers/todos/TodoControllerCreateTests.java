@@ -13,6 +13,7 @@ import com.pedrofrohmut.todos.domain.dataaccess.TodoDataAccess;
 import com.pedrofrohmut.todos.domain.dataaccess.UserDataAccess;
 import com.pedrofrohmut.todos.domain.dtos.CreateTodoDto;
 import com.pedrofrohmut.todos.domain.entities.Entity;
+import com.pedrofrohmut.todos.domain.entities.Id;
 import com.pedrofrohmut.todos.domain.entities.Todo;
 import com.pedrofrohmut.todos.domain.errors.InvalidEntityException;
 import com.pedrofrohmut.todos.domain.errors.TaskNotFoundByIdException;
@@ -203,7 +204,7 @@ public class TodoControllerCreateTests {
   void userNotFound() {
     final var mockUserDataAccess = UserDataAccessMock.getMockForUserNotFoundById(USER_ID);
     final var createTodoUseCase = new CreateTodoUseCase(mockTodoDataAccess, mockTaskDataAccess, mockUserDataAccess);
-    final var foundUser = mockUserDataAccess.findById(USER_ID);
+    final var foundUser = mockUserDataAccess.findById(Id.parse(USER_ID));
     request.body = new CreateTodoDto(TODO_TITLE, TODO_DESCRIPTION, TASK_ID);
     request.authUserId = USER_ID;
     // Given
@@ -214,8 +215,8 @@ public class TodoControllerCreateTests {
     // Then
     assertThat(controllerResponse.httpStatus).isEqualTo(400);
     assertThat(controllerResponse.body.toString()).contains(UserNotFoundByIdException.message);
-    verify(mockUserDataAccess, times(2)).findById(USER_ID);
-    verify(mockTaskDataAccess, times(0)).findById(TASK_ID);
+    verify(mockUserDataAccess, times(2)).findById(Id.parse(USER_ID));
+    verify(mockTaskDataAccess, times(0)).findById(Id.parse(TASK_ID));
     verify(mockTodoDataAccess, times(0)).create(any(Todo.class));
   }
 
@@ -224,8 +225,8 @@ public class TodoControllerCreateTests {
   void userFoundButTaskNotFound() {
     final var mockTaskDataAccess = TaskDataAccessMock.getMockForTaskNotFoundById(TASK_ID);
     final var createTodoUseCase = new CreateTodoUseCase(mockTodoDataAccess, mockTaskDataAccess, mockUserDataAccess);
-    final var foundUser = mockUserDataAccess.findById(USER_ID);
-    final var foundTask = mockTaskDataAccess.findById(TASK_ID);
+    final var foundUser = mockUserDataAccess.findById(Id.parse(USER_ID));
+    final var foundTask = mockTaskDataAccess.findById(Id.parse(TASK_ID));
     request.body = new CreateTodoDto(TODO_TITLE, TODO_DESCRIPTION, TASK_ID);
     request.authUserId = USER_ID;
     // Given
@@ -237,16 +238,16 @@ public class TodoControllerCreateTests {
     // Then
     assertThat(controllerResponse.httpStatus).isEqualTo(400);
     assertThat(controllerResponse.body.toString()).contains(TaskNotFoundByIdException.message);
-    verify(mockUserDataAccess, times(2)).findById(USER_ID);
-    verify(mockTaskDataAccess, times(2)).findById(TASK_ID);
+    verify(mockUserDataAccess, times(2)).findById(Id.parse(USER_ID));
+    verify(mockTaskDataAccess, times(2)).findById(Id.parse(TASK_ID));
     verify(mockTodoDataAccess, times(0)).create(any(Todo.class));
   }
 
   @Test
   @DisplayName("Valid request, user and task found => 201")
   void userAndTaskFound() {
-    final var foundUser = mockUserDataAccess.findById(USER_ID);
-    final var foundTask = mockTaskDataAccess.findById(TASK_ID);
+    final var foundUser = mockUserDataAccess.findById(Id.parse(USER_ID));
+    final var foundTask = mockTaskDataAccess.findById(Id.parse(TASK_ID));
     final var titleErr = getTitleErr(TODO_TITLE);
     final var descriptionErr = getDescriptionErr(TODO_DESCRIPTION);
     final var taskIdErr = getTaskIdErr(TASK_ID);
@@ -269,8 +270,8 @@ public class TodoControllerCreateTests {
     // Then
     assertThat(controllerResponse.httpStatus).isEqualTo(201);
     assertThat(controllerResponse.body).isNull();
-    verify(mockUserDataAccess, times(2)).findById(USER_ID);
-    verify(mockTaskDataAccess, times(2)).findById(TASK_ID);
+    verify(mockUserDataAccess, times(2)).findById(Id.parse(USER_ID));
+    verify(mockTaskDataAccess, times(2)).findById(Id.parse(TASK_ID));
     verify(mockTodoDataAccess, times(1)).create(any(Todo.class));
   }
 
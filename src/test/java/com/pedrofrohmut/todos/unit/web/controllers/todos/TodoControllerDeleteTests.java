@@ -9,6 +9,7 @@ import java.util.UUID;
 import com.pedrofrohmut.todos.domain.dataaccess.TodoDataAccess;
 import com.pedrofrohmut.todos.domain.dataaccess.UserDataAccess;
 import com.pedrofrohmut.todos.domain.entities.Entity;
+import com.pedrofrohmut.todos.domain.entities.Id;
 import com.pedrofrohmut.todos.domain.errors.InvalidEntityException;
 import com.pedrofrohmut.todos.domain.errors.TodoNotFoundByIdException;
 import com.pedrofrohmut.todos.domain.errors.UserNotFoundByIdException;
@@ -147,8 +148,9 @@ public class TodoControllerDeleteTests {
   @DisplayName("Valid request but user not found => 400/message")
   void userNotFound() {
     final var mockUserDataAccess = UserDataAccessMock.getMockForUserNotFoundById(USER_ID);
+    final var mockTodoDataAccess = TodoDataAccessMock.getMockForTodoNotFoundById(TODO_ID);
     final var deleteTodoUseCase = new DeleteTodoUseCase(mockTodoDataAccess, mockUserDataAccess);
-    final var foundUser = mockUserDataAccess.findById(USER_ID);
+    final var foundUser = mockUserDataAccess.findById(Id.parse(USER_ID));
     request.authUserId = USER_ID;
     request.param = TODO_ID;
     // Given
@@ -166,8 +168,8 @@ public class TodoControllerDeleteTests {
   void userFoundButTodoNotFound() {
     final var mockTodoDataAccess = TodoDataAccessMock.getMockForTodoNotFoundById(TODO_ID);
     final var deleteTodoUseCase = new DeleteTodoUseCase(mockTodoDataAccess, mockUserDataAccess);
-    final var foundUser = mockUserDataAccess.findById(USER_ID);
-    final var foundTodo = mockTodoDataAccess.findById(TODO_ID);
+    final var foundUser = mockUserDataAccess.findById(Id.parse(USER_ID));
+    final var foundTodo = mockTodoDataAccess.findById(Id.parse(TODO_ID));
     request.authUserId = USER_ID;
     request.param = TODO_ID;
     // Given
@@ -191,14 +193,14 @@ public class TodoControllerDeleteTests {
       TodoDataAccessMock.getMockForTodoFoundById(
           otherUserTodoId, TODO_TITLE, TODO_DESCRIPTION, TODO_IS_DONE, otherUserTaskId, otherUserId);
     final var deleteTodoUseCase = new DeleteTodoUseCase(mockTodoDataAccess, mockUserDataAccess);
-    final var foundUser = mockUserDataAccess.findById(USER_ID);
-    final var foundTodo = mockTodoDataAccess.findById(otherUserTodoId);
+    final var foundUser = mockUserDataAccess.findById(Id.parse(USER_ID));
+    final var foundTodo = mockTodoDataAccess.findById(Id.parse(otherUserTodoId));
     request.authUserId = USER_ID;
     request.param = otherUserTodoId;
     // Given
     assertThat(foundUser).isNotNull();
     assertThat(foundTodo).isNotNull();
-    assertThat(foundTodo.getUserId()).isNotEqualTo(USER_ID);
+    assertThat(foundTodo.getUserId()).isNotEqualTo(Id.parse(USER_ID));
     assertThat(request.authUserId).isEqualTo(USER_ID);
     assertThat(request.param).isEqualTo(otherUserTodoId);
     // When
@@ -211,8 +213,8 @@ public class TodoControllerDeleteTests {
   @Test
   @DisplayName("Valid request, user and todo found => 204")
   void userAndTodoFound() {
-    final var foundUser = mockUserDataAccess.findById(USER_ID);
-    final var foundTodo = mockTodoDataAccess.findById(TODO_ID);
+    final var foundUser = mockUserDataAccess.findById(Id.parse(USER_ID));
+    final var foundTodo = mockTodoDataAccess.findById(Id.parse(TODO_ID));
     request.authUserId = USER_ID;
     request.param = TODO_ID;
     // Given
@@ -225,7 +227,7 @@ public class TodoControllerDeleteTests {
     // Then
     assertThat(controllerResponse.httpStatus).isEqualTo(204);
     assertThat(controllerResponse.body).isNull();
-    verify(mockTodoDataAccess, times(1)).delete(TODO_ID);
+    verify(mockTodoDataAccess, times(1)).deleteIfOwner(Id.parse(TODO_ID), Id.parse(USER_ID));
   }
 
 }
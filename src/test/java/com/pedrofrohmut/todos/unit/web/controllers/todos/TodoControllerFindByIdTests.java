@@ -8,6 +8,7 @@ import com.pedrofrohmut.todos.domain.dataaccess.TodoDataAccess;
 import com.pedrofrohmut.todos.domain.dataaccess.UserDataAccess;
 import com.pedrofrohmut.todos.domain.dtos.TodoDto;
 import com.pedrofrohmut.todos.domain.entities.Entity;
+import com.pedrofrohmut.todos.domain.entities.Id;
 import com.pedrofrohmut.todos.domain.errors.InvalidEntityException;
 import com.pedrofrohmut.todos.domain.errors.TodoNotFoundByIdException;
 import com.pedrofrohmut.todos.domain.errors.UserNotFoundByIdException;
@@ -148,7 +149,7 @@ public class TodoControllerFindByIdTests {
   void userNotFound() {
     final var mockUserDataAccess = UserDataAccessMock.getMockForUserNotFoundById(USER_ID);
     final var findTodoByIdUseCase = new FindTodoByIdUseCase(mockTodoDataAccess, mockUserDataAccess);
-    final var foundUser = mockUserDataAccess.findById(USER_ID);
+    final var foundUser = mockUserDataAccess.findById(Id.parse(USER_ID));
     request.authUserId = USER_ID;
     request.param = TODO_ID;
     // Given
@@ -166,8 +167,8 @@ public class TodoControllerFindByIdTests {
   void todoNotFound() {
     final var mockTodoDataAccess = TodoDataAccessMock.getMockForTodoNotFoundById(TODO_ID);
     final var findTodoByIdUseCase = new FindTodoByIdUseCase(mockTodoDataAccess, mockUserDataAccess);
-    final var foundUser = mockUserDataAccess.findById(USER_ID);
-    final var foundTodo = mockTodoDataAccess.findById(TODO_ID);
+    final var foundUser = mockUserDataAccess.findById(Id.parse(USER_ID));
+    final var foundTodo = mockTodoDataAccess.findById(Id.parse(TODO_ID));
     request.authUserId = USER_ID;
     request.param = TODO_ID;
     // Given
@@ -191,14 +192,14 @@ public class TodoControllerFindByIdTests {
       TodoDataAccessMock.getMockForTodoFoundById(
           otherUserTodoId, TODO_TITLE, TODO_DESCRIPTION, TODO_IS_DONE, otherUserTaskId, otherUserId);
     final var findTodoByIdUseCase = new FindTodoByIdUseCase(mockTodoDataAccess, mockUserDataAccess);
-    final var foundUser = mockUserDataAccess.findById(USER_ID);
-    final var foundTodo = mockTodoDataAccess.findById(otherUserTodoId);
+    final var foundUser = mockUserDataAccess.findById(Id.parse(USER_ID));
+    final var foundTodo = mockTodoDataAccess.findById(Id.parse(otherUserTodoId));
     request.authUserId = USER_ID;
     request.param = otherUserTodoId;
     // Given
     assertThat(foundUser).isNotNull();
     assertThat(foundTodo).isNotNull();
-    assertThat(foundTodo.getUserId()).isNotEqualTo(USER_ID);
+    assertThat(foundTodo.getUserId()).isNotEqualTo(Id.parse(USER_ID));
     assertThat(request.authUserId).isEqualTo(USER_ID);
     assertThat(request.param).isEqualTo(otherUserTodoId);
     // When
@@ -211,8 +212,8 @@ public class TodoControllerFindByIdTests {
   @Test
   @DisplayName("Valid request, user and todo found => 200/{ id, title, description, taskId, userId }")
   void userAndTodoFound() {
-    final var foundUser = mockUserDataAccess.findById(USER_ID);
-    final var foundTodo = mockTodoDataAccess.findById(TODO_ID);
+    final var foundUser = mockUserDataAccess.findById(Id.parse(USER_ID));
+    final var foundTodo = mockTodoDataAccess.findById(Id.parse(TODO_ID));
     request.authUserId = USER_ID;
     request.param = TODO_ID;
     // Given
@@ -225,12 +226,12 @@ public class TodoControllerFindByIdTests {
     // Then
     assertThat(controllerResponse.httpStatus).isEqualTo(200);
     final var responseBody = (TodoDto) controllerResponse.body;
-    assertThat(responseBody.id).isEqualTo(TODO_ID);
+    assertThat(responseBody.id).isEqualTo(Id.parse(TODO_ID));
     assertThat(responseBody.title).isEqualTo(TODO_TITLE);
     assertThat(responseBody.description).isEqualTo(TODO_DESCRIPTION);
     assertThat(responseBody.isDone).isEqualTo(TODO_IS_DONE);
-    assertThat(responseBody.taskId).isEqualTo(TASK_ID);
-    assertThat(responseBody.userId).isEqualTo(USER_ID);
+    assertThat(responseBody.taskId).isEqualTo(Id.parse(TASK_ID));
+    assertThat(responseBody.userId).isEqualTo(Id.parse(USER_ID));
   }
 
 }
@@ -1,16 +1,22 @@
 package com.pedrofrohmut.todos.unit.web.controllers.todos;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
+import com.pedrofrohmut.todos.domain.dataaccess.RowStream;
 import com.pedrofrohmut.todos.domain.dataaccess.TaskDataAccess;
 import com.pedrofrohmut.todos.domain.dataaccess.TodoDataAccess;
 import com.pedrofrohmut.todos.domain.dataaccess.UserDataAccess;
+import com.pedrofrohmut.todos.domain.dtos.PageDto;
 import com.pedrofrohmut.todos.domain.dtos.TodoDto;
 import com.pedrofrohmut.todos.domain.entities.Entity;
+import com.pedrofrohmut.todos.domain.entities.Id;
 import com.pedrofrohmut.todos.domain.errors.InvalidEntityException;
+import com.pedrofrohmut.todos.domain.errors.InvalidPageRequestException;
 import com.pedrofrohmut.todos.domain.errors.TaskNotFoundByIdException;
 import com.pedrofrohmut.todos.domain.errors.UserNotFoundByIdException;
 import com.pedrofrohmut.todos.domain.errors.UserNotResourceOwnerException;
@@ -152,7 +158,7 @@ public class TodoControllerFindByTaskIdTests {
     final var mockUserDataAccess = UserDataAccessMock.getMockForUserNotFoundById(USER_ID);
     final var findTodosByTaskIdUseCase =
       new FindTodosByTaskIdUseCase(mockTodoDataAccess, mockTaskDataAccess, mockUserDataAccess);
-    final var foundUser = mockUserDataAccess.findById(USER_ID);
+    final var foundUser = mockUserDataAccess.findById(Id.parse(USER_ID));
     request.authUserId = USER_ID;
     request.param = TASK_ID;
     // Given
@@ -171,8 +177,8 @@ public class TodoControllerFindByTaskIdTests {
     final var mockTaskDataAccess = TaskDataAccessMock.getMockForTaskNotFoundById(TASK_ID);
     final var findTodosByTaskIdUseCase =
       new FindTodosByTaskIdUseCase(mockTodoDataAccess, mockTaskDataAccess, mockUserDataAccess);
-    final var foundUser = mockUserDataAccess.findById(USER_ID);
-    final var foundTask = mockTaskDataAccess.findById(TASK_ID);
+    final var foundUser = mockUserDataAccess.findById(Id.parse(USER_ID));
+    final var foundTask = mockTaskDataAccess.findById(Id.parse(TASK_ID));
     request.authUserId = USER_ID;
     request.param = TASK_ID;
     // Given
@@ -192,8 +198,8 @@ public class TodoControllerFindByTaskIdTests {
     final var mockTodoDataAccess = TodoDataAccessMock.getMockForTodosNotFoundByTaskId(TASK_ID);
     final var findTodosByTaskIdUseCase =
       new FindTodosByTaskIdUseCase(mockTodoDataAccess, mockTaskDataAccess, mockUserDataAccess);
-    final var foundUser = mockUserDataAccess.findById(USER_ID);
-    final var foundTask = mockTaskDataAccess.findById(TASK_ID);
+    final var foundUser = mockUserDataAccess.findById(Id.parse(USER_ID));
+    final var foundTask = mockTaskDataAccess.findById(Id.parse(TASK_ID));
     request.authUserId = USER_ID;
     request.param = TASK_ID;
     // Given
@@ -217,14 +223,14 @@ public class TodoControllerFindByTaskIdTests {
       TaskDataAccessMock.getMockForTaskFoundById(otherUserTaskId, TASK_NAME, TASK_DESCRIPTION, otherUserId);
     final var findTodosByTaskIdUseCase =
       new FindTodosByTaskIdUseCase(mockTodoDataAccess, mockTaskDataAccess, mockUserDataAccess);
-    final var foundUser = mockUserDataAccess.findById(USER_ID);
-    final var foundTask = mockTaskDataAccess.findById(otherUserTaskId);
+    final var foundUser = mockUserDataAccess.findById(Id.parse(USER_ID));
+    final var foundTask = mockTaskDataAccess.findById(Id.parse(otherUserTaskId));
     request.authUserId = USER_ID;
     request.param = otherUserTaskId;
     // Given
     assertThat(foundUser).isNotNull();
     assertThat(foundTask).isNotNull();
-    assertThat(foundTask.getUserId()).isNotEqualTo(USER_ID);
+    assertThat(foundTask.getUserId()).isNotEqualTo(Id.parse(USER_ID));
     assertThat(request.authUserId).isEqualTo(USER_ID);
     assertThat(request.param).isEqualTo(otherUserTaskId);
     // When
@@ -241,15 +247,15 @@ public class TodoControllerFindByTaskIdTests {
     final var mockTodoDataAccess = TodoDataAccessMock.getMockForTodosFoundByTaskId(TASK_ID, otherUserId);
     final var findTodosByTaskIdUseCase =
       new FindTodosByTaskIdUseCase(mockTodoDataAccess, mockTaskDataAccess, mockUserDataAccess);
-    final var foundUser = mockUserDataAccess.findById(USER_ID);
-    final var foundTask = mockTaskDataAccess.findById(TASK_ID);
-    final var foundTodos = mockTodoDataAccess.findByTaskId(TASK_ID);
+    final var foundUser = mockUserDataAccess.findById(Id.parse(USER_ID));
+    final var foundTask = mockTaskDataAccess.findById(Id.parse(TASK_ID));
+    final var foundTodos = mockTodoDataAccess.findByTaskId(Id.parse(TASK_ID));
     request.authUserId = USER_ID;
     request.param = TASK_ID;
     // Given
     assertThat(foundUser).isNotNull();
     assertThat(foundTask).isNotNull();
-    foundTodos.forEach(todo -> assertThat(todo.getUserId()).isNotEqualTo(USER_ID));
+    foundTodos.forEach(todo -> assertThat(todo.getUserId()).isNotEqualTo(Id.parse(USER_ID)));
     assertThat(request.authUserId).isEqualTo(USER_ID);
     assertThat(request.param).isEqualTo(TASK_ID);
     // When
@@ -262,9 +268,9 @@ public class TodoControllerFindByTaskIdTests {
   @Test
   @DisplayName("Valid request, user, task and todos found => 200/todos")
   void userTaskAndTodosFound() {
-    final var foundUser = mockUserDataAccess.findById(USER_ID);
-    final var foundTask = mockTaskDataAccess.findById(TASK_ID);
-    final var foundTodos = mockTodoDataAccess.findByTaskId(TASK_ID);
+    final var foundUser = mockUserDataAccess.findById(Id.parse(USER_ID));
+    final var foundTask = mockTaskDataAccess.findById(Id.parse(TASK_ID));
+    final var foundTodos = mockTodoDataAccess.findByTaskId(Id.parse(TASK_ID));
     request.authUserId = USER_ID;
     request.param = TASK_ID;
     // Given
@@ -280,9 +286,92 @@ public class TodoControllerFindByTaskIdTests {
     final var responseTodos = (List<TodoDto>) controllerResponse.body;
     assertThat(responseTodos).isNotNull().isNotEmpty();
     responseTodos.forEach(todo -> {
-      assertThat(todo.userId).isEqualTo(USER_ID);
-      assertThat(todo.taskId).isEqualTo(TASK_ID);
+      assertThat(todo.userId).isEqualTo(Id.parse(USER_ID));
+      assertThat(todo.taskId).isEqualTo(Id.parse(TASK_ID));
     });
   }
 
+  @Test
+  @DisplayName("Valid request with page limit => 200/first page and next cursor")
+  void userTaskAndTodosPageFound() {
+    final var limit = 2;
+    request = new AdaptedRequest<>(null, USER_ID, TASK_ID, AdaptedRequest.pageQuery("2", null));
+    final var foundTodos = mockTodoDataAccess.findByTaskId(Id.parse(TASK_ID));
+    // Given
+    assertThat(foundTodos.size()).isGreaterThan(limit);
+    assertThat(request.isPageRequested()).isTrue();
+    // When
+    final var controllerResponse = todoController.findByTaskId(findTodosByTaskIdUseCase, request);
+    // Then
+    assertThat(controllerResponse.httpStatus).isEqualTo(200);
+    final var page = (PageDto<TodoDto>) controllerResponse.body;
+    assertThat(page.items).hasSize(limit);
+    assertThat(page.nextCursor).isEqualTo(TodoDataAccessMock.NEXT_CURSOR);
+  }
+
+  @Test
+  @DisplayName("Page limit out of range => 400/message")
+  void pageLimitOutOfRange() {
+    request = new AdaptedRequest<>(null, USER_ID, TASK_ID, AdaptedRequest.pageQuery("0", null));
+    // Given
+    assertThat(request.getPageLimit()).isLessThan(1);
+    // When
+    final var controllerResponse = todoController.findByTaskId(findTodosByTaskIdUseCase, request);
+    // Then
+    assertThat(controllerResponse.httpStatus).isEqualTo(400);
+    assertThat(controllerResponse.body.toString()).contains(InvalidPageRequestException.message);
+  }
+
+  @Test
+  @DisplayName("Stream with user, task and todos found => 200/todos mapped as they are read")
+  void userTaskAndTodosStreamed() {
+    request.authUserId = USER_ID;
+    request.param = TASK_ID;
+    // When
+    final var controllerResponse = todoController.streamByTaskId(findTodosByTaskIdUseCase, request);
+    // Then
+    assertThat(controllerResponse.httpStatus).isEqualTo(200);
+    final var streamedTodos = new ArrayList<TodoDto>();
+    ((RowStream<TodoDto>) controllerResponse.body).forEach(streamedTodos::add);
+    assertThat(streamedTodos).hasSameSizeAs(mockTodoDataAccess.findByTaskId(Id.parse(TASK_ID)));
+    streamedTodos.forEach(todo -> {
+      assertThat(todo.userId).isEqualTo(Id.parse(USER_ID));
+      assertThat(todo.taskId).isEqualTo(Id.parse(TASK_ID));
+    });
+  }
+
+  @Test
+  @DisplayName("Stream with a todo of another user => UserNotResourceOwnerException while streaming")
+  void userNotResourceOwnerOfStreamedTodos() {
+    final var otherUserId = UUID.randomUUID().toString();
+    final var mockTodoDataAccess = TodoDataAccessMock.getMockForTodosFoundByTaskId(TASK_ID, otherUserId);
+    final var findTodosByTaskIdUseCase =
+      new FindTodosByTaskIdUseCase(mockTodoDataAccess, mockTaskDataAccess, mockUserDataAccess);
+    request.authUserId = USER_ID;
+    request.param = TASK_ID;
+    // Given
+    final var controllerResponse = todoController.streamByTaskId(findTodosByTaskIdUseCase, request);
+    assertThat(controllerResponse.httpStatus).isEqualTo(200);
+    // When
+    final var streamedTodos = (RowStream<TodoDto>) controllerResponse.body;
+    // Then
+    assertThatThrownBy(() -> streamedTodos.forEach(todo -> {}))
+      .isInstanceOf(UserNotResourceOwnerException.class);
+  }
+
+  @Test
+  @DisplayName("Stream with task not found => 400/message")
+  void taskNotFoundStream() {
+    final var mockTaskDataAccess = TaskDataAccessMock.getMockForTaskNotFoundById(TASK_ID);
+    final var findTodosByTaskIdUseCase =
+      new FindTodosByTaskIdUseCase(mockTodoDataAccess, mockTaskDataAccess, mockUserDataAccess);
+    request.authUserId = USER_ID;
+    request.param = TASK_ID;
+    // When
+    final var controllerResponse = todoController.streamByTaskId(findTodosByTaskIdUseCase, request);
+    // Then
+    assertThat(controllerResponse.httpStatus).isEqualTo(400);
+    assertThat(controllerResponse.body.toString()).contains(TaskNotFoundByIdException.message);
+  }
+
 }
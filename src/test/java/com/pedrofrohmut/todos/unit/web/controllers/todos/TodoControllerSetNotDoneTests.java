@@ -9,6 +9,7 @@ import java.util.UUID;
 import com.pedrofrohmut.todos.domain.dataaccess.TodoDataAccess;
 import com.pedrofrohmut.todos.domain.dataaccess.UserDataAccess;
 import com.pedrofrohmut.todos.domain.entities.Entity;
+import com.pedrofrohmut.todos.domain.entities.Id;
 import com.pedrofrohmut.todos.domain.errors.InvalidEntityException;
 import com.pedrofrohmut.todos.domain.errors.TodoNotFoundByIdException;
 import com.pedrofrohmut.todos.domain.errors.UserNotFoundByIdException;
@@ -148,8 +149,9 @@ public class TodoControllerSetNotDoneTests {
   @DisplayName("Valid request but user not found => 400/message")
   void userNotFound() {
     final var mockUserDataAccess = UserDataAccessMock.getMockForUserNotFoundById(USER_ID);
+    final var mockTodoDataAccess = TodoDataAccessMock.getMockForTodoNotFoundById(TODO_ID);
     final var setNotDoneTodoUseCase = new SetNotDoneTodoUseCase(mockTodoDataAccess, mockUserDataAccess);
-    final var foundUser = mockUserDataAccess.findById(USER_ID);
+    final var foundUser = mockUserDataAccess.findById(Id.parse(USER_ID));
     request.authUserId = USER_ID;
     request.param = TODO_ID;
     // Given
@@ -167,8 +169,8 @@ public class TodoControllerSetNotDoneTests {
   void userFoundButTodoNotFound() {
     final var mockTodoDataAccess = TodoDataAccessMock.getMockForTodoNotFoundById(TODO_ID);
     final var setNotDoneTodoUseCase = new SetNotDoneTodoUseCase(mockTodoDataAccess, mockUserDataAccess);
-    final var foundUser = mockUserDataAccess.findById(USER_ID);
-    final var foundTodo = mockTodoDataAccess.findById(TODO_ID);
+    final var foundUser = mockUserDataAccess.findById(Id.parse(USER_ID));
+    final var foundTodo = mockTodoDataAccess.findById(Id.parse(TODO_ID));
     request.authUserId = USER_ID;
     request.param = TODO_ID;
     // Given
@@ -192,14 +194,14 @@ public class TodoControllerSetNotDoneTests {
       TodoDataAccessMock.getMockForTodoFoundById(
           otherUserTodoId, TODO_TITLE, TODO_DESCRIPTION, TODO_IS_DONE, otherUserTaskId, otherUserId);
     final var setNotDoneTodoUseCase = new SetNotDoneTodoUseCase(mockTodoDataAccess, mockUserDataAccess);
-    final var foundUser = mockUserDataAccess.findById(USER_ID);
-    final var foundTodo = mockTodoDataAccess.findById(otherUserTodoId);
+    final var foundUser = mockUserDataAccess.findById(Id.parse(USER_ID));
+    final var foundTodo = mockTodoDataAccess.findById(Id.parse(otherUserTodoId));
     request.authUserId = USER_ID;
     request.param = otherUserTodoId;
     // Given
     assertThat(foundUser).isNotNull();
     assertThat(foundTodo).isNotNull();
-    assertThat(foundTodo.getUserId()).isNotEqualTo(USER_ID);
+    assertThat(foundTodo.getUserId()).isNotEqualTo(Id.parse(USER_ID));
     assertThat(request.authUserId).isEqualTo(USER_ID);
     assertThat(request.param).isEqualTo(otherUserTodoId);
     // When
@@ -212,8 +214,8 @@ public class TodoControllerSetNotDoneTests {
   @Test
   @DisplayName("Valid request, user and todo found => 204")
   void userAndTodoFound() {
-    final var foundUser = mockUserDataAccess.findById(USER_ID);
-    final var foundTodo = mockTodoDataAccess.findById(TODO_ID);
+    final var foundUser = mockUserDataAccess.findById(Id.parse(USER_ID));
+    final var foundTodo = mockTodoDataAccess.findById(Id.parse(TODO_ID));
     request.authUserId = USER_ID;
     request.param = TODO_ID;
     // Given
@@ -226,7 +228,7 @@ public class TodoControllerSetNotDoneTests {
     // Then
     assertThat(controllerResponse.httpStatus).isEqualTo(204);
     assertThat(controllerResponse.body).isNull();
-    verify(mockTodoDataAccess, times(1)).setNotDone(TODO_ID);
+    verify(mockTodoDataAccess, times(1)).setNotDoneIfOwner(Id.parse(TODO_ID), Id.parse(USER_ID));
   }
 
 }
@@ -2,6 +2,7 @@ package com.pedrofrohmut.todos.unit.web.controllers.todos;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -11,6 +12,7 @@ import com.pedrofrohmut.todos.domain.dataaccess.TodoDataAccess;
 import com.pedrofrohmut.todos.domain.dataaccess.UserDataAccess;
 import com.pedrofrohmut.todos.domain.dtos.UpdateTodoDto;
 import com.pedrofrohmut.todos.domain.entities.Entity;
+import com.pedrofrohmut.todos.domain.entities.Id;
 import com.pedrofrohmut.todos.domain.entities.Todo;
 import com.pedrofrohmut.todos.domain.errors.InvalidEntityException;
 import com.pedrofrohmut.todos.domain.errors.TodoNotFoundByIdException;
@@ -224,8 +226,9 @@ public class TodoControllerUpdateTests {
   @DisplayName("Valid request but user not found by request.authUserId => 400/message")
   void userNotFound() {
     final var mockUserDataAccess = UserDataAccessMock.getMockForUserNotFoundById(USER_ID);
+    final var mockTodoDataAccess = TodoDataAccessMock.getMockForTodoNotFoundById(TODO_ID);
     final var updateTodoUseCase = new UpdateTodoUseCase(mockTodoDataAccess, mockUserDataAccess);
-    final var foundUser = mockUserDataAccess.findById(USER_ID);
+    final var foundUser = mockUserDataAccess.findById(Id.parse(USER_ID));
     request.body = new UpdateTodoDto(TODO_TITLE, TODO_DESCRIPTION);
     request.authUserId = USER_ID;
     request.param = TODO_ID;
@@ -245,8 +248,8 @@ public class TodoControllerUpdateTests {
   void todoNotFound() {
     final var mockTodoDataAccess = TodoDataAccessMock.getMockForTodoNotFoundById(TODO_ID);
     final var updateTodoUseCase = new UpdateTodoUseCase(mockTodoDataAccess, mockUserDataAccess);
-    final var foundUser = mockUserDataAccess.findById(USER_ID);
-    final var foundTodo = mockTodoDataAccess.findById(TODO_ID);
+    final var foundUser = mockUserDataAccess.findById(Id.parse(USER_ID));
+    final var foundTodo = mockTodoDataAccess.findById(Id.parse(TODO_ID));
     request.body = new UpdateTodoDto(TODO_TITLE, TODO_DESCRIPTION);
     request.authUserId = USER_ID;
     request.param = TODO_ID;
@@ -271,15 +274,15 @@ public class TodoControllerUpdateTests {
       TodoDataAccessMock.getMockForTodoFoundById(
           otherUserTodoId, TODO_TITLE, TODO_DESCRIPTION, TODO_IS_DONE, otherUserTaskId, otherUserId);
     final var updateTodoUseCase = new UpdateTodoUseCase(mockTodoDataAccess, mockUserDataAccess);
-    final var foundUser = mockUserDataAccess.findById(USER_ID);
-    final var foundTodo = mockTodoDataAccess.findById(otherUserTodoId);
+    final var foundUser = mockUserDataAccess.findById(Id.parse(USER_ID));
+    final var foundTodo = mockTodoDataAccess.findById(Id.parse(otherUserTodoId));
     request.body = new UpdateTodoDto(TODO_TITLE, TODO_DESCRIPTION);
     request.authUserId = USER_ID;
     request.param = otherUserTodoId;
     // Given
     assertThat(foundUser).isNotNull();
     assertThat(foundTodo).isNotNull();
-    assertThat(foundTodo.getUserId()).isNotEqualTo(USER_ID);
+    assertThat(foundTodo.getUserId()).isNotEqualTo(Id.parse(USER_ID));
     assertThat(request.authUserId).isEqualTo(USER_ID);
     assertThat(request.param).isEqualTo(otherUserTodoId);
     // When
@@ -292,8 +295,8 @@ public class TodoControllerUpdateTests {
   @Test
   @DisplayName("Valid request, user and todo found => 204")
   void userAndTodoFound() {
-    final var foundUser = mockUserDataAccess.findById(USER_ID);
-    final var foundTodo = mockTodoDataAccess.findById(TODO_ID);
+    final var foundUser = mockUserDataAccess.findById(Id.parse(USER_ID));
+    final var foundTodo = mockTodoDataAccess.findById(Id.parse(TODO_ID));
     request.body = new UpdateTodoDto(TODO_TITLE, TODO_DESCRIPTION);
     request.authUserId = USER_ID;
     request.param = TODO_ID;
@@ -307,7 +310,7 @@ public class TodoControllerUpdateTests {
     // Then
     assertThat(controllerResponse.httpStatus).isEqualTo(204);
     assertThat(controllerResponse.body).isNull();
-    verify(mockTodoDataAccess, times(1)).update(any(Todo.class));
+    verify(mockTodoDataAccess, times(1)).updateIfOwner(eq(Id.parse(TODO_ID)), any(), any(), eq(Id.parse(USER_ID)));
   }
 
 }
@@ -1,8 +1,13 @@
 package com.pedrofrohmut.todos.unit.web.controllers.users;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
 import com.pedrofrohmut.todos.domain.dataaccess.UserDataAccess;
 import com.pedrofrohmut.todos.domain.dtos.CreateUserDto;
 import com.pedrofrohmut.todos.domain.entities.User;
@@ -10,7 +15,9 @@ import com.pedrofrohmut.todos.domain.errors.InvalidUserException;
 import com.pedrofrohmut.todos.domain.errors.UserEmailAlreadyTakenException;
 import com.pedrofrohmut.todos.domain.services.PasswordService;
 import com.pedrofrohmut.todos.domain.usecases.users.CreateUserUseCase;
+import com.pedrofrohmut.todos.infra.errors.PasswordHashingBusyException;
 import com.pedrofrohmut.todos.infra.services.BcryptPasswordService;
+import com.pedrofrohmut.todos.infra.services.PasswordHashingExecutor;
 import com.pedrofrohmut.todos.mocks.UserDataAccessMock;
 import com.pedrofrohmut.todos.web.adapter.AdaptedRequest;
 import com.pedrofrohmut.todos.web.controllers.UserController;
@@ -156,7 +163,7 @@ class UserControllerCreateTests {
   }
 
   @Test
-  @DisplayName("Valid request and email is not registered => 201")
+  @DisplayName("Valid request and email is not registered => 201, connection released to hash")
   void emailNotRegistered() {
     final var newUser = new CreateUserDto(USER_NAME, USER_EMAIL, USER_PASSWORD);
     final var mockUserDataAccess = UserDataAccessMock.getMockForUserNotFoundByEmail(USER_EMAIL);
@@ -170,6 +177,41 @@ class UserControllerCreateTests {
     final var controllerResponse = userController.create(createUserUseCase, request);
     // Then
     assertThat(controllerResponse.httpStatus).isEqualTo(201);
+    final var calls = inOrder(mockUserDataAccess);
+    calls.verify(mockUserDataAccess).releaseConnection();
+    calls.verify(mockUserDataAccess).create(any());
+  }
+
+  @Test
+  @DisplayName("Valid request but password hashing queue is full => 503/message")
+  void passwordHashingBusy() throws InterruptedException {
+    final var newUser = new CreateUserDto(USER_NAME, USER_EMAIL, USER_PASSWORD);
+    final var busyExecutor = new PasswordHashingExecutor(1, 1);
+    final var release = new CountDownLatch(1);
+    busyExecutor.submit(() -> awaitQuietly(release));
+    busyExecutor.submit(() -> awaitQuietly(release));
+    final var passwordService = new BcryptPasswordService(busyExecutor);
+    final var mockUserDataAccess = UserDataAccessMock.getMockForUserNotFoundByEmail(USER_EMAIL);
+    final var createUserUseCase = new CreateUserUseCase(mockUserDataAccess, passwordService);
+    request.body = newUser;
+    // Given
+    assertThat(busyExecutor.getStats().queueDepth).isEqualTo(1);
+    // When
+    final var controllerResponse = userController.create(createUserUseCase, request);
+    // Then
+    release.countDown();
+    busyExecutor.shutdown();
+    assertThat(controllerResponse.httpStatus).isEqualTo(503);
+    assertThat(controllerResponse.body.toString()).contains(PasswordHashingBusyException.message);
+    assertThat(busyExecutor.getStats().rejected).isEqualTo(1);
+  }
+
+  private boolean awaitQuietly(CountDownLatch latch) {
+    try {
+      return latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      return false;
+    }
   }
 
 }
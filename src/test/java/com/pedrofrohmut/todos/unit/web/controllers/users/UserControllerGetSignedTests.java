@@ -7,6 +7,7 @@ import java.util.UUID;
 
 import com.pedrofrohmut.todos.domain.dataaccess.UserDataAccess;
 import com.pedrofrohmut.todos.domain.dtos.SignedUserDto;
+import com.pedrofrohmut.todos.domain.entities.Id;
 import com.pedrofrohmut.todos.domain.entities.User;
 import com.pedrofrohmut.todos.domain.errors.UserNotFoundByIdException;
 import com.pedrofrohmut.todos.domain.services.JwtService;
@@ -70,7 +71,7 @@ public class UserControllerGetSignedTests {
     final var userId = UUID.randomUUID().toString();
     final var mockUserDataAccess = UserDataAccessMock.getMockForUserNotFoundById(userId);
     final var getSignedUserUseCase = new GetSignedUserUseCase(mockUserDataAccess, jwtService);
-    final var foundUser = mockUserDataAccess.findById(userId);
+    final var foundUser = mockUserDataAccess.findById(Id.parse(userId));
     request.authUserId = userId;
     // Given
     assertThat(foundUser).isNull();
@@ -89,7 +90,7 @@ public class UserControllerGetSignedTests {
     final var mockUserDataAccess =
       UserDataAccessMock.getMockForUserFoundById(userId, USER_NAME, USER_EMAIL, USER_PASSWORD, passwordService);
     final var getSignedUserUseCase = new GetSignedUserUseCase(mockUserDataAccess, jwtService);
-    final var foundUser = mockUserDataAccess.findById(userId);
+    final var foundUser = mockUserDataAccess.findById(Id.parse(userId));
     request.authUserId = userId;
     // Given
     assertThat(foundUser).isNotNull();
@@ -2,6 +2,7 @@ package com.pedrofrohmut.todos.unit.web.controllers.users;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 import com.pedrofrohmut.todos.domain.dataaccess.UserDataAccess;
 import com.pedrofrohmut.todos.domain.dtos.SignInUserDto;
@@ -177,6 +178,7 @@ public class UserControllerSignInTests {
     // Then
     assertControllerResponse200WithCorrectBody(
         controllerResponse.httpStatus, (SignedUserDto) controllerResponse.body, foundUser);
+    verify(mockUserDataAccess).releaseConnection();
   }
 
   private void assertControllerResponse200WithCorrectBody(int status, SignedUserDto body, User foundUser) {
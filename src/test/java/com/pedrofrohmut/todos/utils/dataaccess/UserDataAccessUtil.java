@@ -4,7 +4,9 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.UUID;
 
+import com.pedrofrohmut.todos.domain.entities.Id;
 import com.pedrofrohmut.todos.domain.entities.User;
 
 public class UserDataAccessUtil {
@@ -40,7 +42,7 @@ public class UserDataAccessUtil {
       rs = stm.executeQuery();
       if (rs.next()) {
         return new User(
-            rs.getString("id"),
+            Id.of(rs.getObject("id", UUID.class)),
             rs.getString("name"),
             rs.getString("email"),
             rs.getString("password_hash")
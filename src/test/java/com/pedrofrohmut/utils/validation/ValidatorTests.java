@@ -0,0 +1,94 @@
+package com.pedrofrohmut.utils.validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.regex.Pattern;
+
+import com.pedrofrohmut.todos.domain.dtos.CreateUserDto;
+import com.pedrofrohmut.todos.domain.entities.User;
+import com.pedrofrohmut.todos.domain.errors.InvalidUserException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@Tag("unit")
+@DisplayName("Validator and ValidationPlan")
+class ValidatorTests {
+
+  private static final String emailRegex =
+    "^[a-zA-Z0-9_+&*-]+(?:\\.[a-zA-Z0-9_+&*-]+)*@(?:[a-zA-Z0-9-]+\\.)+[a-zA-Z]{2,7}$";
+
+  private static final ValidationPlan<CreateUserDto> newUserRules =
+    ValidationPlan.<CreateUserDto>of(InvalidUserException::new)
+      .include(dto -> dto.name, User.nameRules)
+      .include(dto -> dto.email, User.emailRules)
+      .include(dto -> dto.password, User.passwordRules)
+      .build();
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+    "user@mail.com",
+    "user.name@mail.com",
+    "user+tag@sub.mail.co",
+    "a_b&c*d-e@x-y.z.museum",
+    "USER@MAIL.COM",
+    "user@mail.technology",
+    "user@mail.c",
+    "user@mail.c0m",
+    "user@mail",
+    "user@.com",
+    "user@mail..com",
+    "user@mail.com.",
+    ".user@mail.com",
+    "user.@mail.com",
+    "us..er@mail.com",
+    "@mail.com",
+    "user@",
+    "user",
+    "user@@mail.com",
+    "us er@mail.com",
+    "user@ma_il.com",
+    "user@mail.com\n",
+    ""
+  })
+  @DisplayName("isEmail => same answer as the email regex")
+  void isEmailMatchesRegex(String email) {
+    assertThat(Validator.isEmail(email)).isEqualTo(Pattern.matches(emailRegex, email));
+  }
+
+  @Test
+  @DisplayName("Valid dto => no exception")
+  void validDto() {
+    // Given
+    final var dto = new CreateUserDto("User Name", "user@mail.com", "password");
+    // When
+    newUserRules.validate(dto);
+  }
+
+  @Test
+  @DisplayName("Several invalid fields => error of the first one declared")
+  void firstFailingCheck() {
+    // Given
+    final var dto = new CreateUserDto("Name", "not an email", null);
+    // Then
+    assertThatThrownBy(() -> newUserRules.validate(dto))
+      .isInstanceOf(InvalidUserException.class)
+      .hasMessageContaining("Name must be between 5 and 120 characters");
+  }
+
+  @Test
+  @DisplayName("Null required field => required message, not a NullPointerException")
+  void nullRequired() {
+    // Given
+    final var dto = new CreateUserDto("User Name", null, "password");
+    // Then
+    assertThatThrownBy(() -> newUserRules.validate(dto))
+      .isInstanceOf(InvalidUserException.class)
+      .hasMessageContaining("Email is required and cannot be blank");
+  }
+
+}